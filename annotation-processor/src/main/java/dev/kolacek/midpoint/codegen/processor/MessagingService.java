@@ -24,9 +24,15 @@ import javax.tools.Diagnostic;
 public class MessagingService {
 
     private final Messager messager;
+    private final boolean verbose;
 
     public MessagingService(Messager messager) {
+        this(messager, false);
+    }
+
+    public MessagingService(Messager messager, boolean verbose) {
         this.messager = messager;
+        this.verbose = verbose;
     }
 
     public void error(@Nullable Element e, String msg, Object... args) {
@@ -41,6 +47,19 @@ public class MessagingService {
         this.log(Diagnostic.Kind.NOTE, e, msg, args);
     }
 
+    /**
+     * Logs a note only if the verbose output is enabled, see {@code MidPointModelProcessor#OPTION_VERBOSE}.
+     */
+    public void debug(@Nullable Element e, String msg, Object... args) {
+        if (verbose) {
+            this.log(Diagnostic.Kind.NOTE, e, msg, args);
+        }
+    }
+
+    public boolean isVerbose() {
+        return verbose;
+    }
+
     public void log(Diagnostic.Kind kind, @Nullable Element e, String msg, Object... args) {
         messager.printMessage(kind, String.format(msg, args), e);
     }
@@ -19,6 +19,8 @@ package dev.kolacek.midpoint.codegen.processor;
 import com.google.auto.service.AutoService;
 import dev.kolacek.midpoint.codegen.annotation.ConnectorModel;
 import dev.kolacek.midpoint.codegen.processor.generator.ConnectorObjectBuilderGenerator;
+import dev.kolacek.midpoint.codegen.processor.generator.ConnectorSchemaGenerator;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ClassMeta;
 
 import javax.annotation.processing.*;
 import javax.lang.model.SourceVersion;
@@ -27,7 +29,12 @@ import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
+import javax.tools.StandardLocation;
 import java.io.IOException;
+import java.io.Writer;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 @AutoService(Processor.class)
@@ -35,12 +42,57 @@ import java.util.Set;
         "dev.kolacek.midpoint.codegen.annotation.ConnectorModel",
 })
 @SupportedSourceVersion(SourceVersion.RELEASE_17)
+@SupportedOptions({
+        MidPointModelProcessor.OPTION_VERBOSE,
+        MidPointModelProcessor.OPTION_STATS,
+        MidPointModelProcessor.OPTION_STATS_FILE,
+        MidPointModelProcessor.OPTION_SCHEMA,
+        MidPointModelProcessor.OPTION_SCHEMA_PACKAGE,
+})
 public class MidPointModelProcessor extends AbstractProcessor {
 
+    /**
+     * Logs a note for every generated class, {@code -Amidpoint.codegen.verbose} or {@code -Amidpoint.codegen.verbose=true}.
+     */
+    public static final String OPTION_VERBOSE = "midpoint.codegen.verbose";
+    /**
+     * Logs the time spent in each phase of the generation, per model and in total, when the processing is over.
+     */
+    public static final String OPTION_STATS = "midpoint.codegen.stats";
+    /**
+     * Writes the statistics as JSON to the given file in the class output, e.g. {@code -Amidpoint.codegen.statsFile=codegen-stats.json}.
+     * <p>
+     * The report covers all models of the compilation, so it should only be used for full builds, e.g. in CI. The file has no
+     * single originating model, so the processor is an aggregating Gradle processor while it is written.
+     * </p>
+     */
+    public static final String OPTION_STATS_FILE = "midpoint.codegen.statsFile";
+    /**
+     * Generates {@code GeneratedConnectorSchema} aggregating all models, disabled by default, {@code -Amidpoint.codegen.schema} enables it.
+     * <p>
+     * The schema class depends on all models, so the processor is an aggregating Gradle processor while it is enabled, and
+     * an isolating one otherwise.
+     * </p>
+     */
+    public static final String OPTION_SCHEMA = "midpoint.codegen.schema";
+    /**
+     * The package of {@code GeneratedConnectorSchema}, default is the longest package shared by the models.
+     */
+    public static final String OPTION_SCHEMA_PACKAGE = "midpoint.codegen.schemaPackage";
+
+    private static final String GRADLE_ISOLATING = "org.gradle.annotation.processing.isolating";
+    private static final String GRADLE_AGGREGATING = "org.gradle.annotation.processing.aggregating";
+
     private Types typeUtils;
     private Elements elementUtils;
     private Filer filer;
     private MessagingService messagingService;
+    private final ProcessingStats stats = new ProcessingStats();
+    private boolean statsEnabled;
+    private String statsFile;
+    private boolean schemaEnabled;
+    private String schemaPackage;
+    private ConnectorSchemaGenerator schemaGenerator;
 
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
@@ -48,13 +100,45 @@ public class MidPointModelProcessor extends AbstractProcessor {
         this.typeUtils = processingEnv.getTypeUtils();
         this.elementUtils = processingEnv.getElementUtils();
         this.filer = processingEnv.getFiler();
-        this.messagingService = new MessagingService(processingEnv.getMessager());
+        Map<String, String> options = processingEnv.getOptions();
+        this.messagingService = new MessagingService(processingEnv.getMessager(), isEnabled(options, OPTION_VERBOSE));
+        this.statsEnabled = isEnabled(options, OPTION_STATS);
+        String statsFileOption = options.get(OPTION_STATS_FILE);
+        this.statsFile = statsFileOption == null || statsFileOption.isBlank() ? null : statsFileOption.trim();
+        this.schemaEnabled = isEnabled(options, OPTION_SCHEMA);
+        this.schemaPackage = options.get(OPTION_SCHEMA_PACKAGE);
+        this.schemaGenerator = new ConnectorSchemaGenerator(filer, messagingService);
+    }
+
+    /**
+     * Adds the Gradle incremental processing category, the processor is registered as dynamic, see {@link #OPTION_SCHEMA} and
+     * {@link #OPTION_STATS_FILE}.
+     */
+    @Override
+    public Set<String> getSupportedOptions() {
+        Set<String> options = new HashSet<>(super.getSupportedOptions());
+        options.add(schemaEnabled || statsFile != null ? GRADLE_AGGREGATING : GRADLE_ISOLATING);
+        return options;
     }
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
-        ConnectorObjectBuilderGenerator generator = new ConnectorObjectBuilderGenerator(elementUtils, messagingService, typeUtils, filer);
-        for (Element element : roundEnv.getElementsAnnotatedWith(ConnectorModel.class)) {
+        if (roundEnv.processingOver()) {
+            // Only if the builders were not written, otherwise there is a round after them
+            generateSchema();
+            reportStats();
+            return true;
+        }
+
+        Set<? extends Element> models = roundEnv.getElementsAnnotatedWith(ConnectorModel.class);
+        if (models.isEmpty()) {
+            // The first round after the models, i.e. all models of the compilation are known
+            generateSchema();
+            return true;
+        }
+
+        ConnectorObjectBuilderGenerator generator = new ConnectorObjectBuilderGenerator(elementUtils, messagingService, typeUtils, filer, stats);
+        for (Element element : models) {
             if (element.getKind() != ElementKind.CLASS) {
                 messagingService.error(element, "@ConnectorObject can only be applied to classes.");
                 continue;
@@ -62,7 +146,10 @@ public class MidPointModelProcessor extends AbstractProcessor {
 
             TypeElement classElement = (TypeElement) element;
             try {
-                generator.generate(classElement);   // TODO add MissingGetterException handling
+                ClassMeta classMeta = generator.generate(classElement);   // TODO add MissingGetterException handling
+                if (schemaEnabled) {
+                    schemaGenerator.addModel(classElement, classMeta);
+                }
             } catch (IOException e) {
                 messagingService.error(classElement, "Failed to generate code for %s: %s", classElement.getQualifiedName(), e.getMessage());
             }
@@ -70,4 +157,55 @@ public class MidPointModelProcessor extends AbstractProcessor {
         return true;
     }
 
+    private void generateSchema() {
+        if (!schemaGenerator.isPending()) {
+            return;
+        }
+        try {
+            schemaGenerator.generate(schemaPackage == null || schemaPackage.isBlank() ? null : schemaPackage.trim());
+        } catch (IOException e) {
+            messagingService.error(null, "Failed to generate %s: %s", ConnectorSchemaGenerator.SCHEMA_CLASS_NAME, e.getMessage());
+        }
+    }
+
+    private void reportStats() {
+        if (statsEnabled) {
+            for (ProcessingStats.ModelStats model : stats.getModels()) {
+                messagingService.note(null, "%s: %s", model.generatedClass(), ProcessingStats.formatPhases(model.nanos()));
+            }
+            Map<ProcessingStats.Phase, Long> totals = new EnumMap<>(ProcessingStats.Phase.class);
+            for (ProcessingStats.Phase phase : ProcessingStats.Phase.values()) {
+                totals.put(phase, stats.getNanos(phase));
+            }
+            messagingService.note(null, "Generated %d classes, %s", stats.getModelCount(), ProcessingStats.formatPhases(totals));
+        }
+
+        if (statsFile != null) {
+            try (Writer writer = filer.createResource(StandardLocation.CLASS_OUTPUT, "", statsFile).openWriter()) {
+                writer.write(stats.toJson());
+            } catch (IOException e) {
+                messagingService.warn(null, "Failed to write the statistics to %s: %s", statsFile, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Flag options are enabled by their presence, unless their value is {@code false}.
+     */
+    private static boolean isEnabled(Map<String, String> options, String option) {
+        if (!options.containsKey(option)) {
+            return false;
+        }
+        String value = options.get(option);
+        return value == null || !value.trim().equalsIgnoreCase("false");
+    }
+
+    /**
+     * The time spent in the phases of the generation, e.g. for benchmarks running the processor through the compiler API.
+     *
+     * @return the statistics of this processor instance
+     */
+    public ProcessingStats getStats() {
+        return stats;
+    }
 }
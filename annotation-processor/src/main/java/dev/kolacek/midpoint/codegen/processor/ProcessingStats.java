@@ -0,0 +1,185 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Time spent by the processor in each phase of the generation, per model and summed over all processed models and rounds.
+ * <p>
+ * Not thread-safe, javac calls the processor from a single thread.
+ * </p>
+ */
+public class ProcessingStats {
+
+    /**
+     * The phases of the generation of a single model.
+     */
+    public enum Phase {
+        /**
+         * Reading the model class into the {@code ClassMeta}, see {@code ConnectorModelPreprocessor}.
+         */
+        PREPROCESSING,
+        /**
+         * Building the JavaPoet specs of the generated class.
+         */
+        GENERATION,
+        /**
+         * Rendering the specs to the Java source.
+         */
+        RENDERING,
+        /**
+         * Writing the source through the {@code Filer}.
+         */
+        WRITING
+    }
+
+    /**
+     * The time spent on a single model.
+     *
+     * @param modelName      the qualified name of the model class
+     * @param generatedClass the qualified name of the generated class
+     * @param nanos          the time spent in each phase in nanoseconds
+     */
+    public record ModelStats(String modelName, String generatedClass, Map<Phase, Long> nanos) {
+
+        /**
+         * @param phase the phase
+         * @return the time spent in the phase in nanoseconds
+         */
+        public long getNanos(Phase phase) {
+            return nanos.getOrDefault(phase, 0L);
+        }
+
+        /**
+         * @return the time spent in all phases in nanoseconds
+         */
+        public long getTotalNanos() {
+            return nanos.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    private final Map<Phase, Long> nanos = new EnumMap<>(Phase.class);
+    private final List<ModelStats> models = new ArrayList<>();
+
+    /**
+     * Records the time spent on a generated model.
+     *
+     * @param modelName      the qualified name of the model class
+     * @param generatedClass the qualified name of the generated class
+     * @param phaseNanos     the time spent in each phase in nanoseconds
+     */
+    public void modelGenerated(String modelName, String generatedClass, Map<Phase, Long> phaseNanos) {
+        Map<Phase, Long> copy = new EnumMap<>(Phase.class);
+        copy.putAll(phaseNanos);
+        models.add(new ModelStats(modelName, generatedClass, Collections.unmodifiableMap(copy)));
+        phaseNanos.forEach((phase, time) -> nanos.merge(phase, time, Long::sum));
+    }
+
+    /**
+     * @param phase the phase
+     * @return the time spent in the phase in nanoseconds
+     */
+    public long getNanos(Phase phase) {
+        return nanos.getOrDefault(phase, 0L);
+    }
+
+    /**
+     * @return the time spent in all phases in nanoseconds
+     */
+    public long getTotalNanos() {
+        return nanos.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * @return the number of generated models
+     */
+    public int getModelCount() {
+        return models.size();
+    }
+
+    /**
+     * @return the statistics of the generated models, in the order they were generated
+     */
+    public List<ModelStats> getModels() {
+        return Collections.unmodifiableList(models);
+    }
+
+    /**
+     * Formats the times spent in the phases, e.g. {@code total 12.30 ms (preprocessing 1.20 ms, generation ...)}.
+     *
+     * @param phaseNanos the time spent in each phase in nanoseconds
+     * @return the formatted times
+     */
+    public static String formatPhases(Map<Phase, Long> phaseNanos) {
+        StringBuilder sb = new StringBuilder(String.format(Locale.ROOT, "total %.2f ms (", millis(phaseNanos.values().stream().mapToLong(Long::longValue).sum())));
+        for (Phase phase : Phase.values()) {
+            if (phase.ordinal() > 0) {
+                sb.append(", ");
+            }
+            sb.append(phase.name().toLowerCase(Locale.ROOT)).append(String.format(Locale.ROOT, " %.2f ms", millis(phaseNanos.getOrDefault(phase, 0L))));
+        }
+        return sb.append(')').toString();
+    }
+
+    /**
+     * Creates the JSON report with the totals and the times of every model, all times in nanoseconds.
+     *
+     * @return the JSON report
+     */
+    public String toJson() {
+        StringBuilder sb = new StringBuilder("{\n  \"modelCount\": ").append(models.size())
+                .append(",\n  \"totalNanos\": ").append(getTotalNanos())
+                .append(",\n  \"phases\": ");
+        appendPhases(sb, nanos);
+        sb.append(",\n  \"models\": [");
+        for (int i = 0; i < models.size(); i++) {
+            ModelStats model = models.get(i);
+            sb.append(i == 0 ? "\n" : ",\n")
+                    .append("    {\"model\": \"").append(escape(model.modelName()))
+                    .append("\", \"generatedClass\": \"").append(escape(model.generatedClass()))
+                    .append("\", \"totalNanos\": ").append(model.getTotalNanos())
+                    .append(", \"phases\": ");
+            appendPhases(sb, model.nanos());
+            sb.append('}');
+        }
+        return sb.append(models.isEmpty() ? "]\n}\n" : "\n  ]\n}\n").toString();
+    }
+
+    private static void appendPhases(StringBuilder sb, Map<Phase, Long> phaseNanos) {
+        sb.append('{');
+        for (Phase phase : Phase.values()) {
+            if (phase.ordinal() > 0) {
+                sb.append(", ");
+            }
+            sb.append('"').append(phase.name().toLowerCase(Locale.ROOT)).append("\": ").append(phaseNanos.getOrDefault(phase, 0L));
+        }
+        sb.append('}');
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
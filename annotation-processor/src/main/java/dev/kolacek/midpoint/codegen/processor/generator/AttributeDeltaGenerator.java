@@ -0,0 +1,229 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kolacek.midpoint.codegen.processor.generator;
+
+import com.palantir.javapoet.*;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ClassMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ContainerType;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.FieldMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.util.AttributeValueUtil;
+import dev.kolacek.midpoint.codegen.processor.generator.util.ConnIdClassNames;
+import dev.kolacek.midpoint.codegen.processor.generator.util.PoetUtil;
+import org.identityconnectors.framework.common.objects.Name;
+import org.identityconnectors.framework.common.objects.Uid;
+
+import javax.lang.model.element.Modifier;
+import java.util.*;
+
+/**
+ * Generates {@code applyDeltas}, which merges the {@code AttributeDelta}s of {@code UpdateDeltaOp} into a model instance.
+ * <p>
+ * Relies on the read methods generated by {@link AttributeMapperGenerator}, only fields with a setter are updated.
+ * </p>
+ */
+public class AttributeDeltaGenerator {
+
+    public static final String APPLY_DELTAS_NAME = "applyDeltas";
+    public static final String PARAM_DELTAS = "deltas";
+    public static final String DELTA_NAME = "delta";
+    public static final String TOUCHED_NAME = "touched";
+
+    /**
+     * Adds the {@code applyDeltas} method and the apply methods of all fields with a setter to the generated class.
+     *
+     * @param classBuilder  the generated class
+     * @param classMeta     the model
+     * @param definingClass the model class
+     */
+    public void generate(TypeSpec.Builder classBuilder, ClassMeta classMeta, ClassName definingClass) {
+        List<FieldMeta> writableFields = AttributeMapperGenerator.getWritableFields(classMeta);
+        if (writableFields.isEmpty()) {
+            return;
+        }
+
+        for (FieldMeta fieldMeta : writableFields) {
+            classBuilder.addMethod(createApplyMethod(fieldMeta, definingClass));
+        }
+        classBuilder.addMethod(createApplyDeltasMethod(classMeta, writableFields, definingClass));
+    }
+
+    private MethodSpec createApplyDeltasMethod(ClassMeta classMeta, List<FieldMeta> writableFields, ClassName definingClass) {
+        // Same dispatch as in fromAttributes, the labels must be unique
+        Map<String, CodeBlock> labels = new LinkedHashMap<>();
+        Map<String, FieldMeta> fields = new LinkedHashMap<>();
+        for (FieldMeta fieldMeta : writableFields) {
+            if (fields.putIfAbsent(fieldMeta.getName(), fieldMeta) == null) {
+                labels.put(fieldMeta.getName(), CodeBlock.of("$N", fieldMeta.getNameConstant()));
+            }
+        }
+        for (FieldMeta fieldMeta : writableFields) {
+            if (fieldMeta.isUidField() && fields.putIfAbsent(Uid.NAME, fieldMeta) == null) {
+                labels.put(Uid.NAME, CodeBlock.of("$S", Uid.NAME));
+            }
+            if (fieldMeta.isNameField() && fields.putIfAbsent(Name.NAME, fieldMeta) == null) {
+                labels.put(Name.NAME, CodeBlock.of("$S", Name.NAME));
+            }
+        }
+
+        CodeBlock.Builder body = CodeBlock.builder()
+                .addStatement("$T $L = new $T($L)", BitSet.class, TOUCHED_NAME, BitSet.class, classMeta.getFields().stream().filter(FieldMeta::isSupported).count())
+                .beginControlFlow("if ($L == null)", PARAM_DELTAS)
+                .addStatement("return $L", TOUCHED_NAME)
+                .endControlFlow()
+                .beginControlFlow("for ($T $L : $L)", ConnIdClassNames.ATTRIBUTE_DELTA, DELTA_NAME, PARAM_DELTAS)
+                .beginControlFlow("switch ($L.getName())", DELTA_NAME);
+        for (Map.Entry<String, FieldMeta> entry : fields.entrySet()) {
+            FieldMeta fieldMeta = entry.getValue();
+            body.add("case $L:\n", labels.get(entry.getKey()))
+                    .indent()
+                    .beginControlFlow("if ($L($L, $L))", applyMethodName(fieldMeta), AttributeMapperGenerator.MODEL_NAME, DELTA_NAME)
+                    .addStatement("$L.set($N)", TOUCHED_NAME, fieldMeta.getIndexConstant())
+                    .endControlFlow()
+                    .addStatement("break")
+                    .unindent();
+        }
+        body.add("default:\n")
+                .indent()
+                .addStatement("break")
+                .unindent()
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("return $L", TOUCHED_NAME);
+
+        return MethodSpec.methodBuilder(APPLY_DELTAS_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(BitSet.class)
+                .addJavadoc("Applies the deltas, e.g. the deltas passed to {@code UpdateDeltaOp.updateDelta}, to the model.\n")
+                .addJavadoc("<p>\nThe deltas are processed in a single pass, dispatched by their exact (case-sensitive) name. Values to replace\n")
+                .addJavadoc("and values to add set single valued fields, values to remove clear them. Multivalued fields support all three operations,\n")
+                .addJavadoc("the field is always set to a new collection or array, the current one is never modified.\n</p>\n\n")
+                .addJavadoc("@param $L the model to update\n", AttributeMapperGenerator.MODEL_NAME)
+                .addJavadoc("@param $L the deltas to apply, may be {@code null}\n", PARAM_DELTAS)
+                .addJavadoc("@return the bits of the changed fields, see the {@code FIELD_} constants\n")
+                .addJavadoc("@throws $T if a value can't be converted to the type of its field\n", ConnIdClassNames.INVALID_ATTRIBUTE_VALUE_EXCEPTION)
+                .addParameter(definingClass, AttributeMapperGenerator.MODEL_NAME)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Set.class), ConnIdClassNames.ATTRIBUTE_DELTA), PARAM_DELTAS)
+                .addCode(body.build())
+                .build();
+    }
+
+    private MethodSpec createApplyMethod(FieldMeta fieldMeta, ClassName definingClass) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(applyMethodName(fieldMeta))
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(TypeName.BOOLEAN)
+                .addParameter(definingClass, AttributeMapperGenerator.MODEL_NAME)
+                .addParameter(ConnIdClassNames.ATTRIBUTE_DELTA, DELTA_NAME);
+
+        CodeBlock model = CodeBlock.of(AttributeMapperGenerator.MODEL_NAME);
+        String setter = fieldMeta.getSetter().orElseThrow().getSimpleName().toString();
+        builder.beginControlFlow("if ($L.getValuesToReplace() != null)", DELTA_NAME)
+                .addCode(AttributeMapperGenerator.setFieldBlock(fieldMeta, model, CodeBlock.of("$L.getValuesToReplace()", DELTA_NAME)))
+                .addStatement("return true")
+                .endControlFlow();
+
+        if (fieldMeta.getContainerType() == ContainerType.NONE) {
+            builder.beginControlFlow("if ($L.getValuesToAdd() != null && !$L.getValuesToAdd().isEmpty())", DELTA_NAME, DELTA_NAME)
+                    .addCode(AttributeMapperGenerator.setFieldBlock(fieldMeta, model, CodeBlock.of("$L.getValuesToAdd()", DELTA_NAME)))
+                    .addStatement("return true")
+                    .endControlFlow();
+            if (!AttributeValueUtil.needsNullCheck(fieldMeta)) {
+                builder.beginControlFlow("if ($L.getValuesToRemove() != null && !$L.getValuesToRemove().isEmpty())", DELTA_NAME, DELTA_NAME)
+                        .addStatement("$L.$L(null)", model, setter)
+                        .addStatement("return true")
+                        .endControlFlow();
+            }
+            return builder.addStatement("return false").build();
+        }
+
+        return builder.addCode(multivaluedAddRemoveBlock(fieldMeta, model, setter)).build();
+    }
+
+    /**
+     * Creates the code applying the values to add and to remove to a copy of the current values of a multivalued field.
+     * <p>
+     * Arrays are handled as a list of their boxed values, which is converted back by the read method of the field.
+     * The values to remove are looked up in a hash set, so removing many values from a large field stays linear.
+     * </p>
+     */
+    private CodeBlock multivaluedAddRemoveBlock(FieldMeta fieldMeta, CodeBlock model, String setter) {
+        CodeBlock.Builder block = CodeBlock.builder();
+        String read = AttributeValueUtil.readMethodName(fieldMeta);
+        String getter = fieldMeta.getGetter().map(getterElement -> getterElement.getSimpleName().toString()).orElse(null);
+        ContainerType containerType = fieldMeta.getContainerType();
+
+        TypeName currentType;
+        CodeBlock copy;
+        CodeBlock empty;
+        CodeBlock added;
+        CodeBlock removed;
+        if (containerType == ContainerType.ARRAY) {
+            currentType = ParameterizedTypeName.get(ClassName.get(List.class), ClassName.get(Object.class));
+            copy = fieldMeta.getFieldType().isPrimitive()
+                    ? CodeBlock.of("$L(current)", PoetUtil.BOX_VALUES_NAME)
+                    : CodeBlock.of("new $T<>($T.asList(current))", ArrayList.class, Arrays.class);
+            empty = CodeBlock.of("new $T<>()", ArrayList.class);
+            added = arrayElements(fieldMeta, CodeBlock.of("$L($L.getValuesToAdd())", read, DELTA_NAME));
+            removed = arrayElements(fieldMeta, CodeBlock.of("$L($L.getValuesToRemove())", read, DELTA_NAME));
+        } else {
+            Class<?> implementation = containerType == ContainerType.SET ? LinkedHashSet.class : ArrayList.class;
+            currentType = fieldMeta.getDeclaredType();
+            copy = CodeBlock.of("new $T<>(current)", implementation);
+            empty = CodeBlock.of("new $T<>()", implementation);
+            added = CodeBlock.of("$L($L.getValuesToAdd())", read, DELTA_NAME);
+            removed = CodeBlock.of("$L($L.getValuesToRemove())", read, DELTA_NAME);
+        }
+
+        if (getter == null) {
+            // Without a getter the current values are unknown, the deltas are applied to an empty field
+            block.addStatement("$T result = $L", currentType, empty);
+        } else {
+            block.addStatement("$T current = $L.$L()", fieldMeta.getDeclaredType(), model, getter)
+                    .addStatement("$T result = current == null ? $L : $L", currentType, empty, copy);
+        }
+
+        block.addStatement("boolean changed = false")
+                .beginControlFlow("if ($L.getValuesToRemove() != null && !$L.getValuesToRemove().isEmpty())", DELTA_NAME, DELTA_NAME)
+                .addStatement("changed = result.removeAll(new $T<>($L))", HashSet.class, removed)
+                .endControlFlow()
+                .beginControlFlow("if ($L.getValuesToAdd() != null && !$L.getValuesToAdd().isEmpty())", DELTA_NAME, DELTA_NAME)
+                .addStatement("changed |= result.addAll($L)", added)
+                .endControlFlow()
+                .beginControlFlow("if (changed)");
+        if (containerType == ContainerType.ARRAY) {
+            block.addStatement("$L.$L($L(result))", model, setter, read);
+        } else {
+            block.addStatement("$L.$L(result)", model, setter);
+        }
+        return block.endControlFlow()
+                .addStatement("return changed")
+                .build();
+    }
+
+    /**
+     * Converts the array returned by the read method to a list of the boxed elements, so they can be compared with the current values.
+     */
+    private CodeBlock arrayElements(FieldMeta fieldMeta, CodeBlock array) {
+        if (fieldMeta.getFieldType().isPrimitive()) {
+            return CodeBlock.of("$L($L)", PoetUtil.BOX_VALUES_NAME, array);
+        }
+        return CodeBlock.of("$T.asList(($T[]) $L)", Arrays.class, Object.class, array);
+    }
+
+    private static String applyMethodName(FieldMeta fieldMeta) {
+        return "apply" + fieldMeta.getFieldName().substring(0, 1).toUpperCase() + fieldMeta.getFieldName().substring(1) + "Delta";
+    }
+}
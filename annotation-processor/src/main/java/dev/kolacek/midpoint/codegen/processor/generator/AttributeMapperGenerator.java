@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kolacek.midpoint.codegen.processor.generator;
+
+import com.palantir.javapoet.*;
+import dev.kolacek.midpoint.codegen.processor.MessagingService;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ClassMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.FieldMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.util.AttributeValueUtil;
+import dev.kolacek.midpoint.codegen.processor.generator.util.ConnIdClassNames;
+import org.identityconnectors.framework.common.objects.Name;
+import org.identityconnectors.framework.common.objects.Uid;
+
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates the conversion from ConnId attributes back to the model, the reverse of {@code connectorObjectBuilder}.
+ */
+public class AttributeMapperGenerator {
+
+    public static final String FROM_ATTRIBUTES_NAME = "fromAttributes";
+    public static final String MODEL_NAME = "model";
+    public static final String ATTRIBUTE_NAME = "attribute";
+
+    private final MessagingService messagingService;
+
+    public AttributeMapperGenerator(MessagingService messagingService) {
+        this.messagingService = messagingService;
+    }
+
+    /**
+     * Adds the {@code fromAttributes} method and the read methods of all fields with a setter to the generated class.
+     *
+     * @param classBuilder  the generated class
+     * @param classMeta     the model
+     * @param classElement  the model element, used for reporting
+     * @param definingClass the model class
+     */
+    public void generate(TypeSpec.Builder classBuilder, ClassMeta classMeta, TypeElement classElement, ClassName definingClass) {
+        List<FieldMeta> writableFields = getWritableFields(classMeta);
+        if (writableFields.isEmpty()) {
+            return;
+        }
+
+        classBuilder.addMethod(AttributeValueUtil.createSingleValueMethod());
+        for (FieldMeta fieldMeta : writableFields) {
+            classBuilder.addMethod(AttributeValueUtil.createReadMethod(fieldMeta));
+            if (fieldMeta.getEnumMeta().isPresent()) {
+                classBuilder.addMethod(AttributeValueUtil.createParseEnumMethod(fieldMeta));
+            }
+        }
+
+        if (!classMeta.isInstantiable()) {
+            messagingService.note(classElement, "%s has no accessible no-arg constructor, %s() will not be generated.", classMeta.getClassName(), FROM_ATTRIBUTES_NAME);
+            return;
+        }
+        classBuilder.addMethod(createFromAttributesMethod(classMeta, writableFields, definingClass));
+    }
+
+    /**
+     * Fields which are supported and have a setter, only these can be populated from attributes.
+     *
+     * @param classMeta the model
+     * @return the writable fields in declaration order
+     */
+    public static List<FieldMeta> getWritableFields(ClassMeta classMeta) {
+        return classMeta.getFields().stream()
+                .filter(fieldMeta -> fieldMeta.isSupported() && fieldMeta.getSetter().isPresent())
+                .toList();
+    }
+
+    /**
+     * Creates the statement setting the field from the attribute values, primitive fields are left untouched if there is no value.
+     *
+     * @param fieldMeta the field to set
+     * @param target    the expression returning the model instance
+     * @param values    the expression returning the attribute values
+     * @return the code setting the field
+     */
+    public static CodeBlock setFieldBlock(FieldMeta fieldMeta, CodeBlock target, CodeBlock values) {
+        String setter = fieldMeta.getSetter().orElseThrow().getSimpleName().toString();
+        if (!AttributeValueUtil.needsNullCheck(fieldMeta)) {
+            return CodeBlock.builder()
+                    .addStatement("$L.$L($L($L))", target, setter, AttributeValueUtil.readMethodName(fieldMeta), values)
+                    .build();
+        }
+
+        return CodeBlock.builder()
+                .addStatement("$T value = $L($L)", AttributeValueUtil.readType(fieldMeta), AttributeValueUtil.readMethodName(fieldMeta), values)
+                .beginControlFlow("if (value != null)")
+                .addStatement("$L.$L(value)", target, setter)
+                .endControlFlow()
+                .build();
+    }
+
+    private MethodSpec createFromAttributesMethod(ClassMeta classMeta, List<FieldMeta> writableFields, ClassName definingClass) {
+        // Case label -> code, the labels are kept unique as duplicate labels would not compile
+        Map<String, CaseBlock> cases = new LinkedHashMap<>();
+        for (FieldMeta fieldMeta : writableFields) {
+            cases.putIfAbsent(fieldMeta.getName(), new CaseBlock(CodeBlock.of("$N", fieldMeta.getNameConstant()), fieldMeta));
+        }
+        for (FieldMeta fieldMeta : writableFields) {
+            if (fieldMeta.isUidField()) {
+                cases.putIfAbsent(Uid.NAME, new CaseBlock(CodeBlock.of("$S", Uid.NAME), fieldMeta));
+            }
+            if (fieldMeta.isNameField()) {
+                cases.putIfAbsent(Name.NAME, new CaseBlock(CodeBlock.of("$S", Name.NAME), fieldMeta));
+            }
+        }
+
+        CodeBlock target = CodeBlock.of(MODEL_NAME);
+        CodeBlock values = CodeBlock.of("$L.getValue()", ATTRIBUTE_NAME);
+        CodeBlock.Builder body = CodeBlock.builder()
+                .addStatement("$T $L = new $T()", definingClass, MODEL_NAME, definingClass)
+                .beginControlFlow("if ($L == null)", ConnectorObjectBuilderGenerator.ATTRIBUTES_NAME)
+                .addStatement("return $L", MODEL_NAME)
+                .endControlFlow()
+                .beginControlFlow("for ($T $L : $L)", ConnIdClassNames.ATTRIBUTE, ATTRIBUTE_NAME, ConnectorObjectBuilderGenerator.ATTRIBUTES_NAME)
+                .beginControlFlow("switch ($L.getName())", ATTRIBUTE_NAME);
+        for (CaseBlock caseBlock : cases.values()) {
+            body.beginControlFlow("case $L:", caseBlock.label())
+                    .add(setFieldBlock(caseBlock.fieldMeta(), target, values))
+                    .addStatement("break")
+                    .endControlFlow();
+        }
+        body.add("default:\n")
+                .indent()
+                .addStatement("break")
+                .unindent()
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("return $L", MODEL_NAME);
+
+        return MethodSpec.methodBuilder(FROM_ATTRIBUTES_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(definingClass)
+                .addJavadoc("Creates a new {@link $T} populated from the attributes, e.g. the attributes passed to {@code CreateOp.create}.\n", definingClass)
+                .addJavadoc("<p>\nThe attributes are processed in a single pass, dispatched by their exact (case-sensitive) name. {@code $L} and {@code $L}\n", Uid.NAME, Name.NAME)
+                .addJavadoc("populate the identifier fields, unknown attributes are ignored.\n</p>\n\n")
+                .addJavadoc("@param $L the attributes to read, may be {@code null}\n", ConnectorObjectBuilderGenerator.ATTRIBUTES_NAME)
+                .addJavadoc("@return the new model instance\n")
+                .addJavadoc("@throws $T if a value can't be converted to the type of its field\n", ConnIdClassNames.INVALID_ATTRIBUTE_VALUE_EXCEPTION)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Set.class), ConnIdClassNames.ATTRIBUTE), ConnectorObjectBuilderGenerator.ATTRIBUTES_NAME)
+                .addCode(body.build())
+                .build();
+    }
+
+    private record CaseBlock(CodeBlock label, FieldMeta fieldMeta) {
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.processor.generator;
+
+import com.palantir.javapoet.*;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ClassMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ContainerType;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.FieldMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.util.EnumTableUtil;
+import dev.kolacek.midpoint.codegen.util.BinaryCodec;
+import dev.kolacek.midpoint.codegen.util.FingerprintHasher;
+import dev.kolacek.midpoint.codegen.util.StaleSchemaException;
+import org.identityconnectors.common.security.GuardedByteArray;
+import org.identityconnectors.common.security.GuardedString;
+
+import javax.lang.model.element.Modifier;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Generates {@code writeTo} and {@code readFrom}, a compact binary encoding of the model for caches and snapshots.
+ * <p>
+ * The encoding starts with {@code SCHEMA_HASH}, followed by a bitmap of the non-null values of the reference typed fields and
+ * the values of the fields in declaration order. Numbers are written as variable-length integers by {@link BinaryCodec}, enums
+ * by their ordinal. The schema hash is computed here from the names and types of the fields and the constants of the enums, so
+ * data written by an older version of the model is rejected instead of being decoded into wrong fields.
+ * </p>
+ * <p>
+ * Guarded values are never encoded, so secrets don't end up in caches, they are {@code null} after {@code readFrom}.
+ * </p>
+ */
+public class BinaryCodecGenerator {
+
+    public static final String SCHEMA_HASH_NAME = "SCHEMA_HASH";
+    public static final String WRITE_TO_NAME = "writeTo";
+    public static final String READ_FROM_NAME = "readFrom";
+    public static final String PARAM_OUT = "out";
+    public static final String PARAM_IN = "in";
+
+    /**
+     * Version of the encoding, part of the schema hash, increment when the generated code changes the format.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String PRESENT_NAME = "present";
+
+    /**
+     * Adds the {@code SCHEMA_HASH} constant, {@code writeTo} and, if the model can be instantiated, {@code readFrom} to the generated class.
+     *
+     * @param classBuilder  the generated class
+     * @param classMeta     the model
+     * @param definingClass the model class
+     */
+    public void generate(TypeSpec.Builder classBuilder, ClassMeta classMeta, ClassName definingClass) {
+        List<FieldMeta> fields = getEncodedFields(classMeta);
+        List<FieldMeta> nullableFields = fields.stream()
+                .filter(fieldMeta -> !fieldMeta.getDeclaredType().isPrimitive())
+                .toList();
+
+        classBuilder.addField(FieldSpec.builder(long.class, SCHEMA_HASH_NAME, Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .addJavadoc("Hash of the binary encoding of the model, changes when a field or an enum constant is added, removed or changed.\n")
+                .initializer("$LL", schemaHash(fields))
+                .build());
+        for (FieldMeta fieldMeta : fields) {
+            if (fieldMeta.getEnumMeta().isPresent()) {
+                classBuilder.addField(EnumTableUtil.createConstantsTableField(fieldMeta));
+            }
+        }
+
+        classBuilder.addMethod(createWriteToMethod(fields, nullableFields, definingClass));
+        if (classMeta.isInstantiable()) {
+            classBuilder.addMethod(createReadFromMethod(fields, nullableFields, definingClass));
+        }
+    }
+
+    /**
+     * Fields which are supported, have a getter and are not guarded, only these are encoded.
+     *
+     * @param classMeta the model
+     * @return the encoded fields in declaration order
+     */
+    public static List<FieldMeta> getEncodedFields(ClassMeta classMeta) {
+        return classMeta.getFields().stream()
+                .filter(fieldMeta -> fieldMeta.isSupported() && fieldMeta.getGetter().isPresent())
+                .filter(fieldMeta -> !isGuarded(fieldMeta.getFieldType()))
+                .toList();
+    }
+
+    private static boolean isGuarded(TypeName type) {
+        return type.equals(TypeName.get(GuardedString.class)) || type.equals(TypeName.get(GuardedByteArray.class));
+    }
+
+    private static long schemaHash(List<FieldMeta> fields) {
+        FingerprintHasher hasher = new FingerprintHasher().putInt(FORMAT_VERSION);
+        for (FieldMeta fieldMeta : fields) {
+            hasher.putString(fieldMeta.getFieldName())
+                    .putString(fieldMeta.getDeclaredType().toString())
+                    .putString(fieldMeta.getContainerType().name());
+            fieldMeta.getEnumMeta().ifPresent(enumMeta -> hasher.putOrdered(enumMeta.getConstants()));
+        }
+        return hasher.finish().asLong();
+    }
+
+    private MethodSpec createWriteToMethod(List<FieldMeta> fields, List<FieldMeta> nullableFields, ClassName definingClass) {
+        String model = FilterPredicateGenerator.MODEL_NAME;
+        CodeBlock.Builder body = CodeBlock.builder()
+                .addStatement("$T.requireNonNull($L, $S)", Objects.class, model, model)
+                .addStatement("$T.writeSchemaHash($L, $L)", BinaryCodec.class, PARAM_OUT, SCHEMA_HASH_NAME);
+        for (FieldMeta fieldMeta : fields) {
+            body.addStatement("$T $L = $L.$L()", fieldMeta.getDeclaredType(), localName(fieldMeta), model, fieldMeta.getGetter().orElseThrow().getSimpleName());
+        }
+
+        for (int start = 0; start < nullableFields.size(); start += Byte.SIZE) {
+            CodeBlock.Builder bits = CodeBlock.builder();
+            for (int i = start; i < Math.min(start + Byte.SIZE, nullableFields.size()); i++) {
+                if (i > start) {
+                    bits.add("$W| ");
+                }
+                bits.add("($L != null ? 0x$L : 0)", localName(nullableFields.get(i)), Integer.toHexString(1 << (i - start)));
+            }
+            body.addStatement("$L.writeByte($L)", PARAM_OUT, bits.build());
+        }
+
+        for (FieldMeta fieldMeta : fields) {
+            String local = localName(fieldMeta);
+            if (fieldMeta.getDeclaredType().isPrimitive()) {
+                body.addStatement(writeValue(fieldMeta.getDeclaredType(), CodeBlock.of(local), fieldMeta));
+                continue;
+            }
+            body.beginControlFlow("if ($L != null)", local)
+                    .add(writeField(fieldMeta, local))
+                    .endControlFlow();
+        }
+
+        return MethodSpec.methodBuilder(WRITE_TO_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addJavadoc("Writes the attributes of the model in the compact binary encoding, read it back by {@code $L}.\n", READ_FROM_NAME)
+                .addJavadoc("<p>\nThe data starts with {@link #$L}. Guarded values are not written.\n</p>\n\n", SCHEMA_HASH_NAME)
+                .addJavadoc("@param $L the model to write\n", model)
+                .addJavadoc("@param $L the output\n", PARAM_OUT)
+                .addJavadoc("@throws $T if the output fails\n", IOException.class)
+                .addParameter(definingClass, model)
+                .addParameter(DataOutput.class, PARAM_OUT)
+                .addException(IOException.class)
+                .addCode(body.build())
+                .build();
+    }
+
+    private CodeBlock writeField(FieldMeta fieldMeta, String local) {
+        TypeName elementType = fieldMeta.getFieldType();
+        ContainerType containerType = fieldMeta.getContainerType();
+        if (containerType == ContainerType.NONE) {
+            return CodeBlock.builder().addStatement(writeValue(fieldMeta.getDeclaredType(), CodeBlock.of(local), fieldMeta)).build();
+        }
+
+        CodeBlock.Builder builder = CodeBlock.builder()
+                .addStatement("$T.writeSize($L, $L.$L)", BinaryCodec.class, PARAM_OUT, local, containerType == ContainerType.ARRAY ? "length" : "size()")
+                .beginControlFlow("for ($T element : $L)", elementType, local);
+        if (elementType.isPrimitive()) {
+            builder.addStatement(writeValue(elementType, CodeBlock.of("element"), fieldMeta));
+        } else {
+            // Collections may contain null
+            builder.addStatement("$L.writeBoolean(element != null)", PARAM_OUT)
+                    .beginControlFlow("if (element != null)")
+                    .addStatement(writeValue(elementType, CodeBlock.of("element"), fieldMeta))
+                    .endControlFlow();
+        }
+        return builder.endControlFlow().build();
+    }
+
+    private CodeBlock writeValue(TypeName type, CodeBlock value, FieldMeta fieldMeta) {
+        if (fieldMeta.getEnumMeta().isPresent()) {
+            return CodeBlock.of("$T.writeSize($L, $L.ordinal())", BinaryCodec.class, PARAM_OUT, value);
+        }
+        TypeName primitive = type.isBoxedPrimitive() ? type.unbox() : type;
+        if (primitive == TypeName.BOOLEAN) {
+            return CodeBlock.of("$L.writeBoolean($L)", PARAM_OUT, value);
+        } else if (primitive == TypeName.BYTE) {
+            return CodeBlock.of("$L.writeByte($L)", PARAM_OUT, value);
+        } else if (primitive == TypeName.DOUBLE) {
+            return CodeBlock.of("$L.writeDouble($L)", PARAM_OUT, value);
+        } else if (primitive == TypeName.FLOAT) {
+            return CodeBlock.of("$L.writeFloat($L)", PARAM_OUT, value);
+        } else if (primitive == TypeName.SHORT || primitive == TypeName.INT) {
+            return CodeBlock.of("$T.writeInt($L, $L)", BinaryCodec.class, PARAM_OUT, value);
+        } else if (primitive == TypeName.LONG) {
+            return CodeBlock.of("$T.writeLong($L, $L)", BinaryCodec.class, PARAM_OUT, value);
+        } else if (primitive == TypeName.CHAR) {
+            return CodeBlock.of("$T.writeChar($L, $L)", BinaryCodec.class, PARAM_OUT, value);
+        }
+        return CodeBlock.of("$T.$L($L, $L)", BinaryCodec.class, "write" + codecSuffix(type), PARAM_OUT, value);
+    }
+
+    private MethodSpec createReadFromMethod(List<FieldMeta> fields, List<FieldMeta> nullableFields, ClassName definingClass) {
+        String model = FilterPredicateGenerator.MODEL_NAME;
+        CodeBlock.Builder body = CodeBlock.builder()
+                .addStatement("$T.checkSchemaHash($L, $L)", BinaryCodec.class, PARAM_IN, SCHEMA_HASH_NAME);
+        for (int start = 0; start < nullableFields.size(); start += Byte.SIZE) {
+            body.addStatement("int $L = $L.readUnsignedByte()", PRESENT_NAME + start / Byte.SIZE, PARAM_IN);
+        }
+        body.addStatement("$T $L = new $T()", definingClass, model, definingClass);
+
+        for (FieldMeta fieldMeta : fields) {
+            String local = localName(fieldMeta);
+            TypeName declaredType = fieldMeta.getDeclaredType();
+            if (declaredType.isPrimitive()) {
+                body.addStatement("$T $L = $L", declaredType, local, readValue(declaredType, fieldMeta));
+            } else {
+                int index = nullableFields.indexOf(fieldMeta);
+                body.addStatement("$T $L = null", declaredType, local)
+                        .beginControlFlow("if (($L & 0x$L) != 0)", PRESENT_NAME + index / Byte.SIZE, Integer.toHexString(1 << (index % Byte.SIZE)))
+                        .add(readField(fieldMeta, local))
+                        .endControlFlow();
+            }
+            // Fields without a setter are still decoded, their values must be skipped
+            if (fieldMeta.getSetter().isPresent()) {
+                body.addStatement("$L.$L($L)", model, fieldMeta.getSetter().orElseThrow().getSimpleName(), local);
+            }
+        }
+        body.addStatement("return $L", model);
+
+        return MethodSpec.methodBuilder(READ_FROM_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(definingClass)
+                .addJavadoc("Reads a model written by {@code $L}.\n", WRITE_TO_NAME)
+                .addJavadoc("<p>\nLists are read as {@link $T}s and sets as {@link $T}s, guarded values are {@code null}.\n</p>\n\n", ArrayList.class, LinkedHashSet.class)
+                .addJavadoc("@param $L the input\n", PARAM_IN)
+                .addJavadoc("@return the new model instance\n")
+                .addJavadoc("@throws $T if the data was written by a different version of the model\n", StaleSchemaException.class)
+                .addJavadoc("@throws $T if the input fails or the data is corrupted\n", IOException.class)
+                .addParameter(DataInput.class, PARAM_IN)
+                .addException(IOException.class)
+                .addCode(body.build())
+                .build();
+    }
+
+    private CodeBlock readField(FieldMeta fieldMeta, String local) {
+        TypeName elementType = fieldMeta.getFieldType();
+        ContainerType containerType = fieldMeta.getContainerType();
+        if (containerType == ContainerType.NONE) {
+            return CodeBlock.builder().addStatement("$L = $L", local, readValue(fieldMeta.getDeclaredType(), fieldMeta)).build();
+        }
+
+        CodeBlock element = elementType.isPrimitive()
+                ? readValue(elementType, fieldMeta)
+                : CodeBlock.of("$L.readBoolean() ? $L : null", PARAM_IN, readValue(elementType, fieldMeta));
+        CodeBlock.Builder builder = CodeBlock.builder()
+                .addStatement("int size = $T.readSize($L)", BinaryCodec.class, PARAM_IN);
+        // The size is not trusted, corrupted data must fail at the end of the input rather than allocate the declared size
+        if (containerType == ContainerType.ARRAY) {
+            return builder.addStatement("$L = new $T[$T.initialCapacity(size)]", local, elementType, BinaryCodec.class)
+                    .beginControlFlow("for (int i = 0; i < size; i++)")
+                    .beginControlFlow("if (i == $L.length)", local)
+                    .addStatement("$L = $T.copyOf($L, $T.grownCapacity(i, size))", local, Arrays.class, local, BinaryCodec.class)
+                    .endControlFlow()
+                    .addStatement("$L[i] = $L", local, element)
+                    .endControlFlow()
+                    .build();
+        }
+        if (containerType == ContainerType.SET) {
+            // Sized so that the set doesn't need to grow with the default load factor
+            builder.addStatement("$L = new $T<>($T.initialCapacity(size) * 4 / 3 + 1)", local, LinkedHashSet.class, BinaryCodec.class);
+        } else {
+            builder.addStatement("$L = new $T<>($T.initialCapacity(size))", local, ArrayList.class, BinaryCodec.class);
+        }
+        return builder.beginControlFlow("for (int i = 0; i < size; i++)")
+                .addStatement("$L.add($L)", local, element)
+                .endControlFlow()
+                .build();
+    }
+
+    private CodeBlock readValue(TypeName type, FieldMeta fieldMeta) {
+        if (fieldMeta.getEnumMeta().isPresent()) {
+            String constants = EnumTableUtil.constantsTableName(fieldMeta);
+            return CodeBlock.of("$L[$T.readOrdinal($L, $L.length)]", constants, BinaryCodec.class, PARAM_IN, constants);
+        }
+        TypeName primitive = type.isBoxedPrimitive() ? type.unbox() : type;
+        if (primitive == TypeName.BOOLEAN) {
+            return CodeBlock.of("$L.readBoolean()", PARAM_IN);
+        } else if (primitive == TypeName.BYTE) {
+            return CodeBlock.of("$L.readByte()", PARAM_IN);
+        } else if (primitive == TypeName.DOUBLE) {
+            return CodeBlock.of("$L.readDouble()", PARAM_IN);
+        } else if (primitive == TypeName.FLOAT) {
+            return CodeBlock.of("$L.readFloat()", PARAM_IN);
+        } else if (primitive == TypeName.SHORT) {
+            return CodeBlock.of("(short) $T.readInt($L)", BinaryCodec.class, PARAM_IN);
+        } else if (primitive == TypeName.INT) {
+            return CodeBlock.of("$T.readInt($L)", BinaryCodec.class, PARAM_IN);
+        } else if (primitive == TypeName.LONG) {
+            return CodeBlock.of("$T.readLong($L)", BinaryCodec.class, PARAM_IN);
+        } else if (primitive == TypeName.CHAR) {
+            return CodeBlock.of("$T.readChar($L)", BinaryCodec.class, PARAM_IN);
+        }
+        return CodeBlock.of("$T.$L($L)", BinaryCodec.class, "read" + codecSuffix(type), PARAM_IN);
+    }
+
+    /**
+     * The suffix of the {@link BinaryCodec} methods encoding the reference type, the supported types are checked by the preprocessor.
+     */
+    private static String codecSuffix(TypeName type) {
+        if (type.equals(TypeName.get(String.class))) {
+            return "String";
+        } else if (type.equals(TypeName.get(BigInteger.class))) {
+            return "BigInteger";
+        } else if (type.equals(TypeName.get(BigDecimal.class))) {
+            return "BigDecimal";
+        } else if (type.equals(TypeName.get(ZonedDateTime.class))) {
+            return "ZonedDateTime";
+        } else if (type.equals(TypeName.get(byte[].class))) {
+            return "Bytes";
+        }
+        throw new IllegalStateException("No binary encoding of " + type);
+    }
+
+    private static String localName(FieldMeta fieldMeta) {
+        return fieldMeta.getFieldName() + "Value";
+    }
+}
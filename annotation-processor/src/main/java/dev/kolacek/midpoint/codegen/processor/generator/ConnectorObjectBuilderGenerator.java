@@ -18,67 +18,111 @@ package dev.kolacek.midpoint.codegen.processor.generator;
 
 import com.palantir.javapoet.*;
 import dev.kolacek.midpoint.codegen.processor.MessagingService;
+import dev.kolacek.midpoint.codegen.processor.ProcessingStats;
 import dev.kolacek.midpoint.codegen.processor.generator.exception.MissingGetterException;
 import dev.kolacek.midpoint.codegen.processor.generator.exception.MissingIdentifierFieldException;
 import dev.kolacek.midpoint.codegen.processor.generator.meta.ClassMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ContainerType;
 import dev.kolacek.midpoint.codegen.processor.generator.meta.FieldMeta;
 import dev.kolacek.midpoint.codegen.processor.generator.meta.ObjectClassMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.util.ConnIdClassNames;
 import dev.kolacek.midpoint.codegen.processor.generator.util.ConnectorModelPreprocessor;
+import dev.kolacek.midpoint.codegen.processor.generator.util.EnumTableUtil;
 import dev.kolacek.midpoint.codegen.processor.generator.util.PoetUtil;
+import dev.kolacek.midpoint.codegen.util.FieldProjection;
+import dev.kolacek.midpoint.codegen.util.OrderedParallelConverter;
 
 import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
+import javax.tools.JavaFileObject;
 import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 public class ConnectorObjectBuilderGenerator {
 
     public static final String PARAM_CONNECTOR_BUILDER = "data";
     public static final String BUILDER_NAME = "builder";
+    public static final String ATTRIBUTES_NAME = "attributes";
+    public static final String OBJECT_CLASS_INFO_HOLDER = "ObjectClassInfoHolder";
+    public static final String INSTANCE_NAME = "INSTANCE";
+    public static final String PARAM_HANDLER = "handler";
+    public static final String PARAM_PROJECTION = "projection";
+    public static final ClassName FIELD_PROJECTION_CLASS = ClassName.get(FieldProjection.class);
+    public static final String EMIT_ALL_NAME = "emitAll";
+    public static final String EMIT_ALL_PARALLEL_NAME = "emitAllParallel";
+    public static final String PARAM_CONVERTER = "converter";
+    public static final ClassName PARALLEL_CONVERTER_CLASS = ClassName.get(OrderedParallelConverter.class);
 
     private final Elements elementUtils;
     private final Filer filer;
     private final MessagingService messagingService;
     private final Types typeUtils;
+    private final ProcessingStats stats;
+    private final ConnectorModelPreprocessor preprocessor;
 
 
     public ConnectorObjectBuilderGenerator(Elements elementUtils, MessagingService messagingService, Types typeUtils, Filer filer) {
+        this(elementUtils, messagingService, typeUtils, filer, new ProcessingStats());
+    }
+
+    public ConnectorObjectBuilderGenerator(Elements elementUtils, MessagingService messagingService, Types typeUtils, Filer filer, ProcessingStats stats) {
         this.elementUtils = elementUtils;
         this.messagingService = messagingService;
         this.typeUtils = typeUtils;
         this.filer = filer;
+        this.stats = stats;
+        // One preprocessor per generator, i.e. per round, so its caches are shared by all models of the round
+        this.preprocessor = new ConnectorModelPreprocessor(elementUtils, typeUtils, messagingService);
     }
 
-    public void generate(TypeElement classElement) throws IOException {
-        ConnectorModelPreprocessor preprocessor = new ConnectorModelPreprocessor(elementUtils, typeUtils, messagingService);
+    /**
+     * Generates the builders class of the model.
+     *
+     * @param classElement the model
+     * @return the model, as seen by the generator
+     * @throws IOException if the generated class can't be written
+     */
+    public ClassMeta generate(TypeElement classElement) throws IOException {
+        Map<ProcessingStats.Phase, Long> timings = new EnumMap<>(ProcessingStats.Phase.class);
+        long start = System.nanoTime();
         ClassMeta classMeta = preprocessor.prepareClassMeta(classElement);
         ObjectClassMeta objectClassMeta = classMeta.getObjectClassMeta();
+        long preprocessed = System.nanoTime();
+        timings.put(ProcessingStats.Phase.PREPROCESSING, preprocessed - start);
 
-        System.out.println("Generating class: " + classMeta.getClassName() + " in package: " + classMeta.getPackageName());
+        messagingService.debug(classElement, "Generating %s%s from %s", classMeta.getGeneratedClassName(),
+                classMeta.getPackageName().isEmpty() ? "" : " in package " + classMeta.getPackageName(), classMeta.getClassName());
 
         ClassName generatedClass = ClassName.get(classMeta.getPackageName(), classMeta.getGeneratedClassName());
         ClassName definingClass = ClassName.get(classElement);
 
-        // Import necessary classes from MidPoint/ConnId
-        ClassName objectClassInfoBuilderClass = ClassName.get("org.identityconnectors.framework.common.objects", "ObjectClassInfoBuilder");
-        ClassName attributeInfoBuilderClass = ClassName.get("org.identityconnectors.framework.common.objects", "AttributeInfoBuilder");
-        ClassName connectorObjectBuilderClass = ClassName.get("org.identityconnectors.framework.common.objects", "ConnectorObjectBuilder");
-
         // Create the builder class
+        // The model is the only originating element, the processor is isolating for Gradle incremental compilation
         TypeSpec.Builder classBuilder = TypeSpec.classBuilder(generatedClass)
-                .addModifiers(Modifier.PUBLIC);
+                .addModifiers(Modifier.PUBLIC)
+                .addOriginatingElement(classElement);
 
         CodeBlock.Builder objectClassInfoBuilderMethod = CodeBlock.builder()
-                .addStatement("$T $L = new $T()", objectClassInfoBuilderClass, BUILDER_NAME, objectClassInfoBuilderClass)
+                .addStatement("$T $L = new $T()", ConnIdClassNames.OBJECT_CLASS_INFO_BUILDER, BUILDER_NAME, ConnIdClassNames.OBJECT_CLASS_INFO_BUILDER)
                 .addStatement("$L.setType($L)", BUILDER_NAME, objectClassMeta.getObjectClassTypeCodeBlock());
 
         CodeBlock.Builder connectorObjectBuilderMethod = CodeBlock.builder()
-                .addStatement("$T $L = new $T()", connectorObjectBuilderClass, BUILDER_NAME, connectorObjectBuilderClass)
+                .addStatement("$T $L = new $T()", ConnIdClassNames.CONNECTOR_OBJECT_BUILDER, BUILDER_NAME, ConnIdClassNames.CONNECTOR_OBJECT_BUILDER)
                 .addStatement("$L.setObjectClass($L)", BUILDER_NAME, objectClassMeta.getConnectorObjectBuilderObjectClassCodeBlock())
                 .beginControlFlow("if ($L == null)", PARAM_CONNECTOR_BUILDER)
                 .addStatement("return $L", BUILDER_NAME)
@@ -91,38 +135,106 @@ public class ConnectorObjectBuilderGenerator {
                 PARAM_CONNECTOR_BUILDER,
                 findNameField(classMeta));
 
+        // The projected variant skips the getters of the fields which were not requested, and everything past the identifiers
+        // if only those were requested
+        CodeBlock.Builder projectedConnectorObjectBuilderMethod = CodeBlock.builder()
+                .beginControlFlow("if ($L == null || $L.isAll())", PARAM_PROJECTION, PARAM_PROJECTION)
+                .addStatement("return connectorObjectBuilder($L)", PARAM_CONNECTOR_BUILDER)
+                .endControlFlow()
+                .add(connectorObjectBuilderMethod.build())
+                .beginControlFlow("if ($L.isIdentifiersOnly())", PARAM_PROJECTION)
+                .addStatement("return $L", BUILDER_NAME)
+                .endControlFlow()
+                .addStatement("$T<$T> $L = new $T<>($L.size())", List.class, ConnIdClassNames.ATTRIBUTE, ATTRIBUTES_NAME, ArrayList.class, PARAM_PROJECTION);
+
+        // The attributes are collected to a list sized by the number of the attributes and added at once,
+        // ConnectorObjectBuilder.addAttribute(String, Object...) would allocate two extra arrays per attribute
+        long attributeCount = classMeta.getFields().stream().filter(field -> field.isSupported() && field.getGetter().isPresent()).count();
+        connectorObjectBuilderMethod.addStatement("$T<$T> $L = new $T<>($L)", List.class, ConnIdClassNames.ATTRIBUTE, ATTRIBUTES_NAME, ArrayList.class, attributeCount);
+        Set<TypeName> boxedArrayTypes = new LinkedHashSet<>();
+        CodeBlock.Builder enumTablesInitializer = CodeBlock.builder();
+
         for (FieldMeta fieldMeta : classMeta.getFields()) {
             if (!fieldMeta.isSupported()) {
                 // Skip unsupported fields, error handling based on unsupportedTypePolicy is done in the preprocessor
                 continue;
             }
-            objectClassInfoBuilderMethod.addStatement("builder.addAttributeInfo(new $T().setName($S).setRequired($L).setType($T.class).setMultiValued($L).build())",
-                    attributeInfoBuilderClass,
-                    fieldMeta.getName(),
-                    fieldMeta.isRequired(),
-                    fieldMeta.getFieldType(),
-                    fieldMeta.isMultivalued());
+            classBuilder.addField(FieldSpec.builder(String.class, fieldMeta.getNameConstant(), Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$S", fieldMeta.getName())
+                    .build());
+            classBuilder.addField(FieldSpec.builder(ConnIdClassNames.ATTRIBUTE_INFO, fieldMeta.getInfoConstant(), Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("new $T().setName($N).setRequired($L).setType($T.class).setMultiValued($L).build()",
+                            ConnIdClassNames.ATTRIBUTE_INFO_BUILDER,
+                            fieldMeta.getNameConstant(),
+                            fieldMeta.isRequired(),
+                            fieldMeta.getFieldType(),
+                            fieldMeta.isMultivalued())
+                    .build());
+            classBuilder.addField(FieldSpec.builder(int.class, fieldMeta.getIndexConstant(), Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$L", fieldMeta.getIndex())
+                    .build());
+            objectClassInfoBuilderMethod.addStatement("$L.addAttributeInfo($N)", BUILDER_NAME, fieldMeta.getInfoConstant());
+
+            if (fieldMeta.getEnumMeta().isPresent()) {
+                classBuilder.addFields(EnumTableUtil.createTableFields(fieldMeta));
+                enumTablesInitializer.add(EnumTableUtil.createTableInitializer(fieldMeta));
+            }
+
+            if (fieldMeta.getContainerType() == ContainerType.ARRAY && fieldMeta.getFieldType().isPrimitive()) {
+                boxedArrayTypes.add(fieldMeta.getFieldType());
+            }
 
             Optional<ExecutableElement> getter = fieldMeta.getGetter();
             if (getter.isEmpty()) {
                 continue;
             }
 
-            if (fieldMeta.getEnumMeta().isPresent()) {
-                connectorObjectBuilderMethod.add(PoetUtil.addEnumAttributeBlock(fieldMeta, getter.get()));
-            } else {
-                connectorObjectBuilderMethod.add(PoetUtil.addAttributeBlock(fieldMeta, getter.get()));
-            }
+            CodeBlock attributeBlock = fieldMeta.getEnumMeta().isPresent()
+                    ? PoetUtil.addEnumAttributeBlock(fieldMeta, getter.get())
+                    : PoetUtil.addAttributeBlock(fieldMeta, getter.get());
+            connectorObjectBuilderMethod.add(attributeBlock);
+            projectedConnectorObjectBuilderMethod.beginControlFlow("if ($L.includes($N))", PARAM_PROJECTION, fieldMeta.getIndexConstant())
+                    .add(attributeBlock)
+                    .endControlFlow();
         }
 
+        if (!enumTablesInitializer.isEmpty()) {
+            classBuilder.addStaticBlock(enumTablesInitializer.build());
+        }
         objectClassInfoBuilderMethod.addStatement("return $L", BUILDER_NAME);
+        connectorObjectBuilderMethod.addStatement("$L.addAttributes($L)", BUILDER_NAME, ATTRIBUTES_NAME);
         connectorObjectBuilderMethod.addStatement("return $L", BUILDER_NAME);
+        projectedConnectorObjectBuilderMethod.addStatement("$L.addAttributes($L)", BUILDER_NAME, ATTRIBUTES_NAME);
+        projectedConnectorObjectBuilderMethod.addStatement("return $L", BUILDER_NAME);
 
-        MethodSpec objectClassInfoMethod = PoetUtil.createMethod("objectClassInfoBuilder", objectClassInfoBuilderClass, objectClassInfoBuilderMethod.build());
-        MethodSpec connectorObjectMethod = PoetUtil.createMethod("connectorObjectBuilder", connectorObjectBuilderClass, connectorObjectBuilderMethod.build(), ParameterSpec.builder(definingClass, PARAM_CONNECTOR_BUILDER).build());
+        MethodSpec objectClassInfoMethod = PoetUtil.createMethod("objectClassInfoBuilder", ConnIdClassNames.OBJECT_CLASS_INFO_BUILDER, objectClassInfoBuilderMethod.build());
+        MethodSpec connectorObjectMethod = PoetUtil.createMethod("connectorObjectBuilder", ConnIdClassNames.CONNECTOR_OBJECT_BUILDER, connectorObjectBuilderMethod.build(), ParameterSpec.builder(definingClass, PARAM_CONNECTOR_BUILDER).build());
 
         classBuilder.addMethod(objectClassInfoMethod);
+        classBuilder.addMethod(createObjectClassInfoMethod(generatedClass));
+        classBuilder.addType(createObjectClassInfoHolder());
         classBuilder.addMethod(connectorObjectMethod);
+        classBuilder.addMethod(PoetUtil.createMethod("connectorObjectBuilder", ConnIdClassNames.CONNECTOR_OBJECT_BUILDER, projectedConnectorObjectBuilderMethod.build(),
+                        ParameterSpec.builder(definingClass, PARAM_CONNECTOR_BUILDER).build(), ParameterSpec.builder(FIELD_PROJECTION_CLASS, PARAM_PROJECTION).build())
+                .toBuilder()
+                .addJavadoc("Creates the builder with the UID, the name and the attributes included in the projection only.\n")
+                .addJavadoc("<p>\nThe getters of the fields which are not included are not called.\n</p>\n\n")
+                .addJavadoc("@see #projection($T)\n", ConnIdClassNames.OPERATION_OPTIONS)
+                .build());
+        new ProjectionGenerator().generate(classBuilder, classMeta);
+        classBuilder.addMethods(createEmitAllMethods(definingClass));
+        classBuilder.addMethods(createEmitAllParallelMethods(definingClass));
+        new AttributeMapperGenerator(messagingService).generate(classBuilder, classMeta, classElement, definingClass);
+        new AttributeDeltaGenerator().generate(classBuilder, classMeta, definingClass);
+        new FilterPredicateGenerator().generate(classBuilder, classMeta, definingClass, generatedClass);
+        new DiffGenerator().generate(classBuilder, classMeta, definingClass);
+        new FingerprintGenerator().generate(classBuilder, classMeta, definingClass);
+        new ModelStoreGenerator().generate(classBuilder, classMeta, definingClass, generatedClass, findUidField(classMeta), findNameField(classMeta));
+        new BinaryCodecGenerator().generate(classBuilder, classMeta, definingClass);
+        new JsonDecoderGenerator().generate(classBuilder, classMeta, definingClass);
+        for (TypeName boxedArrayType : boxedArrayTypes) {
+            classBuilder.addMethod(PoetUtil.createBoxValuesMethod(boxedArrayType));
+        }
 
         TypeSpec generatedType = classBuilder.build();
         // Create a JavaFile with the package and TypeSpec
@@ -130,9 +242,150 @@ public class ConnectorObjectBuilderGenerator {
                 .skipJavaLangImports(true)
                 .indent("    ") // 4 space indentation
                 .build();
+        long generated = System.nanoTime();
+        timings.put(ProcessingStats.Phase.GENERATION, generated - preprocessed);
+
+        // Rendered once, before the file is created, so the rendering and the Filer are timed separately
+        String source = javaFile.toString();
+        long rendered = System.nanoTime();
+        timings.put(ProcessingStats.Phase.RENDERING, rendered - generated);
+
+        JavaFileObject sourceFile = filer.createSourceFile(generatedClass.canonicalName(), generatedType.originatingElements().toArray(new Element[0]));
+        try (Writer writer = sourceFile.openWriter()) {
+            writer.write(source);
+        }
+        timings.put(ProcessingStats.Phase.WRITING, System.nanoTime() - rendered);
+        stats.modelGenerated(classElement.getQualifiedName().toString(), generatedClass.canonicalName(), timings);
+        return classMeta;
+    }
+
+    /**
+     * Creates the accessor of the shared {@code ObjectClassInfo} instance, which is built once by the holder class on first access.
+     */
+    private MethodSpec createObjectClassInfoMethod(ClassName generatedClass) {
+        return MethodSpec.methodBuilder("objectClassInfo")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(ConnIdClassNames.OBJECT_CLASS_INFO)
+                .addJavadoc("Returns the shared, immutable {@link $T}, lazily built on first access.\n", ConnIdClassNames.OBJECT_CLASS_INFO)
+                .addJavadoc("<p>\nUse {@link $T#objectClassInfoBuilder()} when the object class needs to be customized.\n</p>\n", generatedClass)
+                .addStatement("return $L.$L", OBJECT_CLASS_INFO_HOLDER, INSTANCE_NAME)
+                .build();
+    }
+
+    /**
+     * Creates the initialization-on-demand holder of the {@code ObjectClassInfo}, the JVM class initialization guarantees thread safety.
+     */
+    private TypeSpec createObjectClassInfoHolder() {
+        return TypeSpec.classBuilder(OBJECT_CLASS_INFO_HOLDER)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .addField(FieldSpec.builder(ConnIdClassNames.OBJECT_CLASS_INFO, INSTANCE_NAME, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("objectClassInfoBuilder().build()")
+                        .build())
+                .build();
+    }
+
+    /**
+     * Creates the {@code emitAll} overloads, which convert the models one by one and pass them to a {@code ResultsHandler}.
+     * <p>
+     * The {@code Iterator} overload with a projection does the actual work, the other overloads only delegate to it, so no
+     * intermediate collection is ever created.
+     * </p>
+     */
+    private List<MethodSpec> createEmitAllMethods(ClassName definingClass) {
+        TypeName modelType = WildcardTypeName.subtypeOf(definingClass);
+        ParameterSpec handler = ParameterSpec.builder(ConnIdClassNames.RESULTS_HANDLER, PARAM_HANDLER).build();
+        ParameterSpec projection = ParameterSpec.builder(FIELD_PROJECTION_CLASS, PARAM_PROJECTION).build();
+        TypeName iteratorType = ParameterizedTypeName.get(ClassName.get(Iterator.class), modelType);
 
-        System.out.println("Output class: " + javaFile);
-        javaFile.writeTo(filer);
+        MethodSpec iteratorMethod = MethodSpec.methodBuilder(EMIT_ALL_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(TypeName.BOOLEAN)
+                .addJavadoc("Converts the models and passes them to the handler, {@code null} models are skipped.\n")
+                .addJavadoc("<p>\nStops as soon as the handler returns {@code false}, the remaining models are not read.\n</p>\n\n")
+                .addJavadoc("@return {@code false} if the handler requested to stop, {@code true} otherwise\n")
+                .addParameter(iteratorType, PARAM_CONNECTOR_BUILDER)
+                .addParameter(projection)
+                .addParameter(handler)
+                .beginControlFlow("while ($L.hasNext())", PARAM_CONNECTOR_BUILDER)
+                .addStatement("$T model = $L.next()", definingClass, PARAM_CONNECTOR_BUILDER)
+                .beginControlFlow("if (model != null && !$L.handle(connectorObjectBuilder(model, $L).build()))", PARAM_HANDLER, PARAM_PROJECTION)
+                .addStatement("return false")
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("return true")
+                .build();
+
+        List<MethodSpec> methods = new ArrayList<>();
+        methods.add(iteratorMethod);
+        for (TypeName sourceType : List.of(iteratorType,
+                ParameterizedTypeName.get(ClassName.get(Iterable.class), modelType),
+                ParameterizedTypeName.get(ClassName.get(Stream.class), modelType))) {
+            boolean iterator = sourceType == iteratorType;
+            if (!iterator) {
+                methods.add(createEmitAllDelegate(sourceType, CodeBlock.of("$L.iterator(), $L", PARAM_CONNECTOR_BUILDER, PARAM_PROJECTION), handler, projection));
+            }
+            CodeBlock source = iterator ? CodeBlock.of(PARAM_CONNECTOR_BUILDER) : CodeBlock.of("$L.iterator()", PARAM_CONNECTOR_BUILDER);
+            methods.add(createEmitAllDelegate(sourceType, CodeBlock.of("$L, $T.all()", source, FIELD_PROJECTION_CLASS), handler, null));
+        }
+        return methods;
+    }
+
+    /**
+     * Creates the {@code emitAllParallel} overloads, which convert the models on the executor of an {@code OrderedParallelConverter}
+     * and pass them to the {@code ResultsHandler} in the original order, from the calling thread.
+     */
+    private List<MethodSpec> createEmitAllParallelMethods(ClassName definingClass) {
+        TypeName modelType = WildcardTypeName.subtypeOf(definingClass);
+        TypeName iteratorType = ParameterizedTypeName.get(ClassName.get(Iterator.class), modelType);
+        ParameterSpec projection = ParameterSpec.builder(FIELD_PROJECTION_CLASS, PARAM_PROJECTION).build();
+        ParameterSpec converter = ParameterSpec.builder(PARALLEL_CONVERTER_CLASS, PARAM_CONVERTER).build();
+        ParameterSpec handler = ParameterSpec.builder(ConnIdClassNames.RESULTS_HANDLER, PARAM_HANDLER).build();
+
+        List<MethodSpec> methods = new ArrayList<>();
+        methods.add(MethodSpec.methodBuilder(EMIT_ALL_PARALLEL_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(TypeName.BOOLEAN)
+                .addJavadoc("Same as {@link #$L($T, $T, $T)}, but the models are converted in parallel by the converter.\n",
+                        EMIT_ALL_NAME, Iterator.class, FIELD_PROJECTION_CLASS, ConnIdClassNames.RESULTS_HANDLER)
+                .addJavadoc("<p>\nThe models are read and the handler is called by the calling thread only, in the order of the models.\n</p>\n\n")
+                .addJavadoc("@return {@code false} if the handler requested to stop, {@code true} otherwise\n")
+                .addParameter(iteratorType, PARAM_CONNECTOR_BUILDER)
+                .addParameter(projection)
+                .addParameter(converter)
+                .addParameter(handler)
+                .addStatement("return $L.convert($L, model -> connectorObjectBuilder(model, $L).build(), $L::handle)",
+                        PARAM_CONVERTER, PARAM_CONNECTOR_BUILDER, PARAM_PROJECTION, PARAM_HANDLER)
+                .build());
+        for (TypeName sourceType : List.of(ParameterizedTypeName.get(ClassName.get(Iterable.class), modelType),
+                ParameterizedTypeName.get(ClassName.get(Stream.class), modelType))) {
+            methods.add(MethodSpec.methodBuilder(EMIT_ALL_PARALLEL_NAME)
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                    .returns(TypeName.BOOLEAN)
+                    .addJavadoc("@see #$L($T, $T, $T, $T)\n", EMIT_ALL_PARALLEL_NAME, Iterator.class, FIELD_PROJECTION_CLASS,
+                            PARALLEL_CONVERTER_CLASS, ConnIdClassNames.RESULTS_HANDLER)
+                    .addParameter(sourceType, PARAM_CONNECTOR_BUILDER)
+                    .addParameter(projection)
+                    .addParameter(converter)
+                    .addParameter(handler)
+                    .addStatement("return $L($L.iterator(), $L, $L, $L)", EMIT_ALL_PARALLEL_NAME, PARAM_CONNECTOR_BUILDER,
+                            PARAM_PROJECTION, PARAM_CONVERTER, PARAM_HANDLER)
+                    .build());
+        }
+        return methods;
+    }
+
+    private MethodSpec createEmitAllDelegate(TypeName sourceType, CodeBlock arguments, ParameterSpec handler, ParameterSpec projection) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(EMIT_ALL_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(TypeName.BOOLEAN)
+                .addJavadoc("@see #$L($T, $T, $T)\n", EMIT_ALL_NAME, Iterator.class, FIELD_PROJECTION_CLASS, handler.type())
+                .addParameter(sourceType, PARAM_CONNECTOR_BUILDER);
+        if (projection != null) {
+            builder.addParameter(projection);
+        }
+        return builder.addParameter(handler)
+                .addStatement("return $L($L, $L)", EMIT_ALL_NAME, arguments, PARAM_HANDLER)
+                .build();
     }
 
     private ExecutableElement findUidField(ClassMeta classMeta) {
@@ -0,0 +1,382 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.processor.generator;
+
+import com.palantir.javapoet.*;
+import dev.kolacek.midpoint.codegen.processor.MessagingService;
+import dev.kolacek.midpoint.codegen.processor.MidPointModelProcessor;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ClassMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ObjectClassMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.util.ConnIdClassNames;
+import dev.kolacek.midpoint.codegen.processor.generator.util.PoetUtil;
+import dev.kolacek.midpoint.codegen.util.FieldProjection;
+import dev.kolacek.midpoint.codegen.util.ModelBinding;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import java.io.IOException;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Generates {@code GeneratedConnectorSchema}, the ConnId schema of all {@code @ConnectorModel} classes of the compilation.
+ * <p>
+ * The models are collected while their builders are generated, the schema class is generated once all of them are known.
+ * Its object classes are the shared {@code objectClassInfo()} instances of the builders, the {@code Schema} is built once per
+ * connector class and cached, so {@code SchemaOp.schema()} of pooled connector instances returns the same immutable instance.
+ * </p>
+ * <p>
+ * Every model gets a {@link ModelBinding} delegating to its builders class. The {@code binding} methods select it by a
+ * {@code switch} over the object class types, so connectors serving many object classes dispatch each operation once.
+ * </p>
+ */
+public class ConnectorSchemaGenerator {
+
+    public static final String SCHEMA_CLASS_NAME = "GeneratedConnectorSchema";
+    public static final String PARAM_CONNECTOR_CLASS = "connectorClass";
+    public static final String PARAM_OBJECT_CLASS_NAME = "objectClassName";
+    public static final String BINDINGS_NAME = "BINDINGS";
+
+    private static final ClassName SCHEMA = ClassName.get("org.identityconnectors.framework.common.objects", "Schema");
+    private static final ClassName SCHEMA_BUILDER = ClassName.get("org.identityconnectors.framework.common.objects", "SchemaBuilder");
+    private static final ClassName CONNECTOR = ClassName.get("org.identityconnectors.framework.spi", "Connector");
+    private static final TypeName CONNECTOR_CLASS = ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(CONNECTOR));
+    private static final TypeName BINDING_TYPE = ParameterizedTypeName.get(ClassName.get(ModelBinding.class), WildcardTypeName.subtypeOf(Object.class));
+    private static final TypeName OBJECT_CLASS_INFOS = ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(String.class), ConnIdClassNames.OBJECT_CLASS_INFO);
+
+    private final Filer filer;
+    private final MessagingService messagingService;
+    private final List<SchemaModel> models = new ArrayList<>();
+    private boolean generated;
+
+    public ConnectorSchemaGenerator(Filer filer, MessagingService messagingService) {
+        this.filer = filer;
+        this.messagingService = messagingService;
+    }
+
+    /**
+     * Adds the model to the schema, models added after the schema class was generated are reported as errors.
+     *
+     * @param classElement the model element
+     * @param classMeta    the model
+     */
+    public void addModel(TypeElement classElement, ClassMeta classMeta) {
+        if (generated) {
+            messagingService.error(classElement, "%s was generated before %s was processed, generate the model in an earlier round or don't enable the schema by -A%s.",
+                    SCHEMA_CLASS_NAME, classMeta.getClassName(), MidPointModelProcessor.OPTION_SCHEMA);
+            return;
+        }
+        ClassName modelClass = ClassName.get(classElement);
+        // Models from different packages may share the simple name
+        String bindingName = PoetUtil.toConstantName(modelClass.simpleName()) + "_BINDING";
+        for (int i = 2; isBindingNameUsed(bindingName); i++) {
+            bindingName = PoetUtil.toConstantName(modelClass.simpleName()) + "_BINDING_" + i;
+        }
+        boolean writable = !AttributeMapperGenerator.getWritableFields(classMeta).isEmpty();
+        models.add(new SchemaModel(classElement, modelClass, ClassName.get(classMeta.getPackageName(), classMeta.getGeneratedClassName()),
+                classMeta.getObjectClassMeta(), bindingName, writable && classMeta.isInstantiable(), writable));
+    }
+
+    private boolean isBindingNameUsed(String bindingName) {
+        return models.stream().anyMatch(model -> model.bindingName().equals(bindingName));
+    }
+
+    /**
+     * @return {@code true} if there are models and the schema class was not generated yet
+     */
+    public boolean isPending() {
+        return !generated && !models.isEmpty();
+    }
+
+    /**
+     * Generates the schema class, unless two models share an object class, which ConnId does not allow in one schema.
+     *
+     * @param packageName the package of the schema class, {@code null} for the common package of the models
+     * @throws IOException if the class can't be written
+     */
+    public void generate(String packageName) throws IOException {
+        generated = true;
+        models.sort(Comparator.comparing(model -> model.element().getQualifiedName().toString()));
+
+        Map<ObjectClassMeta, SchemaModel> byObjectClass = new HashMap<>();
+        boolean duplicates = false;
+        for (SchemaModel model : models) {
+            SchemaModel previous = byObjectClass.putIfAbsent(model.objectClassMeta(), model);
+            if (previous != null) {
+                messagingService.warn(model.element(), "%s has the same object class as %s, %s will not be generated. Set @ConnectorModel#objectClassType to add both to the schema.",
+                        model.element().getQualifiedName(), previous.element().getQualifiedName(), SCHEMA_CLASS_NAME);
+                duplicates = true;
+            }
+        }
+        if (duplicates) {
+            return;
+        }
+
+        ClassName schemaClass = ClassName.get(packageName == null ? commonPackage() : packageName, SCHEMA_CLASS_NAME);
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(schemaClass)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addJavadoc("The connector schema of all {@code @ConnectorModel} classes, e.g. for {@code SchemaOp.schema()}:\n")
+                .addJavadoc("<pre>{@code\nreturn $T.schema(getClass());\n}</pre>\n", schemaClass)
+                .addField(createObjectClassInfosField())
+                .addField(createSchemasField())
+                .addFields(createBindingFields())
+                .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+                .addMethod(MethodSpec.methodBuilder("schema")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .returns(SCHEMA)
+                        .addJavadoc("Returns the immutable schema of the connector, built on the first call for the connector class and shared by all later calls.\n\n")
+                        .addJavadoc("@param $L the connector class, it defines the operations supporting the object classes\n", PARAM_CONNECTOR_CLASS)
+                        .addJavadoc("@return the shared schema\n")
+                        .addParameter(CONNECTOR_CLASS, PARAM_CONNECTOR_CLASS)
+                        .addStatement("return SCHEMAS.get($L)", PARAM_CONNECTOR_CLASS)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("schemaBuilder")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .returns(SCHEMA_BUILDER)
+                        .addJavadoc("Creates a new builder with all object classes defined, when the schema needs e.g. operation options or further object classes.\n\n")
+                        .addJavadoc("@param $L the connector class\n", PARAM_CONNECTOR_CLASS)
+                        .addJavadoc("@return the new builder\n")
+                        .addParameter(CONNECTOR_CLASS, PARAM_CONNECTOR_CLASS)
+                        .addStatement("$T builder = new $T($L)", SCHEMA_BUILDER, SCHEMA_BUILDER, PARAM_CONNECTOR_CLASS)
+                        .beginControlFlow("for ($T objectClassInfo : OBJECT_CLASS_INFOS.values())", ConnIdClassNames.OBJECT_CLASS_INFO)
+                        .addStatement("builder.defineObjectClass(objectClassInfo)")
+                        .endControlFlow()
+                        .addStatement("return builder")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("objectClassInfo")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .returns(ConnIdClassNames.OBJECT_CLASS_INFO)
+                        .addJavadoc("@param objectClassName the type of the object class, e.g. {@code ObjectClass.ACCOUNT_NAME}\n")
+                        .addJavadoc("@return the object class, {@code null} if no model defines it\n")
+                        .addParameter(String.class, "objectClassName")
+                        .addStatement("return OBJECT_CLASS_INFOS.get(objectClassName)")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("objectClassInfos")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .returns(OBJECT_CLASS_INFOS)
+                        .addJavadoc("@return the unmodifiable object classes of all models by their type, in the order of the model class names\n")
+                        .addStatement("return OBJECT_CLASS_INFOS")
+                        .build())
+                .addMethod(createBindingMethod())
+                .addMethod(MethodSpec.methodBuilder("binding")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .returns(BINDING_TYPE)
+                        .addJavadoc("@param objectClass the object class of the operation\n")
+                        .addJavadoc("@return the binding of the model of the object class\n")
+                        .addJavadoc("@throws $T if no model defines the object class\n", IllegalArgumentException.class)
+                        .addParameter(ConnIdClassNames.OBJECT_CLASS, "objectClass")
+                        .addStatement("$T binding = binding(objectClass.getObjectClassValue())", BINDING_TYPE)
+                        .beginControlFlow("if (binding == null)")
+                        .addStatement("throw new $T(\"Unsupported object class \" + objectClass.getObjectClassValue())", IllegalArgumentException.class)
+                        .endControlFlow()
+                        .addStatement("return binding")
+                        .build())
+                .addMethod(createObjectClassInfosInitializer());
+        for (SchemaModel model : models) {
+            classBuilder.addOriginatingElement(model.element());
+        }
+
+        TypeSpec generatedType = classBuilder.build();
+        JavaFile.builder(schemaClass.packageName(), generatedType)
+                .skipJavaLangImports(true)
+                .indent("    ")
+                .build()
+                .writeTo(filer);
+        messagingService.debug(null, "Generated %s with %d object classes", schemaClass.canonicalName(), models.size());
+    }
+
+    private List<FieldSpec> createBindingFields() {
+        List<FieldSpec> fields = new ArrayList<>();
+        for (SchemaModel model : models) {
+            fields.add(FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(ModelBinding.class), model.modelClass()), model.bindingName(),
+                            Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$L", createBinding(model))
+                    .build());
+        }
+        fields.add(FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(List.class), BINDING_TYPE), BINDINGS_NAME,
+                        Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$T.of($L)", List.class, CodeBlock.join(models.stream().map(model -> CodeBlock.of("$L", model.bindingName())).toList(), ", "))
+                .build());
+        return fields;
+    }
+
+    /**
+     * Creates the anonymous {@link ModelBinding} of the model, each method delegates to the static method of the builders class.
+     */
+    private TypeSpec createBinding(SchemaModel model) {
+        TypeName modelClass = model.modelClass();
+        ClassName builders = model.buildersClass();
+        TypeName attributes = ParameterizedTypeName.get(ClassName.get(Set.class), ConnIdClassNames.ATTRIBUTE);
+        TypeName deltas = ParameterizedTypeName.get(ClassName.get(Set.class), ConnIdClassNames.ATTRIBUTE_DELTA);
+
+        MethodSpec.Builder fromAttributes = bindingMethod("fromAttributes", modelClass)
+                .addParameter(attributes, "attributes");
+        if (model.creatable()) {
+            fromAttributes.addStatement("return $T.fromAttributes(attributes)", builders);
+        } else {
+            fromAttributes.addStatement("throw new $T($S)", UnsupportedOperationException.class, model.element().getSimpleName() + " can't be created from attributes");
+        }
+        MethodSpec.Builder applyDeltas = bindingMethod("applyDeltas", ClassName.get(BitSet.class))
+                .addParameter(modelClass, "model")
+                .addParameter(deltas, "deltas");
+        if (model.updatable()) {
+            applyDeltas.addStatement("return $T.applyDeltas(model, deltas)", builders);
+        } else {
+            applyDeltas.addStatement("throw new $T($S)", UnsupportedOperationException.class, model.element().getSimpleName() + " has no setters");
+        }
+
+        return TypeSpec.anonymousClassBuilder("")
+                .superclass(ParameterizedTypeName.get(ClassName.get(ModelBinding.class), modelClass))
+                .addMethod(bindingMethod("objectClassName", ClassName.get(String.class))
+                        .addStatement("return $S", model.objectClassMeta().getObjectClassType())
+                        .build())
+                .addMethod(bindingMethod("modelClass", ParameterizedTypeName.get(ClassName.get(Class.class), modelClass))
+                        .addStatement("return $T.class", modelClass)
+                        .build())
+                .addMethod(bindingMethod("objectClassInfo", ConnIdClassNames.OBJECT_CLASS_INFO)
+                        .addStatement("return $T.objectClassInfo()", builders)
+                        .build())
+                .addMethod(bindingMethod("projection", ClassName.get(FieldProjection.class))
+                        .addParameter(ConnIdClassNames.OPERATION_OPTIONS, "options")
+                        .addStatement("return $T.projection(options)", builders)
+                        .build())
+                .addMethod(bindingMethod("connectorObjectBuilder", ConnIdClassNames.CONNECTOR_OBJECT_BUILDER)
+                        .addParameter(modelClass, "model")
+                        .addParameter(FieldProjection.class, "projection")
+                        .addStatement("return $T.connectorObjectBuilder(model, projection)", builders)
+                        .build())
+                .addMethod(fromAttributes.build())
+                .addMethod(applyDeltas.build())
+                .addMethod(bindingMethod("predicate", ParameterizedTypeName.get(ClassName.get(Predicate.class), modelClass))
+                        .addParameter(ConnIdClassNames.FILTER, "filter")
+                        .addStatement("return $T.predicate(filter)", builders)
+                        .build())
+                .addMethod(bindingMethod("diff", deltas)
+                        .addParameter(modelClass, "before")
+                        .addParameter(modelClass, "after")
+                        .addStatement("return $T.diff(before, after)", builders)
+                        .build())
+                .build();
+    }
+
+    private static MethodSpec.Builder bindingMethod(String name, TypeName returnType) {
+        return MethodSpec.methodBuilder(name)
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(returnType);
+    }
+
+    private MethodSpec createBindingMethod() {
+        CodeBlock.Builder body = CodeBlock.builder()
+                .beginControlFlow("switch ($L)", PARAM_OBJECT_CLASS_NAME);
+        for (SchemaModel model : models) {
+            body.add("case $S:\n$>", model.objectClassMeta().getObjectClassType())
+                    .addStatement("return $L", model.bindingName())
+                    .add("$<");
+        }
+        body.add("default:\n$>")
+                .addStatement("break")
+                .add("$<")
+                .endControlFlow()
+                // ConnId compares the object classes ignoring the case
+                .beginControlFlow("for ($T binding : $L)", BINDING_TYPE, BINDINGS_NAME)
+                .beginControlFlow("if (binding.objectClassName().equalsIgnoreCase($L))", PARAM_OBJECT_CLASS_NAME)
+                .addStatement("return binding")
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("return null");
+
+        return MethodSpec.methodBuilder("binding")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(BINDING_TYPE)
+                .addJavadoc("Returns the binding of the model of the object class, selected by a {@code switch} over the object class types.\n\n")
+                .addJavadoc("@param $L the type of the object class, e.g. {@code ObjectClass.getObjectClassValue()}\n", PARAM_OBJECT_CLASS_NAME)
+                .addJavadoc("@return the binding, {@code null} if no model defines the object class\n")
+                .addParameter(String.class, PARAM_OBJECT_CLASS_NAME)
+                .addCode(body.build())
+                .build();
+    }
+
+    private FieldSpec createObjectClassInfosField() {
+        return FieldSpec.builder(OBJECT_CLASS_INFOS, "OBJECT_CLASS_INFOS", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("createObjectClassInfos()")
+                .build();
+    }
+
+    private FieldSpec createSchemasField() {
+        // ClassValue caches the schema per connector class without keeping the class loader of the connector alive
+        TypeName type = ParameterizedTypeName.get(ClassName.get(ClassValue.class), SCHEMA);
+        return FieldSpec.builder(type, "SCHEMAS", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$L", TypeSpec.anonymousClassBuilder("")
+                        .superclass(type)
+                        .addMethod(MethodSpec.methodBuilder("computeValue")
+                                .addAnnotation(Override.class)
+                                .addModifiers(Modifier.PROTECTED)
+                                .returns(SCHEMA)
+                                .addParameter(ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class)), "type")
+                                .addStatement("return schemaBuilder(type.asSubclass($T.class)).build()", CONNECTOR)
+                                .build())
+                        .build())
+                .build();
+    }
+
+    private MethodSpec createObjectClassInfosInitializer() {
+        CodeBlock.Builder body = CodeBlock.builder()
+                .addStatement("$T objectClassInfos = new $T<>()", OBJECT_CLASS_INFOS, LinkedHashMap.class)
+                .add("for ($T objectClassInfo : $T.of(", ConnIdClassNames.OBJECT_CLASS_INFO, List.class)
+                .add("$>$>");
+        for (int i = 0; i < models.size(); i++) {
+            body.add("\n$T.objectClassInfo()$L", models.get(i).buildersClass(), i + 1 < models.size() ? "," : "");
+        }
+        body.add("$<$<)) {\n$>")
+                .addStatement("objectClassInfos.put(objectClassInfo.getType(), objectClassInfo)")
+                .add("$<}\n")
+                .addStatement("return $T.unmodifiableMap(objectClassInfos)", Collections.class);
+
+        return MethodSpec.methodBuilder("createObjectClassInfos")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(OBJECT_CLASS_INFOS)
+                .addCode(body.build())
+                .build();
+    }
+
+    /**
+     * The longest package shared by all models, the package of the first model if they share none.
+     */
+    private String commonPackage() {
+        String common = null;
+        for (SchemaModel model : models) {
+            String packageName = model.buildersClass().packageName();
+            if (common == null) {
+                common = packageName;
+            }
+            while (!common.isEmpty() && !packageName.equals(common) && !packageName.startsWith(common + ".")) {
+                int end = common.lastIndexOf('.');
+                common = end < 0 ? "" : common.substring(0, end);
+            }
+        }
+        return common == null || common.isEmpty() ? models.get(0).buildersClass().packageName() : common;
+    }
+
+    /**
+     * @param creatable whether the builders class has {@code fromAttributes}
+     * @param updatable whether the builders class has {@code applyDeltas}
+     */
+    private record SchemaModel(TypeElement element, ClassName modelClass, ClassName buildersClass, ObjectClassMeta objectClassMeta,
+                               String bindingName, boolean creatable, boolean updatable) {
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.processor.generator;
+
+import com.palantir.javapoet.*;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ClassMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ContainerType;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.FieldMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.util.ConnIdClassNames;
+import dev.kolacek.midpoint.codegen.processor.generator.util.EnumTableUtil;
+import dev.kolacek.midpoint.codegen.processor.generator.util.PoetUtil;
+import dev.kolacek.midpoint.codegen.util.AttributeDeltas;
+
+import javax.lang.model.element.Modifier;
+import java.util.*;
+
+/**
+ * Generates {@code diff}, which compares two instances of the model and returns the {@code AttributeDelta}s turning the first
+ * into the second.
+ * <p>
+ * The values are read by the getters and compared by their type: primitives by value, enums by identity, other values by
+ * {@code equals}. Multivalued fields are compared by {@link AttributeDeltas}, which creates the values to add and to remove.
+ * </p>
+ */
+public class DiffGenerator {
+
+    public static final String DIFF_NAME = "diff";
+    public static final String PARAM_BEFORE = "before";
+    public static final String PARAM_AFTER = "after";
+    public static final String DELTAS_NAME = "deltas";
+
+    /**
+     * Adds the {@code diff} method to the generated class.
+     *
+     * @param classBuilder  the generated class
+     * @param classMeta     the model
+     * @param definingClass the model class
+     */
+    public void generate(TypeSpec.Builder classBuilder, ClassMeta classMeta, ClassName definingClass) {
+        TypeName deltasType = ParameterizedTypeName.get(ClassName.get(Set.class), ConnIdClassNames.ATTRIBUTE_DELTA);
+        CodeBlock.Builder body = CodeBlock.builder()
+                .addStatement("$T.requireNonNull($L, $S)", Objects.class, PARAM_BEFORE, PARAM_BEFORE)
+                .addStatement("$T.requireNonNull($L, $S)", Objects.class, PARAM_AFTER, PARAM_AFTER)
+                .addStatement("$T $L = new $T<>()", deltasType, DELTAS_NAME, HashSet.class);
+        for (FieldMeta fieldMeta : classMeta.getFields()) {
+            if (fieldMeta.isSupported() && fieldMeta.getGetter().isPresent()) {
+                body.add(diffField(fieldMeta));
+            }
+        }
+        body.addStatement("return $L", DELTAS_NAME);
+
+        classBuilder.addMethod(MethodSpec.methodBuilder(DIFF_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(deltasType)
+                .addJavadoc("Compares the models and returns the deltas of the changed attributes, e.g. to update only what changed when\n")
+                .addJavadoc("a full replace is received for an object which is already known.\n")
+                .addJavadoc("<p>\nSingle valued attributes are replaced, multivalued attributes get the values to add and to remove, unless they are\n")
+                .addJavadoc("declared {@code ValueOrder.ORDERED}, those are replaced when their sequence changes. The deltas are named by the\n")
+                .addJavadoc("{@code ATTR_} constants.\n</p>\n\n")
+                .addJavadoc("@param $L the old state of the model\n", PARAM_BEFORE)
+                .addJavadoc("@param $L the new state of the model\n", PARAM_AFTER)
+                .addJavadoc("@return the deltas, empty if the models have the same attribute values\n")
+                .addParameter(definingClass, PARAM_BEFORE)
+                .addParameter(definingClass, PARAM_AFTER)
+                .addCode(body.build())
+                .build());
+    }
+
+    private CodeBlock diffField(FieldMeta fieldMeta) {
+        String getter = fieldMeta.getGetter().orElseThrow().getSimpleName().toString();
+        TypeName declaredType = fieldMeta.getDeclaredType();
+        String oldValue = fieldMeta.getFieldName() + "Before";
+        String newValue = fieldMeta.getFieldName() + "After";
+        CodeBlock.Builder builder = CodeBlock.builder()
+                .addStatement("$T $L = $L.$L()", declaredType, oldValue, PARAM_BEFORE, getter)
+                .addStatement("$T $L = $L.$L()", declaredType, newValue, PARAM_AFTER, getter);
+
+        if (fieldMeta.getContainerType() == ContainerType.ARRAY && fieldMeta.getFieldType().isPrimitive()) {
+            // Compared without boxing first, most arrays do not change
+            return builder.beginControlFlow("if (!$T.equals($L, $L))", Arrays.class, oldValue, newValue)
+                    .addStatement("$T.values($L, $N, $L($L), $L($L), $L)", AttributeDeltas.class, DELTAS_NAME, fieldMeta.getNameConstant(),
+                            PoetUtil.BOX_VALUES_NAME, oldValue, PoetUtil.BOX_VALUES_NAME, newValue, fieldMeta.isExplicitlyOrdered())
+                    .endControlFlow()
+                    .build();
+        }
+        if (fieldMeta.getContainerType() != ContainerType.NONE) {
+            return builder.addStatement("$T.values($L, $N, $L, $L, $L)", AttributeDeltas.class, DELTAS_NAME, fieldMeta.getNameConstant(),
+                            oldValue, newValue, fieldMeta.isExplicitlyOrdered())
+                    .build();
+        }
+
+        CodeBlock newAttributeValue = CodeBlock.of("$L", newValue);
+        CodeBlock changed;
+        if (fieldMeta.getEnumMeta().isPresent()) {
+            changed = CodeBlock.of("$L != $L", oldValue, newValue);
+            newAttributeValue = CodeBlock.of("$L == null ? null : $L[$L.ordinal()]", newValue, EnumTableUtil.stringsTableName(fieldMeta), newValue);
+        } else if (declaredType == TypeName.DOUBLE || declaredType == TypeName.FLOAT) {
+            // Same as equals of the boxed values, NaN is equal to itself
+            changed = CodeBlock.of("$T.compare($L, $L) != 0", declaredType.box(), oldValue, newValue);
+        } else if (declaredType.isPrimitive()) {
+            changed = CodeBlock.of("$L != $L", oldValue, newValue);
+        } else if (declaredType.equals(TypeName.get(byte[].class))) {
+            changed = CodeBlock.of("!$T.equals($L, $L)", Arrays.class, oldValue, newValue);
+        } else {
+            changed = CodeBlock.of("!$T.equals($L, $L)", Objects.class, oldValue, newValue);
+        }
+        return builder.beginControlFlow("if ($L)", changed)
+                .addStatement("$T.replace($L, $N, $L)", AttributeDeltas.class, DELTAS_NAME, fieldMeta.getNameConstant(), newAttributeValue)
+                .endControlFlow()
+                .build();
+    }
+}
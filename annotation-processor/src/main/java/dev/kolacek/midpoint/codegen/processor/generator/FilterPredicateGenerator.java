@@ -0,0 +1,185 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.processor.generator;
+
+import com.palantir.javapoet.*;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ClassMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ContainerType;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.FieldMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.util.ConnIdClassNames;
+import dev.kolacek.midpoint.codegen.processor.generator.util.EnumTableUtil;
+import dev.kolacek.midpoint.codegen.processor.generator.util.PoetUtil;
+import dev.kolacek.midpoint.codegen.util.FilterPredicates;
+import org.identityconnectors.framework.common.objects.Name;
+import org.identityconnectors.framework.common.objects.Uid;
+
+import javax.lang.model.element.Modifier;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Generates {@code predicate}, which compiles a ConnId {@code Filter} to a {@code Predicate} over the model.
+ * <p>
+ * The filter tree is compiled by {@link FilterPredicates}, the generated code only dispatches the attribute filters by the
+ * attribute name to the getter of the field. Numeric primitive fields are compared without boxing for equality and ordering,
+ * when the value of the filter fits the field type exactly. Strings are compared ignoring case unless requested otherwise.
+ * </p>
+ */
+public class FilterPredicateGenerator {
+
+    public static final String PREDICATE_NAME = "predicate";
+    public static final String ATTRIBUTE_PREDICATE_NAME = "attributePredicate";
+    public static final String PARAM_FILTER = "filter";
+    public static final String PARAM_IGNORE_CASE = "ignoreCase";
+    public static final String MODEL_NAME = "model";
+    public static final String MATCHER_NAME = "matcher";
+
+    private static final Set<TypeName> NUMERIC_PRIMITIVES = Set.of(TypeName.BYTE, TypeName.SHORT, TypeName.INT, TypeName.LONG, TypeName.FLOAT, TypeName.DOUBLE);
+    private static final Map<String, String> ORDERING_OPERATORS = new LinkedHashMap<>();
+
+    static {
+        ORDERING_OPERATORS.put("EQUALS", "==");
+        ORDERING_OPERATORS.put("GREATER_THAN", ">");
+        ORDERING_OPERATORS.put("GREATER_THAN_OR_EQUAL", ">=");
+        ORDERING_OPERATORS.put("LESS_THAN", "<");
+        ORDERING_OPERATORS.put("LESS_THAN_OR_EQUAL", "<=");
+    }
+
+    /**
+     * Adds the {@code predicate} methods to the generated class.
+     *
+     * @param classBuilder   the generated class
+     * @param classMeta      the model
+     * @param definingClass  the model class
+     * @param generatedClass the generated class name
+     */
+    public void generate(TypeSpec.Builder classBuilder, ClassMeta classMeta, ClassName definingClass, ClassName generatedClass) {
+        TypeName predicateType = ParameterizedTypeName.get(ClassName.get(Predicate.class), definingClass);
+
+        classBuilder.addMethod(MethodSpec.methodBuilder(PREDICATE_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(predicateType)
+                .addJavadoc("Compiles the filter to a predicate comparing strings ignoring case.\n\n")
+                .addJavadoc("@see #$L($T, boolean)\n", PREDICATE_NAME, ConnIdClassNames.FILTER)
+                .addParameter(ConnIdClassNames.FILTER, PARAM_FILTER)
+                .addStatement("return $L($L, true)", PREDICATE_NAME, PARAM_FILTER)
+                .build());
+        classBuilder.addMethod(MethodSpec.methodBuilder(PREDICATE_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(predicateType)
+                .addJavadoc("Compiles the filter to a predicate reading the fields of the model, so the models can be filtered before they are converted.\n")
+                .addJavadoc("<p>\nA filter on an attribute which is not part of the model behaves as if the attribute had no value.\n</p>\n\n")
+                .addJavadoc("@param $L the filter, {@code null} matches all models\n", PARAM_FILTER)
+                .addJavadoc("@param $L whether strings are compared ignoring case\n", PARAM_IGNORE_CASE)
+                .addJavadoc("@return the predicate\n")
+                .addJavadoc("@throws $T for filters which can't be evaluated in memory\n", UnsupportedOperationException.class)
+                .addParameter(ConnIdClassNames.FILTER, PARAM_FILTER)
+                .addParameter(TypeName.BOOLEAN, PARAM_IGNORE_CASE)
+                .addStatement("return $T.compile($L, $L, $T::$L)", FilterPredicates.class, PARAM_FILTER, PARAM_IGNORE_CASE, generatedClass, ATTRIBUTE_PREDICATE_NAME)
+                .build());
+        classBuilder.addMethod(createAttributePredicateMethod(classMeta, predicateType));
+    }
+
+    private MethodSpec createAttributePredicateMethod(ClassMeta classMeta, TypeName predicateType) {
+        // Same dispatch as in fromAttributes, the labels must be unique
+        Map<String, CodeBlock> labels = new LinkedHashMap<>();
+        Map<String, FieldMeta> fields = new LinkedHashMap<>();
+        List<FieldMeta> readableFields = classMeta.getFields().stream()
+                .filter(field -> field.isSupported() && field.getGetter().isPresent())
+                .toList();
+        for (FieldMeta fieldMeta : readableFields) {
+            if (fields.putIfAbsent(fieldMeta.getName(), fieldMeta) == null) {
+                labels.put(fieldMeta.getName(), CodeBlock.of("$N", fieldMeta.getNameConstant()));
+            }
+        }
+        for (FieldMeta fieldMeta : readableFields) {
+            if (fieldMeta.isUidField() && fields.putIfAbsent(Uid.NAME, fieldMeta) == null) {
+                labels.put(Uid.NAME, CodeBlock.of("$S", Uid.NAME));
+            }
+            if (fieldMeta.isNameField() && fields.putIfAbsent(Name.NAME, fieldMeta) == null) {
+                labels.put(Name.NAME, CodeBlock.of("$S", Name.NAME));
+            }
+        }
+
+        CodeBlock.Builder body = CodeBlock.builder().beginControlFlow("switch ($L.getName())", PARAM_FILTER);
+        for (Map.Entry<String, FieldMeta> entry : fields.entrySet()) {
+            body.beginControlFlow("case $L:", labels.get(entry.getKey()))
+                    .add(createFieldPredicate(entry.getValue()))
+                    .endControlFlow();
+        }
+        body.beginControlFlow("default:")
+                .addStatement("boolean missing = $T.valuePredicate($L, $L).test(null)", FilterPredicates.class, PARAM_FILTER, PARAM_IGNORE_CASE)
+                .addStatement("return $L -> missing", MODEL_NAME)
+                .endControlFlow()
+                .endControlFlow();
+
+        return MethodSpec.methodBuilder(ATTRIBUTE_PREDICATE_NAME)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(predicateType)
+                .addParameter(ConnIdClassNames.ATTRIBUTE_FILTER, PARAM_FILTER)
+                .addParameter(TypeName.BOOLEAN, PARAM_IGNORE_CASE)
+                .addCode(body.build())
+                .build();
+    }
+
+    private CodeBlock createFieldPredicate(FieldMeta fieldMeta) {
+        CodeBlock getterCall = CodeBlock.of("$L.$L()", MODEL_NAME, fieldMeta.getGetter().orElseThrow().getSimpleName());
+        CodeBlock.Builder builder = CodeBlock.builder();
+
+        if (fieldMeta.getContainerType() != ContainerType.NONE) {
+            CodeBlock values;
+            if (fieldMeta.getContainerType() != ContainerType.ARRAY) {
+                values = getterCall;
+            } else if (fieldMeta.getFieldType().isPrimitive()) {
+                values = CodeBlock.of("$L($L)", PoetUtil.BOX_VALUES_NAME, getterCall);
+            } else {
+                values = CodeBlock.of("$T.asList($L)", FilterPredicates.class, getterCall);
+            }
+            return builder.addStatement("$T<$T<?>> $L = $T.valuesPredicate($L, $L)", Predicate.class, Collection.class, MATCHER_NAME,
+                            FilterPredicates.class, PARAM_FILTER, PARAM_IGNORE_CASE)
+                    .addStatement("return $L -> $L.test($L)", MODEL_NAME, MATCHER_NAME, values)
+                    .build();
+        }
+
+        TypeName declaredType = fieldMeta.getDeclaredType();
+        if (NUMERIC_PRIMITIVES.contains(declaredType)) {
+            // Equality and ordering of a single number, compared with the primitive operators
+            // Values not fitting the field exactly are compared by valuePredicate, narrowing them would change the result
+            builder.addStatement("$T number = $T.exactNumber($L, $T.class)", Number.class, FilterPredicates.class, PARAM_FILTER, declaredType.box())
+                    .beginControlFlow("if (number != null)")
+                    .addStatement("$T expected = number.$LValue()", declaredType, declaredType)
+                    .beginControlFlow("switch ($T.operator($L))", FilterPredicates.class, PARAM_FILTER);
+            for (Map.Entry<String, String> operator : ORDERING_OPERATORS.entrySet()) {
+                builder.addStatement("case $L: return $L -> $L $L expected", operator.getKey(), MODEL_NAME, getterCall, operator.getValue());
+            }
+            builder.addStatement("default: break")
+                    .endControlFlow()
+                    .endControlFlow();
+        }
+
+        builder.addStatement("$T<$T> $L = $T.valuePredicate($L, $L)", Predicate.class, Object.class, MATCHER_NAME,
+                FilterPredicates.class, PARAM_FILTER, PARAM_IGNORE_CASE);
+        if (fieldMeta.getEnumMeta().isPresent()) {
+            // Enums are matched by their attribute value
+            return builder.add("return $L -> {\n$>", MODEL_NAME)
+                    .addStatement("$T value = $L", declaredType, getterCall)
+                    .addStatement("return $L.test(value == null ? null : $L[value.ordinal()])", MATCHER_NAME, EnumTableUtil.stringsTableName(fieldMeta))
+                    .add("$<};\n")
+                    .build();
+        }
+        return builder.addStatement("return $L -> $L.test($L)", MODEL_NAME, MATCHER_NAME, getterCall).build();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.processor.generator;
+
+import com.palantir.javapoet.*;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ClassMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ContainerType;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.FieldMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.util.EnumTableUtil;
+import dev.kolacek.midpoint.codegen.processor.generator.util.PoetUtil;
+import dev.kolacek.midpoint.codegen.util.Fingerprint;
+import dev.kolacek.midpoint.codegen.util.FingerprintHasher;
+import org.identityconnectors.common.security.GuardedByteArray;
+import org.identityconnectors.common.security.GuardedString;
+
+import javax.lang.model.element.Modifier;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Generates {@code fingerprint}, a stable 128-bit hash of all attributes of the model.
+ * <p>
+ * The fields are hashed in the order of their {@code FIELD_} indexes, each prefixed by its index. Primitive fields and
+ * arrays are hashed without boxing, enums by their attribute string and guarded values without creating a {@code String}.
+ * Multivalued fields respect the {@code valueOrder} of the attribute.
+ * </p>
+ */
+public class FingerprintGenerator {
+
+    public static final String FINGERPRINT_NAME = "fingerprint";
+    public static final String HASHER_NAME = "hasher";
+
+    private static final Map<TypeName, String> PRIMITIVE_PUT_METHODS = Map.of(
+            TypeName.INT, "putInt",
+            TypeName.LONG, "putLong",
+            TypeName.DOUBLE, "putDouble",
+            TypeName.FLOAT, "putFloat",
+            TypeName.BOOLEAN, "putBoolean",
+            TypeName.CHAR, "putChar",
+            TypeName.SHORT, "putShort",
+            TypeName.BYTE, "putByte");
+
+    /**
+     * Adds the {@code fingerprint} method to the generated class.
+     *
+     * @param classBuilder  the generated class
+     * @param classMeta     the model
+     * @param definingClass the model class
+     */
+    public void generate(TypeSpec.Builder classBuilder, ClassMeta classMeta, ClassName definingClass) {
+        CodeBlock.Builder body = CodeBlock.builder()
+                .addStatement("$T.requireNonNull($L, $S)", Objects.class, FilterPredicateGenerator.MODEL_NAME, FilterPredicateGenerator.MODEL_NAME)
+                .addStatement("$T $L = new $T()", FingerprintHasher.class, HASHER_NAME, FingerprintHasher.class);
+        for (FieldMeta fieldMeta : classMeta.getFields()) {
+            if (fieldMeta.isSupported() && fieldMeta.getGetter().isPresent()) {
+                body.add(hashField(fieldMeta));
+            }
+        }
+        body.addStatement("return $L.finish()", HASHER_NAME);
+
+        classBuilder.addMethod(MethodSpec.methodBuilder(FINGERPRINT_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(Fingerprint.class)
+                .addJavadoc("Computes the fingerprint of all attributes of the model, stable across JVMs and runs.\n")
+                .addJavadoc("<p>\nModels with the same attribute values have the same fingerprint, so it can be stored and compared instead of the model\n")
+                .addJavadoc("to detect changes. Adding or removing an attribute of the model changes all fingerprints.\n</p>\n")
+                .addParameter(definingClass, FilterPredicateGenerator.MODEL_NAME)
+                .addCode(body.build())
+                .build());
+    }
+
+    private CodeBlock hashField(FieldMeta fieldMeta) {
+        CodeBlock getterCall = CodeBlock.of("$L.$L()", FilterPredicateGenerator.MODEL_NAME, fieldMeta.getGetter().orElseThrow().getSimpleName());
+        TypeName declaredType = fieldMeta.getDeclaredType();
+        CodeBlock.Builder builder = CodeBlock.builder();
+        CodeBlock field = CodeBlock.of("$L.field($N)", HASHER_NAME, fieldMeta.getIndexConstant());
+
+        if (fieldMeta.getContainerType() == ContainerType.ARRAY && fieldMeta.getFieldType().isPrimitive()) {
+            if (!fieldMeta.isOrdered()) {
+                return builder.addStatement("$L.putUnordered($L($L))", field, PoetUtil.BOX_VALUES_NAME, getterCall).build();
+            }
+            // Hashed element by element, boxValues would allocate
+            String local = fieldMeta.getFieldName() + "Value";
+            return builder.addStatement("$T $L = $L", declaredType, local, getterCall)
+                    .addStatement(field)
+                    .beginControlFlow("if ($L == null)", local)
+                    .addStatement("$L.putNull()", HASHER_NAME)
+                    .nextControlFlow("else")
+                    .addStatement("$L.putInt($L.length)", HASHER_NAME, local)
+                    .beginControlFlow("for ($T value : $L)", fieldMeta.getFieldType(), local)
+                    .addStatement("$L.$L(value)", HASHER_NAME, PRIMITIVE_PUT_METHODS.get(fieldMeta.getFieldType()))
+                    .endControlFlow()
+                    .endControlFlow()
+                    .build();
+        }
+        if (fieldMeta.getContainerType() != ContainerType.NONE) {
+            return builder.addStatement("$L.$L($L)", field, fieldMeta.isOrdered() ? "putOrdered" : "putUnordered", getterCall).build();
+        }
+        if (fieldMeta.getEnumMeta().isPresent()) {
+            String local = fieldMeta.getFieldName() + "Value";
+            return builder.addStatement("$T $L = $L", declaredType, local, getterCall)
+                    .addStatement("$L.putString($L == null ? null : $L[$L.ordinal()])", field, local, EnumTableUtil.stringsTableName(fieldMeta), local)
+                    .build();
+        }
+        if (declaredType.isPrimitive()) {
+            return builder.addStatement("$L.$L($L)", field, PRIMITIVE_PUT_METHODS.get(declaredType), getterCall).build();
+        }
+        if (declaredType.equals(TypeName.get(String.class))) {
+            return builder.addStatement("$L.putString($L)", field, getterCall).build();
+        }
+        if (declaredType.equals(TypeName.get(GuardedString.class))) {
+            return builder.addStatement("$L.putGuardedString($L)", field, getterCall).build();
+        }
+        if (declaredType.equals(TypeName.get(byte[].class))) {
+            return builder.addStatement("$L.putBytes($L)", field, getterCall).build();
+        }
+        if (declaredType.equals(TypeName.get(GuardedByteArray.class))) {
+            return builder.addStatement("$L.putGuardedBytes($L)", field, getterCall).build();
+        }
+        return builder.addStatement("$L.putValue($L)", field, getterCall).build();
+    }
+}
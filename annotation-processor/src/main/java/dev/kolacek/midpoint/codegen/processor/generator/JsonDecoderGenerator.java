@@ -0,0 +1,275 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kolacek.midpoint.codegen.processor.generator;
+
+import com.palantir.javapoet.*;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ClassMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ContainerType;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.FieldMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.util.AttributeValueUtil;
+import dev.kolacek.midpoint.codegen.processor.generator.util.EnumTableUtil;
+import dev.kolacek.midpoint.codegen.util.JsonReader;
+import dev.kolacek.midpoint.codegen.util.JsonSyntaxException;
+import org.identityconnectors.common.security.GuardedByteArray;
+import org.identityconnectors.common.security.GuardedString;
+
+import javax.lang.model.element.Modifier;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Generates {@code readJson} and {@code readJsonArray}, a streaming JSON decoder of the model for REST connectors.
+ * <p>
+ * The members of an object are dispatched by a {@code switch} over the attribute names and their values are read from the
+ * {@link JsonReader} straight into the setters, so no intermediate tree is built. Unknown members are skipped. Byte arrays and
+ * guarded byte arrays are read from Base64 strings, dates from ISO-8601 strings and enums from the strings emitted by
+ * {@code connectorObjectBuilder}.
+ * </p>
+ */
+public class JsonDecoderGenerator {
+
+    public static final String READ_JSON_NAME = "readJson";
+    public static final String READ_JSON_ARRAY_NAME = "readJsonArray";
+    public static final String PARAM_READER = "reader";
+    public static final String PARAM_CONSUMER = "consumer";
+
+    /**
+     * Adds {@code readJson}, {@code readJsonArray} and the read methods of the fields to the generated class, if the model can be
+     * instantiated and has fields with a setter.
+     *
+     * @param classBuilder  the generated class
+     * @param classMeta     the model
+     * @param definingClass the model class
+     */
+    public void generate(TypeSpec.Builder classBuilder, ClassMeta classMeta, ClassName definingClass) {
+        List<FieldMeta> writableFields = AttributeMapperGenerator.getWritableFields(classMeta);
+        if (writableFields.isEmpty() || !classMeta.isInstantiable()) {
+            return;
+        }
+
+        for (FieldMeta fieldMeta : writableFields) {
+            classBuilder.addMethod(createReadFieldMethod(fieldMeta));
+            if (fieldMeta.getEnumMeta().isPresent()) {
+                classBuilder.addMethod(createReadEnumMethod(fieldMeta));
+            }
+        }
+        classBuilder.addMethod(createReadJsonMethod(writableFields, definingClass));
+        classBuilder.addMethod(createReadJsonArrayMethod(definingClass));
+    }
+
+    private MethodSpec createReadJsonMethod(List<FieldMeta> writableFields, ClassName definingClass) {
+        // Case label -> field, the labels are kept unique as duplicate labels would not compile
+        Map<String, FieldMeta> cases = new LinkedHashMap<>();
+        for (FieldMeta fieldMeta : writableFields) {
+            cases.putIfAbsent(fieldMeta.getName(), fieldMeta);
+        }
+
+        String model = AttributeMapperGenerator.MODEL_NAME;
+        CodeBlock.Builder body = CodeBlock.builder()
+                .addStatement("$T $L = new $T()", definingClass, model, definingClass)
+                .addStatement("$L.beginObject()", PARAM_READER)
+                .beginControlFlow("while ($L.hasNext())", PARAM_READER)
+                .beginControlFlow("switch ($L.nextName())", PARAM_READER);
+        for (FieldMeta fieldMeta : cases.values()) {
+            String setter = fieldMeta.getSetter().orElseThrow().getSimpleName().toString();
+            body.beginControlFlow("case $N:", fieldMeta.getNameConstant());
+            if (AttributeValueUtil.needsNullCheck(fieldMeta)) {
+                body.addStatement("$T value = $L($L)", AttributeValueUtil.readType(fieldMeta), readFieldMethodName(fieldMeta), PARAM_READER)
+                        .beginControlFlow("if (value != null)")
+                        .addStatement("$L.$L(value)", model, setter)
+                        .endControlFlow();
+            } else {
+                body.addStatement("$L.$L($L($L))", model, setter, readFieldMethodName(fieldMeta), PARAM_READER);
+            }
+            body.addStatement("break")
+                    .endControlFlow();
+        }
+        body.add("default:\n")
+                .indent()
+                .addStatement("$L.skipValue()", PARAM_READER)
+                .addStatement("break")
+                .unindent()
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("$L.endObject()", PARAM_READER)
+                .addStatement("return $L", model);
+
+        return MethodSpec.methodBuilder(READ_JSON_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(definingClass)
+                .addJavadoc("Reads the next JSON object as a new {@link $T}.\n", definingClass)
+                .addJavadoc("<p>\nThe members are dispatched by their exact (case-sensitive) attribute name, unknown members are skipped.\n")
+                .addJavadoc("Members with a {@code null} value leave primitive fields untouched.\n</p>\n\n")
+                .addJavadoc("@param $L the reader positioned at the object\n", PARAM_READER)
+                .addJavadoc("@return the new model instance\n")
+                .addJavadoc("@throws $T if the input is not valid JSON or a value doesn't match the type of its field\n", JsonSyntaxException.class)
+                .addJavadoc("@throws $T if the input fails\n", IOException.class)
+                .addParameter(JsonReader.class, PARAM_READER)
+                .addException(IOException.class)
+                .addCode(body.build())
+                .build();
+    }
+
+    private MethodSpec createReadJsonArrayMethod(ClassName definingClass) {
+        return MethodSpec.methodBuilder(READ_JSON_ARRAY_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(TypeName.BOOLEAN)
+                .addJavadoc("Reads the next JSON array of objects and passes every model to the consumer as soon as its object is read,\n")
+                .addJavadoc("so only one model is held in memory regardless of the size of the array.\n")
+                .addJavadoc("<p>\nStops as soon as the consumer returns {@code false}, the rest of the array is not read.\n</p>\n\n")
+                .addJavadoc("@param $L the reader positioned at the array\n", PARAM_READER)
+                .addJavadoc("@param $L receives the models, e.g. a {@code ResultsHandler}\n", PARAM_CONSUMER)
+                .addJavadoc("@return {@code false} if the consumer requested to stop, {@code true} otherwise\n")
+                .addJavadoc("@throws $T if the input is not valid JSON or a value doesn't match the type of its field\n", JsonSyntaxException.class)
+                .addJavadoc("@throws $T if the input fails\n", IOException.class)
+                .addParameter(JsonReader.class, PARAM_READER)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Predicate.class), WildcardTypeName.supertypeOf(definingClass)), PARAM_CONSUMER)
+                .addException(IOException.class)
+                .addStatement("$L.beginArray()", PARAM_READER)
+                .beginControlFlow("while ($L.hasNext())", PARAM_READER)
+                .beginControlFlow("if (!$L.test($L($L)))", PARAM_CONSUMER, READ_JSON_NAME, PARAM_READER)
+                .addStatement("return false")
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("$L.endArray()", PARAM_READER)
+                .addStatement("return true")
+                .build();
+    }
+
+    /**
+     * Creates the method reading the value of the field, {@code null} for a JSON {@code null}.
+     */
+    private MethodSpec createReadFieldMethod(FieldMeta fieldMeta) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(readFieldMethodName(fieldMeta))
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(AttributeValueUtil.readType(fieldMeta))
+                .addParameter(JsonReader.class, PARAM_READER)
+                .addException(IOException.class)
+                .beginControlFlow("if ($L.skipNull())", PARAM_READER)
+                .addStatement("return null")
+                .endControlFlow();
+
+        TypeName elementType = fieldMeta.getFieldType();
+        ContainerType containerType = fieldMeta.getContainerType();
+        if (containerType == ContainerType.NONE) {
+            return builder.addStatement("return $L", readValue(fieldMeta.getDeclaredType(), fieldMeta))
+                    .build();
+        }
+
+        CodeBlock element = elementType.isPrimitive()
+                ? readValue(elementType, fieldMeta)
+                : CodeBlock.of("$L.skipNull() ? null : $L", PARAM_READER, readValue(elementType, fieldMeta));
+        if (containerType == ContainerType.ARRAY) {
+            builder.addStatement("$T<$T> values = new $T<>()", List.class, elementType.box(), ArrayList.class);
+        } else if (containerType == ContainerType.SET) {
+            builder.addStatement("$T values = new $T<>()", fieldMeta.getDeclaredType(), LinkedHashSet.class);
+        } else {
+            builder.addStatement("$T values = new $T<>()", fieldMeta.getDeclaredType(), ArrayList.class);
+        }
+        builder.addStatement("$L.beginArray()", PARAM_READER)
+                .beginControlFlow("while ($L.hasNext())", PARAM_READER)
+                .addStatement("values.add($L)", element)
+                .endControlFlow()
+                .addStatement("$L.endArray()", PARAM_READER);
+        if (containerType != ContainerType.ARRAY) {
+            return builder.addStatement("return values").build();
+        }
+        return builder.addStatement("$T result = new $T[values.size()]", fieldMeta.getDeclaredType(), elementType)
+                .beginControlFlow("for (int i = 0; i < result.length; i++)")
+                .addStatement("result[i] = values.get(i)")
+                .endControlFlow()
+                .addStatement("return result")
+                .build();
+    }
+
+    /**
+     * Creates the method reading an enum constant from its string, an unknown string fails with the offset in the input, unlike
+     * the {@code InvalidAttributeValueException} of the shared parse method.
+     */
+    private MethodSpec createReadEnumMethod(FieldMeta fieldMeta) {
+        TypeName enumType = fieldMeta.getDeclaredType();
+        return MethodSpec.methodBuilder(readEnumMethodName(fieldMeta))
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(enumType)
+                .addParameter(JsonReader.class, PARAM_READER)
+                .addException(IOException.class)
+                .addStatement("$T value = $L.nextString()", String.class, PARAM_READER)
+                .addStatement("$T constant = $L.get(value)", enumType, EnumTableUtil.lookupTableName(fieldMeta))
+                .beginControlFlow("if (constant == null)")
+                .addStatement("throw $L.syntaxError(\"Unknown value \" + value + \" of attribute \" + $N)", PARAM_READER, fieldMeta.getNameConstant())
+                .endControlFlow()
+                .addStatement("return constant")
+                .build();
+    }
+
+    private CodeBlock readValue(TypeName type, FieldMeta fieldMeta) {
+        if (fieldMeta.getEnumMeta().isPresent()) {
+            return CodeBlock.of("$L($L)", readEnumMethodName(fieldMeta), PARAM_READER);
+        }
+        TypeName primitive = type.isBoxedPrimitive() ? type.unbox() : type;
+        if (primitive == TypeName.BOOLEAN) {
+            return CodeBlock.of("$L.nextBoolean()", PARAM_READER);
+        } else if (primitive == TypeName.BYTE) {
+            return CodeBlock.of("(byte) $L.nextInt()", PARAM_READER);
+        } else if (primitive == TypeName.SHORT) {
+            return CodeBlock.of("(short) $L.nextInt()", PARAM_READER);
+        } else if (primitive == TypeName.INT) {
+            return CodeBlock.of("$L.nextInt()", PARAM_READER);
+        } else if (primitive == TypeName.LONG) {
+            return CodeBlock.of("$L.nextLong()", PARAM_READER);
+        } else if (primitive == TypeName.FLOAT) {
+            return CodeBlock.of("(float) $L.nextDouble()", PARAM_READER);
+        } else if (primitive == TypeName.DOUBLE) {
+            return CodeBlock.of("$L.nextDouble()", PARAM_READER);
+        } else if (primitive == TypeName.CHAR) {
+            return CodeBlock.of("$L.nextChar()", PARAM_READER);
+        } else if (type.equals(TypeName.get(String.class))) {
+            return CodeBlock.of("$L.nextString()", PARAM_READER);
+        } else if (type.equals(TypeName.get(BigInteger.class))) {
+            return CodeBlock.of("$L.nextBigInteger()", PARAM_READER);
+        } else if (type.equals(TypeName.get(BigDecimal.class))) {
+            return CodeBlock.of("$L.nextBigDecimal()", PARAM_READER);
+        } else if (type.equals(TypeName.get(ZonedDateTime.class))) {
+            return CodeBlock.of("$L.nextZonedDateTime()", PARAM_READER);
+        } else if (type.equals(TypeName.get(byte[].class))) {
+            return CodeBlock.of("$L.nextBase64()", PARAM_READER);
+        } else if (type.equals(TypeName.get(GuardedString.class))) {
+            return CodeBlock.of("new $T($L.nextString().toCharArray())", GuardedString.class, PARAM_READER);
+        } else if (type.equals(TypeName.get(GuardedByteArray.class))) {
+            return CodeBlock.of("new $T($L.nextBase64())", GuardedByteArray.class, PARAM_READER);
+        }
+        // The supported types are checked by the preprocessor
+        throw new IllegalStateException("No JSON representation of " + type);
+    }
+
+    private static String readEnumMethodName(FieldMeta fieldMeta) {
+        return readFieldMethodName(fieldMeta) + "Constant";
+    }
+
+    private static String readFieldMethodName(FieldMeta fieldMeta) {
+        String name = fieldMeta.getFieldName();
+        return "json" + name.substring(0, 1).toUpperCase() + name.substring(1);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.processor.generator;
+
+import com.palantir.javapoet.*;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ClassMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.FieldMeta;
+import dev.kolacek.midpoint.codegen.util.ModelStore;
+import dev.kolacek.midpoint.codegen.util.OffHeapModelCache;
+import org.identityconnectors.framework.common.objects.Name;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Generates {@code newStore}, which creates a {@link ModelStore} keyed by the UID of the model, and {@code newCache}, which
+ * creates an {@link OffHeapModelCache} of the models encoded by the generated binary codec.
+ * <p>
+ * The name is indexed as unique, the fields marked as {@code @ConnectorAttribute(indexed = true)} are indexed by their attribute name.
+ * </p>
+ */
+public class ModelStoreGenerator {
+
+    public static final String STORE_BUILDER_NAME = "storeBuilder";
+    public static final String NEW_STORE_NAME = "newStore";
+    public static final String CACHE_BUILDER_NAME = "cacheBuilder";
+    public static final String NEW_CACHE_NAME = "newCache";
+
+    /**
+     * Adds the {@code storeBuilder} and {@code newStore} methods to the generated class, and {@code cacheBuilder} and
+     * {@code newCache} if the model can be instantiated by {@code readFrom}.
+     *
+     * @param classBuilder  the generated class
+     * @param classMeta     the model
+     * @param definingClass  the model class
+     * @param generatedClass the generated class
+     * @param uidGetter     the getter of the UID
+     * @param nameGetter    the getter of the name
+     */
+    public void generate(TypeSpec.Builder classBuilder, ClassMeta classMeta, ClassName definingClass, ClassName generatedClass,
+                         ExecutableElement uidGetter, ExecutableElement nameGetter) {
+        ClassName storeClass = ClassName.get(ModelStore.class);
+        TypeName builderType = ParameterizedTypeName.get(storeClass.nestedClass("Builder"), definingClass);
+
+        CodeBlock.Builder body = CodeBlock.builder()
+                .add("return $T.<$T>builder($T::$L, ($L, $L) -> connectorObjectBuilder($L, $L).build())\n$>$>",
+                        storeClass, definingClass, definingClass, uidGetter.getSimpleName(), "model", ConnectorObjectBuilderGenerator.PARAM_PROJECTION,
+                        "model", ConnectorObjectBuilderGenerator.PARAM_PROJECTION)
+                .add(".uniqueIndex($S, $T::$L)", Name.NAME, definingClass, nameGetter.getSimpleName());
+        for (FieldMeta fieldMeta : classMeta.getFields()) {
+            if (fieldMeta.isIndexed() && fieldMeta.isSupported() && fieldMeta.getGetter().isPresent()) {
+                body.add("\n.index($N, $T::$L)", fieldMeta.getNameConstant(), definingClass, fieldMeta.getGetter().get().getSimpleName());
+            }
+        }
+        body.add(";\n$<$<");
+
+        classBuilder.addMethod(MethodSpec.methodBuilder(STORE_BUILDER_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(builderType)
+                .addJavadoc("Creates the builder of a store keyed by the UID, with the name and the indexed attributes indexed.\n")
+                .addJavadoc("<p>\nThe stored models are converted by {@code connectorObjectBuilder}. Use the builder to set the expected size or the number of lock stripes.\n</p>\n")
+                .addCode(body.build())
+                .build());
+        classBuilder.addMethod(MethodSpec.methodBuilder(NEW_STORE_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(ParameterizedTypeName.get(storeClass, definingClass))
+                .addJavadoc("@see #$L()\n", STORE_BUILDER_NAME)
+                .addStatement("return $L().build()", STORE_BUILDER_NAME)
+                .build());
+
+        if (classMeta.isInstantiable()) {
+            generateCache(classBuilder, definingClass, generatedClass, uidGetter);
+        }
+    }
+
+    private void generateCache(TypeSpec.Builder classBuilder, ClassName definingClass, ClassName generatedClass, ExecutableElement uidGetter) {
+        ClassName cacheClass = ClassName.get(OffHeapModelCache.class);
+        classBuilder.addMethod(MethodSpec.methodBuilder(CACHE_BUILDER_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(ParameterizedTypeName.get(cacheClass.nestedClass("Builder"), definingClass))
+                .addJavadoc("Creates the builder of an off-heap cache keyed by the UID, holding the models encoded by {@code $L}.\n", BinaryCodecGenerator.WRITE_TO_NAME)
+                .addJavadoc("<p>\nThe cached models are converted by {@code connectorObjectBuilder}. Use the builder to set the capacity, the number of lock stripes\n")
+                .addJavadoc("or the block size.\n</p>\n")
+                .addCode("return $T.<$T>builder($T::$L, $T::$L, $T::$L,\n$>$>($L, $L) -> connectorObjectBuilder($L, $L).build());\n$<$<",
+                        cacheClass, definingClass, definingClass, uidGetter.getSimpleName(),
+                        generatedClass, BinaryCodecGenerator.WRITE_TO_NAME, generatedClass, BinaryCodecGenerator.READ_FROM_NAME,
+                        "model", ConnectorObjectBuilderGenerator.PARAM_PROJECTION, "model", ConnectorObjectBuilderGenerator.PARAM_PROJECTION)
+                .build());
+        classBuilder.addMethod(MethodSpec.methodBuilder(NEW_CACHE_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(ParameterizedTypeName.get(cacheClass, definingClass))
+                .addJavadoc("@param capacity the off-heap bytes of the cache, allocated up front\n")
+                .addJavadoc("@return the new cache\n")
+                .addJavadoc("@see #$L()\n", CACHE_BUILDER_NAME)
+                .addParameter(long.class, "capacity")
+                .addStatement("return $L().capacity(capacity).build()", CACHE_BUILDER_NAME)
+                .build());
+    }
+}
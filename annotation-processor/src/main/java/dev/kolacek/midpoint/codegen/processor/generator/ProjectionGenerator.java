@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.processor.generator;
+
+import com.palantir.javapoet.*;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ClassMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.FieldMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.util.ConnIdClassNames;
+
+import javax.lang.model.element.Modifier;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Generates the methods translating the {@code attributesToGet} of the {@code OperationOptions} to a {@code FieldProjection}.
+ * <p>
+ * The projection is resolved once per operation, the generated {@code connectorObjectBuilder} then only checks a bit per field.
+ * </p>
+ */
+public class ProjectionGenerator {
+
+    public static final String FIELD_INDEX_NAME = "fieldIndex";
+    public static final String PROJECTION_NAME = "projection";
+    public static final String PARAM_ATTRIBUTE_NAME = "attributeName";
+    public static final String PARAM_ATTRIBUTES_TO_GET = "attributesToGet";
+    public static final String PARAM_OPTIONS = "options";
+
+    /**
+     * Adds the {@code fieldIndex} and {@code projection} methods to the generated class.
+     *
+     * @param classBuilder the generated class
+     * @param classMeta    the model
+     */
+    public void generate(TypeSpec.Builder classBuilder, ClassMeta classMeta) {
+        classBuilder.addMethod(createFieldIndexMethod(classMeta));
+        classBuilder.addMethod(createAttributesProjectionMethod());
+        classBuilder.addMethod(createOptionsProjectionMethod());
+    }
+
+    private MethodSpec createFieldIndexMethod(ClassMeta classMeta) {
+        // Attribute names are unique in a valid schema, the first field wins otherwise
+        Map<String, FieldMeta> fields = new LinkedHashMap<>();
+        for (FieldMeta fieldMeta : classMeta.getFields()) {
+            if (fieldMeta.isSupported() && fieldMeta.getGetter().isPresent()) {
+                fields.putIfAbsent(fieldMeta.getName(), fieldMeta);
+            }
+        }
+
+        CodeBlock.Builder body = CodeBlock.builder();
+        if (!fields.isEmpty()) {
+            body.beginControlFlow("switch ($L)", PARAM_ATTRIBUTE_NAME);
+            for (FieldMeta fieldMeta : fields.values()) {
+                body.addStatement("case $N: return $N", fieldMeta.getNameConstant(), fieldMeta.getIndexConstant());
+            }
+            body.addStatement("default: return -1");
+            body.endControlFlow();
+        } else {
+            body.addStatement("return -1");
+        }
+
+        return MethodSpec.methodBuilder(FIELD_INDEX_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(TypeName.INT)
+                .addJavadoc("@return the {@code FIELD_} index of the attribute, {@code -1} if the attribute is not emitted by the generated builder\n")
+                .addParameter(String.class, PARAM_ATTRIBUTE_NAME)
+                .beginControlFlow("if ($L == null)", PARAM_ATTRIBUTE_NAME)
+                .addStatement("return -1")
+                .endControlFlow()
+                .addCode(body.build())
+                .build();
+    }
+
+    private MethodSpec createAttributesProjectionMethod() {
+        return MethodSpec.methodBuilder(PROJECTION_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(ConnectorObjectBuilderGenerator.FIELD_PROJECTION_CLASS)
+                .addJavadoc("Resolves the requested attributes to a projection.\n")
+                .addJavadoc("<p>\nUnknown attributes are ignored, the UID and the name are always emitted. Returns all the attributes for {@code null}.\n</p>\n")
+                .addParameter(String[].class, PARAM_ATTRIBUTES_TO_GET)
+                .varargs()
+                .beginControlFlow("if ($L == null)", PARAM_ATTRIBUTES_TO_GET)
+                .addStatement("return $T.all()", ConnectorObjectBuilderGenerator.FIELD_PROJECTION_CLASS)
+                .endControlFlow()
+                .addStatement("$T fields = new $T()", BitSet.class, BitSet.class)
+                .beginControlFlow("for ($T attributeName : $L)", String.class, PARAM_ATTRIBUTES_TO_GET)
+                .addStatement("int index = $L(attributeName)", FIELD_INDEX_NAME)
+                .beginControlFlow("if (index >= 0)")
+                .addStatement("fields.set(index)")
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("return $T.of(fields)", ConnectorObjectBuilderGenerator.FIELD_PROJECTION_CLASS)
+                .build();
+    }
+
+    private MethodSpec createOptionsProjectionMethod() {
+        return MethodSpec.methodBuilder(PROJECTION_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(ConnectorObjectBuilderGenerator.FIELD_PROJECTION_CLASS)
+                .addJavadoc("Resolves the {@code attributesToGet} of the options to a projection.\n")
+                .addJavadoc("<p>\nReturns all the attributes if there are no options, no {@code attributesToGet} or the default attributes were requested.\n</p>\n")
+                .addParameter(ConnIdClassNames.OPERATION_OPTIONS, PARAM_OPTIONS)
+                .beginControlFlow("if ($L == null || $T.TRUE.equals($L.getReturnDefaultAttributes()))", PARAM_OPTIONS, Boolean.class, PARAM_OPTIONS)
+                .addStatement("return $T.all()", ConnectorObjectBuilderGenerator.FIELD_PROJECTION_CLASS)
+                .endControlFlow()
+                .addStatement("return $L($L.getAttributesToGet())", PROJECTION_NAME, PARAM_OPTIONS)
+                .build();
+    }
+}
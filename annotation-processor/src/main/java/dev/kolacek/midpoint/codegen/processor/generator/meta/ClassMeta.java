@@ -28,6 +28,7 @@ public class ClassMeta {
     private String generatedPackageName;
     private ObjectClassMeta objectClassMeta;
     private List<FieldMeta> fields;
+    private boolean instantiable;
 
     public ClassMeta() {
     }
@@ -97,15 +98,27 @@ public class ClassMeta {
         this.fields = fields;
     }
 
+    /**
+     * Whether the generated code can create new instances of the model through its no-arg constructor.
+     */
+    public boolean isInstantiable() {
+        return instantiable;
+    }
+
+    public void setInstantiable(boolean instantiable) {
+        this.instantiable = instantiable;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (!(o instanceof ClassMeta classMeta)) return false;
-        return Objects.equals(className, classMeta.className) && Objects.equals(packageName, classMeta.packageName) && Objects.equals(generatedClassName, classMeta.generatedClassName) && Objects.equals(generatedPackageName, classMeta.generatedPackageName) && Objects.equals(objectClassMeta, classMeta.objectClassMeta) && Objects.equals(fields, classMeta.fields);
+        return Objects.equals(className, classMeta.className) && Objects.equals(packageName, classMeta.packageName) && Objects.equals(generatedClassName, classMeta.generatedClassName) && Objects.equals(generatedPackageName, classMeta.generatedPackageName) && Objects.equals(objectClassMeta, classMeta.objectClassMeta) && Objects.equals(fields, classMeta.fields)
+                && instantiable == classMeta.instantiable;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(className, packageName, generatedClassName, generatedPackageName, objectClassMeta, fields);
+        return Objects.hash(className, packageName, generatedClassName, generatedPackageName, objectClassMeta, fields, instantiable);
     }
 
     @Override
@@ -117,6 +130,7 @@ public class ClassMeta {
                 ", generatedPackageName='" + generatedPackageName + '\'' +
                 ", objectClassMeta=" + objectClassMeta +
                 ", fields=" + fields +
+                ", instantiable=" + instantiable +
                 '}';
     }
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kolacek.midpoint.codegen.processor.generator.meta;
+
+/**
+ * Describes how the values of a field are held, multivalued attributes are backed by an array, a {@link java.util.List} or a {@link java.util.Set}.
+ */
+public enum ContainerType {
+
+    NONE,
+    ARRAY,
+    LIST,
+    SET;
+
+    public boolean isCollection() {
+        return this == LIST || this == SET;
+    }
+}
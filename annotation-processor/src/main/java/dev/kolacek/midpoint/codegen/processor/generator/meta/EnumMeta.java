@@ -16,14 +16,22 @@
 
 package dev.kolacek.midpoint.codegen.processor.generator.meta;
 
+import java.util.List;
 import java.util.Objects;
 
 public class EnumMeta {
 
     private String toStringMethod;
+    // Names of the enum constants in declaration order
+    private List<String> constants;
 
     public EnumMeta(String toStringMethod) {
+        this(toStringMethod, List.of());
+    }
+
+    public EnumMeta(String toStringMethod, List<String> constants) {
         this.toStringMethod = toStringMethod;
+        this.constants = constants;
     }
 
     public String getToStringMethod() {
@@ -34,21 +42,30 @@ public class EnumMeta {
         this.toStringMethod = toStringMethod;
     }
 
+    public List<String> getConstants() {
+        return constants;
+    }
+
+    public void setConstants(List<String> constants) {
+        this.constants = constants;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (!(o instanceof EnumMeta enumMeta)) return false;
-        return Objects.equals(toStringMethod, enumMeta.toStringMethod);
+        return Objects.equals(toStringMethod, enumMeta.toStringMethod) && Objects.equals(constants, enumMeta.constants);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(toStringMethod);
+        return Objects.hash(toStringMethod, constants);
     }
 
     @Override
     public String toString() {
         return "EnumMeta{" +
                 "toStringMethod='" + toStringMethod + '\'' +
+                ", constants=" + constants +
                 '}';
     }
 }
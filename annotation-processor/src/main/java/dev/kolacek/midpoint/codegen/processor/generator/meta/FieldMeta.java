@@ -17,6 +17,7 @@
 package dev.kolacek.midpoint.codegen.processor.generator.meta;
 
 import com.palantir.javapoet.TypeName;
+import dev.kolacek.midpoint.codegen.config.EmissionPolicy;
 
 import javax.annotation.Nullable;
 import javax.lang.model.element.ExecutableElement;
@@ -30,11 +31,24 @@ public class FieldMeta {
     private TypeName fieldType;
     private boolean required;
     private boolean multivalued;
+    private ContainerType containerType = ContainerType.NONE;
     private ExecutableElement getter;
     private EnumMeta enumMeta;
     private boolean uidField;
     private boolean nameField;
     private boolean supported;
+    private String nameConstant;
+    private String infoConstant;
+    private String fieldName;
+    private TypeName declaredType;
+    private String setterName;
+    private ExecutableElement setter;
+    private int index;
+    private String indexConstant;
+    private EmissionPolicy emissionPolicy = EmissionPolicy.EMIT_ALL;
+    private boolean indexed;
+    private boolean ordered;
+    private boolean explicitlyOrdered;
 
     public FieldMeta() {
     }
@@ -85,6 +99,14 @@ public class FieldMeta {
         this.multivalued = multivalued;
     }
 
+    public ContainerType getContainerType() {
+        return containerType;
+    }
+
+    public void setContainerType(ContainerType containerType) {
+        this.containerType = containerType;
+    }
+
     public Optional<ExecutableElement> getGetter() {
         return Optional.ofNullable(getter);
     }
@@ -125,17 +147,149 @@ public class FieldMeta {
         this.supported = supported;
     }
 
+    /**
+     * Name of the generated {@code public static final String} constant holding the attribute name.
+     *
+     * @return Name of the constant, e.g. {@code ATTR_FIRST_NAME}.
+     */
+    public String getNameConstant() {
+        return nameConstant;
+    }
+
+    public void setNameConstant(String nameConstant) {
+        this.nameConstant = nameConstant;
+    }
+
+    /**
+     * Name of the generated {@code static final AttributeInfo} constant describing the attribute.
+     *
+     * @return Name of the constant, e.g. {@code INFO_FIRST_NAME}.
+     */
+    public String getInfoConstant() {
+        return infoConstant;
+    }
+
+    public void setInfoConstant(String infoConstant) {
+        this.infoConstant = infoConstant;
+    }
+
+    /**
+     * Name of the Java field, unlike {@link #getName()} which is the name of the attribute.
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public void setFieldName(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    /**
+     * Type of the field as declared in the model, e.g. {@code List<String>} or the enum type, unlike {@link #getFieldType()} which is the type of the attribute values.
+     */
+    public TypeName getDeclaredType() {
+        return declaredType;
+    }
+
+    public void setDeclaredType(TypeName declaredType) {
+        this.declaredType = declaredType;
+    }
+
+    public String getSetterName() {
+        return setterName;
+    }
+
+    public void setSetterName(String setterName) {
+        this.setterName = setterName;
+    }
+
+    public Optional<ExecutableElement> getSetter() {
+        return Optional.ofNullable(setter);
+    }
+
+    public void setSetter(@Nullable ExecutableElement setter) {
+        this.setter = setter;
+    }
+
+    /**
+     * Index of the field among the supported fields of the model, used as the bit of the field in generated bitmasks.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    /**
+     * Name of the generated {@code public static final int} constant holding the {@link #getIndex() index} of the field, e.g. {@code FIELD_FIRST_NAME}.
+     */
+    public String getIndexConstant() {
+        return indexConstant;
+    }
+
+    public void setIndexConstant(String indexConstant) {
+        this.indexConstant = indexConstant;
+    }
+
+    public EmissionPolicy getEmissionPolicy() {
+        return emissionPolicy;
+    }
+
+    public void setEmissionPolicy(EmissionPolicy emissionPolicy) {
+        this.emissionPolicy = emissionPolicy;
+    }
+
+    public boolean isIndexed() {
+        return indexed;
+    }
+
+    public void setIndexed(boolean indexed) {
+        this.indexed = indexed;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    public void setOrdered(boolean ordered) {
+        this.ordered = ordered;
+    }
+
+    /**
+     * @return Whether the attribute is declared with {@code ValueOrder.ORDERED}, only such attributes are replaced by diffs.
+     */
+    public boolean isExplicitlyOrdered() {
+        return explicitlyOrdered;
+    }
+
+    public void setExplicitlyOrdered(boolean explicitlyOrdered) {
+        this.explicitlyOrdered = explicitlyOrdered;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (!(o instanceof FieldMeta fieldMeta)) return false;
-        return required == fieldMeta.required && multivalued == fieldMeta.multivalued && Objects.equals(name, fieldMeta.name) && Objects.equals(getterName, fieldMeta.getterName)
+        return required == fieldMeta.required && multivalued == fieldMeta.multivalued && containerType == fieldMeta.containerType && Objects.equals(name, fieldMeta.name) && Objects.equals(getterName, fieldMeta.getterName)
                 && Objects.equals(fieldType, fieldMeta.fieldType) && Objects.equals(getter, fieldMeta.getter) && Objects.equals(enumMeta, fieldMeta.enumMeta)
-                && Objects.equals(uidField, fieldMeta.uidField) && Objects.equals(nameField, fieldMeta.nameField) && Objects.equals(supported, fieldMeta.supported);
+                && Objects.equals(uidField, fieldMeta.uidField) && Objects.equals(nameField, fieldMeta.nameField) && Objects.equals(supported, fieldMeta.supported)
+                && Objects.equals(nameConstant, fieldMeta.nameConstant) && Objects.equals(infoConstant, fieldMeta.infoConstant)
+                && Objects.equals(fieldName, fieldMeta.fieldName)
+                && Objects.equals(declaredType, fieldMeta.declaredType)
+                && Objects.equals(setterName, fieldMeta.setterName)
+                && Objects.equals(setter, fieldMeta.setter)
+                && index == fieldMeta.index
+                && Objects.equals(indexConstant, fieldMeta.indexConstant)
+                && Objects.equals(emissionPolicy, fieldMeta.emissionPolicy)
+                && indexed == fieldMeta.indexed
+                && ordered == fieldMeta.ordered
+                && explicitlyOrdered == fieldMeta.explicitlyOrdered;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, getterName, fieldType, required, multivalued, getter, enumMeta, uidField, nameField, supported);
+        return Objects.hash(name, getterName, fieldType, required, multivalued, containerType, getter, enumMeta, uidField, nameField, supported, nameConstant, infoConstant, fieldName, declaredType, setterName, setter, index, indexConstant, emissionPolicy, indexed, ordered, explicitlyOrdered);
     }
 
     @Override
@@ -146,11 +300,24 @@ public class FieldMeta {
                 ", fieldType=" + fieldType +
                 ", required=" + required +
                 ", multivalued=" + multivalued +
+                ", containerType=" + containerType +
                 ", getter=" + getter +
                 ", enumMeta=" + enumMeta +
                 ", uidField=" + uidField +
                 ", nameField=" + nameField +
                 ", unsupported=" + supported +
+                ", nameConstant='" + nameConstant + '\'' +
+                ", infoConstant='" + infoConstant + '\'' +
+                ", fieldName='" + fieldName + '\'' +
+                ", declaredType=" + declaredType +
+                ", setterName='" + setterName + '\'' +
+                ", setter=" + setter +
+                ", index=" + index +
+                ", indexConstant='" + indexConstant + '\'' +
+                ", emissionPolicy=" + emissionPolicy +
+                ", indexed=" + indexed +
+                ", ordered=" + ordered +
+                ", explicitlyOrdered=" + explicitlyOrdered +
                 '}';
     }
 }
@@ -18,6 +18,7 @@ package dev.kolacek.midpoint.codegen.processor.generator.meta;
 
 import com.palantir.javapoet.CodeBlock;
 import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.ObjectClassUtil;
 
 import java.util.Objects;
 
@@ -67,6 +68,15 @@ public class ObjectClassMeta {
         return builder.build();
     }
 
+    /**
+     * Returns the type of the object class as a value, for code which needs a constant expression, e.g. a {@code case} label.
+     *
+     * @return the type of the object class, e.g. {@code __ACCOUNT__}
+     */
+    public String getObjectClassType() {
+        return fromConnId ? ObjectClassUtil.createSpecialName(objectClassName) : objectClassName;
+    }
+
     public void setObjectClassName(String objectClassName) {
         this.objectClassName = objectClassName;
     }
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kolacek.midpoint.codegen.processor.generator.util;
+
+import com.palantir.javapoet.*;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ContainerType;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.FieldMeta;
+import dev.kolacek.midpoint.codegen.util.AttributeValues;
+
+import javax.lang.model.element.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Creates the generated code converting attribute values back to the values of the model fields.
+ * <p>
+ * Every field with a setter gets a {@code read<FieldName>(List<Object>)} method, which converts the attribute values to the
+ * declared type of the field. Single valued primitive fields are read as their boxed type, so a missing value can be told apart.
+ * </p>
+ */
+public final class AttributeValueUtil {
+    private AttributeValueUtil() {
+    }
+
+    public static final String SINGLE_VALUE_NAME = "singleValue";
+    public static final String PARAM_VALUES = "values";
+
+    private static final ParameterizedTypeName VALUES_TYPE = ParameterizedTypeName.get(ClassName.get(List.class), ClassName.get(Object.class));
+
+    public static String readMethodName(FieldMeta fieldMeta) {
+        return "read" + capitalize(fieldMeta.getFieldName());
+    }
+
+    public static String parseEnumMethodName(FieldMeta fieldMeta) {
+        return "parse" + capitalize(fieldMeta.getFieldName());
+    }
+
+    /**
+     * The type returned by the read method of the field, the declared type with primitives boxed.
+     *
+     * @param fieldMeta the field
+     * @return the type returned by the read method
+     */
+    public static TypeName readType(FieldMeta fieldMeta) {
+        return fieldMeta.getDeclaredType().box();
+    }
+
+    /**
+     * Whether the value returned by the read method must be checked for {@code null} before it is passed to the setter.
+     *
+     * @param fieldMeta the field
+     * @return true for single valued primitive fields
+     */
+    public static boolean needsNullCheck(FieldMeta fieldMeta) {
+        return fieldMeta.getDeclaredType().isPrimitive();
+    }
+
+    /**
+     * Creates the expression converting a single attribute value, typed as {@code Object}, to the attribute type of the field.
+     * <p>
+     * The conversion is done by {@link AttributeValues}, which throws {@code InvalidAttributeValueException} naming the attribute if
+     * the value has a wrong type. Numbers of any type are accepted if they fit the field type exactly, so e.g. a {@code Long} value
+     * can populate an {@code int} field. The expression does not handle {@code null}, callers must check it where the field type
+     * allows it.
+     * </p>
+     *
+     * @param fieldMeta the field
+     * @param value     the expression returning the value
+     * @return the expression converting the value
+     */
+    public static CodeBlock convertValue(FieldMeta fieldMeta, CodeBlock value) {
+        if (fieldMeta.getEnumMeta().isPresent()) {
+            return CodeBlock.of("$L($T.cast($N, $L, $T.class))", parseEnumMethodName(fieldMeta), AttributeValues.class, fieldMeta.getNameConstant(),
+                    value, String.class);
+        }
+
+        TypeName type = fieldMeta.getFieldType();
+        TypeName primitive = type.isBoxedPrimitive() ? type.unbox() : type;
+        if (primitive.isPrimitive()) {
+            return CodeBlock.of("$T.$L($N, $L)", AttributeValues.class, "to" + capitalize(primitive.toString()), fieldMeta.getNameConstant(), value);
+        }
+        return CodeBlock.of("$T.cast($N, $L, $T.class)", AttributeValues.class, fieldMeta.getNameConstant(), value, primitive);
+    }
+
+    /**
+     * Creates the read method of the field, converting the list of attribute values to the declared type of the field.
+     *
+     * @param fieldMeta the field
+     * @return the read method
+     */
+    public static MethodSpec createReadMethod(FieldMeta fieldMeta) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(readMethodName(fieldMeta))
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(readType(fieldMeta))
+                .addParameter(VALUES_TYPE, PARAM_VALUES);
+
+        ContainerType containerType = fieldMeta.getContainerType();
+        if (containerType == ContainerType.NONE) {
+            return builder.addStatement("$T value = $L($N, $L)", Object.class, SINGLE_VALUE_NAME, fieldMeta.getNameConstant(), PARAM_VALUES)
+                    .addStatement("return value == null ? null : $L", convertValue(fieldMeta, CodeBlock.of("value")))
+                    .build();
+        }
+
+        builder.beginControlFlow("if ($L == null)", PARAM_VALUES)
+                .addStatement("return null")
+                .endControlFlow();
+
+        TypeName elementType = fieldMeta.getFieldType();
+        if (containerType == ContainerType.ARRAY) {
+            builder.addStatement("$T result = new $T[$L.size()]", fieldMeta.getDeclaredType(), elementType, PARAM_VALUES)
+                    .beginControlFlow("for (int i = 0; i < result.length; i++)");
+            if (elementType.isPrimitive()) {
+                builder.addStatement("result[i] = $L", convertValue(fieldMeta, CodeBlock.of("$L.get(i)", PARAM_VALUES)));
+            } else {
+                builder.addStatement("$T value = $L.get(i)", Object.class, PARAM_VALUES)
+                        .addStatement("result[i] = value == null ? null : $L", convertValue(fieldMeta, CodeBlock.of("value")));
+            }
+            return builder.endControlFlow()
+                    .addStatement("return result")
+                    .build();
+        }
+
+        if (containerType == ContainerType.SET) {
+            // Sized so that the set doesn't need to grow with the default load factor
+            builder.addStatement("$T result = new $T<>($L.size() * 4 / 3 + 1)", fieldMeta.getDeclaredType(), LinkedHashSet.class, PARAM_VALUES);
+        } else {
+            builder.addStatement("$T result = new $T<>($L.size())", fieldMeta.getDeclaredType(), ArrayList.class, PARAM_VALUES);
+        }
+        return builder.beginControlFlow("for ($T value : $L)", Object.class, PARAM_VALUES)
+                .addStatement("result.add(value == null ? null : $L)", convertValue(fieldMeta, CodeBlock.of("value")))
+                .endControlFlow()
+                .addStatement("return result")
+                .build();
+    }
+
+    /**
+     * Creates the method returning the only value of a single valued attribute, or {@code null} if the attribute has no value.
+     *
+     * @return the {@code singleValue} method
+     */
+    public static MethodSpec createSingleValueMethod() {
+        return MethodSpec.methodBuilder(SINGLE_VALUE_NAME)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(Object.class)
+                .addParameter(String.class, "name")
+                .addParameter(VALUES_TYPE, PARAM_VALUES)
+                .beginControlFlow("if ($L == null || $L.isEmpty())", PARAM_VALUES, PARAM_VALUES)
+                .addStatement("return null")
+                .endControlFlow()
+                .beginControlFlow("if ($L.size() > 1)", PARAM_VALUES)
+                .addStatement("throw new $T(\"Attribute \" + name + \" must be single valued, got \" + $L.size() + \" values\")",
+                        ConnIdClassNames.INVALID_ATTRIBUTE_VALUE_EXCEPTION, PARAM_VALUES)
+                .endControlFlow()
+                .addStatement("return $L.get(0)", PARAM_VALUES)
+                .build();
+    }
+
+    /**
+     * Creates the method parsing the string representation of the enum field back to the enum constant.
+     * <p>
+     * The value is looked up in the reverse table created by {@link EnumTableUtil}, so custom {@code toStringMethod}s are not called.
+     * </p>
+     *
+     * @param fieldMeta the enum field
+     * @return the parse method
+     */
+    public static MethodSpec createParseEnumMethod(FieldMeta fieldMeta) {
+        TypeName enumType = fieldMeta.getDeclaredType();
+        return MethodSpec.methodBuilder(parseEnumMethodName(fieldMeta))
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(enumType)
+                .addParameter(String.class, "value")
+                .addStatement("$T constant = $L.get(value)", enumType, EnumTableUtil.lookupTableName(fieldMeta))
+                .beginControlFlow("if (constant == null)")
+                .addStatement("throw new $T(\"Unknown value \" + value + \" of attribute \" + $N)",
+                        ConnIdClassNames.INVALID_ATTRIBUTE_VALUE_EXCEPTION, fieldMeta.getNameConstant())
+                .endControlFlow()
+                .addStatement("return constant")
+                .build();
+    }
+
+    private static String capitalize(String name) {
+        return name.substring(0, 1).toUpperCase() + name.substring(1);
+    }
+}
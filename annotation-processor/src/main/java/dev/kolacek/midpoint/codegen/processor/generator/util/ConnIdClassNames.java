@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kolacek.midpoint.codegen.processor.generator.util;
+
+import com.palantir.javapoet.ClassName;
+
+/**
+ * ConnId classes referenced by the generated code.
+ */
+public final class ConnIdClassNames {
+    private ConnIdClassNames() {
+    }
+
+    private static final String OBJECTS_PACKAGE = "org.identityconnectors.framework.common.objects";
+    private static final String EXCEPTIONS_PACKAGE = "org.identityconnectors.framework.common.exceptions";
+    private static final String FILTER_PACKAGE = "org.identityconnectors.framework.common.objects.filter";
+
+    public static final ClassName ATTRIBUTE = ClassName.get(OBJECTS_PACKAGE, "Attribute");
+    public static final ClassName ATTRIBUTE_DELTA = ClassName.get(OBJECTS_PACKAGE, "AttributeDelta");
+    public static final ClassName ATTRIBUTE_BUILDER = ClassName.get(OBJECTS_PACKAGE, "AttributeBuilder");
+    public static final ClassName ATTRIBUTE_INFO = ClassName.get(OBJECTS_PACKAGE, "AttributeInfo");
+    public static final ClassName ATTRIBUTE_INFO_BUILDER = ClassName.get(OBJECTS_PACKAGE, "AttributeInfoBuilder");
+    public static final ClassName CONNECTOR_OBJECT_BUILDER = ClassName.get(OBJECTS_PACKAGE, "ConnectorObjectBuilder");
+    public static final ClassName OBJECT_CLASS = ClassName.get(OBJECTS_PACKAGE, "ObjectClass");
+    public static final ClassName OBJECT_CLASS_INFO = ClassName.get(OBJECTS_PACKAGE, "ObjectClassInfo");
+    public static final ClassName OPERATION_OPTIONS = ClassName.get(OBJECTS_PACKAGE, "OperationOptions");
+    public static final ClassName OBJECT_CLASS_INFO_BUILDER = ClassName.get(OBJECTS_PACKAGE, "ObjectClassInfoBuilder");
+    public static final ClassName RESULTS_HANDLER = ClassName.get(OBJECTS_PACKAGE, "ResultsHandler");
+
+    public static final ClassName FILTER = ClassName.get(FILTER_PACKAGE, "Filter");
+    public static final ClassName ATTRIBUTE_FILTER = ClassName.get(FILTER_PACKAGE, "AttributeFilter");
+
+    public static final ClassName INVALID_ATTRIBUTE_VALUE_EXCEPTION = ClassName.get(EXCEPTIONS_PACKAGE, "InvalidAttributeValueException");
+}
@@ -19,10 +19,13 @@ package dev.kolacek.midpoint.codegen.processor.generator.util;
 import com.palantir.javapoet.TypeName;
 import dev.kolacek.midpoint.codegen.annotation.*;
 import dev.kolacek.midpoint.codegen.config.AnnotationDefaults;
+import dev.kolacek.midpoint.codegen.config.EmissionPolicy;
 import dev.kolacek.midpoint.codegen.config.ReportingPolicy;
+import dev.kolacek.midpoint.codegen.config.ValueOrder;
 import dev.kolacek.midpoint.codegen.processor.MessagingService;
 import dev.kolacek.midpoint.codegen.processor.generator.exception.MissingGetterException;
 import dev.kolacek.midpoint.codegen.processor.generator.meta.ClassMeta;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ContainerType;
 import dev.kolacek.midpoint.codegen.processor.generator.meta.EnumMeta;
 import dev.kolacek.midpoint.codegen.processor.generator.meta.FieldMeta;
 import dev.kolacek.midpoint.codegen.processor.generator.meta.ObjectClassMeta;
@@ -36,12 +39,15 @@ import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.ZonedDateTime;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -73,6 +79,9 @@ public class ConnectorModelPreprocessor {
     private final Elements elementUtils;
     private final Types typeUtils;
     private final MessagingService messagingService;
+    // Shared by all models of the round, so base classes and common field types are resolved once
+    private final Map<TypeElement, MethodIndex> methodIndexes = new HashMap<>();
+    private final Map<Object, TypeInfo> typeInfos = new HashMap<>();
 
     public ConnectorModelPreprocessor(Elements elementUtils, Types typeUtils, MessagingService messagingService) {
         this.elementUtils = elementUtils;
@@ -82,40 +91,47 @@ public class ConnectorModelPreprocessor {
 
     public ClassMeta prepareClassMeta(TypeElement classElement) {
         // This is the annotation we can be sure is present
-        ClassMeta classMeta = fromClassElement(classElement);
+        ConnectorModel annotation = classElement.getAnnotation(ConnectorModel.class);
+        ClassMeta classMeta = fromClassElement(classElement, annotation);
 
-        List<FieldMeta> fieldMetas = prepareFieldMetas(classElement);
+        List<FieldMeta> fieldMetas = prepareFieldMetas(classElement, annotation);
 
         validateUidAndNameFields(fieldMetas, classElement);
+        assignConstantNames(fieldMetas);
         classMeta.setFields(fieldMetas);
 
         return classMeta;
     }
 
     public List<FieldMeta> prepareFieldMetas(TypeElement classElement) {
-        ConnectorModel annotation = classElement.getAnnotation(ConnectorModel.class);
-        List<FieldMeta> fieldMetas = new LinkedList<>();
+        return prepareFieldMetas(classElement, classElement.getAnnotation(ConnectorModel.class));
+    }
 
-        for (Element element : classElement.getEnclosedElements()) {
-            if (element.getKind() != ElementKind.FIELD) {
-                continue;
-            }
+    private List<FieldMeta> prepareFieldMetas(TypeElement classElement, ConnectorModel annotation) {
+        List<VariableElement> fieldElements = ElementFilter.fieldsIn(classElement.getEnclosedElements());
+        List<FieldMeta> fieldMetas = new ArrayList<>(fieldElements.size());
+        MethodIndex methodIndex = methodIndex(classElement);
 
-            if (element.getAnnotation(IgnoreAttribute.class) != null) {
+        for (VariableElement fieldElement : fieldElements) {
+            if (fieldElement.getAnnotation(IgnoreAttribute.class) != null) {
                 continue;
             }
 
-            VariableElement fieldElement = (VariableElement) element;
-            FieldMeta fieldMeta = prepareFieldMeta(fieldElement, annotation);
-            fieldMetas.add(fieldMeta);
+            fieldMetas.add(prepareFieldMeta(fieldElement, annotation, methodIndex));
         }
 
         return fieldMetas;
     }
 
     public FieldMeta prepareFieldMeta(VariableElement fieldElement, ConnectorModel annotation) {
-        FieldMeta fieldMeta = basicFieldMetaFromAnnotation(fieldElement);
-        ExecutableElement getterElement = findGetter(fieldMeta.getGetterName(), fieldElement);
+        return prepareFieldMeta(fieldElement, annotation, methodIndex((TypeElement) fieldElement.getEnclosingElement()));
+    }
+
+    private FieldMeta prepareFieldMeta(VariableElement fieldElement, ConnectorModel annotation, MethodIndex methodIndex) {
+        // Each annotation is read once, getAnnotation creates a new proxy on every call
+        ConnectorAttribute attributeAnnotation = fieldElement.getAnnotation(ConnectorAttribute.class);
+        FieldMeta fieldMeta = basicFieldMetaFromAnnotation(fieldElement, attributeAnnotation);
+        ExecutableElement getterElement = findGetter(fieldMeta.getGetterName(), methodIndex);
         ReportingPolicy missingGetterPolicy = annotation.missingGetterPolicy();
 
         if (getterElement == null) {
@@ -128,37 +144,85 @@ public class ConnectorModelPreprocessor {
         } else {
             fieldMeta.setGetter(getterElement);
         }
+        // Setters are optional, they are only needed to populate the model from attributes
+        fieldMeta.setSetter(findSetter(fieldMeta.getSetterName(), fieldElement, methodIndex));
 
         handleTypeInfo(fieldMeta, fieldElement, annotation.unsupportedTypePolicy());
         fieldMeta.setUidField(fieldElement.getAnnotation(UidField.class) != null);
         fieldMeta.setNameField(fieldElement.getAnnotation(NameField.class) != null);
 
+        fieldMeta.setEmissionPolicy(resolveEmissionPolicy(attributeAnnotation, annotation));
+        ValueOrder valueOrder = attributeAnnotation == null ? ValueOrder.DEFAULT : attributeAnnotation.valueOrder();
+        fieldMeta.setOrdered(valueOrder == ValueOrder.DEFAULT ? fieldMeta.getContainerType() != ContainerType.SET : valueOrder == ValueOrder.ORDERED);
+        fieldMeta.setExplicitlyOrdered(valueOrder == ValueOrder.ORDERED);
+        if (attributeAnnotation != null && attributeAnnotation.indexed()) {
+            if (fieldMeta.isMultivalued()) {
+                messagingService.warn(fieldElement, "Multivalued attribute '%s' can't be indexed, the index will not be generated.", fieldMeta.getName());
+            } else {
+                fieldMeta.setIndexed(true);
+            }
+        }
+
         return fieldMeta;
     }
 
 
+    private EmissionPolicy resolveEmissionPolicy(ConnectorAttribute attributeAnnotation, ConnectorModel modelAnnotation) {
+        if (attributeAnnotation != null && attributeAnnotation.emissionPolicy() != EmissionPolicy.INHERIT) {
+            return attributeAnnotation.emissionPolicy();
+        }
+        // INHERIT on the model has nothing to inherit from
+        return modelAnnotation.emissionPolicy() == EmissionPolicy.INHERIT ? EmissionPolicy.EMIT_ALL : modelAnnotation.emissionPolicy();
+    }
+
     private void handleTypeInfo(FieldMeta fieldMeta, VariableElement fieldElement, ReportingPolicy unsupportedTypePolicy) {
-        TypeMirror fieldType = fieldElement.asType();
+        TypeInfo typeInfo = typeInfos.computeIfAbsent(typeKey(fieldElement.asType()), key -> resolveTypeInfo(fieldElement.asType()));
+        if (typeInfo.enumType()) {
+            fieldMeta.setEnumMeta(new EnumMeta(AnnotationUtil.getEnumToString(fieldElement.getAnnotation(EnumAttribute.class)), typeInfo.enumConstants()));
+        }
+        if (!typeInfo.supported()) {
+            reportUnsupported(typeInfo.typeName(), fieldElement, unsupportedTypePolicy);
+        }
+
+        fieldMeta.setMultivalued(typeInfo.multivalued());
+        fieldMeta.setContainerType(typeInfo.containerType());
+        fieldMeta.setSupported(typeInfo.supported());
+        fieldMeta.setFieldType(typeInfo.typeName());
+    }
+
+    private TypeInfo resolveTypeInfo(TypeMirror fieldType) {
         TypeKind fieldTypeKind = fieldType.getKind();
         TypeName typeName;
         boolean multivalued = false;
+        boolean enumType = false;
+        List<String> enumConstants = List.of();
+        ContainerType containerType = ContainerType.NONE;
 
         if (fieldTypeKind.isPrimitive()) {
             // primitive needs special handling
             typeName = TypeName.get(fieldType);
+        } else if (fieldTypeKind == TypeKind.ARRAY && ((ArrayType) fieldType).getComponentType().getKind() == TypeKind.BYTE) {
+            // byte[] is a single binary value in ConnId, not a multivalued attribute of bytes
+            typeName = TypeName.get(fieldType);
         } else if (fieldTypeKind == TypeKind.ARRAY) {
             // get the original type
             TypeMirror componentType = ((ArrayType) fieldType).getComponentType();
             multivalued = true;
+            containerType = ContainerType.ARRAY;
             typeName = TypeName.get(componentType);
         } else {
             TypeElement typeElement = (TypeElement) typeUtils.asElement(fieldType);
             ElementKind elementKind = typeElement.getKind();
             if (elementKind == ElementKind.ENUM) {
                 typeName = TypeName.get(String.class);
-                fieldMeta.setEnumMeta(new EnumMeta(AnnotationUtil.getEnumToString(fieldElement.getAnnotation(EnumAttribute.class))));
+                enumType = true;
+                enumConstants = typeElement.getEnclosedElements().stream()
+                        .filter(element -> element.getKind() == ElementKind.ENUM_CONSTANT)
+                        .map(element -> element.getSimpleName().toString())
+                        .toList();
             } else if (SUPPORTED_COLLECTION_CLASSES_FQN.contains(typeElement.getQualifiedName().toString())) {
                 multivalued = true;
+                containerType = Set.class.getCanonicalName().equals(typeElement.getQualifiedName().toString()) ? ContainerType.SET : ContainerType.LIST;
 
                 if (fieldType instanceof DeclaredType declaredType) {
                     List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
@@ -179,14 +243,36 @@ public class ConnectorModelPreprocessor {
             }
         }
 
-        boolean isSupported = isSupported(typeName);
-        if (!isSupported) {
-            reportUnsupported(typeName, fieldElement, unsupportedTypePolicy);
-        }
+        return new TypeInfo(typeName, multivalued, containerType, enumType, enumConstants, isSupported(typeName));
+    }
 
-        fieldMeta.setMultivalued(multivalued);
-        fieldMeta.setSupported(isSupported);
-        fieldMeta.setFieldType(typeName);
+    /**
+     * Creates the key of the type in the type cache, equal for equal types.
+     * <p>
+     * {@code TypeMirror}s don't implement {@code equals}, and javac creates a new instance for every occurrence of a parameterized
+     * type, so the key is built from the type elements, which are unique.
+     * </p>
+     */
+    private Object typeKey(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind();
+        }
+        if (type instanceof ArrayType arrayType) {
+            return List.of(TypeKind.ARRAY, typeKey(arrayType.getComponentType()));
+        }
+        if (type instanceof DeclaredType declaredType) {
+            if (declaredType.getTypeArguments().isEmpty()) {
+                return declaredType.asElement();
+            }
+            List<Object> key = new ArrayList<>(declaredType.getTypeArguments().size() + 1);
+            key.add(declaredType.asElement());
+            for (TypeMirror typeArgument : declaredType.getTypeArguments()) {
+                key.add(typeKey(typeArgument));
+            }
+            return key;
+        }
+        // Type variables, wildcards, rare enough to be compared by their string
+        return type.toString();
     }
 
     private boolean isSupported(TypeName typeName) {
@@ -208,18 +294,16 @@ public class ConnectorModelPreprocessor {
     }
 
     @Nullable
-    private ExecutableElement findGetter(String expectedGetterName, VariableElement fieldElement) {
-        // Get the enclosing class and then its elements
-        for (Element enclosedElement : fieldElement.getEnclosingElement().getEnclosedElements()) {
-            if (enclosedElement.getKind() != ElementKind.METHOD) {
-                continue;
-            }
-
-            ExecutableElement methodElement = (ExecutableElement) enclosedElement;
+    private ExecutableElement findGetter(String expectedGetterName, MethodIndex methodIndex) {
+        List<ExecutableElement> candidates = methodIndex.find(expectedGetterName, 0);
+        return candidates.isEmpty() ? null : candidates.get(0);
+    }
 
-            // Check if method name matches and it has no parameters
-            if (methodElement.getSimpleName().toString().equals(expectedGetterName) &&
-                    methodElement.getParameters().isEmpty()) {
+    @Nullable
+    private ExecutableElement findSetter(String expectedSetterName, VariableElement fieldElement, MethodIndex methodIndex) {
+        // Setters must have exactly one parameter of the field type
+        for (ExecutableElement methodElement : methodIndex.find(expectedSetterName, 1)) {
+            if (typeUtils.isSameType(methodElement.getParameters().get(0).asType(), fieldElement.asType())) {
                 return methodElement;
             }
         }
@@ -227,6 +311,42 @@ public class ConnectorModelPreprocessor {
         return null;
     }
 
+    /**
+     * Returns the methods of the type and its supertypes, the index of every type is created once and reused for all its subtypes.
+     *
+     * @param typeElement the type
+     * @return the method index of the type
+     */
+    private MethodIndex methodIndex(TypeElement typeElement) {
+        MethodIndex methodIndex = methodIndexes.get(typeElement);
+        if (methodIndex != null) {
+            return methodIndex;
+        }
+
+        methodIndex = new MethodIndex();
+        for (ExecutableElement method : ElementFilter.methodsIn(typeElement.getEnclosedElements())) {
+            if (!method.getModifiers().contains(Modifier.STATIC)) {
+                methodIndex.add(method);
+            }
+        }
+        PackageElement packageElement = elementUtils.getPackageOf(typeElement);
+        List<TypeMirror> supertypes = new ArrayList<>(typeElement.getInterfaces().size() + 1);
+        supertypes.add(typeElement.getSuperclass());
+        supertypes.addAll(typeElement.getInterfaces());
+        for (TypeMirror supertype : supertypes) {
+            if (supertype.getKind() != TypeKind.DECLARED) {
+                continue;
+            }
+            TypeElement supertypeElement = (TypeElement) ((DeclaredType) supertype).asElement();
+            if (!supertypeElement.getQualifiedName().contentEquals(Object.class.getName())) {
+                methodIndex.inherit(methodIndex(supertypeElement), packageElement);
+            }
+        }
+
+        methodIndexes.put(typeElement, methodIndex);
+        return methodIndex;
+    }
+
     private void validateUidAndNameFields(List<FieldMeta> fieldMetas, TypeElement classElement) {
         long uidCount = fieldMetas.stream().filter(FieldMeta::isUidField).count();
         long nameCount = fieldMetas.stream().filter(FieldMeta::isNameField).count();
@@ -240,6 +360,35 @@ public class ConnectorModelPreprocessor {
         }
     }
 
+    /**
+     * Assigns indexes and unique names of the generated attribute name, attribute info and field index constants to all supported fields.
+     * <p>
+     * Attribute names that map to the same constant name (e.g. {@code firstName} and {@code first_name}) get a numeric suffix.
+     * </p>
+     *
+     * @param fieldMetas the fields to assign the constant names to
+     */
+    private void assignConstantNames(List<FieldMeta> fieldMetas) {
+        Set<String> usedNames = new HashSet<>();
+        int index = 0;
+        for (FieldMeta fieldMeta : fieldMetas) {
+            if (!fieldMeta.isSupported()) {
+                continue;
+            }
+
+            String baseName = PoetUtil.toConstantName(fieldMeta.getName());
+            String constantName = baseName;
+            for (int i = 2; !usedNames.add(constantName); i++) {
+                constantName = baseName + "_" + i;
+            }
+
+            fieldMeta.setNameConstant("ATTR_" + constantName);
+            fieldMeta.setInfoConstant("INFO_" + constantName);
+            fieldMeta.setIndexConstant("FIELD_" + constantName);
+            fieldMeta.setIndex(index++);
+        }
+    }
+
     /**
      * Creates a basic FieldMeta from the (possibly missing) ConnectorAttribute annotation.
      * <p>
@@ -251,26 +400,33 @@ public class ConnectorModelPreprocessor {
      * </ul>
      * </p>
      *
-     * @param element the field element to create the FieldMeta from
+     * @param element    the field element to create the FieldMeta from
+     * @param annotation the ConnectorAttribute annotation of the field, if present
      * @return a FieldMeta object with the name, getterName, and required properties set
      */
-    private FieldMeta basicFieldMetaFromAnnotation(VariableElement element) {
-        ConnectorAttribute annotation = element.getAnnotation(ConnectorAttribute.class);
+    private FieldMeta basicFieldMetaFromAnnotation(VariableElement element, @Nullable ConnectorAttribute annotation) {
 
         String fieldName;
         boolean required;
         String getterName;
+        String setterName;
         if (annotation == null) {
             fieldName = element.getSimpleName().toString();
             required = AnnotationDefaults.ConnectorAttribute.DEFAULT_REQUIRED;
             getterName = getGetterName(element);
+            setterName = getSetterName(element);
         } else {
             fieldName = annotation.value().isBlank() ? element.getSimpleName().toString() : annotation.value();
             required = annotation.required();
             getterName = annotation.getterName().isBlank() ? getGetterName(element) : annotation.getterName();
+            setterName = annotation.setterName().isBlank() ? getSetterName(element) : annotation.setterName();
         }
 
-        return new FieldMeta(fieldName, getterName, required);
+        FieldMeta fieldMeta = new FieldMeta(fieldName, getterName, required);
+        fieldMeta.setFieldName(element.getSimpleName().toString());
+        fieldMeta.setDeclaredType(TypeName.get(element.asType()));
+        fieldMeta.setSetterName(setterName);
+        return fieldMeta;
     }
 
     private String getGetterName(VariableElement element) {
@@ -284,8 +440,30 @@ public class ConnectorModelPreprocessor {
         return getterPrefix + capitalizedFieldName;
     }
 
-    private ClassMeta fromClassElement(TypeElement classElement) {
-        ConnectorModel annotation = classElement.getAnnotation(ConnectorModel.class);
+    private String getSetterName(VariableElement element) {
+        String fieldName = element.getSimpleName().toString();
+        return "set" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+    }
+
+    /**
+     * Checks whether the generated code can create new instances of the class, which requires a non-abstract class with a non-private no-arg constructor.
+     *
+     * @param classElement the class to check
+     * @return true if the class can be instantiated by the generated code
+     */
+    private boolean isInstantiable(TypeElement classElement) {
+        if (classElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        if (classElement.getNestingKind().isNested() && !classElement.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+
+        return ElementFilter.constructorsIn(classElement.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE));
+    }
+
+    private ClassMeta fromClassElement(TypeElement classElement, ConnectorModel annotation) {
         ClassMeta classMeta = new ClassMeta();
 
         classMeta.setClassName(classElement.getSimpleName().toString());
@@ -296,9 +474,16 @@ public class ConnectorModelPreprocessor {
 
         String generatedPackageName = annotation.packageName().isBlank() ? classMeta.getPackageName() : annotation.packageName();
         classMeta.setGeneratedPackageName(generatedPackageName);
+        classMeta.setInstantiable(isInstantiable(classElement));
         classMeta.setObjectClassMeta(OBJECT_CLASS_MAP.getOrDefault(annotation.objectClassType(), new ObjectClassMeta(annotation.objectClassType())));
 
         return classMeta;
     }
 
+    /**
+     * The resolved field type, shared by all fields of the same type.
+     */
+    private record TypeInfo(TypeName typeName, boolean multivalued, ContainerType containerType, boolean enumType, List<String> enumConstants,
+                            boolean supported) {
+    }
 }
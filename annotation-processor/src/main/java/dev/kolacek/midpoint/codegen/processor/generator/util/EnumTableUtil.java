@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.processor.generator.util;
+
+import com.palantir.javapoet.*;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.FieldMeta;
+
+import javax.lang.model.element.Modifier;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates the lookup tables of the enum fields.
+ * <p>
+ * The {@code toStringMethod} of every constant is called once when the generated class is initialized. The results are kept
+ * in a {@code String[]} indexed by {@code ordinal()} for emitting the attribute and in a map for parsing the values back.
+ * </p>
+ */
+public final class EnumTableUtil {
+    private EnumTableUtil() {
+    }
+
+    public static String stringsTableName(FieldMeta fieldMeta) {
+        return constantBase(fieldMeta) + "_STRINGS";
+    }
+
+    public static String lookupTableName(FieldMeta fieldMeta) {
+        return constantBase(fieldMeta) + "_BY_STRING";
+    }
+
+    public static String constantsTableName(FieldMeta fieldMeta) {
+        return constantBase(fieldMeta) + "_CONSTANTS";
+    }
+
+    /**
+     * Creates the table of the enum constants indexed by {@code ordinal()}, {@code values()} would copy the array on every call.
+     *
+     * @param fieldMeta the enum field
+     * @return the table field
+     */
+    public static FieldSpec createConstantsTableField(FieldMeta fieldMeta) {
+        TypeName enumType = fieldMeta.getDeclaredType();
+        return FieldSpec.builder(ArrayTypeName.of(enumType), constantsTableName(fieldMeta), Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$T.values()", enumType)
+                .build();
+    }
+
+    /**
+     * Creates the {@code String[]} table and the reverse map of the enum field, both are filled by {@link #createTableInitializer(FieldMeta)}.
+     *
+     * @param fieldMeta the enum field
+     * @return the table fields
+     */
+    public static List<FieldSpec> createTableFields(FieldMeta fieldMeta) {
+        TypeName enumType = fieldMeta.getDeclaredType();
+        FieldSpec strings = FieldSpec.builder(String[].class, stringsTableName(fieldMeta), Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new $T[$T.values().length]", String.class, enumType)
+                .build();
+        FieldSpec lookup = FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(String.class), enumType),
+                        lookupTableName(fieldMeta), Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new $T<>()", HashMap.class)
+                .build();
+        return List.of(strings, lookup);
+    }
+
+    /**
+     * Creates the static initializer code filling the tables of the enum field.
+     * <p>
+     * If several constants share the same string, the first one is used for parsing.
+     * </p>
+     *
+     * @param fieldMeta the enum field
+     * @return the initializer code
+     */
+    public static CodeBlock createTableInitializer(FieldMeta fieldMeta) {
+        TypeName enumType = fieldMeta.getDeclaredType();
+        return CodeBlock.builder()
+                .beginControlFlow("for ($T constant : $T.values())", enumType, enumType)
+                .addStatement("$T string = constant.$L()", String.class, fieldMeta.getEnumMeta().orElseThrow().getToStringMethod())
+                .addStatement("$L[constant.ordinal()] = string", stringsTableName(fieldMeta))
+                .addStatement("$L.putIfAbsent(string, constant)", lookupTableName(fieldMeta))
+                .endControlFlow()
+                .build();
+    }
+
+    private static String constantBase(FieldMeta fieldMeta) {
+        // ATTR_STATUS -> STATUS, the attribute constants are already unique
+        return fieldMeta.getNameConstant().substring("ATTR_".length());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.processor.generator.util;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The methods of a type and of its supertypes, indexed by their name and number of parameters.
+ * <p>
+ * The methods declared by the type come first, followed by the methods inherited from the superclass and the interfaces, so
+ * an overriding method is always found before the method it overrides. Static methods are not indexed, they can't be getters
+ * or setters of an instance.
+ * </p>
+ */
+final class MethodIndex {
+
+    private final Map<String, List<ExecutableElement>> methods = new HashMap<>();
+
+    /**
+     * Adds the method to the index, after the methods with the same name and arity which were added before.
+     *
+     * @param method the method to add
+     */
+    void add(ExecutableElement method) {
+        methods.computeIfAbsent(key(method.getSimpleName().toString(), method.getParameters().size()), key -> new ArrayList<>(1)).add(method);
+    }
+
+    /**
+     * Adds the methods of a supertype which the subtype inherits, private methods and package-private methods of another
+     * package are not inherited.
+     *
+     * @param supertype      the index of the supertype
+     * @param subtypePackage the package of the subtype
+     */
+    void inherit(MethodIndex supertype, PackageElement subtypePackage) {
+        for (List<ExecutableElement> candidates : supertype.methods.values()) {
+            for (ExecutableElement method : candidates) {
+                Set<Modifier> modifiers = method.getModifiers();
+                if (modifiers.contains(Modifier.PRIVATE)) {
+                    continue;
+                }
+                if (!modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.PROTECTED) && !packageOf(method).equals(subtypePackage)) {
+                    continue;
+                }
+                add(method);
+            }
+        }
+    }
+
+    /**
+     * @param name           the name of the method
+     * @param parameterCount the number of parameters of the method
+     * @return the methods with the name and the number of parameters, the most specific first
+     */
+    List<ExecutableElement> find(String name, int parameterCount) {
+        return methods.getOrDefault(key(name, parameterCount), List.of());
+    }
+
+    private static PackageElement packageOf(Element element) {
+        Element enclosing = element;
+        while (!(enclosing instanceof PackageElement)) {
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return (PackageElement) enclosing;
+    }
+
+    private static String key(String name, int parameterCount) {
+        return name + '/' + parameterCount;
+    }
+}
@@ -16,54 +16,161 @@
 
 package dev.kolacek.midpoint.codegen.processor.generator.util;
 
-import com.palantir.javapoet.ClassName;
-import com.palantir.javapoet.CodeBlock;
-import com.palantir.javapoet.MethodSpec;
-import com.palantir.javapoet.ParameterSpec;
+import com.palantir.javapoet.*;
+import dev.kolacek.midpoint.codegen.config.EmissionPolicy;
 import dev.kolacek.midpoint.codegen.processor.generator.ConnectorObjectBuilderGenerator;
+import dev.kolacek.midpoint.codegen.processor.generator.meta.ContainerType;
 import dev.kolacek.midpoint.codegen.processor.generator.meta.FieldMeta;
 
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
+import java.util.ArrayList;
+import java.util.List;
 
 public final class PoetUtil {
+    public static final String BOX_VALUES_NAME = "boxValues";
+
     private PoetUtil() {
     }
 
+    /**
+     * Converts an attribute name to an upper snake case name usable as a Java constant name.
+     * <p>
+     * For example {@code firstName} becomes {@code FIRST_NAME} and {@code __NAME__} becomes {@code NAME}.
+     * </p>
+     *
+     * @param attributeName the name of the attribute
+     * @return the constant name, never empty
+     */
+    public static String toConstantName(String attributeName) {
+        StringBuilder sb = new StringBuilder(attributeName.length() + 8);
+        char previous = '_';
+        for (int i = 0; i < attributeName.length(); i++) {
+            char c = attributeName.charAt(i);
+            if (!Character.isLetterOrDigit(c) || c > 127) {
+                c = '_';
+            } else if (Character.isUpperCase(c) && (Character.isLowerCase(previous) || Character.isDigit(previous))) {
+                sb.append('_');
+            }
+
+            if (c != '_' || previous != '_') {
+                sb.append(Character.toUpperCase(c));
+            }
+            previous = c;
+        }
+
+        // Strip the trailing underscore, the leading one is never appended
+        if (!sb.isEmpty() && sb.charAt(sb.length() - 1) == '_') {
+            sb.setLength(sb.length() - 1);
+        }
+        if (sb.isEmpty()) {
+            return "ATTRIBUTE";
+        }
+        return sb.toString();
+    }
+
     public static CodeBlock addEnumAttributeBlock(FieldMeta fieldMeta, ExecutableElement getter) {
+        // The string is looked up by the ordinal, the toStringMethod is only called when the class is initialized
+        String local = fieldMeta.getFieldName() + "Value";
         return CodeBlock.builder()
-                .beginControlFlow("if ($L.$L() != null)", ConnectorObjectBuilderGenerator.PARAM_CONNECTOR_BUILDER, getter.getSimpleName())
-                .addStatement("$L.addAttribute($S, $L.$L().$L())",
-                        ConnectorObjectBuilderGenerator.BUILDER_NAME,
-                        fieldMeta.getName(),
-                        ConnectorObjectBuilderGenerator.PARAM_CONNECTOR_BUILDER,
-                        getter.getSimpleName(),
-                        fieldMeta.getEnumMeta().get().getToStringMethod())
+                .addStatement("$T $L = $L.$L()", TypeName.get(getter.getReturnType()), local, ConnectorObjectBuilderGenerator.PARAM_CONNECTOR_BUILDER, getter.getSimpleName())
+                .beginControlFlow("if ($L != null)", local)
+                .addStatement("$L.add($T.build($N, $L[$L.ordinal()]))",
+                        ConnectorObjectBuilderGenerator.ATTRIBUTES_NAME,
+                        ConnIdClassNames.ATTRIBUTE_BUILDER,
+                        fieldMeta.getNameConstant(),
+                        EnumTableUtil.stringsTableName(fieldMeta),
+                        local)
                 .endControlFlow()
                 .build();
     }
 
     public static CodeBlock addAttributeBlock(FieldMeta fieldMeta, ExecutableElement getter) {
-        return CodeBlock.builder()
-                .addStatement("$L.addAttribute($S, $L.$L())",
-                        ConnectorObjectBuilderGenerator.BUILDER_NAME,
-                        fieldMeta.getName(),
-                        ConnectorObjectBuilderGenerator.PARAM_CONNECTOR_BUILDER,
-                        getter.getSimpleName())
+        CodeBlock value = CodeBlock.of("$L.$L()", ConnectorObjectBuilderGenerator.PARAM_CONNECTOR_BUILDER, getter.getSimpleName());
+        CodeBlock.Builder builder = CodeBlock.builder();
+        CodeBlock condition = null;
+        if (fieldMeta.getEmissionPolicy() != EmissionPolicy.EMIT_ALL && !getter.getReturnType().getKind().isPrimitive()) {
+            // The value is read once to a local variable, the checks are resolved here so the generated code has no policy lookup
+            String local = fieldMeta.getFieldName() + "Value";
+            builder.addStatement("$T $L = $L", TypeName.get(getter.getReturnType()), local, value);
+            value = CodeBlock.of("$L", local);
+            condition = emissionCondition(fieldMeta, local);
+        }
+
+        if (condition != null) {
+            builder.beginControlFlow("if ($L)", condition);
+        }
+        builder.addStatement("$L.add($T.build($N, $L))",
+                ConnectorObjectBuilderGenerator.ATTRIBUTES_NAME,
+                ConnIdClassNames.ATTRIBUTE_BUILDER,
+                fieldMeta.getNameConstant(),
+                attributeValue(fieldMeta, value));
+        if (condition != null) {
+            builder.endControlFlow();
+        }
+        return builder.build();
+    }
+
+    private static CodeBlock emissionCondition(FieldMeta fieldMeta, String local) {
+        CodeBlock notNull = CodeBlock.of("$L != null", local);
+        if (fieldMeta.getEmissionPolicy() != EmissionPolicy.SKIP_NULL_AND_EMPTY) {
+            return notNull;
+        }
+        if (fieldMeta.getContainerType() == ContainerType.ARRAY || TypeName.get(byte[].class).equals(fieldMeta.getFieldType())) {
+            return CodeBlock.of("$L && $L.length > 0", notNull, local);
+        }
+        if (fieldMeta.getContainerType().isCollection() || TypeName.get(String.class).equals(fieldMeta.getFieldType())) {
+            return CodeBlock.of("$L && !$L.isEmpty()", notNull, local);
+        }
+        return notNull;
+    }
+
+    public static CodeBlock attributeValue(FieldMeta fieldMeta, CodeBlock value) {
+        if (fieldMeta.getContainerType() != ContainerType.ARRAY) {
+            return value;
+        }
+        if (fieldMeta.getFieldType().isPrimitive()) {
+            return CodeBlock.of("$L($L)", BOX_VALUES_NAME, value);
+        }
+        return CodeBlock.of("($T[]) $L", Object.class, value);
+    }
+
+    /**
+     * Creates the method boxing the primitive array to a list, as primitive arrays can't be passed as varargs.
+     *
+     * @param primitiveType the component type of the array
+     * @return the {@code boxValues} method for the given primitive type
+     */
+    public static MethodSpec createBoxValuesMethod(TypeName primitiveType) {
+        TypeName listType = ParameterizedTypeName.get(ClassName.get(List.class), ClassName.get(Object.class));
+        return MethodSpec.methodBuilder(BOX_VALUES_NAME)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(listType)
+                .addParameter(ArrayTypeName.of(primitiveType), "values")
+                .beginControlFlow("if (values == null)")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("$T boxed = new $T<>(values.length)", listType, ArrayList.class)
+                .beginControlFlow("for ($T value : values)", primitiveType)
+                .addStatement("boxed.add(value)")
+                .endControlFlow()
+                .addStatement("return boxed")
                 .build();
     }
 
     public static MethodSpec createMethod(String name, ClassName returnType, CodeBlock codeBlock) {
-        return createMethod(name, returnType, codeBlock, null);
+        return createMethod(name, returnType, codeBlock, new ParameterSpec[0]);
     }
 
-    public static MethodSpec createMethod(String name, ClassName returnType, CodeBlock codeBlock, ParameterSpec parameter) {
+    public static MethodSpec createMethod(String name, ClassName returnType, CodeBlock codeBlock, ParameterSpec... parameters) {
         MethodSpec.Builder builder = MethodSpec.methodBuilder(name)
                 .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
                 .returns(returnType)
                 .addCode(codeBlock);
-        if (parameter != null) {
-            builder.addParameter(parameter);
+        for (ParameterSpec parameter : parameters) {
+            if (parameter != null) {
+                builder.addParameter(parameter);
+            }
         }
         return builder.build();
     }
@@ -25,6 +25,8 @@ import org.junit.jupiter.api.Test;
 
 import javax.tools.Diagnostic;
 import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -56,4 +58,64 @@ public class BasicTest {
         Compilation generatedCompilation = Compiler.javac().compile(sourceFiles);
         CompilationSubject.assertThat(generatedCompilation).succeeded();
     }
+
+    @Test
+    public void quietByDefault() {
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new MidPointModelProcessor())
+                .compile(JavaFileObjects.forResource("SparseSample.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        Assertions.assertTrue(compilation.notes().isEmpty(), () -> "Unexpected notes: " + compilation.notes());
+    }
+
+    @Test
+    public void statsOptionsReportTimings() throws IOException {
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new MidPointModelProcessor())
+                .withOptions("-A" + MidPointModelProcessor.OPTION_VERBOSE, "-A" + MidPointModelProcessor.OPTION_STATS,
+                        "-A" + MidPointModelProcessor.OPTION_STATS_FILE + "=codegen-stats.json")
+                .compile(JavaFileObjects.forResource("SparseSample.java"));
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        List<String> notes = compilation.notes().stream().map(note -> note.getMessage(null)).toList();
+        Assertions.assertTrue(notes.stream().anyMatch(note -> note.startsWith("Generating SparseSampleBuilders")), notes::toString);
+        Assertions.assertTrue(notes.stream().anyMatch(note -> note.startsWith("Generated 1 classes, total")), notes::toString);
+
+        JavaFileObject report = compilation.generatedFile(StandardLocation.CLASS_OUTPUT, "codegen-stats.json").orElseThrow();
+        String json = report.getCharContent(true).toString();
+        Assertions.assertTrue(json.contains("\"modelCount\": 1"), json);
+        Assertions.assertTrue(json.contains("\"model\": \"dev.kolacek.generator.test.SparseSample\""), json);
+        Assertions.assertTrue(json.contains("\"rendering\": "), json);
+    }
+
+    @Test
+    public void staticAndForeignPackagePrivateMethodsAreNotGetters() {
+        JavaFileObject base = JavaFileObjects.forSourceLines("dev.kolacek.generator.base.Base",
+                "package dev.kolacek.generator.base;",
+                "public class Base {",
+                "    String getHidden() { return null; }",
+                "    public static String getShared() { return null; }",
+                "}");
+        JavaFileObject model = JavaFileObjects.forSourceLines("dev.kolacek.generator.test.Derived",
+                "package dev.kolacek.generator.test;",
+                "import dev.kolacek.midpoint.codegen.annotation.*;",
+                "import dev.kolacek.midpoint.codegen.config.ReportingPolicy;",
+                "@ConnectorModel(missingGetterPolicy = ReportingPolicy.WARNING)",
+                "public class Derived extends dev.kolacek.generator.base.Base {",
+                "    @UidField @NameField private String login;",
+                "    private String hidden;",
+                "    private String shared;",
+                "    public String getLogin() { return login; }",
+                "}");
+
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new MidPointModelProcessor())
+                .compile(base, model);
+
+        // The generated builder would not compile if it called the inaccessible getter
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation).hadWarningContaining("Expected getter name: 'getHidden'");
+        CompilationSubject.assertThat(compilation).hadWarningContaining("Expected getter name: 'getShared'");
+    }
 }
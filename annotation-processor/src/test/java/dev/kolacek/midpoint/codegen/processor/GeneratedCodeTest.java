@@ -0,0 +1,744 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kolacek.midpoint.codegen.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import dev.kolacek.midpoint.codegen.util.FieldProjection;
+import dev.kolacek.midpoint.codegen.util.Fingerprint;
+import dev.kolacek.midpoint.codegen.util.JsonReader;
+import dev.kolacek.midpoint.codegen.util.JsonSyntaxException;
+import dev.kolacek.midpoint.codegen.util.ModelBinding;
+import dev.kolacek.midpoint.codegen.util.ModelStore;
+import dev.kolacek.midpoint.codegen.util.OffHeapModelCache;
+import dev.kolacek.midpoint.codegen.util.OrderedParallelConverter;
+import dev.kolacek.midpoint.codegen.util.PagedSearchPipeline;
+import dev.kolacek.midpoint.codegen.util.StaleSchemaException;
+import org.identityconnectors.framework.common.exceptions.InvalidAttributeValueException;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.identityconnectors.framework.common.objects.AttributeDelta;
+import org.identityconnectors.framework.common.objects.AttributeDeltaBuilder;
+import org.identityconnectors.framework.common.objects.AttributeInfo;
+import org.identityconnectors.framework.common.objects.AttributeUtil;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.Name;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.ObjectClassInfo;
+import org.identityconnectors.framework.common.objects.OperationOptions;
+import org.identityconnectors.framework.common.objects.ResultsHandler;
+import org.identityconnectors.framework.common.objects.Schema;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.identityconnectors.framework.common.objects.filter.Filter;
+import org.identityconnectors.framework.common.objects.filter.FilterBuilder;
+import org.identityconnectors.framework.spi.Configuration;
+import org.identityconnectors.framework.spi.Connector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the code generated for {@code SampleClass.java} and checks its behavior.
+ */
+public class GeneratedCodeTest {
+
+    private static final String SAMPLE_CLASS = "dev.kolacek.generator.test.SampleClass";
+    private static final String SAMPLE_BUILDERS = "dev.kolacek.generator.test.SampleClassBuilders";
+    private static final String SPARSE_SAMPLE = "dev.kolacek.generator.test.SparseSample";
+    private static final String INHERITED_SAMPLE = "dev.kolacek.generator.test.InheritedSample";
+
+    private static ClassLoader classLoader;
+
+    @BeforeAll
+    public static void compile() throws IOException {
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new MidPointModelProcessor())
+                .withOptions("-A" + MidPointModelProcessor.OPTION_SCHEMA)
+                .compile(JavaFileObjects.forResource("SampleClass.java"), JavaFileObjects.forResource("SparseSample.java"),
+                        JavaFileObjects.forResource("InheritedSample.java"));
+        CompilationSubject.assertThat(compilation).succeeded();
+
+        Map<String, byte[]> classes = new HashMap<>();
+        for (JavaFileObject file : compilation.generatedFiles()) {
+            if (file.getKind() != JavaFileObject.Kind.CLASS) {
+                continue;
+            }
+            // Generated class files are named like /CLASS_OUTPUT/dev/kolacek/generator/test/SampleClass.class
+            String path = file.toUri().getPath();
+            String className = path.substring("/CLASS_OUTPUT/".length(), path.length() - ".class".length()).replace('/', '.');
+            try (InputStream in = file.openInputStream()) {
+                classes.put(className, in.readAllBytes());
+            }
+        }
+        classLoader = new InMemoryClassLoader(classes, GeneratedCodeTest.class.getClassLoader());
+    }
+
+    @Test
+    public void objectClassInfoIsShared() throws Exception {
+        Object first = invoke("objectClassInfo");
+        Object second = invoke("objectClassInfo");
+
+        Assertions.assertInstanceOf(ObjectClassInfo.class, first);
+        Assertions.assertSame(first, second);
+    }
+
+    @Test
+    public void attributeConstantsAreUsedInSchema() throws Exception {
+        Assertions.assertEquals("annotationName", builders().getField("ATTR_ANNOTATION_NAME").get(null));
+
+        Object info = builders().getField("INFO_ANNOTATION_NAME").get(null);
+        ObjectClassInfo objectClassInfo = (ObjectClassInfo) invoke("objectClassInfo");
+        Assertions.assertTrue(objectClassInfo.getAttributeInfo().stream().anyMatch(attributeInfo -> attributeInfo == info));
+    }
+
+    @Test
+    public void connectorObjectContainsAllAttributes() throws Exception {
+        Object sample = sample("jdoe");
+        set(sample, "setPrimitiveIntArray", int[].class, new int[]{1, 2, 3});
+        set(sample, "setStringArrayValue", String[].class, new String[]{"a", "b"});
+        set(sample, "setListValue", List.class, List.of("x", "y"));
+
+        ConnectorObject connectorObject = connectorObject(sample);
+
+        Assertions.assertEquals("jdoe", connectorObject.getName().getNameValue());
+        Assertions.assertEquals(List.of(1, 2, 3), connectorObject.getAttributeByName("primitiveIntArray").getValue());
+        Assertions.assertEquals(List.of("a", "b"), connectorObject.getAttributeByName("stringArrayValue").getValue());
+        Assertions.assertEquals(List.of("x", "y"), connectorObject.getAttributeByName("listValue").getValue());
+        Assertions.assertEquals(List.of(false), connectorObject.getAttributeByName("active").getValue());
+    }
+
+    @Test
+    public void byteArrayIsSingleBinaryValue() throws Exception {
+        Object sample = sample("jdoe");
+        byte[] photo = {1, 2, 3};
+        set(sample, "setPhoto", byte[].class, photo);
+
+        Attribute attribute = connectorObject(sample).getAttributeByName("photo");
+        Assertions.assertEquals(1, attribute.getValue().size());
+        Assertions.assertSame(photo, attribute.getValue().get(0));
+        AttributeInfo info = (AttributeInfo) builders().getField("INFO_PHOTO").get(null);
+        Assertions.assertEquals(byte[].class, info.getType());
+        Assertions.assertFalse(info.isMultiValued());
+
+        Object read = builders().getMethod("fromAttributes", Set.class).invoke(null, Set.of(new Name("jdoe"), attribute));
+        Assertions.assertArrayEquals(photo, (byte[]) get(read, "getPhoto"));
+        // Equal content is no change
+        set(read, "setPhoto", byte[].class, photo.clone());
+        Class<?> sampleClass = classLoader.loadClass(SAMPLE_CLASS);
+        Assertions.assertEquals(Set.of(), builders().getMethod("diff", sampleClass, sampleClass).invoke(null, sample, read));
+    }
+
+    @Test
+    public void fromAttributesRoundTrip() throws Exception {
+        Object sample = sample("jdoe");
+        set(sample, "setPrimitiveInt", int.class, 42);
+        set(sample, "setPrimitiveIntArray", int[].class, new int[]{1, 2, 3});
+        set(sample, "setSetValue", Set.class, Set.of(7));
+        set(sample, "setActive", boolean.class, true);
+        ConnectorObject connectorObject = connectorObject(sample);
+
+        Method fromAttributes = builders().getMethod("fromAttributes", Set.class);
+        Object model = fromAttributes.invoke(null, connectorObject.getAttributes());
+
+        Assertions.assertEquals("jdoe", get(model, "getName"));
+        Assertions.assertEquals(42, get(model, "getPrimitiveInt"));
+        Assertions.assertArrayEquals(new int[]{1, 2, 3}, (int[]) get(model, "getPrimitiveIntArray"));
+        Assertions.assertEquals(Set.of(7), get(model, "getSetValue"));
+        Assertions.assertEquals(true, get(model, "isActive"));
+        Assertions.assertEquals(connectorObject.getAttributes(), connectorObject(model).getAttributes());
+    }
+
+    @Test
+    public void fromAttributesRejectsInvalidValues() throws Exception {
+        Method fromAttributes = builders().getMethod("fromAttributes", Set.class);
+        // Numbers of other types are accepted if they fit
+        Assertions.assertEquals(7, get(fromAttributes.invoke(null, Set.of(AttributeBuilder.build("primitiveInt", 7L))), "getPrimitiveInt"));
+
+        for (Attribute attribute : List.of(AttributeBuilder.build("primitiveInt", "seven"),
+                AttributeBuilder.build("primitiveInt", 4294967297L),
+                AttributeBuilder.build("integerValue", 2.5),
+                AttributeBuilder.build("description", 42),
+                AttributeBuilder.build("active", "true"),
+                AttributeBuilder.build("setValue", 1, "two"))) {
+            InvocationTargetException exception = Assertions.assertThrows(InvocationTargetException.class,
+                    () -> fromAttributes.invoke(null, Set.of(attribute)));
+            Assertions.assertInstanceOf(InvalidAttributeValueException.class, exception.getCause(), attribute.toString());
+            Assertions.assertTrue(exception.getCause().getMessage().contains(attribute.getName()), exception.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void fromAttributesParsesEnums() throws Exception {
+        Method fromAttributes = builders().getMethod("fromAttributes", Set.class);
+        Object model = fromAttributes.invoke(null, Set.of(AttributeBuilder.build("enumValue", "VALUE2")));
+
+        Assertions.assertEquals("VALUE2", String.valueOf(get(model, "getEnumValue")));
+    }
+
+    @Test
+    public void enumTablesUseToStringMethod() throws Exception {
+        Class<?> sparseBuilders = classLoader.loadClass(SPARSE_SAMPLE + "Builders");
+        Object sparse = sparseBuilders.getMethod("fromAttributes", Set.class)
+                .invoke(null, Set.of(AttributeBuilder.build(Uid.NAME, "sparse"), AttributeBuilder.build("status", "suspended")));
+        Assertions.assertEquals("SUSPENDED", String.valueOf(get(sparse, "getStatus")));
+
+        Method connectorObjectBuilder = sparseBuilders.getMethod("connectorObjectBuilder", sparse.getClass());
+        ConnectorObject connectorObject = ((ConnectorObjectBuilder) connectorObjectBuilder.invoke(null, sparse)).build();
+        Assertions.assertEquals(List.of("suspended"), connectorObject.getAttributeByName("status").getValue());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void predicateFiltersModels() throws Exception {
+        Object sample = sample("jdoe");
+        set(sample, "setDescription", String.class, "Hello World");
+        set(sample, "setPrimitiveInt", int.class, 7);
+        set(sample, "setListValue", List.class, List.of("a", "b", "c"));
+        Method predicate = builders().getMethod("predicate", Filter.class, boolean.class);
+
+        Filter filter = FilterBuilder.and(
+                FilterBuilder.startsWith(AttributeBuilder.build("description", "hello")),
+                FilterBuilder.greaterThan(AttributeBuilder.build("primitiveInt", 5L)));
+        Assertions.assertTrue(((Predicate<Object>) predicate.invoke(null, filter, true)).test(sample));
+        Assertions.assertFalse(((Predicate<Object>) predicate.invoke(null, filter, false)).test(sample));
+
+        Filter multivalued = FilterBuilder.or(
+                FilterBuilder.not(FilterBuilder.containsAllValues(AttributeBuilder.build("listValue", "a", "c"))),
+                FilterBuilder.equalTo(AttributeBuilder.build(Uid.NAME, "nobody")));
+        Assertions.assertFalse(((Predicate<Object>) predicate.invoke(null, multivalued, false)).test(sample));
+
+        // Strings are compared ignoring case by default
+        Method defaultPredicate = builders().getMethod("predicate", Filter.class);
+        Assertions.assertTrue(((Predicate<Object>) defaultPredicate.invoke(null, filter)).test(sample));
+
+        // Values not fitting the int field are not narrowed
+        Assertions.assertTrue(((Predicate<Object>) defaultPredicate.invoke(null,
+                FilterBuilder.equalTo(AttributeBuilder.build("primitiveInt", 7L)))).test(sample));
+        Assertions.assertFalse(((Predicate<Object>) defaultPredicate.invoke(null,
+                FilterBuilder.equalTo(AttributeBuilder.build("primitiveInt", 4294967303L)))).test(sample));
+        Assertions.assertFalse(((Predicate<Object>) defaultPredicate.invoke(null,
+                FilterBuilder.greaterThanOrEqualTo(AttributeBuilder.build("primitiveInt", 7.5)))).test(sample));
+        Assertions.assertTrue(((Predicate<Object>) defaultPredicate.invoke(null,
+                FilterBuilder.lessThan(AttributeBuilder.build("primitiveInt", 7.5)))).test(sample));
+    }
+
+    @Test
+    public void applyDeltasUpdatesChangedFields() throws Exception {
+        Object sample = sample("jdoe");
+        set(sample, "setListValue", List.class, List.of("a", "b", "c"));
+        set(sample, "setPrimitiveIntArray", int[].class, new int[]{1, 2});
+        Set<AttributeDelta> deltas = Set.of(
+                AttributeDeltaBuilder.build("listValue", List.of("d"), List.of("a", "c")),
+                AttributeDeltaBuilder.build("primitiveIntArray", List.of(3), null),
+                AttributeDeltaBuilder.build("description", "updated"),
+                AttributeDeltaBuilder.build("setValue", null, List.of(1)));
+
+        Method applyDeltas = builders().getMethod("applyDeltas", classLoader.loadClass(SAMPLE_CLASS), Set.class);
+        BitSet touched = (BitSet) applyDeltas.invoke(null, sample, deltas);
+
+        Assertions.assertEquals(List.of("b", "d"), get(sample, "getListValue"));
+        Assertions.assertArrayEquals(new int[]{1, 2, 3}, (int[]) get(sample, "getPrimitiveIntArray"));
+        Assertions.assertEquals("updated", get(sample, "getDescription"));
+
+        BitSet expected = new BitSet();
+        expected.set(builders().getField("FIELD_LIST_VALUE").getInt(null));
+        expected.set(builders().getField("FIELD_PRIMITIVE_INT_ARRAY").getInt(null));
+        expected.set(builders().getField("FIELD_DESCRIPTION").getInt(null));
+        Assertions.assertEquals(expected, touched, "Removing from an empty field must not mark it as changed");
+    }
+
+    @Test
+    public void emitAllStopsWhenHandlerReturnsFalse() throws Exception {
+        List<Object> models = List.of(sample("first"), sample("second"), sample("third"));
+        List<ConnectorObject> handled = new ArrayList<>();
+        ResultsHandler handler = connectorObject -> {
+            handled.add(connectorObject);
+            return handled.size() < 2;
+        };
+
+        Iterator<Object> iterator = models.iterator();
+        Method emitAll = builders().getMethod("emitAll", Iterator.class, ResultsHandler.class);
+        Object result = emitAll.invoke(null, iterator, handler);
+
+        Assertions.assertEquals(Boolean.FALSE, result);
+        Assertions.assertEquals(2, handled.size());
+        Assertions.assertEquals("second", handled.get(1).getUid().getUidValue());
+        Assertions.assertTrue(iterator.hasNext(), "Models after the stop must not be read");
+    }
+
+    @Test
+    public void projectionLimitsEmittedAttributes() throws Exception {
+        Object sample = sample("projected");
+        set(sample, "setDescription", String.class, "described");
+        Method connectorObjectBuilder = builders().getMethod("connectorObjectBuilder", sample.getClass(), FieldProjection.class);
+        Method projection = builders().getMethod("projection", String[].class);
+
+        FieldProjection uidOnly = (FieldProjection) projection.invoke(null, (Object) new String[]{Uid.NAME});
+        Assertions.assertTrue(uidOnly.isIdentifiersOnly());
+        ConnectorObject identifiers = ((ConnectorObjectBuilder) connectorObjectBuilder.invoke(null, sample, uidOnly)).build();
+        Assertions.assertEquals(Set.of(Uid.NAME, Name.NAME), attributeNames(identifiers));
+
+        FieldProjection description = (FieldProjection) projection.invoke(null, (Object) new String[]{"description", "unknown"});
+        ConnectorObject projected = ((ConnectorObjectBuilder) connectorObjectBuilder.invoke(null, sample, description)).build();
+        Assertions.assertEquals(Set.of(Uid.NAME, Name.NAME, "description"), attributeNames(projected));
+        Assertions.assertEquals(List.of("described"), projected.getAttributeByName("description").getValue());
+
+        FieldProjection all = (FieldProjection) builders().getMethod("projection", OperationOptions.class).invoke(null, (Object) null);
+        Assertions.assertTrue(all.isAll());
+    }
+
+    @Test
+    public void emissionPolicySkipsNullAndEmptyValues() throws Exception {
+        Class<?> sparseClass = classLoader.loadClass(SPARSE_SAMPLE);
+        Object sparse = sparseClass.getConstructor().newInstance();
+        set(sparse, "setName", String.class, "sparse");
+        set(sparse, "setDescription", String.class, "");
+        set(sparse, "setTags", List.class, List.of());
+        set(sparse, "setAliases", String[].class, new String[]{"alias"});
+        set(sparse, "setTitle", String.class, "");
+
+        Method connectorObjectBuilder = classLoader.loadClass(SPARSE_SAMPLE + "Builders").getMethod("connectorObjectBuilder", sparseClass);
+        ConnectorObject connectorObject = ((ConnectorObjectBuilder) connectorObjectBuilder.invoke(null, sparse)).build();
+
+        // level is primitive, title only skips null and note emits everything
+        Assertions.assertEquals(Set.of(Uid.NAME, Name.NAME, "name", "aliases", "level", "title", "note"), attributeNames(connectorObject));
+        Assertions.assertNull(AttributeUtil.getSingleValue(connectorObject.getAttributeByName("note")));
+    }
+
+    @Test
+    public void emitAllParallelPreservesOrder() throws Exception {
+        List<Object> models = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            models.add(sample("user" + i));
+        }
+        List<String> handled = new ArrayList<>();
+        ResultsHandler handler = connectorObject -> {
+            handled.add(connectorObject.getUid().getUidValue());
+            return handled.size() < 300;
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            OrderedParallelConverter converter = new OrderedParallelConverter(executor, 7, 3);
+            Method emitAllParallel = builders().getMethod("emitAllParallel", Iterable.class, FieldProjection.class, OrderedParallelConverter.class, ResultsHandler.class);
+            Object result = emitAllParallel.invoke(null, models, FieldProjection.all(), converter, handler);
+
+            Assertions.assertEquals(Boolean.FALSE, result);
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertEquals(300, handled.size());
+        for (int i = 0; i < handled.size(); i++) {
+            Assertions.assertEquals("user" + i, handled.get(i));
+        }
+    }
+
+    @Test
+    public void pagedSearchPipelineConvertsAllPages() throws Exception {
+        Method connectorObjectBuilder = builders().getMethod("connectorObjectBuilder", classLoader.loadClass(SAMPLE_CLASS));
+        PagedSearchPipeline<Object> pipeline = PagedSearchPipeline.create((cookie, offset) -> {
+            List<Object> page = new ArrayList<>();
+            for (int i = offset; i < Math.min(offset + 10, 50); i++) {
+                page.add(sample("user" + i));
+            }
+            return offset + 10 < 50 ? PagedSearchPipeline.Page.of(page, null) : PagedSearchPipeline.Page.last(page);
+        }, 2);
+        Function<Object, ConnectorObject> converter = model -> {
+            try {
+                return ((ConnectorObjectBuilder) connectorObjectBuilder.invoke(null, model)).build();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        List<String> handled = new ArrayList<>();
+        PagedSearchPipeline.Result result = pipeline.search(converter, connectorObject -> handled.add(connectorObject.getUid().getUidValue()));
+        Assertions.assertTrue(result.isAllResultsReturned());
+        Assertions.assertEquals(50, handled.size());
+        Assertions.assertEquals("user49", handled.get(49));
+
+        handled.clear();
+        result = pipeline.search(converter, connectorObject -> handled.add(connectorObject.getUid().getUidValue()) && handled.size() < 15);
+        Assertions.assertFalse(result.isAllResultsReturned());
+        Assertions.assertEquals(15, handled.size());
+        Assertions.assertEquals(15, result.getNextOffset());
+
+        handled.clear();
+        result = pipeline.search(result.getNextCookie(), result.getNextOffset(), converter,
+                connectorObject -> handled.add(connectorObject.getUid().getUidValue()));
+        Assertions.assertTrue(result.isAllResultsReturned());
+        Assertions.assertEquals(35, handled.size());
+        Assertions.assertEquals("user15", handled.get(0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void modelStoreIndexesModels() throws Exception {
+        Class<?> sparseClass = classLoader.loadClass(SPARSE_SAMPLE);
+        ModelStore<Object> store = (ModelStore<Object>) classLoader.loadClass(SPARSE_SAMPLE + "Builders").getMethod("newStore").invoke(null);
+        for (int i = 0; i < 1000; i++) {
+            Object sparse = sparseClass.getConstructor().newInstance();
+            set(sparse, "setName", String.class, "user" + i);
+            set(sparse, "setLevel", int.class, i % 10);
+            store.put(sparse);
+        }
+
+        Assertions.assertEquals(1000, store.size());
+        Assertions.assertEquals("user42", get(store.get("user42"), "getName"));
+        Assertions.assertSame(store.get("user42"), store.getUnique(Name.NAME, "user42"));
+        Assertions.assertEquals(100, store.find("level", 3).size());
+
+        Object moved = sparseClass.getConstructor().newInstance();
+        set(moved, "setName", String.class, "user3");
+        set(moved, "setLevel", int.class, 4);
+        store.put(moved);
+        store.remove("user13");
+        Assertions.assertEquals(98, store.find("level", 3).size());
+        Assertions.assertEquals(101, store.find("level", 4).size());
+        Assertions.assertNull(store.get("user13"));
+
+        List<ConnectorObject> found = new ArrayList<>();
+        List<Object> levelFour = store.find("level", 4);
+        store.search(levelFour::contains, FieldProjection.identifiersOnly(), found::add);
+        Assertions.assertEquals(101, found.size());
+        Assertions.assertEquals(Set.of(Uid.NAME, Name.NAME), attributeNames(found.get(0)));
+    }
+
+    @Test
+    public void fingerprintTracksAttributeValues() throws Exception {
+        Method fingerprint = builders().getMethod("fingerprint", classLoader.loadClass(SAMPLE_CLASS));
+        Object first = sample("jdoe");
+        set(first, "setSetValue", Set.class, new LinkedHashSet<>(List.of(1, 2, 3)));
+        set(first, "setListValue", List.class, List.of("a", "b"));
+        Object second = sample("jdoe");
+        set(second, "setSetValue", Set.class, new LinkedHashSet<>(List.of(3, 2, 1)));
+        set(second, "setListValue", List.class, List.of("a", "b"));
+
+        Fingerprint expected = (Fingerprint) fingerprint.invoke(null, first);
+        Assertions.assertEquals(expected, fingerprint.invoke(null, second));
+        Assertions.assertEquals(expected, Fingerprint.fromBytes(expected.toBytes()));
+
+        set(second, "setListValue", List.class, List.of("b", "a"));
+        Assertions.assertNotEquals(expected, fingerprint.invoke(null, second));
+        set(second, "setListValue", List.class, List.of("a", "b"));
+        set(second, "setDescription", String.class, "");
+        Assertions.assertNotEquals(expected, fingerprint.invoke(null, second));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void diffProducesMinimalDeltas() throws Exception {
+        Class<?> sampleClass = classLoader.loadClass(SAMPLE_CLASS);
+        Method diff = builders().getMethod("diff", sampleClass, sampleClass);
+        Object before = sample("jdoe");
+        set(before, "setSetValue", Set.class, new LinkedHashSet<>(List.of(1, 2, 3)));
+        set(before, "setListValue", List.class, List.of("a", "b"));
+        Object after = sample("jdoe");
+        set(after, "setSetValue", Set.class, new LinkedHashSet<>(List.of(3, 2, 1)));
+        set(after, "setListValue", List.class, List.of("a", "b"));
+        Assertions.assertEquals(Set.of(), diff.invoke(null, before, after));
+
+        set(after, "setSetValue", Set.class, new LinkedHashSet<>(List.of(2, 3, 4)));
+        set(after, "setDescription", String.class, "changed");
+        Set<AttributeDelta> deltas = (Set<AttributeDelta>) diff.invoke(null, before, after);
+        Assertions.assertEquals(Set.of(
+                AttributeDeltaBuilder.build("description", List.of("changed")),
+                AttributeDeltaBuilder.build("setValue", List.of(4), List.of(1))), deltas);
+
+        builders().getMethod("applyDeltas", sampleClass, Set.class).invoke(null, before, deltas);
+        Assertions.assertEquals(Set.of(), diff.invoke(null, before, after));
+
+        // ConnId values are unordered, only the added value is sent
+        set(after, "setListValue", List.class, List.of("b", "a"));
+        Assertions.assertEquals(Set.of(), diff.invoke(null, before, after));
+        set(after, "setListValue", List.class, List.of("c", "b", "a"));
+        Assertions.assertEquals(Set.of(AttributeDeltaBuilder.build("listValue", List.of("c"), null)), diff.invoke(null, before, after));
+        set(after, "setListValue", List.class, List.of("a", "b"));
+
+        // Explicitly ordered attributes are replaced when the sequence changes
+        set(before, "setStringArrayValue", String[].class, new String[]{"a", "b"});
+        set(after, "setStringArrayValue", String[].class, new String[]{"a", "b"});
+        Assertions.assertEquals(Set.of(), diff.invoke(null, before, after));
+        set(after, "setStringArrayValue", String[].class, new String[]{"c", "b", "a"});
+        Assertions.assertEquals(Set.of(AttributeDeltaBuilder.build("stringArrayValue", List.of("c", "b", "a"))),
+                diff.invoke(null, before, after));
+    }
+
+    @Test
+    public void binaryCodecRoundTrip() throws Exception {
+        Class<?> sampleClass = classLoader.loadClass(SAMPLE_CLASS);
+        Method writeTo = builders().getMethod("writeTo", sampleClass, DataOutput.class);
+        Method readFrom = builders().getMethod("readFrom", DataInput.class);
+        Method fingerprint = builders().getMethod("fingerprint", sampleClass);
+        Object sample = sample("jdoe");
+        set(sample, "setPrimitiveInt", int.class, -42);
+        set(sample, "setPrimitiveIntArray", int[].class, new int[]{Integer.MIN_VALUE, 0, Integer.MAX_VALUE});
+        Class<?> enumClass = classLoader.loadClass(SAMPLE_CLASS + "$SampleEnum");
+        set(sample, "setEnumValue", enumClass, enumClass.getEnumConstants()[1]);
+        set(sample, "setListValue", List.class, new ArrayList<>(Arrays.asList("a", null, "\u017elu\u0165ou\u010dk\u00fd")));
+        set(sample, "setSetValue", Set.class, new LinkedHashSet<>(List.of(3, 1, 2)));
+        set(sample, "setActive", boolean.class, true);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writeTo.invoke(null, sample, new DataOutputStream(bytes));
+        Object read = readFrom.invoke(null, new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        Assertions.assertEquals(fingerprint.invoke(null, sample), fingerprint.invoke(null, read));
+        Assertions.assertNull(get(read, "getDescription"));
+        Assertions.assertEquals(List.of(3, 1, 2), new ArrayList<>((Set<?>) get(read, "getSetValue")));
+
+        // Larger than the initial capacity, the arrays and collections grow while they are read
+        int[] ints = new int[3000];
+        Arrays.setAll(ints, i -> i - 1500);
+        set(sample, "setPrimitiveIntArray", int[].class, ints);
+        set(sample, "setStringArrayValue", String[].class, Collections.nCopies(2000, "s").toArray(new String[0]));
+        set(sample, "setListValue", List.class, new ArrayList<>(Collections.nCopies(1025, "l")));
+        bytes.reset();
+        writeTo.invoke(null, sample, new DataOutputStream(bytes));
+        read = readFrom.invoke(null, new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        Assertions.assertArrayEquals(ints, (int[]) get(read, "getPrimitiveIntArray"));
+        Assertions.assertEquals(2000, ((String[]) get(read, "getStringArrayValue")).length);
+        Assertions.assertEquals(fingerprint.invoke(null, sample), fingerprint.invoke(null, read));
+
+        // Data written for another version of the model is rejected
+        byte[] stale = bytes.toByteArray();
+        stale[0] ^= 1;
+        InvocationTargetException exception = Assertions.assertThrows(InvocationTargetException.class,
+                () -> readFrom.invoke(null, new DataInputStream(new ByteArrayInputStream(stale))));
+        Assertions.assertInstanceOf(StaleSchemaException.class, exception.getCause());
+    }
+
+    @Test
+    public void jsonDecoderStreamsModels() throws Exception {
+        Method readJsonArray = builders().getMethod("readJsonArray", JsonReader.class, Predicate.class);
+        String json = """
+                {"total": 3, "items": [
+                  {"annotationName": "jdoe", "unknown": {"nested": [1, "}"]}, "primitiveInt": 7, "primitiveIntArray": [1, 2],
+                   "enumValue": "VALUE2", "listValue": ["a", null, "\\u017elu\\u0165ou\\u010dk\\u00fd"], "setValue": [3, 1], "active": true},
+                  {"annotationName": "asmith", "primitiveInt": null, "description": null},
+                  {"annotationName": "never read"}
+                ]}""";
+        JsonReader reader = new JsonReader(new StringReader(json));
+        reader.beginObject();
+        Assertions.assertEquals("total", reader.nextName());
+        reader.skipValue();
+        Assertions.assertEquals("items", reader.nextName());
+
+        // The consumer stops the reading after the second model
+        List<Object> models = new ArrayList<>();
+        Predicate<Object> consumer = model -> models.add(model) && models.size() < 2;
+        Assertions.assertEquals(false, readJsonArray.invoke(null, reader, consumer));
+        Assertions.assertEquals(2, models.size());
+
+        Object jdoe = models.get(0);
+        Assertions.assertEquals("jdoe", get(jdoe, "getName"));
+        Assertions.assertEquals(7, get(jdoe, "getPrimitiveInt"));
+        Assertions.assertArrayEquals(new int[]{1, 2}, (int[]) get(jdoe, "getPrimitiveIntArray"));
+        Assertions.assertEquals("VALUE2", String.valueOf(get(jdoe, "getEnumValue")));
+        Assertions.assertEquals(Arrays.asList("a", null, "\u017elu\u0165ou\u010dk\u00fd"), get(jdoe, "getListValue"));
+        Assertions.assertEquals(List.of(3, 1), new ArrayList<>((Set<?>) get(jdoe, "getSetValue")));
+        Assertions.assertEquals(true, get(jdoe, "isActive"));
+        Assertions.assertEquals("asmith", get(models.get(1), "getName"));
+        Assertions.assertEquals(0, get(models.get(1), "getPrimitiveInt"));
+
+        Method readJson = builders().getMethod("readJson", JsonReader.class);
+        InvocationTargetException exception = Assertions.assertThrows(InvocationTargetException.class,
+                () -> readJson.invoke(null, new JsonReader(new StringReader("{\"primitiveInt\": \"seven\"}"))));
+        Assertions.assertInstanceOf(JsonSyntaxException.class, exception.getCause());
+
+        // An unknown enum string is a syntax error with the offset too, not a ConnId exception
+        String unknownEnum = "{\"annotationName\": \"jdoe\", \"enumValue\": \"VALUE9\"}";
+        exception = Assertions.assertThrows(InvocationTargetException.class,
+                () -> readJson.invoke(null, new JsonReader(new StringReader(unknownEnum))));
+        JsonSyntaxException syntaxException = Assertions.assertInstanceOf(JsonSyntaxException.class, exception.getCause());
+        Assertions.assertEquals(unknownEnum.indexOf("VALUE9") + "VALUE9\"".length(), syntaxException.getOffset());
+        Assertions.assertTrue(syntaxException.getMessage().contains("VALUE9"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void offHeapCacheEvictsEntriesNotReadRecently() throws Exception {
+        OffHeapModelCache.Builder<Object> builder = (OffHeapModelCache.Builder<Object>) invoke("cacheBuilder");
+        // 20 entries of a single 48 byte block, the key and the model
+        OffHeapModelCache<Object> cache = builder.stripes(1).blockSize(48).capacity(48 * 20).build();
+        for (int i = 0; i < 20; i++) {
+            Object sample = sample(String.format("user-%02d", i));
+            set(sample, "setPrimitiveInt", int.class, i);
+            Assertions.assertTrue(cache.put(sample));
+        }
+        Assertions.assertEquals(20, cache.size());
+        Assertions.assertEquals(cache.capacity(), cache.usedBytes());
+
+        Assertions.assertEquals(7, get(cache.get("user-07"), "getPrimitiveInt"));
+        Assertions.assertEquals("user-00", cache.getObject("user-00", null).getName().getNameValue());
+        Assertions.assertTrue(cache.put(sample("user-20")));
+        Assertions.assertTrue(cache.containsKey("user-00"));
+        Assertions.assertFalse(cache.containsKey("user-01"));
+        Assertions.assertNull(cache.get("user-01"));
+        Assertions.assertEquals(new OffHeapModelCache.Stats(2, 1, 1), cache.stats());
+
+        Assertions.assertTrue(cache.remove("user-20"));
+        Assertions.assertEquals(19, cache.size());
+        cache.clear();
+        Assertions.assertEquals(0, cache.usedBytes());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void generatedSchemaContainsAllModels() throws Exception {
+        Class<?> schemaClass = classLoader.loadClass("dev.kolacek.generator.test.GeneratedConnectorSchema");
+        Method schemaMethod = schemaClass.getMethod("schema", Class.class);
+        Schema schema = (Schema) schemaMethod.invoke(null, TestConnector.class);
+        Assertions.assertSame(schema, schemaMethod.invoke(null, TestConnector.class));
+        Assertions.assertEquals(List.of("inherited", ObjectClass.ACCOUNT_NAME, ObjectClass.GROUP_NAME),
+                ((Map<String, ObjectClassInfo>) schemaClass.getMethod("objectClassInfos").invoke(null)).keySet().stream().toList());
+        Assertions.assertEquals(3, schema.getObjectClassInfo().size());
+        Assertions.assertSame(invoke("objectClassInfo"), schemaClass.getMethod("objectClassInfo", String.class).invoke(null, ObjectClass.ACCOUNT_NAME));
+        Assertions.assertSame(invoke("objectClassInfo"), schema.findObjectClassInfo(ObjectClass.ACCOUNT_NAME));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void bindingDispatchesByObjectClass() throws Exception {
+        Class<?> schemaClass = classLoader.loadClass("dev.kolacek.generator.test.GeneratedConnectorSchema");
+        Method bindingMethod = schemaClass.getMethod("binding", String.class);
+        ModelBinding<Object> binding = (ModelBinding<Object>) bindingMethod.invoke(null, ObjectClass.ACCOUNT_NAME);
+        Assertions.assertEquals(SAMPLE_CLASS, binding.modelClass().getName());
+        Assertions.assertSame(invoke("objectClassInfo"), binding.objectClassInfo());
+
+        Object sample = binding.fromAttributes(Set.of(new Name("jdoe")));
+        ConnectorObject connectorObject = binding.connectorObjectBuilder(sample, binding.projection(null)).build();
+        Assertions.assertEquals("jdoe", connectorObject.getName().getNameValue());
+
+        // ConnId compares object classes ignoring the case
+        Assertions.assertSame(schemaClass.getMethod("binding", ObjectClass.class).invoke(null, ObjectClass.GROUP),
+                bindingMethod.invoke(null, ObjectClass.GROUP_NAME.toLowerCase()));
+        Assertions.assertNull(bindingMethod.invoke(null, "unknown"));
+        InvocationTargetException exception = Assertions.assertThrows(InvocationTargetException.class,
+                () -> schemaClass.getMethod("binding", ObjectClass.class).invoke(null, new ObjectClass("unknown")));
+        Assertions.assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+    }
+
+    @Test
+    public void gettersAreInheritedFromSupertypes() throws Exception {
+        Class<?> inheritedClass = classLoader.loadClass(INHERITED_SAMPLE);
+        Object inherited = inheritedClass.getConstructor().newInstance();
+        set(inherited, "setLogin", String.class, "jdoe");
+
+        Method method = classLoader.loadClass(INHERITED_SAMPLE + "Builders").getMethod("connectorObjectBuilder", inheritedClass);
+        ConnectorObject connectorObject = ((ConnectorObjectBuilder) method.invoke(null, inherited)).build();
+        Assertions.assertEquals("jdoe", connectorObject.getName().getNameValue());
+        Assertions.assertEquals("inherited", AttributeUtil.getSingleValue(connectorObject.getAttributeByName("description")));
+    }
+
+    private static Object invoke(String methodName) throws Exception {
+        return builders().getMethod(methodName).invoke(null);
+    }
+
+    private static Class<?> builders() throws ClassNotFoundException {
+        return classLoader.loadClass(SAMPLE_BUILDERS);
+    }
+
+    private static ConnectorObject connectorObject(Object sample) throws Exception {
+        Method method = builders().getMethod("connectorObjectBuilder", classLoader.loadClass(SAMPLE_CLASS));
+        return ((ConnectorObjectBuilder) method.invoke(null, sample)).build();
+    }
+
+    private static Set<String> attributeNames(ConnectorObject connectorObject) {
+        return connectorObject.getAttributes().stream().map(Attribute::getName).collect(Collectors.toSet());
+    }
+
+    private static Object get(Object sample, String getterName) throws Exception {
+        return sample.getClass().getMethod(getterName).invoke(sample);
+    }
+
+    private static void set(Object sample, String setterName, Class<?> type, Object value) throws Exception {
+        sample.getClass().getMethod(setterName, type).invoke(sample, value);
+    }
+
+    private static Object sample(String name) throws Exception {
+        Class<?> sampleClass = classLoader.loadClass(SAMPLE_CLASS);
+        Object sample = sampleClass.getConstructor().newInstance();
+        sampleClass.getMethod("setName", String.class).invoke(sample, name);
+        return sample;
+    }
+
+    public static final class TestConnector implements Connector {
+
+        @Override
+        public Configuration getConfiguration() {
+            return null;
+        }
+
+        @Override
+        public void init(Configuration configuration) {
+        }
+
+        @Override
+        public void dispose() {
+        }
+    }
+
+    private static final class InMemoryClassLoader extends ClassLoader {
+
+        private final Map<String, byte[]> classes;
+
+        private InMemoryClassLoader(Map<String, byte[]> classes, ClassLoader parent) {
+            super(parent);
+            this.classes = classes;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] bytes = classes.get(name);
+            if (bytes == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileObject;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Checks the contract of Gradle incremental annotation processors. By default, without the aggregated schema, the processor is isolating:
+ * every generated file has exactly one originating element, the model it was generated from, so Gradle regenerates only the
+ * builders of the changed models. With the schema or the stats file it is aggregating, the schema originates from all models.
+ */
+public class IncrementalProcessingTest {
+
+    private static final String PACKAGE_NAME = "dev.kolacek.generator.test";
+
+    private static final String SCHEMA = "-A" + MidPointModelProcessor.OPTION_SCHEMA;
+
+    @Test
+    public void processorIsRegisteredAsDynamic() throws IOException {
+        try (InputStream in = MidPointModelProcessor.class.getResourceAsStream("/META-INF/gradle/incremental.annotation.processors")) {
+            Assertions.assertNotNull(in);
+            String registration = new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+            Assertions.assertEquals(MidPointModelProcessor.class.getName() + ",dynamic", registration);
+        }
+    }
+
+    @Test
+    public void changedModelRegeneratesOnlyItsBuilder() {
+        RecordingProcessor fullBuild = new RecordingProcessor();
+        compile(fullBuild, List.of(), model("Account", "private String email;"), model("Group", "private String owner;"));
+        Assertions.assertTrue(fullBuild.getSupportedOptions().contains("org.gradle.annotation.processing.isolating"));
+        Assertions.assertEquals(Map.of(
+                PACKAGE_NAME + ".AccountBuilders", List.of(PACKAGE_NAME + ".Account"),
+                PACKAGE_NAME + ".GroupBuilders", List.of(PACKAGE_NAME + ".Group")), fullBuild.originatingElements);
+
+        // Gradle recompiles only the changed model and the files it originated, the other builder is kept as is
+        RecordingProcessor incrementalBuild = new RecordingProcessor();
+        compile(incrementalBuild, List.of(), model("Account", "private String email;\n    private String phone;"));
+        Assertions.assertEquals(Map.of(PACKAGE_NAME + ".AccountBuilders", List.of(PACKAGE_NAME + ".Account")),
+                incrementalBuild.originatingElements);
+        Assertions.assertNotEquals(fullBuild.sources.get(PACKAGE_NAME + ".AccountBuilders"), incrementalBuild.sources.get(PACKAGE_NAME + ".AccountBuilders"));
+    }
+
+    @Test
+    public void schemaOriginatesFromAllModels() {
+        RecordingProcessor build = new RecordingProcessor();
+        compile(build, List.of(SCHEMA), model("Account", "private String email;"), model("Group", "private String owner;", "__GROUP__"));
+        Assertions.assertTrue(build.getSupportedOptions().contains("org.gradle.annotation.processing.aggregating"));
+        Assertions.assertEquals(List.of(PACKAGE_NAME + ".Account", PACKAGE_NAME + ".Group"),
+                build.originatingElements.get(PACKAGE_NAME + ".GeneratedConnectorSchema"));
+    }
+
+    @Test
+    public void statsFileMakesProcessorAggregating() {
+        RecordingProcessor build = new RecordingProcessor();
+        compile(build, List.of("-A" + MidPointModelProcessor.OPTION_STATS_FILE + "=codegen-stats.json"), model("Account", "private String email;"));
+        // The report has no originating element, which Gradle only accepts from aggregating processors
+        Assertions.assertTrue(build.getSupportedOptions().contains("org.gradle.annotation.processing.aggregating"));
+        Assertions.assertFalse(build.getSupportedOptions().contains("org.gradle.annotation.processing.isolating"));
+        Assertions.assertEquals(List.of(), build.originatingElements.get("codegen-stats.json"));
+    }
+
+    private static void compile(Processor processor, List<String> options, JavaFileObject... sources) {
+        Compilation compilation = Compiler.javac().withProcessors(processor).withOptions(options).compile(sources);
+        CompilationSubject.assertThat(compilation).succeeded();
+    }
+
+    private static JavaFileObject model(String className, String fields) {
+        return model(className, fields, "__ACCOUNT__");
+    }
+
+    private static JavaFileObject model(String className, String fields, String objectClassType) {
+        String accessors = Arrays.stream(fields.split("\n"))
+                .map(field -> field.trim().replace("private String ", "").replace(";", ""))
+                .map(name -> "    public String get" + Character.toUpperCase(name.charAt(0)) + name.substring(1) + "() {\n        return " + name + ";\n    }\n")
+                .collect(Collectors.joining("\n"));
+        return JavaFileObjects.forSourceString(PACKAGE_NAME + "." + className, "package " + PACKAGE_NAME + ";\n\n"
+                + "import dev.kolacek.midpoint.codegen.annotation.ConnectorModel;\n"
+                + "import dev.kolacek.midpoint.codegen.annotation.NameField;\n"
+                + "import dev.kolacek.midpoint.codegen.annotation.UidField;\n\n"
+                + "@ConnectorModel(objectClassType = \"" + objectClassType + "\")\n"
+                + "public class " + className + " {\n\n"
+                + "    @UidField\n    @NameField\n    private String id;\n    " + fields + "\n\n"
+                + "    public String getId() {\n        return id;\n    }\n\n"
+                + accessors
+                + "}\n");
+    }
+
+    /**
+     * Runs {@link MidPointModelProcessor} with a {@link Filer} recording the originating elements and the content of the generated sources.
+     */
+    private static final class RecordingProcessor extends AbstractProcessor {
+
+        private final MidPointModelProcessor delegate = new MidPointModelProcessor();
+        private final Map<String, List<String>> originatingElements = new HashMap<>();
+        private final Map<String, String> sources = new HashMap<>();
+
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return delegate.getSupportedAnnotationTypes();
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return delegate.getSupportedSourceVersion();
+        }
+
+        @Override
+        public Set<String> getSupportedOptions() {
+            return delegate.getSupportedOptions();
+        }
+
+        @Override
+        public synchronized void init(ProcessingEnvironment processingEnv) {
+            super.init(processingEnv);
+            delegate.init(new RecordingEnvironment(processingEnv, new RecordingFiler(processingEnv.getFiler())));
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            return delegate.process(annotations, roundEnv);
+        }
+
+        private final class RecordingFiler implements Filer {
+
+            private final Filer filer;
+
+            private RecordingFiler(Filer filer) {
+                this.filer = filer;
+            }
+
+            @Override
+            public JavaFileObject createSourceFile(CharSequence name, Element... elements) throws IOException {
+                originatingElements.put(name.toString(), Arrays.stream(elements)
+                        .map(element -> ((TypeElement) element).getQualifiedName().toString())
+                        .toList());
+                JavaFileObject file = filer.createSourceFile(name, elements);
+                return new ForwardingJavaFileObject<>(file) {
+                    @Override
+                    public Writer openWriter() throws IOException {
+                        Writer writer = super.openWriter();
+                        return new FilterWriter(writer) {
+                            private final StringBuilder content = new StringBuilder();
+
+                            @Override
+                            public void write(String str, int off, int len) throws IOException {
+                                content.append(str, off, off + len);
+                                super.write(str, off, len);
+                            }
+
+                            @Override
+                            public void close() throws IOException {
+                                sources.put(name.toString(), content.toString());
+                                super.close();
+                            }
+                        };
+                    }
+                };
+            }
+
+            @Override
+            public JavaFileObject createClassFile(CharSequence name, Element... elements) throws IOException {
+                return filer.createClassFile(name, elements);
+            }
+
+            @Override
+            public FileObject createResource(JavaFileManager.Location location, CharSequence moduleAndPkg, CharSequence relativeName, Element... elements) throws IOException {
+                originatingElements.put(relativeName.toString(), Arrays.stream(elements)
+                        .map(element -> ((TypeElement) element).getQualifiedName().toString())
+                        .toList());
+                return filer.createResource(location, moduleAndPkg, relativeName, elements);
+            }
+
+            @Override
+            public FileObject getResource(JavaFileManager.Location location, CharSequence moduleAndPkg, CharSequence relativeName) throws IOException {
+                return filer.getResource(location, moduleAndPkg, relativeName);
+            }
+        }
+    }
+
+    private record RecordingEnvironment(ProcessingEnvironment environment, Filer filer) implements ProcessingEnvironment {
+
+        @Override
+        public Map<String, String> getOptions() {
+            return environment.getOptions();
+        }
+
+        @Override
+        public Messager getMessager() {
+            return environment.getMessager();
+        }
+
+        @Override
+        public Filer getFiler() {
+            return filer;
+        }
+
+        @Override
+        public Elements getElementUtils() {
+            return environment.getElementUtils();
+        }
+
+        @Override
+        public Types getTypeUtils() {
+            return environment.getTypeUtils();
+        }
+
+        @Override
+        public SourceVersion getSourceVersion() {
+            return environment.getSourceVersion();
+        }
+
+        @Override
+        public Locale getLocale() {
+            return environment.getLocale();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package dev.kolacek.generator.test;
+
+import dev.kolacek.midpoint.codegen.annotation.ConnectorModel;
+import dev.kolacek.midpoint.codegen.annotation.NameField;
+import dev.kolacek.midpoint.codegen.annotation.UidField;
+
+@ConnectorModel(objectClassType = "inherited")
+public class InheritedSample extends InheritedSampleBase implements Described {
+
+    @UidField
+    @NameField
+    private String login;
+    private String description;
+}
+
+class InheritedSampleBase {
+
+    private String value;
+
+    public String getLogin() {
+        return value;
+    }
+
+    public void setLogin(String login) {
+        this.value = login;
+    }
+}
+
+interface Described {
+
+    default String getDescription() {
+        return "inherited";
+    }
+}
@@ -4,8 +4,10 @@ import dev.kolacek.midpoint.codegen.annotation.ConnectorAttribute;
 import dev.kolacek.midpoint.codegen.annotation.ConnectorModel;
 import dev.kolacek.midpoint.codegen.annotation.NameField;
 import dev.kolacek.midpoint.codegen.annotation.UidField;
+import dev.kolacek.midpoint.codegen.config.ValueOrder;
 
 import java.util.List;
+import java.util.Set;
 
 @ConnectorModel
 public class SampleClass {
@@ -21,6 +23,11 @@ public class SampleClass {
     private SampleEnum enumValue;
 //    private Integer[] intArrayValue;
     private List<String> listValue;
+    private Set<Integer> setValue;
+    @ConnectorAttribute(valueOrder = ValueOrder.ORDERED)
+    private String[] stringArrayValue;
+    private boolean active;
+    private byte[] photo;
 
     public String getName() {
         return name;
@@ -86,6 +93,38 @@ public class SampleClass {
         this.listValue = listValue;
     }
 
+    public Set<Integer> getSetValue() {
+        return setValue;
+    }
+
+    public void setSetValue(Set<Integer> setValue) {
+        this.setValue = setValue;
+    }
+
+    public String[] getStringArrayValue() {
+        return stringArrayValue;
+    }
+
+    public void setStringArrayValue(String[] stringArrayValue) {
+        this.stringArrayValue = stringArrayValue;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public byte[] getPhoto() {
+        return photo;
+    }
+
+    public void setPhoto(byte[] photo) {
+        this.photo = photo;
+    }
+
     public enum SampleEnum {
         VALUE1,
         VALUE2
@@ -0,0 +1,102 @@
+package dev.kolacek.generator.test;
+
+import dev.kolacek.midpoint.codegen.annotation.ConnectorAttribute;
+import dev.kolacek.midpoint.codegen.annotation.ConnectorModel;
+import dev.kolacek.midpoint.codegen.annotation.EnumAttribute;
+import dev.kolacek.midpoint.codegen.annotation.NameField;
+import dev.kolacek.midpoint.codegen.annotation.UidField;
+import dev.kolacek.midpoint.codegen.config.EmissionPolicy;
+
+import java.util.List;
+
+@ConnectorModel(objectClassType = "__GROUP__", emissionPolicy = EmissionPolicy.SKIP_NULL_AND_EMPTY)
+public class SparseSample {
+
+    @UidField
+    @NameField
+    private String name;
+    private String description;
+    private List<String> tags;
+    private String[] aliases;
+    @ConnectorAttribute(indexed = true)
+    private int level;
+    @ConnectorAttribute(emissionPolicy = EmissionPolicy.SKIP_NULL)
+    private String title;
+    @ConnectorAttribute(emissionPolicy = EmissionPolicy.EMIT_ALL)
+    private String note;
+    @EnumAttribute(toStringMethod = "code")
+    private Status status;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public String[] getAliases() {
+        return aliases;
+    }
+
+    public void setAliases(String[] aliases) {
+        this.aliases = aliases;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public void setNote(String note) {
+        this.note = note;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public enum Status {
+        ACTIVE,
+        SUSPENDED;
+
+        public String code() {
+            return name().toLowerCase();
+        }
+    }
+}
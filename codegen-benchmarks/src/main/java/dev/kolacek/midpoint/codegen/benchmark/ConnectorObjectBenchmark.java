@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.benchmark;
+
+import dev.kolacek.midpoint.codegen.benchmark.model.LargeModel;
+import dev.kolacek.midpoint.codegen.benchmark.model.LargeModelBuilders;
+import dev.kolacek.midpoint.codegen.benchmark.model.MediumModel;
+import dev.kolacek.midpoint.codegen.benchmark.model.MediumModelBuilders;
+import dev.kolacek.midpoint.codegen.benchmark.model.SmallModel;
+import dev.kolacek.midpoint.codegen.benchmark.model.SmallModelBuilders;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the generated {@code connectorObjectBuilder} with the hand-written conversion of the same model.
+ * <p>
+ * Run with {@code -prof gc} to see the allocated bytes per operation next to the throughput.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConnectorObjectBenchmark {
+
+    /**
+     * The number of attributes of the model.
+     */
+    @Param({"10", "60", "300"})
+    public int attributes;
+
+    private SmallModel smallModel;
+    private MediumModel mediumModel;
+    private LargeModel largeModel;
+
+    @Setup
+    public void setUp() {
+        smallModel = ModelFixtures.smallModel(1);
+        mediumModel = ModelFixtures.mediumModel(1);
+        largeModel = ModelFixtures.largeModel(1);
+    }
+
+    @Benchmark
+    public ConnectorObject generated() {
+        return switch (attributes) {
+            case 10 -> SmallModelBuilders.connectorObjectBuilder(smallModel).build();
+            case 60 -> MediumModelBuilders.connectorObjectBuilder(mediumModel).build();
+            default -> LargeModelBuilders.connectorObjectBuilder(largeModel).build();
+        };
+    }
+
+    @Benchmark
+    public ConnectorObject handWritten() {
+        return switch (attributes) {
+            case 10 -> HandWrittenConverters.toConnectorObject(smallModel);
+            case 60 -> HandWrittenConverters.toConnectorObject(mediumModel);
+            default -> HandWrittenConverters.toConnectorObject(largeModel);
+        };
+    }
+}
@@ -0,0 +1,822 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kolacek.midpoint.codegen.benchmark;
+
+import dev.kolacek.midpoint.codegen.benchmark.model.LargeModel;
+import dev.kolacek.midpoint.codegen.benchmark.model.MediumModel;
+import dev.kolacek.midpoint.codegen.benchmark.model.SmallModel;
+import dev.kolacek.midpoint.codegen.util.ObjectClassInfoBuilderUtil;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.ObjectClassInfo;
+import org.identityconnectors.framework.common.objects.ObjectClassInfoBuilder;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The conversions of the benchmark models as they are usually written by hand in ConnId connectors, the baseline of the
+ * generated code.
+ */
+public final class HandWrittenConverters {
+
+    private HandWrittenConverters() {
+    }
+
+    public static ConnectorObject toConnectorObject(SmallModel model) {
+        ConnectorObjectBuilder builder = new ConnectorObjectBuilder();
+        builder.setObjectClass(ObjectClass.ACCOUNT);
+        builder.setUid(model.getId());
+        builder.setName(model.getLogin());
+        builder.addAttribute("id", model.getId());
+        builder.addAttribute("login", model.getLogin());
+        builder.addAttribute("text002", model.getText002());
+        builder.addAttribute("text003", model.getText003());
+        builder.addAttribute("count004", model.getCount004());
+        builder.addAttribute("stamp005", model.getStamp005());
+        builder.addAttribute("flag006", model.isFlag006());
+        builder.addAttribute("number007", model.getNumber007());
+        builder.addAttribute("list008", model.getList008());
+        builder.addAttribute("set009", model.getSet009());
+        return builder.build();
+    }
+
+    public static ObjectClassInfo smallObjectClassInfo() {
+        ObjectClassInfoBuilder builder = new ObjectClassInfoBuilder();
+        builder.setType(ObjectClass.ACCOUNT_NAME);
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("id", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("login", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text002", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text003", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count004", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp005", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag006", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number007", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list008", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set009", false, String.class, true));
+        return builder.build();
+    }
+
+    public static ConnectorObject toConnectorObject(MediumModel model) {
+        ConnectorObjectBuilder builder = new ConnectorObjectBuilder();
+        builder.setObjectClass(ObjectClass.ACCOUNT);
+        builder.setUid(model.getId());
+        builder.setName(model.getLogin());
+        builder.addAttribute("id", model.getId());
+        builder.addAttribute("login", model.getLogin());
+        builder.addAttribute("text002", model.getText002());
+        builder.addAttribute("text003", model.getText003());
+        builder.addAttribute("count004", model.getCount004());
+        builder.addAttribute("stamp005", model.getStamp005());
+        builder.addAttribute("flag006", model.isFlag006());
+        builder.addAttribute("number007", model.getNumber007());
+        builder.addAttribute("list008", model.getList008());
+        builder.addAttribute("set009", model.getSet009());
+        builder.addAttribute("status010", model.getStatus010() == null ? null : model.getStatus010().name());
+        builder.addAttribute("region011", model.getRegion011() == null ? null : model.getRegion011().name());
+        builder.addAttribute("text012", model.getText012());
+        builder.addAttribute("text013", model.getText013());
+        builder.addAttribute("count014", model.getCount014());
+        builder.addAttribute("stamp015", model.getStamp015());
+        builder.addAttribute("flag016", model.isFlag016());
+        builder.addAttribute("number017", model.getNumber017());
+        builder.addAttribute("list018", model.getList018());
+        builder.addAttribute("set019", model.getSet019());
+        builder.addAttribute("status020", model.getStatus020() == null ? null : model.getStatus020().name());
+        builder.addAttribute("region021", model.getRegion021() == null ? null : model.getRegion021().name());
+        builder.addAttribute("text022", model.getText022());
+        builder.addAttribute("text023", model.getText023());
+        builder.addAttribute("count024", model.getCount024());
+        builder.addAttribute("stamp025", model.getStamp025());
+        builder.addAttribute("flag026", model.isFlag026());
+        builder.addAttribute("number027", model.getNumber027());
+        builder.addAttribute("list028", model.getList028());
+        builder.addAttribute("set029", model.getSet029());
+        builder.addAttribute("status030", model.getStatus030() == null ? null : model.getStatus030().name());
+        builder.addAttribute("region031", model.getRegion031() == null ? null : model.getRegion031().name());
+        builder.addAttribute("text032", model.getText032());
+        builder.addAttribute("text033", model.getText033());
+        builder.addAttribute("count034", model.getCount034());
+        builder.addAttribute("stamp035", model.getStamp035());
+        builder.addAttribute("flag036", model.isFlag036());
+        builder.addAttribute("number037", model.getNumber037());
+        builder.addAttribute("list038", model.getList038());
+        builder.addAttribute("set039", model.getSet039());
+        builder.addAttribute("status040", model.getStatus040() == null ? null : model.getStatus040().name());
+        builder.addAttribute("region041", model.getRegion041() == null ? null : model.getRegion041().name());
+        builder.addAttribute("text042", model.getText042());
+        builder.addAttribute("text043", model.getText043());
+        builder.addAttribute("count044", model.getCount044());
+        builder.addAttribute("stamp045", model.getStamp045());
+        builder.addAttribute("flag046", model.isFlag046());
+        builder.addAttribute("number047", model.getNumber047());
+        builder.addAttribute("list048", model.getList048());
+        builder.addAttribute("set049", model.getSet049());
+        builder.addAttribute("status050", model.getStatus050() == null ? null : model.getStatus050().name());
+        builder.addAttribute("region051", model.getRegion051() == null ? null : model.getRegion051().name());
+        builder.addAttribute("text052", model.getText052());
+        builder.addAttribute("text053", model.getText053());
+        builder.addAttribute("count054", model.getCount054());
+        builder.addAttribute("stamp055", model.getStamp055());
+        builder.addAttribute("flag056", model.isFlag056());
+        builder.addAttribute("number057", model.getNumber057());
+        builder.addAttribute("list058", model.getList058());
+        builder.addAttribute("set059", model.getSet059());
+        return builder.build();
+    }
+
+    public static ObjectClassInfo mediumObjectClassInfo() {
+        ObjectClassInfoBuilder builder = new ObjectClassInfoBuilder();
+        builder.setType(ObjectClass.ACCOUNT_NAME);
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("id", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("login", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text002", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text003", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count004", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp005", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag006", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number007", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list008", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set009", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status010", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region011", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text012", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text013", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count014", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp015", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag016", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number017", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list018", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set019", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status020", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region021", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text022", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text023", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count024", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp025", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag026", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number027", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list028", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set029", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status030", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region031", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text032", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text033", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count034", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp035", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag036", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number037", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list038", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set039", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status040", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region041", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text042", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text043", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count044", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp045", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag046", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number047", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list048", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set049", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status050", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region051", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text052", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text053", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count054", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp055", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag056", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number057", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list058", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set059", false, String.class, true));
+        return builder.build();
+    }
+
+    public static ConnectorObject toConnectorObject(LargeModel model) {
+        ConnectorObjectBuilder builder = new ConnectorObjectBuilder();
+        builder.setObjectClass(ObjectClass.ACCOUNT);
+        builder.setUid(model.getId());
+        builder.setName(model.getLogin());
+        builder.addAttribute("id", model.getId());
+        builder.addAttribute("login", model.getLogin());
+        builder.addAttribute("text002", model.getText002());
+        builder.addAttribute("text003", model.getText003());
+        builder.addAttribute("count004", model.getCount004());
+        builder.addAttribute("stamp005", model.getStamp005());
+        builder.addAttribute("flag006", model.isFlag006());
+        builder.addAttribute("number007", model.getNumber007());
+        builder.addAttribute("list008", model.getList008());
+        builder.addAttribute("set009", model.getSet009());
+        builder.addAttribute("status010", model.getStatus010() == null ? null : model.getStatus010().name());
+        builder.addAttribute("region011", model.getRegion011() == null ? null : model.getRegion011().name());
+        builder.addAttribute("text012", model.getText012());
+        builder.addAttribute("text013", model.getText013());
+        builder.addAttribute("count014", model.getCount014());
+        builder.addAttribute("stamp015", model.getStamp015());
+        builder.addAttribute("flag016", model.isFlag016());
+        builder.addAttribute("number017", model.getNumber017());
+        builder.addAttribute("list018", model.getList018());
+        builder.addAttribute("set019", model.getSet019());
+        builder.addAttribute("status020", model.getStatus020() == null ? null : model.getStatus020().name());
+        builder.addAttribute("region021", model.getRegion021() == null ? null : model.getRegion021().name());
+        builder.addAttribute("text022", model.getText022());
+        builder.addAttribute("text023", model.getText023());
+        builder.addAttribute("count024", model.getCount024());
+        builder.addAttribute("stamp025", model.getStamp025());
+        builder.addAttribute("flag026", model.isFlag026());
+        builder.addAttribute("number027", model.getNumber027());
+        builder.addAttribute("list028", model.getList028());
+        builder.addAttribute("set029", model.getSet029());
+        builder.addAttribute("status030", model.getStatus030() == null ? null : model.getStatus030().name());
+        builder.addAttribute("region031", model.getRegion031() == null ? null : model.getRegion031().name());
+        builder.addAttribute("text032", model.getText032());
+        builder.addAttribute("text033", model.getText033());
+        builder.addAttribute("count034", model.getCount034());
+        builder.addAttribute("stamp035", model.getStamp035());
+        builder.addAttribute("flag036", model.isFlag036());
+        builder.addAttribute("number037", model.getNumber037());
+        builder.addAttribute("list038", model.getList038());
+        builder.addAttribute("set039", model.getSet039());
+        builder.addAttribute("status040", model.getStatus040() == null ? null : model.getStatus040().name());
+        builder.addAttribute("region041", model.getRegion041() == null ? null : model.getRegion041().name());
+        builder.addAttribute("text042", model.getText042());
+        builder.addAttribute("text043", model.getText043());
+        builder.addAttribute("count044", model.getCount044());
+        builder.addAttribute("stamp045", model.getStamp045());
+        builder.addAttribute("flag046", model.isFlag046());
+        builder.addAttribute("number047", model.getNumber047());
+        builder.addAttribute("list048", model.getList048());
+        builder.addAttribute("set049", model.getSet049());
+        builder.addAttribute("status050", model.getStatus050() == null ? null : model.getStatus050().name());
+        builder.addAttribute("region051", model.getRegion051() == null ? null : model.getRegion051().name());
+        builder.addAttribute("text052", model.getText052());
+        builder.addAttribute("text053", model.getText053());
+        builder.addAttribute("count054", model.getCount054());
+        builder.addAttribute("stamp055", model.getStamp055());
+        builder.addAttribute("flag056", model.isFlag056());
+        builder.addAttribute("number057", model.getNumber057());
+        builder.addAttribute("list058", model.getList058());
+        builder.addAttribute("set059", model.getSet059());
+        builder.addAttribute("status060", model.getStatus060() == null ? null : model.getStatus060().name());
+        builder.addAttribute("region061", model.getRegion061() == null ? null : model.getRegion061().name());
+        builder.addAttribute("text062", model.getText062());
+        builder.addAttribute("text063", model.getText063());
+        builder.addAttribute("count064", model.getCount064());
+        builder.addAttribute("stamp065", model.getStamp065());
+        builder.addAttribute("flag066", model.isFlag066());
+        builder.addAttribute("number067", model.getNumber067());
+        builder.addAttribute("list068", model.getList068());
+        builder.addAttribute("set069", model.getSet069());
+        builder.addAttribute("status070", model.getStatus070() == null ? null : model.getStatus070().name());
+        builder.addAttribute("region071", model.getRegion071() == null ? null : model.getRegion071().name());
+        builder.addAttribute("text072", model.getText072());
+        builder.addAttribute("text073", model.getText073());
+        builder.addAttribute("count074", model.getCount074());
+        builder.addAttribute("stamp075", model.getStamp075());
+        builder.addAttribute("flag076", model.isFlag076());
+        builder.addAttribute("number077", model.getNumber077());
+        builder.addAttribute("list078", model.getList078());
+        builder.addAttribute("set079", model.getSet079());
+        builder.addAttribute("status080", model.getStatus080() == null ? null : model.getStatus080().name());
+        builder.addAttribute("region081", model.getRegion081() == null ? null : model.getRegion081().name());
+        builder.addAttribute("text082", model.getText082());
+        builder.addAttribute("text083", model.getText083());
+        builder.addAttribute("count084", model.getCount084());
+        builder.addAttribute("stamp085", model.getStamp085());
+        builder.addAttribute("flag086", model.isFlag086());
+        builder.addAttribute("number087", model.getNumber087());
+        builder.addAttribute("list088", model.getList088());
+        builder.addAttribute("set089", model.getSet089());
+        builder.addAttribute("status090", model.getStatus090() == null ? null : model.getStatus090().name());
+        builder.addAttribute("region091", model.getRegion091() == null ? null : model.getRegion091().name());
+        builder.addAttribute("text092", model.getText092());
+        builder.addAttribute("text093", model.getText093());
+        builder.addAttribute("count094", model.getCount094());
+        builder.addAttribute("stamp095", model.getStamp095());
+        builder.addAttribute("flag096", model.isFlag096());
+        builder.addAttribute("number097", model.getNumber097());
+        builder.addAttribute("list098", model.getList098());
+        builder.addAttribute("set099", model.getSet099());
+        builder.addAttribute("status100", model.getStatus100() == null ? null : model.getStatus100().name());
+        builder.addAttribute("region101", model.getRegion101() == null ? null : model.getRegion101().name());
+        builder.addAttribute("text102", model.getText102());
+        builder.addAttribute("text103", model.getText103());
+        builder.addAttribute("count104", model.getCount104());
+        builder.addAttribute("stamp105", model.getStamp105());
+        builder.addAttribute("flag106", model.isFlag106());
+        builder.addAttribute("number107", model.getNumber107());
+        builder.addAttribute("list108", model.getList108());
+        builder.addAttribute("set109", model.getSet109());
+        builder.addAttribute("status110", model.getStatus110() == null ? null : model.getStatus110().name());
+        builder.addAttribute("region111", model.getRegion111() == null ? null : model.getRegion111().name());
+        builder.addAttribute("text112", model.getText112());
+        builder.addAttribute("text113", model.getText113());
+        builder.addAttribute("count114", model.getCount114());
+        builder.addAttribute("stamp115", model.getStamp115());
+        builder.addAttribute("flag116", model.isFlag116());
+        builder.addAttribute("number117", model.getNumber117());
+        builder.addAttribute("list118", model.getList118());
+        builder.addAttribute("set119", model.getSet119());
+        builder.addAttribute("status120", model.getStatus120() == null ? null : model.getStatus120().name());
+        builder.addAttribute("region121", model.getRegion121() == null ? null : model.getRegion121().name());
+        builder.addAttribute("text122", model.getText122());
+        builder.addAttribute("text123", model.getText123());
+        builder.addAttribute("count124", model.getCount124());
+        builder.addAttribute("stamp125", model.getStamp125());
+        builder.addAttribute("flag126", model.isFlag126());
+        builder.addAttribute("number127", model.getNumber127());
+        builder.addAttribute("list128", model.getList128());
+        builder.addAttribute("set129", model.getSet129());
+        builder.addAttribute("status130", model.getStatus130() == null ? null : model.getStatus130().name());
+        builder.addAttribute("region131", model.getRegion131() == null ? null : model.getRegion131().name());
+        builder.addAttribute("text132", model.getText132());
+        builder.addAttribute("text133", model.getText133());
+        builder.addAttribute("count134", model.getCount134());
+        builder.addAttribute("stamp135", model.getStamp135());
+        builder.addAttribute("flag136", model.isFlag136());
+        builder.addAttribute("number137", model.getNumber137());
+        builder.addAttribute("list138", model.getList138());
+        builder.addAttribute("set139", model.getSet139());
+        builder.addAttribute("status140", model.getStatus140() == null ? null : model.getStatus140().name());
+        builder.addAttribute("region141", model.getRegion141() == null ? null : model.getRegion141().name());
+        builder.addAttribute("text142", model.getText142());
+        builder.addAttribute("text143", model.getText143());
+        builder.addAttribute("count144", model.getCount144());
+        builder.addAttribute("stamp145", model.getStamp145());
+        builder.addAttribute("flag146", model.isFlag146());
+        builder.addAttribute("number147", model.getNumber147());
+        builder.addAttribute("list148", model.getList148());
+        builder.addAttribute("set149", model.getSet149());
+        builder.addAttribute("status150", model.getStatus150() == null ? null : model.getStatus150().name());
+        builder.addAttribute("region151", model.getRegion151() == null ? null : model.getRegion151().name());
+        builder.addAttribute("text152", model.getText152());
+        builder.addAttribute("text153", model.getText153());
+        builder.addAttribute("count154", model.getCount154());
+        builder.addAttribute("stamp155", model.getStamp155());
+        builder.addAttribute("flag156", model.isFlag156());
+        builder.addAttribute("number157", model.getNumber157());
+        builder.addAttribute("list158", model.getList158());
+        builder.addAttribute("set159", model.getSet159());
+        builder.addAttribute("status160", model.getStatus160() == null ? null : model.getStatus160().name());
+        builder.addAttribute("region161", model.getRegion161() == null ? null : model.getRegion161().name());
+        builder.addAttribute("text162", model.getText162());
+        builder.addAttribute("text163", model.getText163());
+        builder.addAttribute("count164", model.getCount164());
+        builder.addAttribute("stamp165", model.getStamp165());
+        builder.addAttribute("flag166", model.isFlag166());
+        builder.addAttribute("number167", model.getNumber167());
+        builder.addAttribute("list168", model.getList168());
+        builder.addAttribute("set169", model.getSet169());
+        builder.addAttribute("status170", model.getStatus170() == null ? null : model.getStatus170().name());
+        builder.addAttribute("region171", model.getRegion171() == null ? null : model.getRegion171().name());
+        builder.addAttribute("text172", model.getText172());
+        builder.addAttribute("text173", model.getText173());
+        builder.addAttribute("count174", model.getCount174());
+        builder.addAttribute("stamp175", model.getStamp175());
+        builder.addAttribute("flag176", model.isFlag176());
+        builder.addAttribute("number177", model.getNumber177());
+        builder.addAttribute("list178", model.getList178());
+        builder.addAttribute("set179", model.getSet179());
+        builder.addAttribute("status180", model.getStatus180() == null ? null : model.getStatus180().name());
+        builder.addAttribute("region181", model.getRegion181() == null ? null : model.getRegion181().name());
+        builder.addAttribute("text182", model.getText182());
+        builder.addAttribute("text183", model.getText183());
+        builder.addAttribute("count184", model.getCount184());
+        builder.addAttribute("stamp185", model.getStamp185());
+        builder.addAttribute("flag186", model.isFlag186());
+        builder.addAttribute("number187", model.getNumber187());
+        builder.addAttribute("list188", model.getList188());
+        builder.addAttribute("set189", model.getSet189());
+        builder.addAttribute("status190", model.getStatus190() == null ? null : model.getStatus190().name());
+        builder.addAttribute("region191", model.getRegion191() == null ? null : model.getRegion191().name());
+        builder.addAttribute("text192", model.getText192());
+        builder.addAttribute("text193", model.getText193());
+        builder.addAttribute("count194", model.getCount194());
+        builder.addAttribute("stamp195", model.getStamp195());
+        builder.addAttribute("flag196", model.isFlag196());
+        builder.addAttribute("number197", model.getNumber197());
+        builder.addAttribute("list198", model.getList198());
+        builder.addAttribute("set199", model.getSet199());
+        builder.addAttribute("status200", model.getStatus200() == null ? null : model.getStatus200().name());
+        builder.addAttribute("region201", model.getRegion201() == null ? null : model.getRegion201().name());
+        builder.addAttribute("text202", model.getText202());
+        builder.addAttribute("text203", model.getText203());
+        builder.addAttribute("count204", model.getCount204());
+        builder.addAttribute("stamp205", model.getStamp205());
+        builder.addAttribute("flag206", model.isFlag206());
+        builder.addAttribute("number207", model.getNumber207());
+        builder.addAttribute("list208", model.getList208());
+        builder.addAttribute("set209", model.getSet209());
+        builder.addAttribute("status210", model.getStatus210() == null ? null : model.getStatus210().name());
+        builder.addAttribute("region211", model.getRegion211() == null ? null : model.getRegion211().name());
+        builder.addAttribute("text212", model.getText212());
+        builder.addAttribute("text213", model.getText213());
+        builder.addAttribute("count214", model.getCount214());
+        builder.addAttribute("stamp215", model.getStamp215());
+        builder.addAttribute("flag216", model.isFlag216());
+        builder.addAttribute("number217", model.getNumber217());
+        builder.addAttribute("list218", model.getList218());
+        builder.addAttribute("set219", model.getSet219());
+        builder.addAttribute("status220", model.getStatus220() == null ? null : model.getStatus220().name());
+        builder.addAttribute("region221", model.getRegion221() == null ? null : model.getRegion221().name());
+        builder.addAttribute("text222", model.getText222());
+        builder.addAttribute("text223", model.getText223());
+        builder.addAttribute("count224", model.getCount224());
+        builder.addAttribute("stamp225", model.getStamp225());
+        builder.addAttribute("flag226", model.isFlag226());
+        builder.addAttribute("number227", model.getNumber227());
+        builder.addAttribute("list228", model.getList228());
+        builder.addAttribute("set229", model.getSet229());
+        builder.addAttribute("status230", model.getStatus230() == null ? null : model.getStatus230().name());
+        builder.addAttribute("region231", model.getRegion231() == null ? null : model.getRegion231().name());
+        builder.addAttribute("text232", model.getText232());
+        builder.addAttribute("text233", model.getText233());
+        builder.addAttribute("count234", model.getCount234());
+        builder.addAttribute("stamp235", model.getStamp235());
+        builder.addAttribute("flag236", model.isFlag236());
+        builder.addAttribute("number237", model.getNumber237());
+        builder.addAttribute("list238", model.getList238());
+        builder.addAttribute("set239", model.getSet239());
+        builder.addAttribute("status240", model.getStatus240() == null ? null : model.getStatus240().name());
+        builder.addAttribute("region241", model.getRegion241() == null ? null : model.getRegion241().name());
+        builder.addAttribute("text242", model.getText242());
+        builder.addAttribute("text243", model.getText243());
+        builder.addAttribute("count244", model.getCount244());
+        builder.addAttribute("stamp245", model.getStamp245());
+        builder.addAttribute("flag246", model.isFlag246());
+        builder.addAttribute("number247", model.getNumber247());
+        builder.addAttribute("list248", model.getList248());
+        builder.addAttribute("set249", model.getSet249());
+        builder.addAttribute("status250", model.getStatus250() == null ? null : model.getStatus250().name());
+        builder.addAttribute("region251", model.getRegion251() == null ? null : model.getRegion251().name());
+        builder.addAttribute("text252", model.getText252());
+        builder.addAttribute("text253", model.getText253());
+        builder.addAttribute("count254", model.getCount254());
+        builder.addAttribute("stamp255", model.getStamp255());
+        builder.addAttribute("flag256", model.isFlag256());
+        builder.addAttribute("number257", model.getNumber257());
+        builder.addAttribute("list258", model.getList258());
+        builder.addAttribute("set259", model.getSet259());
+        builder.addAttribute("status260", model.getStatus260() == null ? null : model.getStatus260().name());
+        builder.addAttribute("region261", model.getRegion261() == null ? null : model.getRegion261().name());
+        builder.addAttribute("text262", model.getText262());
+        builder.addAttribute("text263", model.getText263());
+        builder.addAttribute("count264", model.getCount264());
+        builder.addAttribute("stamp265", model.getStamp265());
+        builder.addAttribute("flag266", model.isFlag266());
+        builder.addAttribute("number267", model.getNumber267());
+        builder.addAttribute("list268", model.getList268());
+        builder.addAttribute("set269", model.getSet269());
+        builder.addAttribute("status270", model.getStatus270() == null ? null : model.getStatus270().name());
+        builder.addAttribute("region271", model.getRegion271() == null ? null : model.getRegion271().name());
+        builder.addAttribute("text272", model.getText272());
+        builder.addAttribute("text273", model.getText273());
+        builder.addAttribute("count274", model.getCount274());
+        builder.addAttribute("stamp275", model.getStamp275());
+        builder.addAttribute("flag276", model.isFlag276());
+        builder.addAttribute("number277", model.getNumber277());
+        builder.addAttribute("list278", model.getList278());
+        builder.addAttribute("set279", model.getSet279());
+        builder.addAttribute("status280", model.getStatus280() == null ? null : model.getStatus280().name());
+        builder.addAttribute("region281", model.getRegion281() == null ? null : model.getRegion281().name());
+        builder.addAttribute("text282", model.getText282());
+        builder.addAttribute("text283", model.getText283());
+        builder.addAttribute("count284", model.getCount284());
+        builder.addAttribute("stamp285", model.getStamp285());
+        builder.addAttribute("flag286", model.isFlag286());
+        builder.addAttribute("number287", model.getNumber287());
+        builder.addAttribute("list288", model.getList288());
+        builder.addAttribute("set289", model.getSet289());
+        builder.addAttribute("status290", model.getStatus290() == null ? null : model.getStatus290().name());
+        builder.addAttribute("region291", model.getRegion291() == null ? null : model.getRegion291().name());
+        builder.addAttribute("text292", model.getText292());
+        builder.addAttribute("text293", model.getText293());
+        builder.addAttribute("count294", model.getCount294());
+        builder.addAttribute("stamp295", model.getStamp295());
+        builder.addAttribute("flag296", model.isFlag296());
+        builder.addAttribute("number297", model.getNumber297());
+        builder.addAttribute("list298", model.getList298());
+        builder.addAttribute("set299", model.getSet299());
+        return builder.build();
+    }
+
+    public static ObjectClassInfo largeObjectClassInfo() {
+        ObjectClassInfoBuilder builder = new ObjectClassInfoBuilder();
+        builder.setType(ObjectClass.ACCOUNT_NAME);
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("id", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("login", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text002", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text003", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count004", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp005", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag006", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number007", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list008", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set009", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status010", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region011", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text012", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text013", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count014", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp015", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag016", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number017", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list018", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set019", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status020", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region021", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text022", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text023", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count024", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp025", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag026", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number027", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list028", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set029", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status030", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region031", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text032", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text033", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count034", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp035", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag036", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number037", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list038", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set039", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status040", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region041", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text042", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text043", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count044", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp045", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag046", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number047", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list048", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set049", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status050", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region051", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text052", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text053", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count054", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp055", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag056", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number057", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list058", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set059", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status060", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region061", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text062", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text063", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count064", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp065", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag066", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number067", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list068", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set069", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status070", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region071", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text072", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text073", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count074", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp075", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag076", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number077", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list078", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set079", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status080", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region081", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text082", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text083", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count084", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp085", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag086", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number087", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list088", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set089", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status090", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region091", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text092", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text093", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count094", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp095", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag096", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number097", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list098", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set099", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status100", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region101", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text102", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text103", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count104", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp105", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag106", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number107", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list108", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set109", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status110", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region111", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text112", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text113", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count114", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp115", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag116", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number117", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list118", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set119", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status120", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region121", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text122", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text123", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count124", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp125", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag126", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number127", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list128", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set129", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status130", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region131", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text132", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text133", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count134", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp135", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag136", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number137", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list138", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set139", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status140", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region141", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text142", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text143", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count144", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp145", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag146", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number147", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list148", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set149", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status150", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region151", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text152", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text153", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count154", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp155", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag156", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number157", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list158", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set159", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status160", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region161", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text162", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text163", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count164", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp165", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag166", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number167", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list168", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set169", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status170", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region171", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text172", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text173", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count174", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp175", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag176", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number177", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list178", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set179", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status180", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region181", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text182", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text183", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count184", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp185", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag186", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number187", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list188", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set189", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status190", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region191", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text192", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text193", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count194", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp195", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag196", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number197", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list198", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set199", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status200", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region201", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text202", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text203", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count204", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp205", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag206", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number207", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list208", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set209", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status210", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region211", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text212", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text213", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count214", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp215", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag216", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number217", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list218", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set219", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status220", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region221", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text222", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text223", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count224", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp225", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag226", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number227", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list228", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set229", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status230", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region231", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text232", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text233", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count234", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp235", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag236", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number237", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list238", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set239", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status240", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region241", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text242", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text243", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count244", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp245", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag246", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number247", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list248", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set249", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status250", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region251", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text252", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text253", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count254", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp255", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag256", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number257", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list258", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set259", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status260", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region261", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text262", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text263", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count264", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp265", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag266", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number267", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list268", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set269", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status270", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region271", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text272", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text273", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count274", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp275", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag276", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number277", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list278", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set279", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status280", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region281", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text282", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text283", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count284", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp285", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag286", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number287", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list288", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set289", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("status290", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("region291", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text292", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("text293", false, String.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("count294", false, int.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("stamp295", false, long.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("flag296", false, boolean.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("number297", false, Integer.class, false));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("list298", false, String.class, true));
+        builder.addAttributeInfo(ObjectClassInfoBuilderUtil.createAttributeInfo("set299", false, String.class, true));
+        return builder.build();
+    }
+}
@@ -0,0 +1,420 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kolacek.midpoint.codegen.benchmark;
+
+import dev.kolacek.midpoint.codegen.benchmark.model.AccountStatus;
+import dev.kolacek.midpoint.codegen.benchmark.model.LargeModel;
+import dev.kolacek.midpoint.codegen.benchmark.model.MediumModel;
+import dev.kolacek.midpoint.codegen.benchmark.model.Region;
+import dev.kolacek.midpoint.codegen.benchmark.model.SmallModel;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Creates the benchmark models with all attributes set, multivalued attributes have three values.
+ */
+public final class ModelFixtures {
+
+    private ModelFixtures() {
+    }
+
+    public static SmallModel smallModel(int seed) {
+        SmallModel model = new SmallModel();
+        model.setId("id-" + seed);
+        model.setLogin("login-" + seed);
+        model.setText002("text002-" + seed);
+        model.setText003("text003-" + seed);
+        model.setCount004(seed + 4);
+        model.setStamp005(1_700_000_000_000L + seed + 5);
+        model.setFlag006(seed % 2 == 6 % 2);
+        model.setNumber007(seed + 7);
+        model.setList008(List.of("list008-a", "list008-b", "list008-c"));
+        model.setSet009(new LinkedHashSet<>(List.of("set009-a", "set009-b", "set009-c")));
+        return model;
+    }
+
+    public static MediumModel mediumModel(int seed) {
+        MediumModel model = new MediumModel();
+        model.setId("id-" + seed);
+        model.setLogin("login-" + seed);
+        model.setText002("text002-" + seed);
+        model.setText003("text003-" + seed);
+        model.setCount004(seed + 4);
+        model.setStamp005(1_700_000_000_000L + seed + 5);
+        model.setFlag006(seed % 2 == 6 % 2);
+        model.setNumber007(seed + 7);
+        model.setList008(List.of("list008-a", "list008-b", "list008-c"));
+        model.setSet009(new LinkedHashSet<>(List.of("set009-a", "set009-b", "set009-c")));
+        model.setStatus010(AccountStatus.values()[(seed + 10) % AccountStatus.values().length]);
+        model.setRegion011(Region.values()[(seed + 11) % Region.values().length]);
+        model.setText012("text012-" + seed);
+        model.setText013("text013-" + seed);
+        model.setCount014(seed + 14);
+        model.setStamp015(1_700_000_000_000L + seed + 15);
+        model.setFlag016(seed % 2 == 16 % 2);
+        model.setNumber017(seed + 17);
+        model.setList018(List.of("list018-a", "list018-b", "list018-c"));
+        model.setSet019(new LinkedHashSet<>(List.of("set019-a", "set019-b", "set019-c")));
+        model.setStatus020(AccountStatus.values()[(seed + 20) % AccountStatus.values().length]);
+        model.setRegion021(Region.values()[(seed + 21) % Region.values().length]);
+        model.setText022("text022-" + seed);
+        model.setText023("text023-" + seed);
+        model.setCount024(seed + 24);
+        model.setStamp025(1_700_000_000_000L + seed + 25);
+        model.setFlag026(seed % 2 == 26 % 2);
+        model.setNumber027(seed + 27);
+        model.setList028(List.of("list028-a", "list028-b", "list028-c"));
+        model.setSet029(new LinkedHashSet<>(List.of("set029-a", "set029-b", "set029-c")));
+        model.setStatus030(AccountStatus.values()[(seed + 30) % AccountStatus.values().length]);
+        model.setRegion031(Region.values()[(seed + 31) % Region.values().length]);
+        model.setText032("text032-" + seed);
+        model.setText033("text033-" + seed);
+        model.setCount034(seed + 34);
+        model.setStamp035(1_700_000_000_000L + seed + 35);
+        model.setFlag036(seed % 2 == 36 % 2);
+        model.setNumber037(seed + 37);
+        model.setList038(List.of("list038-a", "list038-b", "list038-c"));
+        model.setSet039(new LinkedHashSet<>(List.of("set039-a", "set039-b", "set039-c")));
+        model.setStatus040(AccountStatus.values()[(seed + 40) % AccountStatus.values().length]);
+        model.setRegion041(Region.values()[(seed + 41) % Region.values().length]);
+        model.setText042("text042-" + seed);
+        model.setText043("text043-" + seed);
+        model.setCount044(seed + 44);
+        model.setStamp045(1_700_000_000_000L + seed + 45);
+        model.setFlag046(seed % 2 == 46 % 2);
+        model.setNumber047(seed + 47);
+        model.setList048(List.of("list048-a", "list048-b", "list048-c"));
+        model.setSet049(new LinkedHashSet<>(List.of("set049-a", "set049-b", "set049-c")));
+        model.setStatus050(AccountStatus.values()[(seed + 50) % AccountStatus.values().length]);
+        model.setRegion051(Region.values()[(seed + 51) % Region.values().length]);
+        model.setText052("text052-" + seed);
+        model.setText053("text053-" + seed);
+        model.setCount054(seed + 54);
+        model.setStamp055(1_700_000_000_000L + seed + 55);
+        model.setFlag056(seed % 2 == 56 % 2);
+        model.setNumber057(seed + 57);
+        model.setList058(List.of("list058-a", "list058-b", "list058-c"));
+        model.setSet059(new LinkedHashSet<>(List.of("set059-a", "set059-b", "set059-c")));
+        return model;
+    }
+
+    public static LargeModel largeModel(int seed) {
+        LargeModel model = new LargeModel();
+        model.setId("id-" + seed);
+        model.setLogin("login-" + seed);
+        model.setText002("text002-" + seed);
+        model.setText003("text003-" + seed);
+        model.setCount004(seed + 4);
+        model.setStamp005(1_700_000_000_000L + seed + 5);
+        model.setFlag006(seed % 2 == 6 % 2);
+        model.setNumber007(seed + 7);
+        model.setList008(List.of("list008-a", "list008-b", "list008-c"));
+        model.setSet009(new LinkedHashSet<>(List.of("set009-a", "set009-b", "set009-c")));
+        model.setStatus010(AccountStatus.values()[(seed + 10) % AccountStatus.values().length]);
+        model.setRegion011(Region.values()[(seed + 11) % Region.values().length]);
+        model.setText012("text012-" + seed);
+        model.setText013("text013-" + seed);
+        model.setCount014(seed + 14);
+        model.setStamp015(1_700_000_000_000L + seed + 15);
+        model.setFlag016(seed % 2 == 16 % 2);
+        model.setNumber017(seed + 17);
+        model.setList018(List.of("list018-a", "list018-b", "list018-c"));
+        model.setSet019(new LinkedHashSet<>(List.of("set019-a", "set019-b", "set019-c")));
+        model.setStatus020(AccountStatus.values()[(seed + 20) % AccountStatus.values().length]);
+        model.setRegion021(Region.values()[(seed + 21) % Region.values().length]);
+        model.setText022("text022-" + seed);
+        model.setText023("text023-" + seed);
+        model.setCount024(seed + 24);
+        model.setStamp025(1_700_000_000_000L + seed + 25);
+        model.setFlag026(seed % 2 == 26 % 2);
+        model.setNumber027(seed + 27);
+        model.setList028(List.of("list028-a", "list028-b", "list028-c"));
+        model.setSet029(new LinkedHashSet<>(List.of("set029-a", "set029-b", "set029-c")));
+        model.setStatus030(AccountStatus.values()[(seed + 30) % AccountStatus.values().length]);
+        model.setRegion031(Region.values()[(seed + 31) % Region.values().length]);
+        model.setText032("text032-" + seed);
+        model.setText033("text033-" + seed);
+        model.setCount034(seed + 34);
+        model.setStamp035(1_700_000_000_000L + seed + 35);
+        model.setFlag036(seed % 2 == 36 % 2);
+        model.setNumber037(seed + 37);
+        model.setList038(List.of("list038-a", "list038-b", "list038-c"));
+        model.setSet039(new LinkedHashSet<>(List.of("set039-a", "set039-b", "set039-c")));
+        model.setStatus040(AccountStatus.values()[(seed + 40) % AccountStatus.values().length]);
+        model.setRegion041(Region.values()[(seed + 41) % Region.values().length]);
+        model.setText042("text042-" + seed);
+        model.setText043("text043-" + seed);
+        model.setCount044(seed + 44);
+        model.setStamp045(1_700_000_000_000L + seed + 45);
+        model.setFlag046(seed % 2 == 46 % 2);
+        model.setNumber047(seed + 47);
+        model.setList048(List.of("list048-a", "list048-b", "list048-c"));
+        model.setSet049(new LinkedHashSet<>(List.of("set049-a", "set049-b", "set049-c")));
+        model.setStatus050(AccountStatus.values()[(seed + 50) % AccountStatus.values().length]);
+        model.setRegion051(Region.values()[(seed + 51) % Region.values().length]);
+        model.setText052("text052-" + seed);
+        model.setText053("text053-" + seed);
+        model.setCount054(seed + 54);
+        model.setStamp055(1_700_000_000_000L + seed + 55);
+        model.setFlag056(seed % 2 == 56 % 2);
+        model.setNumber057(seed + 57);
+        model.setList058(List.of("list058-a", "list058-b", "list058-c"));
+        model.setSet059(new LinkedHashSet<>(List.of("set059-a", "set059-b", "set059-c")));
+        model.setStatus060(AccountStatus.values()[(seed + 60) % AccountStatus.values().length]);
+        model.setRegion061(Region.values()[(seed + 61) % Region.values().length]);
+        model.setText062("text062-" + seed);
+        model.setText063("text063-" + seed);
+        model.setCount064(seed + 64);
+        model.setStamp065(1_700_000_000_000L + seed + 65);
+        model.setFlag066(seed % 2 == 66 % 2);
+        model.setNumber067(seed + 67);
+        model.setList068(List.of("list068-a", "list068-b", "list068-c"));
+        model.setSet069(new LinkedHashSet<>(List.of("set069-a", "set069-b", "set069-c")));
+        model.setStatus070(AccountStatus.values()[(seed + 70) % AccountStatus.values().length]);
+        model.setRegion071(Region.values()[(seed + 71) % Region.values().length]);
+        model.setText072("text072-" + seed);
+        model.setText073("text073-" + seed);
+        model.setCount074(seed + 74);
+        model.setStamp075(1_700_000_000_000L + seed + 75);
+        model.setFlag076(seed % 2 == 76 % 2);
+        model.setNumber077(seed + 77);
+        model.setList078(List.of("list078-a", "list078-b", "list078-c"));
+        model.setSet079(new LinkedHashSet<>(List.of("set079-a", "set079-b", "set079-c")));
+        model.setStatus080(AccountStatus.values()[(seed + 80) % AccountStatus.values().length]);
+        model.setRegion081(Region.values()[(seed + 81) % Region.values().length]);
+        model.setText082("text082-" + seed);
+        model.setText083("text083-" + seed);
+        model.setCount084(seed + 84);
+        model.setStamp085(1_700_000_000_000L + seed + 85);
+        model.setFlag086(seed % 2 == 86 % 2);
+        model.setNumber087(seed + 87);
+        model.setList088(List.of("list088-a", "list088-b", "list088-c"));
+        model.setSet089(new LinkedHashSet<>(List.of("set089-a", "set089-b", "set089-c")));
+        model.setStatus090(AccountStatus.values()[(seed + 90) % AccountStatus.values().length]);
+        model.setRegion091(Region.values()[(seed + 91) % Region.values().length]);
+        model.setText092("text092-" + seed);
+        model.setText093("text093-" + seed);
+        model.setCount094(seed + 94);
+        model.setStamp095(1_700_000_000_000L + seed + 95);
+        model.setFlag096(seed % 2 == 96 % 2);
+        model.setNumber097(seed + 97);
+        model.setList098(List.of("list098-a", "list098-b", "list098-c"));
+        model.setSet099(new LinkedHashSet<>(List.of("set099-a", "set099-b", "set099-c")));
+        model.setStatus100(AccountStatus.values()[(seed + 100) % AccountStatus.values().length]);
+        model.setRegion101(Region.values()[(seed + 101) % Region.values().length]);
+        model.setText102("text102-" + seed);
+        model.setText103("text103-" + seed);
+        model.setCount104(seed + 104);
+        model.setStamp105(1_700_000_000_000L + seed + 105);
+        model.setFlag106(seed % 2 == 106 % 2);
+        model.setNumber107(seed + 107);
+        model.setList108(List.of("list108-a", "list108-b", "list108-c"));
+        model.setSet109(new LinkedHashSet<>(List.of("set109-a", "set109-b", "set109-c")));
+        model.setStatus110(AccountStatus.values()[(seed + 110) % AccountStatus.values().length]);
+        model.setRegion111(Region.values()[(seed + 111) % Region.values().length]);
+        model.setText112("text112-" + seed);
+        model.setText113("text113-" + seed);
+        model.setCount114(seed + 114);
+        model.setStamp115(1_700_000_000_000L + seed + 115);
+        model.setFlag116(seed % 2 == 116 % 2);
+        model.setNumber117(seed + 117);
+        model.setList118(List.of("list118-a", "list118-b", "list118-c"));
+        model.setSet119(new LinkedHashSet<>(List.of("set119-a", "set119-b", "set119-c")));
+        model.setStatus120(AccountStatus.values()[(seed + 120) % AccountStatus.values().length]);
+        model.setRegion121(Region.values()[(seed + 121) % Region.values().length]);
+        model.setText122("text122-" + seed);
+        model.setText123("text123-" + seed);
+        model.setCount124(seed + 124);
+        model.setStamp125(1_700_000_000_000L + seed + 125);
+        model.setFlag126(seed % 2 == 126 % 2);
+        model.setNumber127(seed + 127);
+        model.setList128(List.of("list128-a", "list128-b", "list128-c"));
+        model.setSet129(new LinkedHashSet<>(List.of("set129-a", "set129-b", "set129-c")));
+        model.setStatus130(AccountStatus.values()[(seed + 130) % AccountStatus.values().length]);
+        model.setRegion131(Region.values()[(seed + 131) % Region.values().length]);
+        model.setText132("text132-" + seed);
+        model.setText133("text133-" + seed);
+        model.setCount134(seed + 134);
+        model.setStamp135(1_700_000_000_000L + seed + 135);
+        model.setFlag136(seed % 2 == 136 % 2);
+        model.setNumber137(seed + 137);
+        model.setList138(List.of("list138-a", "list138-b", "list138-c"));
+        model.setSet139(new LinkedHashSet<>(List.of("set139-a", "set139-b", "set139-c")));
+        model.setStatus140(AccountStatus.values()[(seed + 140) % AccountStatus.values().length]);
+        model.setRegion141(Region.values()[(seed + 141) % Region.values().length]);
+        model.setText142("text142-" + seed);
+        model.setText143("text143-" + seed);
+        model.setCount144(seed + 144);
+        model.setStamp145(1_700_000_000_000L + seed + 145);
+        model.setFlag146(seed % 2 == 146 % 2);
+        model.setNumber147(seed + 147);
+        model.setList148(List.of("list148-a", "list148-b", "list148-c"));
+        model.setSet149(new LinkedHashSet<>(List.of("set149-a", "set149-b", "set149-c")));
+        model.setStatus150(AccountStatus.values()[(seed + 150) % AccountStatus.values().length]);
+        model.setRegion151(Region.values()[(seed + 151) % Region.values().length]);
+        model.setText152("text152-" + seed);
+        model.setText153("text153-" + seed);
+        model.setCount154(seed + 154);
+        model.setStamp155(1_700_000_000_000L + seed + 155);
+        model.setFlag156(seed % 2 == 156 % 2);
+        model.setNumber157(seed + 157);
+        model.setList158(List.of("list158-a", "list158-b", "list158-c"));
+        model.setSet159(new LinkedHashSet<>(List.of("set159-a", "set159-b", "set159-c")));
+        model.setStatus160(AccountStatus.values()[(seed + 160) % AccountStatus.values().length]);
+        model.setRegion161(Region.values()[(seed + 161) % Region.values().length]);
+        model.setText162("text162-" + seed);
+        model.setText163("text163-" + seed);
+        model.setCount164(seed + 164);
+        model.setStamp165(1_700_000_000_000L + seed + 165);
+        model.setFlag166(seed % 2 == 166 % 2);
+        model.setNumber167(seed + 167);
+        model.setList168(List.of("list168-a", "list168-b", "list168-c"));
+        model.setSet169(new LinkedHashSet<>(List.of("set169-a", "set169-b", "set169-c")));
+        model.setStatus170(AccountStatus.values()[(seed + 170) % AccountStatus.values().length]);
+        model.setRegion171(Region.values()[(seed + 171) % Region.values().length]);
+        model.setText172("text172-" + seed);
+        model.setText173("text173-" + seed);
+        model.setCount174(seed + 174);
+        model.setStamp175(1_700_000_000_000L + seed + 175);
+        model.setFlag176(seed % 2 == 176 % 2);
+        model.setNumber177(seed + 177);
+        model.setList178(List.of("list178-a", "list178-b", "list178-c"));
+        model.setSet179(new LinkedHashSet<>(List.of("set179-a", "set179-b", "set179-c")));
+        model.setStatus180(AccountStatus.values()[(seed + 180) % AccountStatus.values().length]);
+        model.setRegion181(Region.values()[(seed + 181) % Region.values().length]);
+        model.setText182("text182-" + seed);
+        model.setText183("text183-" + seed);
+        model.setCount184(seed + 184);
+        model.setStamp185(1_700_000_000_000L + seed + 185);
+        model.setFlag186(seed % 2 == 186 % 2);
+        model.setNumber187(seed + 187);
+        model.setList188(List.of("list188-a", "list188-b", "list188-c"));
+        model.setSet189(new LinkedHashSet<>(List.of("set189-a", "set189-b", "set189-c")));
+        model.setStatus190(AccountStatus.values()[(seed + 190) % AccountStatus.values().length]);
+        model.setRegion191(Region.values()[(seed + 191) % Region.values().length]);
+        model.setText192("text192-" + seed);
+        model.setText193("text193-" + seed);
+        model.setCount194(seed + 194);
+        model.setStamp195(1_700_000_000_000L + seed + 195);
+        model.setFlag196(seed % 2 == 196 % 2);
+        model.setNumber197(seed + 197);
+        model.setList198(List.of("list198-a", "list198-b", "list198-c"));
+        model.setSet199(new LinkedHashSet<>(List.of("set199-a", "set199-b", "set199-c")));
+        model.setStatus200(AccountStatus.values()[(seed + 200) % AccountStatus.values().length]);
+        model.setRegion201(Region.values()[(seed + 201) % Region.values().length]);
+        model.setText202("text202-" + seed);
+        model.setText203("text203-" + seed);
+        model.setCount204(seed + 204);
+        model.setStamp205(1_700_000_000_000L + seed + 205);
+        model.setFlag206(seed % 2 == 206 % 2);
+        model.setNumber207(seed + 207);
+        model.setList208(List.of("list208-a", "list208-b", "list208-c"));
+        model.setSet209(new LinkedHashSet<>(List.of("set209-a", "set209-b", "set209-c")));
+        model.setStatus210(AccountStatus.values()[(seed + 210) % AccountStatus.values().length]);
+        model.setRegion211(Region.values()[(seed + 211) % Region.values().length]);
+        model.setText212("text212-" + seed);
+        model.setText213("text213-" + seed);
+        model.setCount214(seed + 214);
+        model.setStamp215(1_700_000_000_000L + seed + 215);
+        model.setFlag216(seed % 2 == 216 % 2);
+        model.setNumber217(seed + 217);
+        model.setList218(List.of("list218-a", "list218-b", "list218-c"));
+        model.setSet219(new LinkedHashSet<>(List.of("set219-a", "set219-b", "set219-c")));
+        model.setStatus220(AccountStatus.values()[(seed + 220) % AccountStatus.values().length]);
+        model.setRegion221(Region.values()[(seed + 221) % Region.values().length]);
+        model.setText222("text222-" + seed);
+        model.setText223("text223-" + seed);
+        model.setCount224(seed + 224);
+        model.setStamp225(1_700_000_000_000L + seed + 225);
+        model.setFlag226(seed % 2 == 226 % 2);
+        model.setNumber227(seed + 227);
+        model.setList228(List.of("list228-a", "list228-b", "list228-c"));
+        model.setSet229(new LinkedHashSet<>(List.of("set229-a", "set229-b", "set229-c")));
+        model.setStatus230(AccountStatus.values()[(seed + 230) % AccountStatus.values().length]);
+        model.setRegion231(Region.values()[(seed + 231) % Region.values().length]);
+        model.setText232("text232-" + seed);
+        model.setText233("text233-" + seed);
+        model.setCount234(seed + 234);
+        model.setStamp235(1_700_000_000_000L + seed + 235);
+        model.setFlag236(seed % 2 == 236 % 2);
+        model.setNumber237(seed + 237);
+        model.setList238(List.of("list238-a", "list238-b", "list238-c"));
+        model.setSet239(new LinkedHashSet<>(List.of("set239-a", "set239-b", "set239-c")));
+        model.setStatus240(AccountStatus.values()[(seed + 240) % AccountStatus.values().length]);
+        model.setRegion241(Region.values()[(seed + 241) % Region.values().length]);
+        model.setText242("text242-" + seed);
+        model.setText243("text243-" + seed);
+        model.setCount244(seed + 244);
+        model.setStamp245(1_700_000_000_000L + seed + 245);
+        model.setFlag246(seed % 2 == 246 % 2);
+        model.setNumber247(seed + 247);
+        model.setList248(List.of("list248-a", "list248-b", "list248-c"));
+        model.setSet249(new LinkedHashSet<>(List.of("set249-a", "set249-b", "set249-c")));
+        model.setStatus250(AccountStatus.values()[(seed + 250) % AccountStatus.values().length]);
+        model.setRegion251(Region.values()[(seed + 251) % Region.values().length]);
+        model.setText252("text252-" + seed);
+        model.setText253("text253-" + seed);
+        model.setCount254(seed + 254);
+        model.setStamp255(1_700_000_000_000L + seed + 255);
+        model.setFlag256(seed % 2 == 256 % 2);
+        model.setNumber257(seed + 257);
+        model.setList258(List.of("list258-a", "list258-b", "list258-c"));
+        model.setSet259(new LinkedHashSet<>(List.of("set259-a", "set259-b", "set259-c")));
+        model.setStatus260(AccountStatus.values()[(seed + 260) % AccountStatus.values().length]);
+        model.setRegion261(Region.values()[(seed + 261) % Region.values().length]);
+        model.setText262("text262-" + seed);
+        model.setText263("text263-" + seed);
+        model.setCount264(seed + 264);
+        model.setStamp265(1_700_000_000_000L + seed + 265);
+        model.setFlag266(seed % 2 == 266 % 2);
+        model.setNumber267(seed + 267);
+        model.setList268(List.of("list268-a", "list268-b", "list268-c"));
+        model.setSet269(new LinkedHashSet<>(List.of("set269-a", "set269-b", "set269-c")));
+        model.setStatus270(AccountStatus.values()[(seed + 270) % AccountStatus.values().length]);
+        model.setRegion271(Region.values()[(seed + 271) % Region.values().length]);
+        model.setText272("text272-" + seed);
+        model.setText273("text273-" + seed);
+        model.setCount274(seed + 274);
+        model.setStamp275(1_700_000_000_000L + seed + 275);
+        model.setFlag276(seed % 2 == 276 % 2);
+        model.setNumber277(seed + 277);
+        model.setList278(List.of("list278-a", "list278-b", "list278-c"));
+        model.setSet279(new LinkedHashSet<>(List.of("set279-a", "set279-b", "set279-c")));
+        model.setStatus280(AccountStatus.values()[(seed + 280) % AccountStatus.values().length]);
+        model.setRegion281(Region.values()[(seed + 281) % Region.values().length]);
+        model.setText282("text282-" + seed);
+        model.setText283("text283-" + seed);
+        model.setCount284(seed + 284);
+        model.setStamp285(1_700_000_000_000L + seed + 285);
+        model.setFlag286(seed % 2 == 286 % 2);
+        model.setNumber287(seed + 287);
+        model.setList288(List.of("list288-a", "list288-b", "list288-c"));
+        model.setSet289(new LinkedHashSet<>(List.of("set289-a", "set289-b", "set289-c")));
+        model.setStatus290(AccountStatus.values()[(seed + 290) % AccountStatus.values().length]);
+        model.setRegion291(Region.values()[(seed + 291) % Region.values().length]);
+        model.setText292("text292-" + seed);
+        model.setText293("text293-" + seed);
+        model.setCount294(seed + 294);
+        model.setStamp295(1_700_000_000_000L + seed + 295);
+        model.setFlag296(seed % 2 == 296 % 2);
+        model.setNumber297(seed + 297);
+        model.setList298(List.of("list298-a", "list298-b", "list298-c"));
+        model.setSet299(new LinkedHashSet<>(List.of("set299-a", "set299-b", "set299-c")));
+        return model;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.benchmark;
+
+import dev.kolacek.midpoint.codegen.benchmark.model.LargeModelBuilders;
+import dev.kolacek.midpoint.codegen.benchmark.model.MediumModelBuilders;
+import dev.kolacek.midpoint.codegen.benchmark.model.SmallModelBuilders;
+import org.identityconnectors.framework.common.objects.ObjectClassInfo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building the schema by the generated {@code objectClassInfoBuilder} with the hand-written schema built by
+ * {@code ObjectClassInfoBuilderUtil}, and with the shared {@code objectClassInfo} instance.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchemaBenchmark {
+
+    /**
+     * The number of attributes of the model.
+     */
+    @Param({"10", "60", "300"})
+    public int attributes;
+
+    @Benchmark
+    public ObjectClassInfo generatedBuilder() {
+        return switch (attributes) {
+            case 10 -> SmallModelBuilders.objectClassInfoBuilder().build();
+            case 60 -> MediumModelBuilders.objectClassInfoBuilder().build();
+            default -> LargeModelBuilders.objectClassInfoBuilder().build();
+        };
+    }
+
+    @Benchmark
+    public ObjectClassInfo generatedShared() {
+        return switch (attributes) {
+            case 10 -> SmallModelBuilders.objectClassInfo();
+            case 60 -> MediumModelBuilders.objectClassInfo();
+            default -> LargeModelBuilders.objectClassInfo();
+        };
+    }
+
+    @Benchmark
+    public ObjectClassInfo handWritten() {
+        return switch (attributes) {
+            case 10 -> HandWrittenConverters.smallObjectClassInfo();
+            case 60 -> HandWrittenConverters.mediumObjectClassInfo();
+            default -> HandWrittenConverters.largeObjectClassInfo();
+        };
+    }
+}
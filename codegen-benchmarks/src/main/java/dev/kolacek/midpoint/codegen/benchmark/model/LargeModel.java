@@ -0,0 +1,2734 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kolacek.midpoint.codegen.benchmark.model;
+
+import dev.kolacek.midpoint.codegen.annotation.ConnectorModel;
+import dev.kolacek.midpoint.codegen.annotation.NameField;
+import dev.kolacek.midpoint.codegen.annotation.UidField;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Benchmark model with 300 attributes, a mix of single valued, multivalued and enum attributes.
+ */
+@ConnectorModel
+public class LargeModel {
+
+    @UidField
+    private String id;
+    @NameField
+    private String login;
+    private String text002;
+    private String text003;
+    private int count004;
+    private long stamp005;
+    private boolean flag006;
+    private Integer number007;
+    private List<String> list008;
+    private Set<String> set009;
+    private AccountStatus status010;
+    private Region region011;
+    private String text012;
+    private String text013;
+    private int count014;
+    private long stamp015;
+    private boolean flag016;
+    private Integer number017;
+    private List<String> list018;
+    private Set<String> set019;
+    private AccountStatus status020;
+    private Region region021;
+    private String text022;
+    private String text023;
+    private int count024;
+    private long stamp025;
+    private boolean flag026;
+    private Integer number027;
+    private List<String> list028;
+    private Set<String> set029;
+    private AccountStatus status030;
+    private Region region031;
+    private String text032;
+    private String text033;
+    private int count034;
+    private long stamp035;
+    private boolean flag036;
+    private Integer number037;
+    private List<String> list038;
+    private Set<String> set039;
+    private AccountStatus status040;
+    private Region region041;
+    private String text042;
+    private String text043;
+    private int count044;
+    private long stamp045;
+    private boolean flag046;
+    private Integer number047;
+    private List<String> list048;
+    private Set<String> set049;
+    private AccountStatus status050;
+    private Region region051;
+    private String text052;
+    private String text053;
+    private int count054;
+    private long stamp055;
+    private boolean flag056;
+    private Integer number057;
+    private List<String> list058;
+    private Set<String> set059;
+    private AccountStatus status060;
+    private Region region061;
+    private String text062;
+    private String text063;
+    private int count064;
+    private long stamp065;
+    private boolean flag066;
+    private Integer number067;
+    private List<String> list068;
+    private Set<String> set069;
+    private AccountStatus status070;
+    private Region region071;
+    private String text072;
+    private String text073;
+    private int count074;
+    private long stamp075;
+    private boolean flag076;
+    private Integer number077;
+    private List<String> list078;
+    private Set<String> set079;
+    private AccountStatus status080;
+    private Region region081;
+    private String text082;
+    private String text083;
+    private int count084;
+    private long stamp085;
+    private boolean flag086;
+    private Integer number087;
+    private List<String> list088;
+    private Set<String> set089;
+    private AccountStatus status090;
+    private Region region091;
+    private String text092;
+    private String text093;
+    private int count094;
+    private long stamp095;
+    private boolean flag096;
+    private Integer number097;
+    private List<String> list098;
+    private Set<String> set099;
+    private AccountStatus status100;
+    private Region region101;
+    private String text102;
+    private String text103;
+    private int count104;
+    private long stamp105;
+    private boolean flag106;
+    private Integer number107;
+    private List<String> list108;
+    private Set<String> set109;
+    private AccountStatus status110;
+    private Region region111;
+    private String text112;
+    private String text113;
+    private int count114;
+    private long stamp115;
+    private boolean flag116;
+    private Integer number117;
+    private List<String> list118;
+    private Set<String> set119;
+    private AccountStatus status120;
+    private Region region121;
+    private String text122;
+    private String text123;
+    private int count124;
+    private long stamp125;
+    private boolean flag126;
+    private Integer number127;
+    private List<String> list128;
+    private Set<String> set129;
+    private AccountStatus status130;
+    private Region region131;
+    private String text132;
+    private String text133;
+    private int count134;
+    private long stamp135;
+    private boolean flag136;
+    private Integer number137;
+    private List<String> list138;
+    private Set<String> set139;
+    private AccountStatus status140;
+    private Region region141;
+    private String text142;
+    private String text143;
+    private int count144;
+    private long stamp145;
+    private boolean flag146;
+    private Integer number147;
+    private List<String> list148;
+    private Set<String> set149;
+    private AccountStatus status150;
+    private Region region151;
+    private String text152;
+    private String text153;
+    private int count154;
+    private long stamp155;
+    private boolean flag156;
+    private Integer number157;
+    private List<String> list158;
+    private Set<String> set159;
+    private AccountStatus status160;
+    private Region region161;
+    private String text162;
+    private String text163;
+    private int count164;
+    private long stamp165;
+    private boolean flag166;
+    private Integer number167;
+    private List<String> list168;
+    private Set<String> set169;
+    private AccountStatus status170;
+    private Region region171;
+    private String text172;
+    private String text173;
+    private int count174;
+    private long stamp175;
+    private boolean flag176;
+    private Integer number177;
+    private List<String> list178;
+    private Set<String> set179;
+    private AccountStatus status180;
+    private Region region181;
+    private String text182;
+    private String text183;
+    private int count184;
+    private long stamp185;
+    private boolean flag186;
+    private Integer number187;
+    private List<String> list188;
+    private Set<String> set189;
+    private AccountStatus status190;
+    private Region region191;
+    private String text192;
+    private String text193;
+    private int count194;
+    private long stamp195;
+    private boolean flag196;
+    private Integer number197;
+    private List<String> list198;
+    private Set<String> set199;
+    private AccountStatus status200;
+    private Region region201;
+    private String text202;
+    private String text203;
+    private int count204;
+    private long stamp205;
+    private boolean flag206;
+    private Integer number207;
+    private List<String> list208;
+    private Set<String> set209;
+    private AccountStatus status210;
+    private Region region211;
+    private String text212;
+    private String text213;
+    private int count214;
+    private long stamp215;
+    private boolean flag216;
+    private Integer number217;
+    private List<String> list218;
+    private Set<String> set219;
+    private AccountStatus status220;
+    private Region region221;
+    private String text222;
+    private String text223;
+    private int count224;
+    private long stamp225;
+    private boolean flag226;
+    private Integer number227;
+    private List<String> list228;
+    private Set<String> set229;
+    private AccountStatus status230;
+    private Region region231;
+    private String text232;
+    private String text233;
+    private int count234;
+    private long stamp235;
+    private boolean flag236;
+    private Integer number237;
+    private List<String> list238;
+    private Set<String> set239;
+    private AccountStatus status240;
+    private Region region241;
+    private String text242;
+    private String text243;
+    private int count244;
+    private long stamp245;
+    private boolean flag246;
+    private Integer number247;
+    private List<String> list248;
+    private Set<String> set249;
+    private AccountStatus status250;
+    private Region region251;
+    private String text252;
+    private String text253;
+    private int count254;
+    private long stamp255;
+    private boolean flag256;
+    private Integer number257;
+    private List<String> list258;
+    private Set<String> set259;
+    private AccountStatus status260;
+    private Region region261;
+    private String text262;
+    private String text263;
+    private int count264;
+    private long stamp265;
+    private boolean flag266;
+    private Integer number267;
+    private List<String> list268;
+    private Set<String> set269;
+    private AccountStatus status270;
+    private Region region271;
+    private String text272;
+    private String text273;
+    private int count274;
+    private long stamp275;
+    private boolean flag276;
+    private Integer number277;
+    private List<String> list278;
+    private Set<String> set279;
+    private AccountStatus status280;
+    private Region region281;
+    private String text282;
+    private String text283;
+    private int count284;
+    private long stamp285;
+    private boolean flag286;
+    private Integer number287;
+    private List<String> list288;
+    private Set<String> set289;
+    private AccountStatus status290;
+    private Region region291;
+    private String text292;
+    private String text293;
+    private int count294;
+    private long stamp295;
+    private boolean flag296;
+    private Integer number297;
+    private List<String> list298;
+    private Set<String> set299;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getLogin() {
+        return login;
+    }
+
+    public void setLogin(String login) {
+        this.login = login;
+    }
+
+    public String getText002() {
+        return text002;
+    }
+
+    public void setText002(String text002) {
+        this.text002 = text002;
+    }
+
+    public String getText003() {
+        return text003;
+    }
+
+    public void setText003(String text003) {
+        this.text003 = text003;
+    }
+
+    public int getCount004() {
+        return count004;
+    }
+
+    public void setCount004(int count004) {
+        this.count004 = count004;
+    }
+
+    public long getStamp005() {
+        return stamp005;
+    }
+
+    public void setStamp005(long stamp005) {
+        this.stamp005 = stamp005;
+    }
+
+    public boolean isFlag006() {
+        return flag006;
+    }
+
+    public void setFlag006(boolean flag006) {
+        this.flag006 = flag006;
+    }
+
+    public Integer getNumber007() {
+        return number007;
+    }
+
+    public void setNumber007(Integer number007) {
+        this.number007 = number007;
+    }
+
+    public List<String> getList008() {
+        return list008;
+    }
+
+    public void setList008(List<String> list008) {
+        this.list008 = list008;
+    }
+
+    public Set<String> getSet009() {
+        return set009;
+    }
+
+    public void setSet009(Set<String> set009) {
+        this.set009 = set009;
+    }
+
+    public AccountStatus getStatus010() {
+        return status010;
+    }
+
+    public void setStatus010(AccountStatus status010) {
+        this.status010 = status010;
+    }
+
+    public Region getRegion011() {
+        return region011;
+    }
+
+    public void setRegion011(Region region011) {
+        this.region011 = region011;
+    }
+
+    public String getText012() {
+        return text012;
+    }
+
+    public void setText012(String text012) {
+        this.text012 = text012;
+    }
+
+    public String getText013() {
+        return text013;
+    }
+
+    public void setText013(String text013) {
+        this.text013 = text013;
+    }
+
+    public int getCount014() {
+        return count014;
+    }
+
+    public void setCount014(int count014) {
+        this.count014 = count014;
+    }
+
+    public long getStamp015() {
+        return stamp015;
+    }
+
+    public void setStamp015(long stamp015) {
+        this.stamp015 = stamp015;
+    }
+
+    public boolean isFlag016() {
+        return flag016;
+    }
+
+    public void setFlag016(boolean flag016) {
+        this.flag016 = flag016;
+    }
+
+    public Integer getNumber017() {
+        return number017;
+    }
+
+    public void setNumber017(Integer number017) {
+        this.number017 = number017;
+    }
+
+    public List<String> getList018() {
+        return list018;
+    }
+
+    public void setList018(List<String> list018) {
+        this.list018 = list018;
+    }
+
+    public Set<String> getSet019() {
+        return set019;
+    }
+
+    public void setSet019(Set<String> set019) {
+        this.set019 = set019;
+    }
+
+    public AccountStatus getStatus020() {
+        return status020;
+    }
+
+    public void setStatus020(AccountStatus status020) {
+        this.status020 = status020;
+    }
+
+    public Region getRegion021() {
+        return region021;
+    }
+
+    public void setRegion021(Region region021) {
+        this.region021 = region021;
+    }
+
+    public String getText022() {
+        return text022;
+    }
+
+    public void setText022(String text022) {
+        this.text022 = text022;
+    }
+
+    public String getText023() {
+        return text023;
+    }
+
+    public void setText023(String text023) {
+        this.text023 = text023;
+    }
+
+    public int getCount024() {
+        return count024;
+    }
+
+    public void setCount024(int count024) {
+        this.count024 = count024;
+    }
+
+    public long getStamp025() {
+        return stamp025;
+    }
+
+    public void setStamp025(long stamp025) {
+        this.stamp025 = stamp025;
+    }
+
+    public boolean isFlag026() {
+        return flag026;
+    }
+
+    public void setFlag026(boolean flag026) {
+        this.flag026 = flag026;
+    }
+
+    public Integer getNumber027() {
+        return number027;
+    }
+
+    public void setNumber027(Integer number027) {
+        this.number027 = number027;
+    }
+
+    public List<String> getList028() {
+        return list028;
+    }
+
+    public void setList028(List<String> list028) {
+        this.list028 = list028;
+    }
+
+    public Set<String> getSet029() {
+        return set029;
+    }
+
+    public void setSet029(Set<String> set029) {
+        this.set029 = set029;
+    }
+
+    public AccountStatus getStatus030() {
+        return status030;
+    }
+
+    public void setStatus030(AccountStatus status030) {
+        this.status030 = status030;
+    }
+
+    public Region getRegion031() {
+        return region031;
+    }
+
+    public void setRegion031(Region region031) {
+        this.region031 = region031;
+    }
+
+    public String getText032() {
+        return text032;
+    }
+
+    public void setText032(String text032) {
+        this.text032 = text032;
+    }
+
+    public String getText033() {
+        return text033;
+    }
+
+    public void setText033(String text033) {
+        this.text033 = text033;
+    }
+
+    public int getCount034() {
+        return count034;
+    }
+
+    public void setCount034(int count034) {
+        this.count034 = count034;
+    }
+
+    public long getStamp035() {
+        return stamp035;
+    }
+
+    public void setStamp035(long stamp035) {
+        this.stamp035 = stamp035;
+    }
+
+    public boolean isFlag036() {
+        return flag036;
+    }
+
+    public void setFlag036(boolean flag036) {
+        this.flag036 = flag036;
+    }
+
+    public Integer getNumber037() {
+        return number037;
+    }
+
+    public void setNumber037(Integer number037) {
+        this.number037 = number037;
+    }
+
+    public List<String> getList038() {
+        return list038;
+    }
+
+    public void setList038(List<String> list038) {
+        this.list038 = list038;
+    }
+
+    public Set<String> getSet039() {
+        return set039;
+    }
+
+    public void setSet039(Set<String> set039) {
+        this.set039 = set039;
+    }
+
+    public AccountStatus getStatus040() {
+        return status040;
+    }
+
+    public void setStatus040(AccountStatus status040) {
+        this.status040 = status040;
+    }
+
+    public Region getRegion041() {
+        return region041;
+    }
+
+    public void setRegion041(Region region041) {
+        this.region041 = region041;
+    }
+
+    public String getText042() {
+        return text042;
+    }
+
+    public void setText042(String text042) {
+        this.text042 = text042;
+    }
+
+    public String getText043() {
+        return text043;
+    }
+
+    public void setText043(String text043) {
+        this.text043 = text043;
+    }
+
+    public int getCount044() {
+        return count044;
+    }
+
+    public void setCount044(int count044) {
+        this.count044 = count044;
+    }
+
+    public long getStamp045() {
+        return stamp045;
+    }
+
+    public void setStamp045(long stamp045) {
+        this.stamp045 = stamp045;
+    }
+
+    public boolean isFlag046() {
+        return flag046;
+    }
+
+    public void setFlag046(boolean flag046) {
+        this.flag046 = flag046;
+    }
+
+    public Integer getNumber047() {
+        return number047;
+    }
+
+    public void setNumber047(Integer number047) {
+        this.number047 = number047;
+    }
+
+    public List<String> getList048() {
+        return list048;
+    }
+
+    public void setList048(List<String> list048) {
+        this.list048 = list048;
+    }
+
+    public Set<String> getSet049() {
+        return set049;
+    }
+
+    public void setSet049(Set<String> set049) {
+        this.set049 = set049;
+    }
+
+    public AccountStatus getStatus050() {
+        return status050;
+    }
+
+    public void setStatus050(AccountStatus status050) {
+        this.status050 = status050;
+    }
+
+    public Region getRegion051() {
+        return region051;
+    }
+
+    public void setRegion051(Region region051) {
+        this.region051 = region051;
+    }
+
+    public String getText052() {
+        return text052;
+    }
+
+    public void setText052(String text052) {
+        this.text052 = text052;
+    }
+
+    public String getText053() {
+        return text053;
+    }
+
+    public void setText053(String text053) {
+        this.text053 = text053;
+    }
+
+    public int getCount054() {
+        return count054;
+    }
+
+    public void setCount054(int count054) {
+        this.count054 = count054;
+    }
+
+    public long getStamp055() {
+        return stamp055;
+    }
+
+    public void setStamp055(long stamp055) {
+        this.stamp055 = stamp055;
+    }
+
+    public boolean isFlag056() {
+        return flag056;
+    }
+
+    public void setFlag056(boolean flag056) {
+        this.flag056 = flag056;
+    }
+
+    public Integer getNumber057() {
+        return number057;
+    }
+
+    public void setNumber057(Integer number057) {
+        this.number057 = number057;
+    }
+
+    public List<String> getList058() {
+        return list058;
+    }
+
+    public void setList058(List<String> list058) {
+        this.list058 = list058;
+    }
+
+    public Set<String> getSet059() {
+        return set059;
+    }
+
+    public void setSet059(Set<String> set059) {
+        this.set059 = set059;
+    }
+
+    public AccountStatus getStatus060() {
+        return status060;
+    }
+
+    public void setStatus060(AccountStatus status060) {
+        this.status060 = status060;
+    }
+
+    public Region getRegion061() {
+        return region061;
+    }
+
+    public void setRegion061(Region region061) {
+        this.region061 = region061;
+    }
+
+    public String getText062() {
+        return text062;
+    }
+
+    public void setText062(String text062) {
+        this.text062 = text062;
+    }
+
+    public String getText063() {
+        return text063;
+    }
+
+    public void setText063(String text063) {
+        this.text063 = text063;
+    }
+
+    public int getCount064() {
+        return count064;
+    }
+
+    public void setCount064(int count064) {
+        this.count064 = count064;
+    }
+
+    public long getStamp065() {
+        return stamp065;
+    }
+
+    public void setStamp065(long stamp065) {
+        this.stamp065 = stamp065;
+    }
+
+    public boolean isFlag066() {
+        return flag066;
+    }
+
+    public void setFlag066(boolean flag066) {
+        this.flag066 = flag066;
+    }
+
+    public Integer getNumber067() {
+        return number067;
+    }
+
+    public void setNumber067(Integer number067) {
+        this.number067 = number067;
+    }
+
+    public List<String> getList068() {
+        return list068;
+    }
+
+    public void setList068(List<String> list068) {
+        this.list068 = list068;
+    }
+
+    public Set<String> getSet069() {
+        return set069;
+    }
+
+    public void setSet069(Set<String> set069) {
+        this.set069 = set069;
+    }
+
+    public AccountStatus getStatus070() {
+        return status070;
+    }
+
+    public void setStatus070(AccountStatus status070) {
+        this.status070 = status070;
+    }
+
+    public Region getRegion071() {
+        return region071;
+    }
+
+    public void setRegion071(Region region071) {
+        this.region071 = region071;
+    }
+
+    public String getText072() {
+        return text072;
+    }
+
+    public void setText072(String text072) {
+        this.text072 = text072;
+    }
+
+    public String getText073() {
+        return text073;
+    }
+
+    public void setText073(String text073) {
+        this.text073 = text073;
+    }
+
+    public int getCount074() {
+        return count074;
+    }
+
+    public void setCount074(int count074) {
+        this.count074 = count074;
+    }
+
+    public long getStamp075() {
+        return stamp075;
+    }
+
+    public void setStamp075(long stamp075) {
+        this.stamp075 = stamp075;
+    }
+
+    public boolean isFlag076() {
+        return flag076;
+    }
+
+    public void setFlag076(boolean flag076) {
+        this.flag076 = flag076;
+    }
+
+    public Integer getNumber077() {
+        return number077;
+    }
+
+    public void setNumber077(Integer number077) {
+        this.number077 = number077;
+    }
+
+    public List<String> getList078() {
+        return list078;
+    }
+
+    public void setList078(List<String> list078) {
+        this.list078 = list078;
+    }
+
+    public Set<String> getSet079() {
+        return set079;
+    }
+
+    public void setSet079(Set<String> set079) {
+        this.set079 = set079;
+    }
+
+    public AccountStatus getStatus080() {
+        return status080;
+    }
+
+    public void setStatus080(AccountStatus status080) {
+        this.status080 = status080;
+    }
+
+    public Region getRegion081() {
+        return region081;
+    }
+
+    public void setRegion081(Region region081) {
+        this.region081 = region081;
+    }
+
+    public String getText082() {
+        return text082;
+    }
+
+    public void setText082(String text082) {
+        this.text082 = text082;
+    }
+
+    public String getText083() {
+        return text083;
+    }
+
+    public void setText083(String text083) {
+        this.text083 = text083;
+    }
+
+    public int getCount084() {
+        return count084;
+    }
+
+    public void setCount084(int count084) {
+        this.count084 = count084;
+    }
+
+    public long getStamp085() {
+        return stamp085;
+    }
+
+    public void setStamp085(long stamp085) {
+        this.stamp085 = stamp085;
+    }
+
+    public boolean isFlag086() {
+        return flag086;
+    }
+
+    public void setFlag086(boolean flag086) {
+        this.flag086 = flag086;
+    }
+
+    public Integer getNumber087() {
+        return number087;
+    }
+
+    public void setNumber087(Integer number087) {
+        this.number087 = number087;
+    }
+
+    public List<String> getList088() {
+        return list088;
+    }
+
+    public void setList088(List<String> list088) {
+        this.list088 = list088;
+    }
+
+    public Set<String> getSet089() {
+        return set089;
+    }
+
+    public void setSet089(Set<String> set089) {
+        this.set089 = set089;
+    }
+
+    public AccountStatus getStatus090() {
+        return status090;
+    }
+
+    public void setStatus090(AccountStatus status090) {
+        this.status090 = status090;
+    }
+
+    public Region getRegion091() {
+        return region091;
+    }
+
+    public void setRegion091(Region region091) {
+        this.region091 = region091;
+    }
+
+    public String getText092() {
+        return text092;
+    }
+
+    public void setText092(String text092) {
+        this.text092 = text092;
+    }
+
+    public String getText093() {
+        return text093;
+    }
+
+    public void setText093(String text093) {
+        this.text093 = text093;
+    }
+
+    public int getCount094() {
+        return count094;
+    }
+
+    public void setCount094(int count094) {
+        this.count094 = count094;
+    }
+
+    public long getStamp095() {
+        return stamp095;
+    }
+
+    public void setStamp095(long stamp095) {
+        this.stamp095 = stamp095;
+    }
+
+    public boolean isFlag096() {
+        return flag096;
+    }
+
+    public void setFlag096(boolean flag096) {
+        this.flag096 = flag096;
+    }
+
+    public Integer getNumber097() {
+        return number097;
+    }
+
+    public void setNumber097(Integer number097) {
+        this.number097 = number097;
+    }
+
+    public List<String> getList098() {
+        return list098;
+    }
+
+    public void setList098(List<String> list098) {
+        this.list098 = list098;
+    }
+
+    public Set<String> getSet099() {
+        return set099;
+    }
+
+    public void setSet099(Set<String> set099) {
+        this.set099 = set099;
+    }
+
+    public AccountStatus getStatus100() {
+        return status100;
+    }
+
+    public void setStatus100(AccountStatus status100) {
+        this.status100 = status100;
+    }
+
+    public Region getRegion101() {
+        return region101;
+    }
+
+    public void setRegion101(Region region101) {
+        this.region101 = region101;
+    }
+
+    public String getText102() {
+        return text102;
+    }
+
+    public void setText102(String text102) {
+        this.text102 = text102;
+    }
+
+    public String getText103() {
+        return text103;
+    }
+
+    public void setText103(String text103) {
+        this.text103 = text103;
+    }
+
+    public int getCount104() {
+        return count104;
+    }
+
+    public void setCount104(int count104) {
+        this.count104 = count104;
+    }
+
+    public long getStamp105() {
+        return stamp105;
+    }
+
+    public void setStamp105(long stamp105) {
+        this.stamp105 = stamp105;
+    }
+
+    public boolean isFlag106() {
+        return flag106;
+    }
+
+    public void setFlag106(boolean flag106) {
+        this.flag106 = flag106;
+    }
+
+    public Integer getNumber107() {
+        return number107;
+    }
+
+    public void setNumber107(Integer number107) {
+        this.number107 = number107;
+    }
+
+    public List<String> getList108() {
+        return list108;
+    }
+
+    public void setList108(List<String> list108) {
+        this.list108 = list108;
+    }
+
+    public Set<String> getSet109() {
+        return set109;
+    }
+
+    public void setSet109(Set<String> set109) {
+        this.set109 = set109;
+    }
+
+    public AccountStatus getStatus110() {
+        return status110;
+    }
+
+    public void setStatus110(AccountStatus status110) {
+        this.status110 = status110;
+    }
+
+    public Region getRegion111() {
+        return region111;
+    }
+
+    public void setRegion111(Region region111) {
+        this.region111 = region111;
+    }
+
+    public String getText112() {
+        return text112;
+    }
+
+    public void setText112(String text112) {
+        this.text112 = text112;
+    }
+
+    public String getText113() {
+        return text113;
+    }
+
+    public void setText113(String text113) {
+        this.text113 = text113;
+    }
+
+    public int getCount114() {
+        return count114;
+    }
+
+    public void setCount114(int count114) {
+        this.count114 = count114;
+    }
+
+    public long getStamp115() {
+        return stamp115;
+    }
+
+    public void setStamp115(long stamp115) {
+        this.stamp115 = stamp115;
+    }
+
+    public boolean isFlag116() {
+        return flag116;
+    }
+
+    public void setFlag116(boolean flag116) {
+        this.flag116 = flag116;
+    }
+
+    public Integer getNumber117() {
+        return number117;
+    }
+
+    public void setNumber117(Integer number117) {
+        this.number117 = number117;
+    }
+
+    public List<String> getList118() {
+        return list118;
+    }
+
+    public void setList118(List<String> list118) {
+        this.list118 = list118;
+    }
+
+    public Set<String> getSet119() {
+        return set119;
+    }
+
+    public void setSet119(Set<String> set119) {
+        this.set119 = set119;
+    }
+
+    public AccountStatus getStatus120() {
+        return status120;
+    }
+
+    public void setStatus120(AccountStatus status120) {
+        this.status120 = status120;
+    }
+
+    public Region getRegion121() {
+        return region121;
+    }
+
+    public void setRegion121(Region region121) {
+        this.region121 = region121;
+    }
+
+    public String getText122() {
+        return text122;
+    }
+
+    public void setText122(String text122) {
+        this.text122 = text122;
+    }
+
+    public String getText123() {
+        return text123;
+    }
+
+    public void setText123(String text123) {
+        this.text123 = text123;
+    }
+
+    public int getCount124() {
+        return count124;
+    }
+
+    public void setCount124(int count124) {
+        this.count124 = count124;
+    }
+
+    public long getStamp125() {
+        return stamp125;
+    }
+
+    public void setStamp125(long stamp125) {
+        this.stamp125 = stamp125;
+    }
+
+    public boolean isFlag126() {
+        return flag126;
+    }
+
+    public void setFlag126(boolean flag126) {
+        this.flag126 = flag126;
+    }
+
+    public Integer getNumber127() {
+        return number127;
+    }
+
+    public void setNumber127(Integer number127) {
+        this.number127 = number127;
+    }
+
+    public List<String> getList128() {
+        return list128;
+    }
+
+    public void setList128(List<String> list128) {
+        this.list128 = list128;
+    }
+
+    public Set<String> getSet129() {
+        return set129;
+    }
+
+    public void setSet129(Set<String> set129) {
+        this.set129 = set129;
+    }
+
+    public AccountStatus getStatus130() {
+        return status130;
+    }
+
+    public void setStatus130(AccountStatus status130) {
+        this.status130 = status130;
+    }
+
+    public Region getRegion131() {
+        return region131;
+    }
+
+    public void setRegion131(Region region131) {
+        this.region131 = region131;
+    }
+
+    public String getText132() {
+        return text132;
+    }
+
+    public void setText132(String text132) {
+        this.text132 = text132;
+    }
+
+    public String getText133() {
+        return text133;
+    }
+
+    public void setText133(String text133) {
+        this.text133 = text133;
+    }
+
+    public int getCount134() {
+        return count134;
+    }
+
+    public void setCount134(int count134) {
+        this.count134 = count134;
+    }
+
+    public long getStamp135() {
+        return stamp135;
+    }
+
+    public void setStamp135(long stamp135) {
+        this.stamp135 = stamp135;
+    }
+
+    public boolean isFlag136() {
+        return flag136;
+    }
+
+    public void setFlag136(boolean flag136) {
+        this.flag136 = flag136;
+    }
+
+    public Integer getNumber137() {
+        return number137;
+    }
+
+    public void setNumber137(Integer number137) {
+        this.number137 = number137;
+    }
+
+    public List<String> getList138() {
+        return list138;
+    }
+
+    public void setList138(List<String> list138) {
+        this.list138 = list138;
+    }
+
+    public Set<String> getSet139() {
+        return set139;
+    }
+
+    public void setSet139(Set<String> set139) {
+        this.set139 = set139;
+    }
+
+    public AccountStatus getStatus140() {
+        return status140;
+    }
+
+    public void setStatus140(AccountStatus status140) {
+        this.status140 = status140;
+    }
+
+    public Region getRegion141() {
+        return region141;
+    }
+
+    public void setRegion141(Region region141) {
+        this.region141 = region141;
+    }
+
+    public String getText142() {
+        return text142;
+    }
+
+    public void setText142(String text142) {
+        this.text142 = text142;
+    }
+
+    public String getText143() {
+        return text143;
+    }
+
+    public void setText143(String text143) {
+        this.text143 = text143;
+    }
+
+    public int getCount144() {
+        return count144;
+    }
+
+    public void setCount144(int count144) {
+        this.count144 = count144;
+    }
+
+    public long getStamp145() {
+        return stamp145;
+    }
+
+    public void setStamp145(long stamp145) {
+        this.stamp145 = stamp145;
+    }
+
+    public boolean isFlag146() {
+        return flag146;
+    }
+
+    public void setFlag146(boolean flag146) {
+        this.flag146 = flag146;
+    }
+
+    public Integer getNumber147() {
+        return number147;
+    }
+
+    public void setNumber147(Integer number147) {
+        this.number147 = number147;
+    }
+
+    public List<String> getList148() {
+        return list148;
+    }
+
+    public void setList148(List<String> list148) {
+        this.list148 = list148;
+    }
+
+    public Set<String> getSet149() {
+        return set149;
+    }
+
+    public void setSet149(Set<String> set149) {
+        this.set149 = set149;
+    }
+
+    public AccountStatus getStatus150() {
+        return status150;
+    }
+
+    public void setStatus150(AccountStatus status150) {
+        this.status150 = status150;
+    }
+
+    public Region getRegion151() {
+        return region151;
+    }
+
+    public void setRegion151(Region region151) {
+        this.region151 = region151;
+    }
+
+    public String getText152() {
+        return text152;
+    }
+
+    public void setText152(String text152) {
+        this.text152 = text152;
+    }
+
+    public String getText153() {
+        return text153;
+    }
+
+    public void setText153(String text153) {
+        this.text153 = text153;
+    }
+
+    public int getCount154() {
+        return count154;
+    }
+
+    public void setCount154(int count154) {
+        this.count154 = count154;
+    }
+
+    public long getStamp155() {
+        return stamp155;
+    }
+
+    public void setStamp155(long stamp155) {
+        this.stamp155 = stamp155;
+    }
+
+    public boolean isFlag156() {
+        return flag156;
+    }
+
+    public void setFlag156(boolean flag156) {
+        this.flag156 = flag156;
+    }
+
+    public Integer getNumber157() {
+        return number157;
+    }
+
+    public void setNumber157(Integer number157) {
+        this.number157 = number157;
+    }
+
+    public List<String> getList158() {
+        return list158;
+    }
+
+    public void setList158(List<String> list158) {
+        this.list158 = list158;
+    }
+
+    public Set<String> getSet159() {
+        return set159;
+    }
+
+    public void setSet159(Set<String> set159) {
+        this.set159 = set159;
+    }
+
+    public AccountStatus getStatus160() {
+        return status160;
+    }
+
+    public void setStatus160(AccountStatus status160) {
+        this.status160 = status160;
+    }
+
+    public Region getRegion161() {
+        return region161;
+    }
+
+    public void setRegion161(Region region161) {
+        this.region161 = region161;
+    }
+
+    public String getText162() {
+        return text162;
+    }
+
+    public void setText162(String text162) {
+        this.text162 = text162;
+    }
+
+    public String getText163() {
+        return text163;
+    }
+
+    public void setText163(String text163) {
+        this.text163 = text163;
+    }
+
+    public int getCount164() {
+        return count164;
+    }
+
+    public void setCount164(int count164) {
+        this.count164 = count164;
+    }
+
+    public long getStamp165() {
+        return stamp165;
+    }
+
+    public void setStamp165(long stamp165) {
+        this.stamp165 = stamp165;
+    }
+
+    public boolean isFlag166() {
+        return flag166;
+    }
+
+    public void setFlag166(boolean flag166) {
+        this.flag166 = flag166;
+    }
+
+    public Integer getNumber167() {
+        return number167;
+    }
+
+    public void setNumber167(Integer number167) {
+        this.number167 = number167;
+    }
+
+    public List<String> getList168() {
+        return list168;
+    }
+
+    public void setList168(List<String> list168) {
+        this.list168 = list168;
+    }
+
+    public Set<String> getSet169() {
+        return set169;
+    }
+
+    public void setSet169(Set<String> set169) {
+        this.set169 = set169;
+    }
+
+    public AccountStatus getStatus170() {
+        return status170;
+    }
+
+    public void setStatus170(AccountStatus status170) {
+        this.status170 = status170;
+    }
+
+    public Region getRegion171() {
+        return region171;
+    }
+
+    public void setRegion171(Region region171) {
+        this.region171 = region171;
+    }
+
+    public String getText172() {
+        return text172;
+    }
+
+    public void setText172(String text172) {
+        this.text172 = text172;
+    }
+
+    public String getText173() {
+        return text173;
+    }
+
+    public void setText173(String text173) {
+        this.text173 = text173;
+    }
+
+    public int getCount174() {
+        return count174;
+    }
+
+    public void setCount174(int count174) {
+        this.count174 = count174;
+    }
+
+    public long getStamp175() {
+        return stamp175;
+    }
+
+    public void setStamp175(long stamp175) {
+        this.stamp175 = stamp175;
+    }
+
+    public boolean isFlag176() {
+        return flag176;
+    }
+
+    public void setFlag176(boolean flag176) {
+        this.flag176 = flag176;
+    }
+
+    public Integer getNumber177() {
+        return number177;
+    }
+
+    public void setNumber177(Integer number177) {
+        this.number177 = number177;
+    }
+
+    public List<String> getList178() {
+        return list178;
+    }
+
+    public void setList178(List<String> list178) {
+        this.list178 = list178;
+    }
+
+    public Set<String> getSet179() {
+        return set179;
+    }
+
+    public void setSet179(Set<String> set179) {
+        this.set179 = set179;
+    }
+
+    public AccountStatus getStatus180() {
+        return status180;
+    }
+
+    public void setStatus180(AccountStatus status180) {
+        this.status180 = status180;
+    }
+
+    public Region getRegion181() {
+        return region181;
+    }
+
+    public void setRegion181(Region region181) {
+        this.region181 = region181;
+    }
+
+    public String getText182() {
+        return text182;
+    }
+
+    public void setText182(String text182) {
+        this.text182 = text182;
+    }
+
+    public String getText183() {
+        return text183;
+    }
+
+    public void setText183(String text183) {
+        this.text183 = text183;
+    }
+
+    public int getCount184() {
+        return count184;
+    }
+
+    public void setCount184(int count184) {
+        this.count184 = count184;
+    }
+
+    public long getStamp185() {
+        return stamp185;
+    }
+
+    public void setStamp185(long stamp185) {
+        this.stamp185 = stamp185;
+    }
+
+    public boolean isFlag186() {
+        return flag186;
+    }
+
+    public void setFlag186(boolean flag186) {
+        this.flag186 = flag186;
+    }
+
+    public Integer getNumber187() {
+        return number187;
+    }
+
+    public void setNumber187(Integer number187) {
+        this.number187 = number187;
+    }
+
+    public List<String> getList188() {
+        return list188;
+    }
+
+    public void setList188(List<String> list188) {
+        this.list188 = list188;
+    }
+
+    public Set<String> getSet189() {
+        return set189;
+    }
+
+    public void setSet189(Set<String> set189) {
+        this.set189 = set189;
+    }
+
+    public AccountStatus getStatus190() {
+        return status190;
+    }
+
+    public void setStatus190(AccountStatus status190) {
+        this.status190 = status190;
+    }
+
+    public Region getRegion191() {
+        return region191;
+    }
+
+    public void setRegion191(Region region191) {
+        this.region191 = region191;
+    }
+
+    public String getText192() {
+        return text192;
+    }
+
+    public void setText192(String text192) {
+        this.text192 = text192;
+    }
+
+    public String getText193() {
+        return text193;
+    }
+
+    public void setText193(String text193) {
+        this.text193 = text193;
+    }
+
+    public int getCount194() {
+        return count194;
+    }
+
+    public void setCount194(int count194) {
+        this.count194 = count194;
+    }
+
+    public long getStamp195() {
+        return stamp195;
+    }
+
+    public void setStamp195(long stamp195) {
+        this.stamp195 = stamp195;
+    }
+
+    public boolean isFlag196() {
+        return flag196;
+    }
+
+    public void setFlag196(boolean flag196) {
+        this.flag196 = flag196;
+    }
+
+    public Integer getNumber197() {
+        return number197;
+    }
+
+    public void setNumber197(Integer number197) {
+        this.number197 = number197;
+    }
+
+    public List<String> getList198() {
+        return list198;
+    }
+
+    public void setList198(List<String> list198) {
+        this.list198 = list198;
+    }
+
+    public Set<String> getSet199() {
+        return set199;
+    }
+
+    public void setSet199(Set<String> set199) {
+        this.set199 = set199;
+    }
+
+    public AccountStatus getStatus200() {
+        return status200;
+    }
+
+    public void setStatus200(AccountStatus status200) {
+        this.status200 = status200;
+    }
+
+    public Region getRegion201() {
+        return region201;
+    }
+
+    public void setRegion201(Region region201) {
+        this.region201 = region201;
+    }
+
+    public String getText202() {
+        return text202;
+    }
+
+    public void setText202(String text202) {
+        this.text202 = text202;
+    }
+
+    public String getText203() {
+        return text203;
+    }
+
+    public void setText203(String text203) {
+        this.text203 = text203;
+    }
+
+    public int getCount204() {
+        return count204;
+    }
+
+    public void setCount204(int count204) {
+        this.count204 = count204;
+    }
+
+    public long getStamp205() {
+        return stamp205;
+    }
+
+    public void setStamp205(long stamp205) {
+        this.stamp205 = stamp205;
+    }
+
+    public boolean isFlag206() {
+        return flag206;
+    }
+
+    public void setFlag206(boolean flag206) {
+        this.flag206 = flag206;
+    }
+
+    public Integer getNumber207() {
+        return number207;
+    }
+
+    public void setNumber207(Integer number207) {
+        this.number207 = number207;
+    }
+
+    public List<String> getList208() {
+        return list208;
+    }
+
+    public void setList208(List<String> list208) {
+        this.list208 = list208;
+    }
+
+    public Set<String> getSet209() {
+        return set209;
+    }
+
+    public void setSet209(Set<String> set209) {
+        this.set209 = set209;
+    }
+
+    public AccountStatus getStatus210() {
+        return status210;
+    }
+
+    public void setStatus210(AccountStatus status210) {
+        this.status210 = status210;
+    }
+
+    public Region getRegion211() {
+        return region211;
+    }
+
+    public void setRegion211(Region region211) {
+        this.region211 = region211;
+    }
+
+    public String getText212() {
+        return text212;
+    }
+
+    public void setText212(String text212) {
+        this.text212 = text212;
+    }
+
+    public String getText213() {
+        return text213;
+    }
+
+    public void setText213(String text213) {
+        this.text213 = text213;
+    }
+
+    public int getCount214() {
+        return count214;
+    }
+
+    public void setCount214(int count214) {
+        this.count214 = count214;
+    }
+
+    public long getStamp215() {
+        return stamp215;
+    }
+
+    public void setStamp215(long stamp215) {
+        this.stamp215 = stamp215;
+    }
+
+    public boolean isFlag216() {
+        return flag216;
+    }
+
+    public void setFlag216(boolean flag216) {
+        this.flag216 = flag216;
+    }
+
+    public Integer getNumber217() {
+        return number217;
+    }
+
+    public void setNumber217(Integer number217) {
+        this.number217 = number217;
+    }
+
+    public List<String> getList218() {
+        return list218;
+    }
+
+    public void setList218(List<String> list218) {
+        this.list218 = list218;
+    }
+
+    public Set<String> getSet219() {
+        return set219;
+    }
+
+    public void setSet219(Set<String> set219) {
+        this.set219 = set219;
+    }
+
+    public AccountStatus getStatus220() {
+        return status220;
+    }
+
+    public void setStatus220(AccountStatus status220) {
+        this.status220 = status220;
+    }
+
+    public Region getRegion221() {
+        return region221;
+    }
+
+    public void setRegion221(Region region221) {
+        this.region221 = region221;
+    }
+
+    public String getText222() {
+        return text222;
+    }
+
+    public void setText222(String text222) {
+        this.text222 = text222;
+    }
+
+    public String getText223() {
+        return text223;
+    }
+
+    public void setText223(String text223) {
+        this.text223 = text223;
+    }
+
+    public int getCount224() {
+        return count224;
+    }
+
+    public void setCount224(int count224) {
+        this.count224 = count224;
+    }
+
+    public long getStamp225() {
+        return stamp225;
+    }
+
+    public void setStamp225(long stamp225) {
+        this.stamp225 = stamp225;
+    }
+
+    public boolean isFlag226() {
+        return flag226;
+    }
+
+    public void setFlag226(boolean flag226) {
+        this.flag226 = flag226;
+    }
+
+    public Integer getNumber227() {
+        return number227;
+    }
+
+    public void setNumber227(Integer number227) {
+        this.number227 = number227;
+    }
+
+    public List<String> getList228() {
+        return list228;
+    }
+
+    public void setList228(List<String> list228) {
+        this.list228 = list228;
+    }
+
+    public Set<String> getSet229() {
+        return set229;
+    }
+
+    public void setSet229(Set<String> set229) {
+        this.set229 = set229;
+    }
+
+    public AccountStatus getStatus230() {
+        return status230;
+    }
+
+    public void setStatus230(AccountStatus status230) {
+        this.status230 = status230;
+    }
+
+    public Region getRegion231() {
+        return region231;
+    }
+
+    public void setRegion231(Region region231) {
+        this.region231 = region231;
+    }
+
+    public String getText232() {
+        return text232;
+    }
+
+    public void setText232(String text232) {
+        this.text232 = text232;
+    }
+
+    public String getText233() {
+        return text233;
+    }
+
+    public void setText233(String text233) {
+        this.text233 = text233;
+    }
+
+    public int getCount234() {
+        return count234;
+    }
+
+    public void setCount234(int count234) {
+        this.count234 = count234;
+    }
+
+    public long getStamp235() {
+        return stamp235;
+    }
+
+    public void setStamp235(long stamp235) {
+        this.stamp235 = stamp235;
+    }
+
+    public boolean isFlag236() {
+        return flag236;
+    }
+
+    public void setFlag236(boolean flag236) {
+        this.flag236 = flag236;
+    }
+
+    public Integer getNumber237() {
+        return number237;
+    }
+
+    public void setNumber237(Integer number237) {
+        this.number237 = number237;
+    }
+
+    public List<String> getList238() {
+        return list238;
+    }
+
+    public void setList238(List<String> list238) {
+        this.list238 = list238;
+    }
+
+    public Set<String> getSet239() {
+        return set239;
+    }
+
+    public void setSet239(Set<String> set239) {
+        this.set239 = set239;
+    }
+
+    public AccountStatus getStatus240() {
+        return status240;
+    }
+
+    public void setStatus240(AccountStatus status240) {
+        this.status240 = status240;
+    }
+
+    public Region getRegion241() {
+        return region241;
+    }
+
+    public void setRegion241(Region region241) {
+        this.region241 = region241;
+    }
+
+    public String getText242() {
+        return text242;
+    }
+
+    public void setText242(String text242) {
+        this.text242 = text242;
+    }
+
+    public String getText243() {
+        return text243;
+    }
+
+    public void setText243(String text243) {
+        this.text243 = text243;
+    }
+
+    public int getCount244() {
+        return count244;
+    }
+
+    public void setCount244(int count244) {
+        this.count244 = count244;
+    }
+
+    public long getStamp245() {
+        return stamp245;
+    }
+
+    public void setStamp245(long stamp245) {
+        this.stamp245 = stamp245;
+    }
+
+    public boolean isFlag246() {
+        return flag246;
+    }
+
+    public void setFlag246(boolean flag246) {
+        this.flag246 = flag246;
+    }
+
+    public Integer getNumber247() {
+        return number247;
+    }
+
+    public void setNumber247(Integer number247) {
+        this.number247 = number247;
+    }
+
+    public List<String> getList248() {
+        return list248;
+    }
+
+    public void setList248(List<String> list248) {
+        this.list248 = list248;
+    }
+
+    public Set<String> getSet249() {
+        return set249;
+    }
+
+    public void setSet249(Set<String> set249) {
+        this.set249 = set249;
+    }
+
+    public AccountStatus getStatus250() {
+        return status250;
+    }
+
+    public void setStatus250(AccountStatus status250) {
+        this.status250 = status250;
+    }
+
+    public Region getRegion251() {
+        return region251;
+    }
+
+    public void setRegion251(Region region251) {
+        this.region251 = region251;
+    }
+
+    public String getText252() {
+        return text252;
+    }
+
+    public void setText252(String text252) {
+        this.text252 = text252;
+    }
+
+    public String getText253() {
+        return text253;
+    }
+
+    public void setText253(String text253) {
+        this.text253 = text253;
+    }
+
+    public int getCount254() {
+        return count254;
+    }
+
+    public void setCount254(int count254) {
+        this.count254 = count254;
+    }
+
+    public long getStamp255() {
+        return stamp255;
+    }
+
+    public void setStamp255(long stamp255) {
+        this.stamp255 = stamp255;
+    }
+
+    public boolean isFlag256() {
+        return flag256;
+    }
+
+    public void setFlag256(boolean flag256) {
+        this.flag256 = flag256;
+    }
+
+    public Integer getNumber257() {
+        return number257;
+    }
+
+    public void setNumber257(Integer number257) {
+        this.number257 = number257;
+    }
+
+    public List<String> getList258() {
+        return list258;
+    }
+
+    public void setList258(List<String> list258) {
+        this.list258 = list258;
+    }
+
+    public Set<String> getSet259() {
+        return set259;
+    }
+
+    public void setSet259(Set<String> set259) {
+        this.set259 = set259;
+    }
+
+    public AccountStatus getStatus260() {
+        return status260;
+    }
+
+    public void setStatus260(AccountStatus status260) {
+        this.status260 = status260;
+    }
+
+    public Region getRegion261() {
+        return region261;
+    }
+
+    public void setRegion261(Region region261) {
+        this.region261 = region261;
+    }
+
+    public String getText262() {
+        return text262;
+    }
+
+    public void setText262(String text262) {
+        this.text262 = text262;
+    }
+
+    public String getText263() {
+        return text263;
+    }
+
+    public void setText263(String text263) {
+        this.text263 = text263;
+    }
+
+    public int getCount264() {
+        return count264;
+    }
+
+    public void setCount264(int count264) {
+        this.count264 = count264;
+    }
+
+    public long getStamp265() {
+        return stamp265;
+    }
+
+    public void setStamp265(long stamp265) {
+        this.stamp265 = stamp265;
+    }
+
+    public boolean isFlag266() {
+        return flag266;
+    }
+
+    public void setFlag266(boolean flag266) {
+        this.flag266 = flag266;
+    }
+
+    public Integer getNumber267() {
+        return number267;
+    }
+
+    public void setNumber267(Integer number267) {
+        this.number267 = number267;
+    }
+
+    public List<String> getList268() {
+        return list268;
+    }
+
+    public void setList268(List<String> list268) {
+        this.list268 = list268;
+    }
+
+    public Set<String> getSet269() {
+        return set269;
+    }
+
+    public void setSet269(Set<String> set269) {
+        this.set269 = set269;
+    }
+
+    public AccountStatus getStatus270() {
+        return status270;
+    }
+
+    public void setStatus270(AccountStatus status270) {
+        this.status270 = status270;
+    }
+
+    public Region getRegion271() {
+        return region271;
+    }
+
+    public void setRegion271(Region region271) {
+        this.region271 = region271;
+    }
+
+    public String getText272() {
+        return text272;
+    }
+
+    public void setText272(String text272) {
+        this.text272 = text272;
+    }
+
+    public String getText273() {
+        return text273;
+    }
+
+    public void setText273(String text273) {
+        this.text273 = text273;
+    }
+
+    public int getCount274() {
+        return count274;
+    }
+
+    public void setCount274(int count274) {
+        this.count274 = count274;
+    }
+
+    public long getStamp275() {
+        return stamp275;
+    }
+
+    public void setStamp275(long stamp275) {
+        this.stamp275 = stamp275;
+    }
+
+    public boolean isFlag276() {
+        return flag276;
+    }
+
+    public void setFlag276(boolean flag276) {
+        this.flag276 = flag276;
+    }
+
+    public Integer getNumber277() {
+        return number277;
+    }
+
+    public void setNumber277(Integer number277) {
+        this.number277 = number277;
+    }
+
+    public List<String> getList278() {
+        return list278;
+    }
+
+    public void setList278(List<String> list278) {
+        this.list278 = list278;
+    }
+
+    public Set<String> getSet279() {
+        return set279;
+    }
+
+    public void setSet279(Set<String> set279) {
+        this.set279 = set279;
+    }
+
+    public AccountStatus getStatus280() {
+        return status280;
+    }
+
+    public void setStatus280(AccountStatus status280) {
+        this.status280 = status280;
+    }
+
+    public Region getRegion281() {
+        return region281;
+    }
+
+    public void setRegion281(Region region281) {
+        this.region281 = region281;
+    }
+
+    public String getText282() {
+        return text282;
+    }
+
+    public void setText282(String text282) {
+        this.text282 = text282;
+    }
+
+    public String getText283() {
+        return text283;
+    }
+
+    public void setText283(String text283) {
+        this.text283 = text283;
+    }
+
+    public int getCount284() {
+        return count284;
+    }
+
+    public void setCount284(int count284) {
+        this.count284 = count284;
+    }
+
+    public long getStamp285() {
+        return stamp285;
+    }
+
+    public void setStamp285(long stamp285) {
+        this.stamp285 = stamp285;
+    }
+
+    public boolean isFlag286() {
+        return flag286;
+    }
+
+    public void setFlag286(boolean flag286) {
+        this.flag286 = flag286;
+    }
+
+    public Integer getNumber287() {
+        return number287;
+    }
+
+    public void setNumber287(Integer number287) {
+        this.number287 = number287;
+    }
+
+    public List<String> getList288() {
+        return list288;
+    }
+
+    public void setList288(List<String> list288) {
+        this.list288 = list288;
+    }
+
+    public Set<String> getSet289() {
+        return set289;
+    }
+
+    public void setSet289(Set<String> set289) {
+        this.set289 = set289;
+    }
+
+    public AccountStatus getStatus290() {
+        return status290;
+    }
+
+    public void setStatus290(AccountStatus status290) {
+        this.status290 = status290;
+    }
+
+    public Region getRegion291() {
+        return region291;
+    }
+
+    public void setRegion291(Region region291) {
+        this.region291 = region291;
+    }
+
+    public String getText292() {
+        return text292;
+    }
+
+    public void setText292(String text292) {
+        this.text292 = text292;
+    }
+
+    public String getText293() {
+        return text293;
+    }
+
+    public void setText293(String text293) {
+        this.text293 = text293;
+    }
+
+    public int getCount294() {
+        return count294;
+    }
+
+    public void setCount294(int count294) {
+        this.count294 = count294;
+    }
+
+    public long getStamp295() {
+        return stamp295;
+    }
+
+    public void setStamp295(long stamp295) {
+        this.stamp295 = stamp295;
+    }
+
+    public boolean isFlag296() {
+        return flag296;
+    }
+
+    public void setFlag296(boolean flag296) {
+        this.flag296 = flag296;
+    }
+
+    public Integer getNumber297() {
+        return number297;
+    }
+
+    public void setNumber297(Integer number297) {
+        this.number297 = number297;
+    }
+
+    public List<String> getList298() {
+        return list298;
+    }
+
+    public void setList298(List<String> list298) {
+        this.list298 = list298;
+    }
+
+    public Set<String> getSet299() {
+        return set299;
+    }
+
+    public void setSet299(Set<String> set299) {
+        this.set299 = set299;
+    }
+}
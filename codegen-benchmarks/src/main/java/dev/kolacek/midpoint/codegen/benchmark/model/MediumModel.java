@@ -0,0 +1,574 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kolacek.midpoint.codegen.benchmark.model;
+
+import dev.kolacek.midpoint.codegen.annotation.ConnectorModel;
+import dev.kolacek.midpoint.codegen.annotation.NameField;
+import dev.kolacek.midpoint.codegen.annotation.UidField;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Benchmark model with 60 attributes, a mix of single valued, multivalued and enum attributes.
+ */
+@ConnectorModel
+public class MediumModel {
+
+    @UidField
+    private String id;
+    @NameField
+    private String login;
+    private String text002;
+    private String text003;
+    private int count004;
+    private long stamp005;
+    private boolean flag006;
+    private Integer number007;
+    private List<String> list008;
+    private Set<String> set009;
+    private AccountStatus status010;
+    private Region region011;
+    private String text012;
+    private String text013;
+    private int count014;
+    private long stamp015;
+    private boolean flag016;
+    private Integer number017;
+    private List<String> list018;
+    private Set<String> set019;
+    private AccountStatus status020;
+    private Region region021;
+    private String text022;
+    private String text023;
+    private int count024;
+    private long stamp025;
+    private boolean flag026;
+    private Integer number027;
+    private List<String> list028;
+    private Set<String> set029;
+    private AccountStatus status030;
+    private Region region031;
+    private String text032;
+    private String text033;
+    private int count034;
+    private long stamp035;
+    private boolean flag036;
+    private Integer number037;
+    private List<String> list038;
+    private Set<String> set039;
+    private AccountStatus status040;
+    private Region region041;
+    private String text042;
+    private String text043;
+    private int count044;
+    private long stamp045;
+    private boolean flag046;
+    private Integer number047;
+    private List<String> list048;
+    private Set<String> set049;
+    private AccountStatus status050;
+    private Region region051;
+    private String text052;
+    private String text053;
+    private int count054;
+    private long stamp055;
+    private boolean flag056;
+    private Integer number057;
+    private List<String> list058;
+    private Set<String> set059;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getLogin() {
+        return login;
+    }
+
+    public void setLogin(String login) {
+        this.login = login;
+    }
+
+    public String getText002() {
+        return text002;
+    }
+
+    public void setText002(String text002) {
+        this.text002 = text002;
+    }
+
+    public String getText003() {
+        return text003;
+    }
+
+    public void setText003(String text003) {
+        this.text003 = text003;
+    }
+
+    public int getCount004() {
+        return count004;
+    }
+
+    public void setCount004(int count004) {
+        this.count004 = count004;
+    }
+
+    public long getStamp005() {
+        return stamp005;
+    }
+
+    public void setStamp005(long stamp005) {
+        this.stamp005 = stamp005;
+    }
+
+    public boolean isFlag006() {
+        return flag006;
+    }
+
+    public void setFlag006(boolean flag006) {
+        this.flag006 = flag006;
+    }
+
+    public Integer getNumber007() {
+        return number007;
+    }
+
+    public void setNumber007(Integer number007) {
+        this.number007 = number007;
+    }
+
+    public List<String> getList008() {
+        return list008;
+    }
+
+    public void setList008(List<String> list008) {
+        this.list008 = list008;
+    }
+
+    public Set<String> getSet009() {
+        return set009;
+    }
+
+    public void setSet009(Set<String> set009) {
+        this.set009 = set009;
+    }
+
+    public AccountStatus getStatus010() {
+        return status010;
+    }
+
+    public void setStatus010(AccountStatus status010) {
+        this.status010 = status010;
+    }
+
+    public Region getRegion011() {
+        return region011;
+    }
+
+    public void setRegion011(Region region011) {
+        this.region011 = region011;
+    }
+
+    public String getText012() {
+        return text012;
+    }
+
+    public void setText012(String text012) {
+        this.text012 = text012;
+    }
+
+    public String getText013() {
+        return text013;
+    }
+
+    public void setText013(String text013) {
+        this.text013 = text013;
+    }
+
+    public int getCount014() {
+        return count014;
+    }
+
+    public void setCount014(int count014) {
+        this.count014 = count014;
+    }
+
+    public long getStamp015() {
+        return stamp015;
+    }
+
+    public void setStamp015(long stamp015) {
+        this.stamp015 = stamp015;
+    }
+
+    public boolean isFlag016() {
+        return flag016;
+    }
+
+    public void setFlag016(boolean flag016) {
+        this.flag016 = flag016;
+    }
+
+    public Integer getNumber017() {
+        return number017;
+    }
+
+    public void setNumber017(Integer number017) {
+        this.number017 = number017;
+    }
+
+    public List<String> getList018() {
+        return list018;
+    }
+
+    public void setList018(List<String> list018) {
+        this.list018 = list018;
+    }
+
+    public Set<String> getSet019() {
+        return set019;
+    }
+
+    public void setSet019(Set<String> set019) {
+        this.set019 = set019;
+    }
+
+    public AccountStatus getStatus020() {
+        return status020;
+    }
+
+    public void setStatus020(AccountStatus status020) {
+        this.status020 = status020;
+    }
+
+    public Region getRegion021() {
+        return region021;
+    }
+
+    public void setRegion021(Region region021) {
+        this.region021 = region021;
+    }
+
+    public String getText022() {
+        return text022;
+    }
+
+    public void setText022(String text022) {
+        this.text022 = text022;
+    }
+
+    public String getText023() {
+        return text023;
+    }
+
+    public void setText023(String text023) {
+        this.text023 = text023;
+    }
+
+    public int getCount024() {
+        return count024;
+    }
+
+    public void setCount024(int count024) {
+        this.count024 = count024;
+    }
+
+    public long getStamp025() {
+        return stamp025;
+    }
+
+    public void setStamp025(long stamp025) {
+        this.stamp025 = stamp025;
+    }
+
+    public boolean isFlag026() {
+        return flag026;
+    }
+
+    public void setFlag026(boolean flag026) {
+        this.flag026 = flag026;
+    }
+
+    public Integer getNumber027() {
+        return number027;
+    }
+
+    public void setNumber027(Integer number027) {
+        this.number027 = number027;
+    }
+
+    public List<String> getList028() {
+        return list028;
+    }
+
+    public void setList028(List<String> list028) {
+        this.list028 = list028;
+    }
+
+    public Set<String> getSet029() {
+        return set029;
+    }
+
+    public void setSet029(Set<String> set029) {
+        this.set029 = set029;
+    }
+
+    public AccountStatus getStatus030() {
+        return status030;
+    }
+
+    public void setStatus030(AccountStatus status030) {
+        this.status030 = status030;
+    }
+
+    public Region getRegion031() {
+        return region031;
+    }
+
+    public void setRegion031(Region region031) {
+        this.region031 = region031;
+    }
+
+    public String getText032() {
+        return text032;
+    }
+
+    public void setText032(String text032) {
+        this.text032 = text032;
+    }
+
+    public String getText033() {
+        return text033;
+    }
+
+    public void setText033(String text033) {
+        this.text033 = text033;
+    }
+
+    public int getCount034() {
+        return count034;
+    }
+
+    public void setCount034(int count034) {
+        this.count034 = count034;
+    }
+
+    public long getStamp035() {
+        return stamp035;
+    }
+
+    public void setStamp035(long stamp035) {
+        this.stamp035 = stamp035;
+    }
+
+    public boolean isFlag036() {
+        return flag036;
+    }
+
+    public void setFlag036(boolean flag036) {
+        this.flag036 = flag036;
+    }
+
+    public Integer getNumber037() {
+        return number037;
+    }
+
+    public void setNumber037(Integer number037) {
+        this.number037 = number037;
+    }
+
+    public List<String> getList038() {
+        return list038;
+    }
+
+    public void setList038(List<String> list038) {
+        this.list038 = list038;
+    }
+
+    public Set<String> getSet039() {
+        return set039;
+    }
+
+    public void setSet039(Set<String> set039) {
+        this.set039 = set039;
+    }
+
+    public AccountStatus getStatus040() {
+        return status040;
+    }
+
+    public void setStatus040(AccountStatus status040) {
+        this.status040 = status040;
+    }
+
+    public Region getRegion041() {
+        return region041;
+    }
+
+    public void setRegion041(Region region041) {
+        this.region041 = region041;
+    }
+
+    public String getText042() {
+        return text042;
+    }
+
+    public void setText042(String text042) {
+        this.text042 = text042;
+    }
+
+    public String getText043() {
+        return text043;
+    }
+
+    public void setText043(String text043) {
+        this.text043 = text043;
+    }
+
+    public int getCount044() {
+        return count044;
+    }
+
+    public void setCount044(int count044) {
+        this.count044 = count044;
+    }
+
+    public long getStamp045() {
+        return stamp045;
+    }
+
+    public void setStamp045(long stamp045) {
+        this.stamp045 = stamp045;
+    }
+
+    public boolean isFlag046() {
+        return flag046;
+    }
+
+    public void setFlag046(boolean flag046) {
+        this.flag046 = flag046;
+    }
+
+    public Integer getNumber047() {
+        return number047;
+    }
+
+    public void setNumber047(Integer number047) {
+        this.number047 = number047;
+    }
+
+    public List<String> getList048() {
+        return list048;
+    }
+
+    public void setList048(List<String> list048) {
+        this.list048 = list048;
+    }
+
+    public Set<String> getSet049() {
+        return set049;
+    }
+
+    public void setSet049(Set<String> set049) {
+        this.set049 = set049;
+    }
+
+    public AccountStatus getStatus050() {
+        return status050;
+    }
+
+    public void setStatus050(AccountStatus status050) {
+        this.status050 = status050;
+    }
+
+    public Region getRegion051() {
+        return region051;
+    }
+
+    public void setRegion051(Region region051) {
+        this.region051 = region051;
+    }
+
+    public String getText052() {
+        return text052;
+    }
+
+    public void setText052(String text052) {
+        this.text052 = text052;
+    }
+
+    public String getText053() {
+        return text053;
+    }
+
+    public void setText053(String text053) {
+        this.text053 = text053;
+    }
+
+    public int getCount054() {
+        return count054;
+    }
+
+    public void setCount054(int count054) {
+        this.count054 = count054;
+    }
+
+    public long getStamp055() {
+        return stamp055;
+    }
+
+    public void setStamp055(long stamp055) {
+        this.stamp055 = stamp055;
+    }
+
+    public boolean isFlag056() {
+        return flag056;
+    }
+
+    public void setFlag056(boolean flag056) {
+        this.flag056 = flag056;
+    }
+
+    public Integer getNumber057() {
+        return number057;
+    }
+
+    public void setNumber057(Integer number057) {
+        this.number057 = number057;
+    }
+
+    public List<String> getList058() {
+        return list058;
+    }
+
+    public void setList058(List<String> list058) {
+        this.list058 = list058;
+    }
+
+    public Set<String> getSet059() {
+        return set059;
+    }
+
+    public void setSet059(Set<String> set059) {
+        this.set059 = set059;
+    }
+}
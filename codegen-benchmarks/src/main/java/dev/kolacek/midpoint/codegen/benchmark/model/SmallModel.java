@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kolacek.midpoint.codegen.benchmark.model;
+
+import dev.kolacek.midpoint.codegen.annotation.ConnectorModel;
+import dev.kolacek.midpoint.codegen.annotation.NameField;
+import dev.kolacek.midpoint.codegen.annotation.UidField;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Benchmark model with 10 attributes, a mix of single valued, multivalued and enum attributes.
+ */
+@ConnectorModel
+public class SmallModel {
+
+    @UidField
+    private String id;
+    @NameField
+    private String login;
+    private String text002;
+    private String text003;
+    private int count004;
+    private long stamp005;
+    private boolean flag006;
+    private Integer number007;
+    private List<String> list008;
+    private Set<String> set009;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getLogin() {
+        return login;
+    }
+
+    public void setLogin(String login) {
+        this.login = login;
+    }
+
+    public String getText002() {
+        return text002;
+    }
+
+    public void setText002(String text002) {
+        this.text002 = text002;
+    }
+
+    public String getText003() {
+        return text003;
+    }
+
+    public void setText003(String text003) {
+        this.text003 = text003;
+    }
+
+    public int getCount004() {
+        return count004;
+    }
+
+    public void setCount004(int count004) {
+        this.count004 = count004;
+    }
+
+    public long getStamp005() {
+        return stamp005;
+    }
+
+    public void setStamp005(long stamp005) {
+        this.stamp005 = stamp005;
+    }
+
+    public boolean isFlag006() {
+        return flag006;
+    }
+
+    public void setFlag006(boolean flag006) {
+        this.flag006 = flag006;
+    }
+
+    public Integer getNumber007() {
+        return number007;
+    }
+
+    public void setNumber007(Integer number007) {
+        this.number007 = number007;
+    }
+
+    public List<String> getList008() {
+        return list008;
+    }
+
+    public void setList008(List<String> list008) {
+        this.list008 = list008;
+    }
+
+    public Set<String> getSet009() {
+        return set009;
+    }
+
+    public void setSet009(Set<String> set009) {
+        this.set009 = set009;
+    }
+}
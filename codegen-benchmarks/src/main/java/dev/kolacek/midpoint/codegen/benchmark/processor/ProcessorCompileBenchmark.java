@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.benchmark.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import dev.kolacek.midpoint.codegen.processor.MidPointModelProcessor;
+import dev.kolacek.midpoint.codegen.processor.ProcessingStats;
+
+import javax.tools.JavaFileObject;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures the time and the memory the annotation processor needs for large sets of synthetic models.
+ * <p>
+ * Every run compiles the models by {@link Compiler#javac()} with a new {@link MidPointModelProcessor} and reports the wall
+ * time of the compilation, the time spent in the processor broken down by {@link ProcessingStats.Phase}, the bytes allocated
+ * by the compiling thread and the peak heap usage. The first runs are warmup and are not reported in the summary.
+ * </p>
+ * <p>
+ * Arguments, all optional: {@code --classes=100,1000,5000 --max-fields=500 --warmup=1 --runs=3 --proc-only}. With
+ * {@code --proc-only} the generated sources are not compiled, which isolates the processor from the rest of javac.
+ * Large sets need a large heap, e.g. {@code -Xmx8g} for 5,000 classes.
+ * </p>
+ */
+public final class ProcessorCompileBenchmark {
+
+    private ProcessorCompileBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int[] classCounts = {100, 1_000, 5_000};
+        int maxFields = 500;
+        int warmup = 1;
+        int runs = 3;
+        boolean procOnly = false;
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--classes=")) {
+                classCounts = Arrays.stream(value.split(",")).mapToInt(count -> Integer.parseInt(count.trim())).toArray();
+            } else if (arg.startsWith("--max-fields=")) {
+                maxFields = Integer.parseInt(value);
+            } else if (arg.startsWith("--warmup=")) {
+                warmup = Integer.parseInt(value);
+            } else if (arg.startsWith("--runs=")) {
+                runs = Integer.parseInt(value);
+            } else if (arg.equals("--proc-only")) {
+                procOnly = true;
+            } else {
+                throw new IllegalArgumentException("Unknown argument " + arg);
+            }
+        }
+
+        System.out.printf("%8s %6s %10s %10s %10s %10s %10s %10s %10s %10s%n", "classes", "run", "total ms", "proc ms",
+                "prep ms", "gen ms", "render ms", "write ms", "alloc MB", "peak MB");
+        for (int classCount : classCounts) {
+            List<JavaFileObject> sources = SyntheticModelSources.create(classCount, maxFields);
+            List<Result> results = new ArrayList<>();
+            for (int run = 0; run < warmup + runs; run++) {
+                Result result = compile(sources, procOnly);
+                print(classCount, run < warmup ? "warmup" : String.valueOf(run - warmup + 1), result);
+                if (run >= warmup) {
+                    results.add(result);
+                }
+            }
+            print(classCount, "avg", Result.average(results));
+        }
+    }
+
+    private static Result compile(List<JavaFileObject> sources, boolean procOnly) {
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+
+        MidPointModelProcessor processor = new MidPointModelProcessor();
+        Compiler compiler = Compiler.javac().withProcessors(processor);
+        if (procOnly) {
+            compiler = compiler.withOptions("-proc:only");
+        }
+        long start = System.nanoTime();
+        Compilation compilation = compiler.compile(sources);
+        long total = System.nanoTime() - start;
+        if (compilation.status() != Compilation.Status.SUCCESS) {
+            throw new IllegalStateException("Compilation failed: " + compilation.errors());
+        }
+
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        long peak = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        ProcessingStats stats = processor.getStats();
+        long[] phases = Arrays.stream(ProcessingStats.Phase.values()).mapToLong(stats::getNanos).toArray();
+        return new Result(total, stats.getTotalNanos(), phases, allocated, peak);
+    }
+
+    private static void print(int classCount, String run, Result result) {
+        System.out.printf("%8d %6s %10.1f %10.1f %10.1f %10.1f %10.1f %10.1f %10.1f %10.1f%n", classCount, run,
+                millis(result.totalNanos()), millis(result.processorNanos()),
+                millis(result.phaseNanos()[ProcessingStats.Phase.PREPROCESSING.ordinal()]),
+                millis(result.phaseNanos()[ProcessingStats.Phase.GENERATION.ordinal()]),
+                millis(result.phaseNanos()[ProcessingStats.Phase.RENDERING.ordinal()]),
+                millis(result.phaseNanos()[ProcessingStats.Phase.WRITING.ordinal()]),
+                result.allocatedBytes() / 1_048_576.0, result.peakHeapBytes() / 1_048_576.0);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private record Result(long totalNanos, long processorNanos, long[] phaseNanos, long allocatedBytes, long peakHeapBytes) {
+
+        static Result average(List<Result> results) {
+            int count = Math.max(results.size(), 1);
+            long[] phases = new long[ProcessingStats.Phase.values().length];
+            for (Result result : results) {
+                for (int i = 0; i < phases.length; i++) {
+                    phases[i] += result.phaseNanos()[i];
+                }
+            }
+            Arrays.setAll(phases, i -> phases[i] / count);
+            return new Result(results.stream().mapToLong(Result::totalNanos).sum() / count,
+                    results.stream().mapToLong(Result::processorNanos).sum() / count,
+                    phases,
+                    results.stream().mapToLong(Result::allocatedBytes).sum() / count,
+                    results.stream().mapToLong(Result::peakHeapBytes).sum() / count);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.benchmark.processor;
+
+import com.google.testing.compile.JavaFileObjects;
+
+import javax.tools.JavaFileObject;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates the sources of synthetic {@code @ConnectorModel} classes for the processor benchmark.
+ * <p>
+ * The number of fields is spread between 10 and the maximum, so the set contains both small and large models. The fields
+ * cycle through strings, primitives, boxed numbers, {@code List}, {@code Set} and enum types, every model has the UID and the
+ * name field. The sources are deterministic, the same arguments always produce the same models.
+ * </p>
+ */
+public final class SyntheticModelSources {
+
+    public static final String PACKAGE_NAME = "dev.kolacek.midpoint.codegen.benchmark.synthetic";
+    public static final String ENUM_NAME = "SyntheticStatus";
+
+    private static final int MIN_FIELDS = 10;
+    private static final String[] TYPES = {"String", "int", "long", "boolean", "Integer", "List<String>", "Set<String>", ENUM_NAME, "String", "Double"};
+
+    private SyntheticModelSources() {
+    }
+
+    /**
+     * Creates the sources of the models and of the shared enum.
+     *
+     * @param classCount the number of model classes
+     * @param maxFields  the number of fields of the largest model
+     * @return the sources, the enum first
+     */
+    public static List<JavaFileObject> create(int classCount, int maxFields) {
+        List<JavaFileObject> sources = new ArrayList<>(classCount + 1);
+        sources.add(JavaFileObjects.forSourceString(PACKAGE_NAME + "." + ENUM_NAME,
+                "package " + PACKAGE_NAME + ";\n\npublic enum " + ENUM_NAME + " {\n    ACTIVE, SUSPENDED, DISABLED\n}\n"));
+        for (int i = 0; i < classCount; i++) {
+            String className = String.format("Model%05d", i);
+            sources.add(JavaFileObjects.forSourceString(PACKAGE_NAME + "." + className, modelSource(className, fieldCount(i, maxFields))));
+        }
+        return sources;
+    }
+
+    /**
+     * @param index     the index of the model
+     * @param maxFields the number of fields of the largest model
+     * @return the number of fields of the model, between 10 and {@code maxFields}
+     */
+    static int fieldCount(int index, int maxFields) {
+        if (maxFields <= MIN_FIELDS) {
+            return maxFields;
+        }
+        // Every 50th model is the largest one, the others are spread over the whole range
+        return index % 50 == 49 ? maxFields : MIN_FIELDS + (index * 37) % (maxFields - MIN_FIELDS);
+    }
+
+    static String modelSource(String className, int fieldCount) {
+        StringBuilder fields = new StringBuilder();
+        StringBuilder accessors = new StringBuilder();
+        addField(fields, accessors, "String", "id", "    @UidField\n");
+        addField(fields, accessors, "String", "login", "    @NameField\n");
+        for (int i = 2; i < fieldCount; i++) {
+            addField(fields, accessors, TYPES[i % TYPES.length], "field" + i, "");
+        }
+        return "package " + PACKAGE_NAME + ";\n\n"
+                + "import dev.kolacek.midpoint.codegen.annotation.ConnectorModel;\n"
+                + "import dev.kolacek.midpoint.codegen.annotation.NameField;\n"
+                + "import dev.kolacek.midpoint.codegen.annotation.UidField;\n\n"
+                + "import java.util.List;\n"
+                + "import java.util.Set;\n\n"
+                // Distinct object classes, so the aggregated schema is generated as in a real connector
+                + "@ConnectorModel(objectClassType = \"" + className + "\")\n"
+                + "public class " + className + " {\n\n"
+                + fields + "\n"
+                + accessors
+                + "}\n";
+    }
+
+    private static void addField(StringBuilder fields, StringBuilder accessors, String type, String name, String annotations) {
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        fields.append(annotations).append("    private ").append(type).append(' ').append(name).append(";\n");
+        accessors.append("    public ").append(type).append(type.equals("boolean") ? " is" : " get").append(capitalized)
+                .append("() {\n        return ").append(name).append(";\n    }\n\n")
+                .append("    public void set").append(capitalized).append('(').append(type).append(' ').append(name)
+                .append(") {\n        this.").append(name).append(" = ").append(name).append(";\n    }\n\n");
+    }
+}
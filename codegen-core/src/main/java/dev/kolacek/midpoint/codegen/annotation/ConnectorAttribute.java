@@ -17,6 +17,8 @@
 package dev.kolacek.midpoint.codegen.annotation;
 
 import dev.kolacek.midpoint.codegen.config.AnnotationDefaults;
+import dev.kolacek.midpoint.codegen.config.EmissionPolicy;
+import dev.kolacek.midpoint.codegen.config.ValueOrder;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -49,4 +51,40 @@ public @interface ConnectorAttribute {
      * @return Name of the getter method.
      */
     String getterName() default "";
+
+    /**
+     * The name of the setter method for this attribute. If not specified, the default setter name will be used, following the JavaBean naming conventions.
+     * <p>
+     * For example, if the field is named {@code myField}, the default setter name will be {@code setMyField}.
+     * The setter is only used by the generated code that populates the model from attributes, fields without a setter are skipped there.
+     * </p>
+     *
+     * @return Name of the setter method.
+     */
+    String setterName() default "";
+
+    /**
+     * The policy deciding whether {@code null} and empty values of this attribute are added to the connector object.
+     * If not specified, the policy of the {@link ConnectorModel#emissionPolicy()} is used.
+     *
+     * @return The policy used for this attribute.
+     */
+    EmissionPolicy emissionPolicy() default EmissionPolicy.INHERIT;
+
+    /**
+     * Whether the generated {@code newStore()} should index the models by this attribute, default is {@code false}.
+     * <p>
+     * Only single valued attributes can be indexed. The name is always indexed as unique, the other attributes are not unique.
+     * </p>
+     *
+     * @return True if the attribute is indexed.
+     */
+    boolean indexed() default false;
+
+    /**
+     * Whether the order of the values of a multivalued attribute is significant, default is {@link ValueOrder#DEFAULT}.
+     *
+     * @return The order of the values.
+     */
+    ValueOrder valueOrder() default ValueOrder.DEFAULT;
 }
@@ -17,6 +17,7 @@
 package dev.kolacek.midpoint.codegen.annotation;
 
 import dev.kolacek.midpoint.codegen.config.AnnotationDefaults;
+import dev.kolacek.midpoint.codegen.config.EmissionPolicy;
 import dev.kolacek.midpoint.codegen.config.ReportingPolicy;
 
 import java.lang.annotation.ElementType;
@@ -85,4 +86,14 @@ public @interface ConnectorModel {
      * @return The policy that will be used for unsupported types.
      */
     ReportingPolicy unsupportedTypePolicy() default ReportingPolicy.WARNING;
+
+    /**
+     * The policy deciding whether {@code null} and empty values are added to the connector object, default is {@link EmissionPolicy#EMIT_ALL}.
+     * <p>
+     * Can be overridden per attribute by {@link ConnectorAttribute#emissionPolicy()}.
+     * </p>
+     *
+     * @return The policy used for all attributes of the model.
+     */
+    EmissionPolicy emissionPolicy() default EmissionPolicy.EMIT_ALL;
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.config;
+
+/**
+ * Decides which attribute values are added to the generated {@code ConnectorObject}.
+ * <p>
+ * The policy is resolved at compile time, the generated code contains only the checks needed for the given field.
+ * </p>
+ */
+public enum EmissionPolicy {
+
+    /**
+     * Use the policy of the enclosing {@link dev.kolacek.midpoint.codegen.annotation.ConnectorModel}.
+     * Equivalent to {@link #EMIT_ALL} when used on the model itself.
+     */
+    INHERIT,
+    /**
+     * Every attribute is added, even with a {@code null} value.
+     */
+    EMIT_ALL,
+    /**
+     * Attributes with a {@code null} value are not added.
+     */
+    SKIP_NULL,
+    /**
+     * Attributes with a {@code null} value, an empty collection, an empty array or an empty string are not added.
+     */
+    SKIP_NULL_AND_EMPTY
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.config;
+
+/**
+ * Whether the order of the values of a multivalued attribute is significant, used by the generated fingerprints and diffs.
+ */
+public enum ValueOrder {
+
+    /**
+     * Fingerprints hash lists and arrays in their order and sets regardless of it. Diffs add and remove the changed values, as
+     * ConnId treats the values of multivalued attributes as unordered.
+     */
+    DEFAULT,
+    /**
+     * The values are compared in their order, diffs replace all values when the sequence changes.
+     */
+    ORDERED,
+    /**
+     * The values are compared regardless of their order.
+     */
+    UNORDERED
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.util;
+
+import org.identityconnectors.framework.common.objects.AttributeDelta;
+import org.identityconnectors.framework.common.objects.AttributeDeltaBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Creates the {@link AttributeDelta}s of the generated {@code diff} methods.
+ * <p>
+ * The generated code compares single valued fields itself and only calls {@link #replace} for the changed ones. Multivalued
+ * fields are compared here, their changes are expressed as values to add and to remove, so the backend only writes the values
+ * which actually changed. Only fields declared {@code ValueOrder.ORDERED} are replaced when their sequence changes.
+ * </p>
+ */
+public final class AttributeDeltas {
+
+    private AttributeDeltas() {
+    }
+
+    /**
+     * Adds the delta replacing the value of a single valued attribute.
+     *
+     * @param deltas The deltas to add to.
+     * @param name   The name of the attribute.
+     * @param value  The new value, {@code null} clears the attribute.
+     */
+    public static void replace(Set<AttributeDelta> deltas, String name, Object value) {
+        deltas.add(AttributeDeltaBuilder.build(name, value == null ? Collections.emptyList() : Collections.singletonList(value)));
+    }
+
+    /**
+     * Adds the delta of a multivalued attribute, if its values changed.
+     * <p>
+     * The values of an unordered attribute are compared as sets, values only in {@code before} are removed and values only in
+     * {@code after} are added. The values of an ordered attribute are replaced whenever the sequences differ, as the position
+     * of the added values and a changed order can't be expressed by adding and removing values.
+     * </p>
+     *
+     * @param deltas  The deltas to add to.
+     * @param name    The name of the attribute.
+     * @param before  The old values, {@code null} is the same as no values.
+     * @param after   The new values, {@code null} is the same as no values.
+     * @param ordered Whether the order of the values is significant.
+     */
+    public static void values(Set<AttributeDelta> deltas, String name, Collection<?> before, Collection<?> after, boolean ordered) {
+        Collection<?> oldValues = before == null ? Collections.emptyList() : before;
+        Collection<?> newValues = after == null ? Collections.emptyList() : after;
+        if (oldValues.size() == newValues.size() && (ordered ? sameSequence(oldValues, newValues) : sameElements(oldValues, newValues))) {
+            return;
+        }
+        if (ordered) {
+            deltas.add(AttributeDeltaBuilder.build(name, new ArrayList<>(newValues)));
+            return;
+        }
+
+        Set<?> oldSet = oldValues instanceof Set<?> set ? set : new HashSet<>(oldValues);
+        Set<?> newSet = newValues instanceof Set<?> set ? set : new HashSet<>(newValues);
+        Set<Object> toRemove = difference(oldValues, newSet);
+        Set<Object> toAdd = difference(newValues, oldSet);
+        if (toAdd.isEmpty() && toRemove.isEmpty()) {
+            // Only the order or the duplicates changed
+            return;
+        }
+        deltas.add(AttributeDeltaBuilder.build(name, toAdd.isEmpty() ? null : toAdd, toRemove.isEmpty() ? null : toRemove));
+    }
+
+    /**
+     * Same as {@link #values(Set, String, Collection, Collection, boolean)}, for attributes backed by an object array.
+     *
+     * @param deltas  The deltas to add to.
+     * @param name    The name of the attribute.
+     * @param before  The old values, {@code null} is the same as no values.
+     * @param after   The new values, {@code null} is the same as no values.
+     * @param ordered Whether the order of the values is significant.
+     */
+    public static void values(Set<AttributeDelta> deltas, String name, Object[] before, Object[] after, boolean ordered) {
+        if (Arrays.equals(before, after)) {
+            return;
+        }
+        values(deltas, name, before == null ? null : Arrays.asList(before), after == null ? null : Arrays.asList(after), ordered);
+    }
+
+    private static boolean sameSequence(Collection<?> first, Collection<?> second) {
+        Iterator<?> firstIterator = first.iterator();
+        Iterator<?> secondIterator = second.iterator();
+        while (firstIterator.hasNext()) {
+            if (!Objects.equals(firstIterator.next(), secondIterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameElements(Collection<?> first, Collection<?> second) {
+        if (first instanceof Set<?> && second instanceof Set<?>) {
+            return first.equals(second);
+        }
+        return sameSequence(first, second);
+    }
+
+    private static Set<Object> difference(Collection<?> values, Set<?> excluded) {
+        // Duplicate values are added or removed once
+        Set<Object> result = new LinkedHashSet<>();
+        for (Object value : values) {
+            if (!excluded.contains(value)) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kolacek.midpoint.codegen.util;
+
+import org.identityconnectors.framework.common.exceptions.InvalidAttributeValueException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Converts attribute values to the types of the model fields, used by the generated {@code fromAttributes} and {@code applyDeltas}.
+ * <p>
+ * Numbers are accepted in any {@link Number} type as long as the value fits the field type exactly, e.g. a {@code Long} of
+ * {@code 42} populates an {@code int} field, while {@code 4294967297L} or {@code 2.5} are rejected instead of being truncated.
+ * Values of any other type must be instances of the field type.
+ * </p>
+ */
+public final class AttributeValues {
+
+    private AttributeValues() {
+    }
+
+    /**
+     * @param name  The name of the attribute, for the error message.
+     * @param value The value, not {@code null}.
+     * @param type  The type of the field.
+     * @return The value cast to the type.
+     * @throws InvalidAttributeValueException If the value is not an instance of the type.
+     */
+    public static <T> T cast(String name, Object value, Class<T> type) {
+        if (!type.isInstance(value)) {
+            throw wrongType(name, value, type.getSimpleName());
+        }
+        return type.cast(value);
+    }
+
+    public static boolean toBoolean(String name, Object value) {
+        return cast(name, value, Boolean.class);
+    }
+
+    public static char toChar(String name, Object value) {
+        return cast(name, value, Character.class);
+    }
+
+    public static byte toByte(String name, Object value) {
+        long result = toLong(name, value);
+        if ((byte) result != result) {
+            throw lossy(name, value, "byte");
+        }
+        return (byte) result;
+    }
+
+    public static short toShort(String name, Object value) {
+        long result = toLong(name, value);
+        if ((short) result != result) {
+            throw lossy(name, value, "short");
+        }
+        return (short) result;
+    }
+
+    public static int toInt(String name, Object value) {
+        long result = toLong(name, value);
+        if ((int) result != result) {
+            throw lossy(name, value, "int");
+        }
+        return (int) result;
+    }
+
+    /**
+     * @param name  The name of the attribute, for the error message.
+     * @param value The value, not {@code null}.
+     * @return The value as a {@code long}.
+     * @throws InvalidAttributeValueException If the value is not a number or is not an integer in the range of {@code long}.
+     */
+    public static long toLong(String name, Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (!(value instanceof Number number)) {
+            throw wrongType(name, value, "long");
+        }
+        try {
+            return exact(number).longValueExact();
+        } catch (ArithmeticException e) {
+            throw lossy(name, value, "long");
+        }
+    }
+
+    public static float toFloat(String name, Object value) {
+        if (value instanceof Float || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).floatValue();
+        }
+        double result = toDouble(name, value);
+        // NaN is the only value not equal to itself, it is kept
+        if ((float) result != result && !Double.isNaN(result)) {
+            throw lossy(name, value, "float");
+        }
+        return (float) result;
+    }
+
+    /**
+     * @param name  The name of the attribute, for the error message.
+     * @param value The value, not {@code null}.
+     * @return The value as a {@code double}.
+     * @throws InvalidAttributeValueException If the value is not a number or can't be represented as a {@code double} exactly.
+     */
+    public static double toDouble(String name, Object value) {
+        if (value instanceof Double || value instanceof Float || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).doubleValue();
+        }
+        if (!(value instanceof Number number)) {
+            throw wrongType(name, value, "double");
+        }
+        double result = number.doubleValue();
+        try {
+            if (Double.isInfinite(result) || exact(number).compareTo(new BigDecimal(result)) != 0) {
+                throw lossy(name, value, "double");
+            }
+        } catch (ArithmeticException e) {
+            throw lossy(name, value, "double");
+        }
+        return result;
+    }
+
+    /**
+     * The exact value of the number, {@link ArithmeticException} for infinities and NaN.
+     */
+    private static BigDecimal exact(Number number) {
+        if (number instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        if (number instanceof BigInteger integer) {
+            return new BigDecimal(integer);
+        }
+        if (number instanceof Double || number instanceof Float) {
+            double value = number.doubleValue();
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                throw new ArithmeticException("Not a finite number");
+            }
+            return new BigDecimal(value);
+        }
+        try {
+            return new BigDecimal(number.toString());
+        } catch (NumberFormatException e) {
+            throw new ArithmeticException("Not a decimal number");
+        }
+    }
+
+    private static InvalidAttributeValueException wrongType(String name, Object value, String expected) {
+        return new InvalidAttributeValueException("Attribute " + name + " expects " + expected + " values, got " + value.getClass().getName());
+    }
+
+    private static InvalidAttributeValueException lossy(String name, Object value, String expected) {
+        return new InvalidAttributeValueException("Value " + value + " of attribute " + name + " doesn't fit " + expected);
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+
+/**
+ * Encodes the values of the generated binary codecs, the {@code writeTo} and {@code readFrom} methods of the models.
+ * <p>
+ * Integers are written as variable-length quantities, 7 bits per byte with the highest bit marking that more bytes follow.
+ * Signed values are zigzag encoded first, so small negative numbers stay short. Strings are written as their UTF-8 byte
+ * length followed by the bytes, which, unlike {@link DataOutput#writeUTF(String)}, has no length limit.
+ * </p>
+ * <p>
+ * The sizes read from the input are not trusted for allocation. Byte arrays are read in chunks and collections start at
+ * {@link #initialCapacity(int)} and grow as their elements are read, so a corrupted size fails at the end of the input
+ * instead of allocating the declared size up front.
+ * </p>
+ */
+public final class BinaryCodec {
+
+    /**
+     * The largest size accepted by {@link #readSize(DataInput)}, the largest array the JVM can allocate.
+     */
+    public static final int MAX_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * The largest capacity allocated for a collection or an array before its elements are read.
+     */
+    public static final int MAX_INITIAL_CAPACITY = 1024;
+
+    // The largest part of a byte array allocated before its bytes are read
+    private static final int CHUNK_SIZE = 8192;
+
+    private BinaryCodec() {
+    }
+
+    /**
+     * Writes the schema hash of the model, the first value of every encoded model.
+     *
+     * @param out  The output.
+     * @param hash The schema hash.
+     * @throws IOException If the output fails.
+     */
+    public static void writeSchemaHash(DataOutput out, long hash) throws IOException {
+        out.writeLong(hash);
+    }
+
+    /**
+     * Reads the schema hash and checks it is the hash of the current model.
+     *
+     * @param in       The input.
+     * @param expected The schema hash of the current model.
+     * @throws StaleSchemaException If the data was written for a different schema.
+     * @throws IOException          If the input fails.
+     */
+    public static void checkSchemaHash(DataInput in, long expected) throws IOException {
+        long actual = in.readLong();
+        if (actual != expected) {
+            throw new StaleSchemaException(expected, actual);
+        }
+    }
+
+    /**
+     * Writes a non-negative size or index as an unsigned variable-length integer.
+     *
+     * @param out  The output.
+     * @param size The size, must not be negative.
+     * @throws IOException If the output fails.
+     */
+    public static void writeSize(DataOutput out, int size) throws IOException {
+        writeUnsigned(out, size);
+    }
+
+    /**
+     * @param in The input.
+     * @return The size written by {@link #writeSize(DataOutput, int)}.
+     * @throws IOException If the input fails or the size is out of range.
+     */
+    public static int readSize(DataInput in) throws IOException {
+        return (int) readUnsigned(in, MAX_SIZE);
+    }
+
+    /**
+     * Reads the ordinal of an enum constant.
+     *
+     * @param in            The input.
+     * @param constantCount The number of the constants of the enum.
+     * @return The ordinal.
+     * @throws IOException If the input fails or the ordinal is out of range.
+     */
+    public static int readOrdinal(DataInput in, int constantCount) throws IOException {
+        int ordinal = readSize(in);
+        if (ordinal >= constantCount) {
+            throw new StreamCorruptedException("Invalid ordinal " + ordinal + ", the enum has " + constantCount + " constants");
+        }
+        return ordinal;
+    }
+
+    public static void writeInt(DataOutput out, int value) throws IOException {
+        writeUnsigned(out, Integer.toUnsignedLong((value << 1) ^ (value >> 31)));
+    }
+
+    public static int readInt(DataInput in) throws IOException {
+        int encoded = (int) readUnsigned(in, 0xFFFFFFFFL);
+        return (encoded >>> 1) ^ -(encoded & 1);
+    }
+
+    public static void writeLong(DataOutput out, long value) throws IOException {
+        writeUnsigned(out, (value << 1) ^ (value >> 63));
+    }
+
+    public static long readLong(DataInput in) throws IOException {
+        long encoded = readUnsigned(in);
+        return (encoded >>> 1) ^ -(encoded & 1);
+    }
+
+    public static void writeChar(DataOutput out, char value) throws IOException {
+        writeUnsigned(out, value);
+    }
+
+    public static char readChar(DataInput in) throws IOException {
+        return (char) readUnsigned(in, Character.MAX_VALUE);
+    }
+
+    public static void writeString(DataOutput out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String readString(DataInput in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    public static void writeBytes(DataOutput out, byte[] value) throws IOException {
+        writeSize(out, value.length);
+        out.write(value);
+    }
+
+    /**
+     * @param in The input.
+     * @return The bytes written by {@link #writeBytes(DataOutput, byte[])}.
+     * @throws StreamCorruptedException If the input ends before the declared number of bytes.
+     * @throws IOException              If the input fails.
+     */
+    public static byte[] readBytes(DataInput in) throws IOException {
+        int size = readSize(in);
+        byte[] value = new byte[Math.min(size, CHUNK_SIZE)];
+        try {
+            in.readFully(value);
+            while (value.length < size) {
+                int read = value.length;
+                value = Arrays.copyOf(value, grownCapacity(read, size));
+                in.readFully(value, read, value.length - read);
+            }
+        } catch (EOFException e) {
+            StreamCorruptedException corrupted = new StreamCorruptedException("The input ends before the declared " + size + " bytes");
+            corrupted.initCause(e);
+            throw corrupted;
+        }
+        return value;
+    }
+
+    /**
+     * The capacity to allocate for a collection or an array before its elements are read.
+     *
+     * @param size The size read from the input.
+     * @return The size, at most {@link #MAX_INITIAL_CAPACITY}.
+     */
+    public static int initialCapacity(int size) {
+        return Math.min(size, MAX_INITIAL_CAPACITY);
+    }
+
+    /**
+     * The capacity to grow a full array to while its elements are read.
+     *
+     * @param capacity The current capacity, all elements up to it are read.
+     * @param size     The size read from the input.
+     * @return Twice the capacity, at most the size.
+     */
+    public static int grownCapacity(int capacity, int size) {
+        return (int) Math.min(size, capacity * 2L);
+    }
+
+    public static void writeBigInteger(DataOutput out, BigInteger value) throws IOException {
+        writeBytes(out, value.toByteArray());
+    }
+
+    public static BigInteger readBigInteger(DataInput in) throws IOException {
+        return new BigInteger(readBytes(in));
+    }
+
+    public static void writeBigDecimal(DataOutput out, BigDecimal value) throws IOException {
+        writeInt(out, value.scale());
+        writeBigInteger(out, value.unscaledValue());
+    }
+
+    public static BigDecimal readBigDecimal(DataInput in) throws IOException {
+        int scale = readInt(in);
+        return new BigDecimal(readBigInteger(in), scale);
+    }
+
+    /**
+     * Writes the instant and the zone ID of the value, the zone rules are resolved again when the value is read.
+     */
+    public static void writeZonedDateTime(DataOutput out, ZonedDateTime value) throws IOException {
+        writeLong(out, value.toEpochSecond());
+        writeSize(out, value.getNano());
+        writeString(out, value.getZone().getId());
+    }
+
+    public static ZonedDateTime readZonedDateTime(DataInput in) throws IOException {
+        long epochSecond = readLong(in);
+        int nano = readSize(in);
+        return ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano), ZoneId.of(readString(in)));
+    }
+
+    private static void writeUnsigned(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readUnsigned(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            // The tenth byte holds only the highest bit, anything more would silently overflow
+            if (shift == 63 && b > 1) {
+                throw new StreamCorruptedException("Variable-length integer overflows 64 bits");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Variable-length integer is too long");
+    }
+
+    private static long readUnsigned(DataInput in, long max) throws IOException {
+        long value = readUnsigned(in);
+        if (Long.compareUnsigned(value, max) > 0) {
+            throw new StreamCorruptedException("Invalid value " + Long.toUnsignedString(value) + ", at most " + max + " expected");
+        }
+        return value;
+    }
+}
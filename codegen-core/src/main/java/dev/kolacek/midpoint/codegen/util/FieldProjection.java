@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kolacek.midpoint.codegen.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Immutable set of the fields of a connector model requested by midPoint, typically computed once per search from
+ * {@code OperationOptions.getAttributesToGet()} by the generated {@code projection} method.
+ * <p>
+ * The fields are identified by the generated {@code FIELD_<NAME>} constants. The UID and name are always part of the
+ * {@code ConnectorObject}, so a projection without any fields means that only the identifiers were requested.
+ * </p>
+ */
+public final class FieldProjection {
+
+    private static final FieldProjection ALL = new FieldProjection(true, new long[0], -1);
+    private static final FieldProjection IDENTIFIERS_ONLY = new FieldProjection(false, new long[0], 0);
+
+    private final boolean all;
+    private final long[] words;
+    private final int size;
+
+    private FieldProjection(boolean all, long[] words, int size) {
+        this.all = all;
+        this.words = words;
+        this.size = size;
+    }
+
+    /**
+     * Returns the projection including all fields, used when midPoint does not restrict the attributes to get.
+     *
+     * @return The projection including all fields.
+     */
+    public static FieldProjection all() {
+        return ALL;
+    }
+
+    /**
+     * Returns the projection including only the UID and the name.
+     *
+     * @return The projection without any fields.
+     */
+    public static FieldProjection identifiersOnly() {
+        return IDENTIFIERS_ONLY;
+    }
+
+    /**
+     * Creates the projection including the given fields, the bit set is copied.
+     *
+     * @param fields The indexes of the fields to include.
+     * @return The projection including the given fields.
+     */
+    public static FieldProjection of(BitSet fields) {
+        if (fields.isEmpty()) {
+            return IDENTIFIERS_ONLY;
+        }
+        return new FieldProjection(false, fields.toLongArray(), fields.cardinality());
+    }
+
+    /**
+     * Checks whether the field is included in the projection.
+     *
+     * @param fieldIndex The index of the field, see the generated {@code FIELD_<NAME>} constants.
+     * @return True if the field should be converted.
+     */
+    public boolean includes(int fieldIndex) {
+        if (all) {
+            return true;
+        }
+        int wordIndex = fieldIndex >>> 6;
+        return wordIndex < words.length && (words[wordIndex] & (1L << fieldIndex)) != 0;
+    }
+
+    /**
+     * @return True if all fields are included.
+     */
+    public boolean isAll() {
+        return all;
+    }
+
+    /**
+     * @return True if no fields besides the UID and the name are included.
+     */
+    public boolean isIdentifiersOnly() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of the included fields, which is unknown for {@link #all()}.
+     *
+     * @return The number of included fields, or {@code -1} if all fields are included.
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof FieldProjection that)) return false;
+        return all == that.all && Arrays.equals(words, that.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Boolean.hashCode(all) + Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return "FieldProjection{" +
+                "all=" + all +
+                ", fields=" + (all ? "*" : BitSet.valueOf(words).toString()) +
+                '}';
+    }
+}
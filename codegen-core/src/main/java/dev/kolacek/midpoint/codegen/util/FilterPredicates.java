@@ -0,0 +1,330 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.util;
+
+import org.identityconnectors.framework.common.exceptions.InvalidAttributeValueException;
+import org.identityconnectors.framework.common.objects.filter.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Compiles ConnId {@link Filter}s into predicates over connector models, so the models can be filtered before they are converted.
+ * <p>
+ * The generated {@code predicate} methods pass the attribute filters to a {@link LeafCompiler}, which reads the value of the
+ * attribute through the getter of the model. The values are compared the same way for every model, the only difference from
+ * {@link Filter#accept} is that a filter on a multivalued attribute matches if any of the values matches, except for
+ * {@link ContainsAllValuesFilter} and {@link EqualsFilter} with several values, which require all of them.
+ * </p>
+ */
+public final class FilterPredicates {
+
+    private FilterPredicates() {
+    }
+
+    /**
+     * Compiles the attribute filters of a single model.
+     *
+     * @param <T> The type of the model.
+     */
+    @FunctionalInterface
+    public interface LeafCompiler<T> {
+
+        /**
+         * @param filter     The attribute filter.
+         * @param ignoreCase Whether strings are compared ignoring case.
+         * @return The predicate testing the attribute of the model.
+         */
+        Predicate<T> compile(AttributeFilter filter, boolean ignoreCase);
+    }
+
+    /**
+     * Compiles the filter tree, {@code And}, {@code Or} and {@code Not} filters are compiled here, attribute filters by the leaf compiler.
+     *
+     * @param filter     The filter, {@code null} matches everything.
+     * @param ignoreCase Whether strings are compared ignoring case.
+     * @param leaves     The compiler of the attribute filters.
+     * @param <T>        The type of the model.
+     * @return The predicate.
+     * @throws UnsupportedOperationException For filters which can not be evaluated in memory.
+     */
+    public static <T> Predicate<T> compile(Filter filter, boolean ignoreCase, LeafCompiler<T> leaves) {
+        if (filter == null) {
+            return model -> true;
+        }
+        if (filter instanceof AndFilter andFilter) {
+            Predicate<T> left = compile(andFilter.getLeft(), ignoreCase, leaves);
+            Predicate<T> right = compile(andFilter.getRight(), ignoreCase, leaves);
+            return model -> left.test(model) && right.test(model);
+        }
+        if (filter instanceof OrFilter orFilter) {
+            Predicate<T> left = compile(orFilter.getLeft(), ignoreCase, leaves);
+            Predicate<T> right = compile(orFilter.getRight(), ignoreCase, leaves);
+            return model -> left.test(model) || right.test(model);
+        }
+        if (filter instanceof NotFilter notFilter) {
+            return compile(notFilter.getFilter(), ignoreCase, leaves).negate();
+        }
+        if (filter instanceof AttributeFilter attributeFilter) {
+            return leaves.compile(attributeFilter, ignoreCase);
+        }
+        throw new UnsupportedOperationException("Unsupported filter " + filter);
+    }
+
+    /**
+     * @param filter The attribute filter.
+     * @return The operator of the filter.
+     * @throws UnsupportedOperationException For unknown filters.
+     */
+    public static FilterOperator operator(AttributeFilter filter) {
+        if (filter instanceof EqualsFilter || filter instanceof EqualsIgnoreCaseFilter) {
+            return FilterOperator.EQUALS;
+        }
+        if (filter instanceof GreaterThanFilter) {
+            return FilterOperator.GREATER_THAN;
+        }
+        if (filter instanceof GreaterThanOrEqualFilter) {
+            return FilterOperator.GREATER_THAN_OR_EQUAL;
+        }
+        if (filter instanceof LessThanFilter) {
+            return FilterOperator.LESS_THAN;
+        }
+        if (filter instanceof LessThanOrEqualFilter) {
+            return FilterOperator.LESS_THAN_OR_EQUAL;
+        }
+        if (filter instanceof StartsWithFilter) {
+            return FilterOperator.STARTS_WITH;
+        }
+        if (filter instanceof EndsWithFilter) {
+            return FilterOperator.ENDS_WITH;
+        }
+        if (filter instanceof ContainsFilter) {
+            return FilterOperator.CONTAINS;
+        }
+        if (filter instanceof ContainsAllValuesFilter) {
+            return FilterOperator.CONTAINS_ALL_VALUES;
+        }
+        throw new UnsupportedOperationException("Unsupported filter " + filter);
+    }
+
+    private static Object singleValue(AttributeFilter filter) {
+        List<Object> values = filter.getAttribute().getValue();
+        return values != null && values.size() == 1 ? values.get(0) : null;
+    }
+
+    /**
+     * Returns the only value of the filter converted to the boxed type of a numeric primitive field, used by the generated code to
+     * compare the field without boxing. Values which don't fit the type exactly, e.g. {@code 2.5} or {@code 4294967297L} for an
+     * {@code int} field, and NaN are left to {@link #valuePredicate}, narrowing them would change the result.
+     *
+     * @param filter The attribute filter.
+     * @param type   The boxed type of the field, e.g. {@code Integer.class}.
+     * @return The value converted to the type, {@code null} if there are none or more values or the value doesn't fit the type.
+     */
+    public static Number exactNumber(AttributeFilter filter, Class<? extends Number> type) {
+        Object value = singleValue(filter);
+        if (!(value instanceof Number number) || Double.isNaN(number.doubleValue())) {
+            return null;
+        }
+        String name = filter.getName();
+        try {
+            if (type == Byte.class) {
+                return AttributeValues.toByte(name, number);
+            } else if (type == Short.class) {
+                return AttributeValues.toShort(name, number);
+            } else if (type == Integer.class) {
+                return AttributeValues.toInt(name, number);
+            } else if (type == Long.class) {
+                return AttributeValues.toLong(name, number);
+            } else if (type == Float.class) {
+                return AttributeValues.toFloat(name, number);
+            } else if (type == Double.class) {
+                return AttributeValues.toDouble(name, number);
+            }
+        } catch (InvalidAttributeValueException e) {
+            // Doesn't fit the field
+        }
+        return null;
+    }
+
+    /**
+     * Creates the predicate testing the value of a single valued attribute, {@code null} stands for a missing value.
+     *
+     * @param filter     The attribute filter.
+     * @param ignoreCase Whether strings are compared ignoring case.
+     * @return The predicate.
+     */
+    public static Predicate<Object> valuePredicate(AttributeFilter filter, boolean ignoreCase) {
+        FilterOperator operator = operator(filter);
+        boolean caseInsensitive = ignoreCase || filter instanceof EqualsIgnoreCaseFilter;
+        List<Object> expected = expectedValues(filter);
+        if (expected.isEmpty()) {
+            // Only equality with no values makes sense, it matches a missing value
+            return operator == FilterOperator.EQUALS ? Objects::isNull : value -> false;
+        }
+        if (operator == FilterOperator.EQUALS || operator == FilterOperator.CONTAINS_ALL_VALUES) {
+            return value -> value != null && expected.stream().allMatch(expectedValue -> equalsValue(value, expectedValue, caseInsensitive));
+        }
+        Object first = expected.get(0);
+        return value -> value != null && matches(operator, value, first, caseInsensitive);
+    }
+
+    /**
+     * Creates the predicate testing the values of a multivalued attribute, {@code null} or an empty collection stand for a missing value.
+     *
+     * @param filter     The attribute filter.
+     * @param ignoreCase Whether strings are compared ignoring case.
+     * @return The predicate.
+     */
+    public static Predicate<Collection<?>> valuesPredicate(AttributeFilter filter, boolean ignoreCase) {
+        FilterOperator operator = operator(filter);
+        boolean caseInsensitive = ignoreCase || filter instanceof EqualsIgnoreCaseFilter;
+        List<Object> expected = expectedValues(filter);
+        if (expected.isEmpty()) {
+            if (operator == FilterOperator.CONTAINS_ALL_VALUES) {
+                return values -> true;
+            }
+            return operator == FilterOperator.EQUALS ? values -> values == null || values.isEmpty() : values -> false;
+        }
+        if (operator == FilterOperator.CONTAINS_ALL_VALUES || (operator == FilterOperator.EQUALS && expected.size() > 1)) {
+            boolean exact = operator == FilterOperator.EQUALS;
+            return values -> values != null && (!exact || values.size() == expected.size())
+                    && expected.stream().allMatch(expectedValue -> containsMatch(values, FilterOperator.EQUALS, expectedValue, caseInsensitive));
+        }
+        Object first = expected.get(0);
+        return values -> values != null && containsMatch(values, operator, first, caseInsensitive);
+    }
+
+    /**
+     * Null-safe view of an array returned by a getter, for {@link #valuesPredicate}.
+     *
+     * @param values The array.
+     * @return The list backed by the array, {@code null} for {@code null}.
+     */
+    public static List<Object> asList(Object[] values) {
+        return values == null ? null : Arrays.asList(values);
+    }
+
+    private static List<Object> expectedValues(AttributeFilter filter) {
+        List<Object> values = filter.getAttribute().getValue();
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream().filter(Objects::nonNull).toList();
+    }
+
+    private static boolean containsMatch(Collection<?> values, FilterOperator operator, Object expected, boolean ignoreCase) {
+        for (Object value : values) {
+            if (value != null && matches(operator, value, expected, ignoreCase)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(FilterOperator operator, Object value, Object expected, boolean ignoreCase) {
+        switch (operator) {
+            case EQUALS:
+            case CONTAINS_ALL_VALUES:
+                return equalsValue(value, expected, ignoreCase);
+            case GREATER_THAN:
+                return compare(value, expected, ignoreCase) > 0;
+            case GREATER_THAN_OR_EQUAL:
+                return compare(value, expected, ignoreCase) >= 0;
+            case LESS_THAN:
+                return compare(value, expected, ignoreCase) < 0;
+            case LESS_THAN_OR_EQUAL:
+                return compare(value, expected, ignoreCase) <= 0;
+            case STARTS_WITH:
+                return regionMatch(value.toString(), expected.toString(), ignoreCase, true);
+            case ENDS_WITH:
+                return regionMatch(value.toString(), expected.toString(), ignoreCase, false);
+            case CONTAINS:
+                return containsString(value.toString(), expected.toString(), ignoreCase);
+            default:
+                throw new IllegalStateException("Unknown operator " + operator);
+        }
+    }
+
+    private static boolean equalsValue(Object value, Object expected, boolean ignoreCase) {
+        if (value instanceof Number number && expected instanceof Number expectedNumber) {
+            return compareNumbers(number, expectedNumber) == 0;
+        }
+        if (ignoreCase && value instanceof String string && expected instanceof String expectedString) {
+            return string.equalsIgnoreCase(expectedString);
+        }
+        if (value instanceof byte[] bytes && expected instanceof byte[] expectedBytes) {
+            return Arrays.equals(bytes, expectedBytes);
+        }
+        return value.equals(expected);
+    }
+
+    /**
+     * Compares the values, numbers are compared by their value regardless of their type.
+     *
+     * @throws IllegalArgumentException If the values can not be ordered.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object value, Object expected, boolean ignoreCase) {
+        if (value instanceof Number number && expected instanceof Number expectedNumber) {
+            return compareNumbers(number, expectedNumber);
+        }
+        if (value instanceof String string && expected instanceof String expectedString) {
+            return ignoreCase ? string.compareToIgnoreCase(expectedString) : string.compareTo(expectedString);
+        }
+        if (value instanceof Comparable comparable && value.getClass().isInstance(expected)) {
+            return comparable.compareTo(expected);
+        }
+        throw new IllegalArgumentException("Can not compare " + value.getClass().getName() + " with " + expected.getClass().getName());
+    }
+
+    private static int compareNumbers(Number number, Number expected) {
+        if (isIntegral(number) && isIntegral(expected)) {
+            return Long.compare(number.longValue(), expected.longValue());
+        }
+        if (number instanceof BigDecimal || number instanceof BigInteger || expected instanceof BigDecimal || expected instanceof BigInteger) {
+            return new BigDecimal(number.toString()).compareTo(new BigDecimal(expected.toString()));
+        }
+        return Double.compare(number.doubleValue(), expected.doubleValue());
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte;
+    }
+
+    private static boolean regionMatch(String value, String expected, boolean ignoreCase, boolean start) {
+        int offset = start ? 0 : value.length() - expected.length();
+        return offset >= 0 && value.regionMatches(ignoreCase, offset, expected, 0, expected.length());
+    }
+
+    private static boolean containsString(String value, String expected, boolean ignoreCase) {
+        if (!ignoreCase) {
+            return value.contains(expected);
+        }
+        // Avoids lower-casing the value for every model
+        for (int offset = 0; offset <= value.length() - expected.length(); offset++) {
+            if (value.regionMatches(true, offset, expected, 0, expected.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
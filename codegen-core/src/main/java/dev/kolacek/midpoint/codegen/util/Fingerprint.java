@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.util;
+
+/**
+ * 128-bit content fingerprint of a connector model, computed by the generated {@code fingerprint} method.
+ * <p>
+ * Two models with the same attribute values have the same fingerprint, in every JVM and every run, so fingerprints can be
+ * stored and compared between synchronization runs instead of the models. The fingerprint is not cryptographic.
+ * </p>
+ */
+public final class Fingerprint {
+
+    public static final int BYTES = 16;
+
+    private final long high;
+    private final long low;
+
+    public Fingerprint(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Restores the fingerprint from the result of {@link #toBytes()}.
+     *
+     * @param bytes The 16 bytes of the fingerprint.
+     * @return The fingerprint.
+     */
+    public static Fingerprint fromBytes(byte[] bytes) {
+        if (bytes.length != BYTES) {
+            throw new IllegalArgumentException("Fingerprint has " + BYTES + " bytes, got " + bytes.length);
+        }
+        return new Fingerprint(readLong(bytes, 0), readLong(bytes, 8));
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    /**
+     * @return The 64-bit variant of the fingerprint, for stores where 16 bytes per object are too many.
+     */
+    public long asLong() {
+        return high ^ low;
+    }
+
+    /**
+     * @return The fingerprint as 16 big-endian bytes.
+     */
+    public byte[] toBytes() {
+        byte[] bytes = new byte[BYTES];
+        writeLong(bytes, 0, high);
+        writeLong(bytes, 8, low);
+        return bytes;
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static void writeLong(byte[] bytes, int offset, long value) {
+        for (int i = 7; i >= 0; i--) {
+            bytes[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Fingerprint that)) return false;
+        return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high ^ low);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", high, low);
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.util;
+
+import org.identityconnectors.common.security.GuardedByteArray;
+import org.identityconnectors.common.security.GuardedString;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Streaming hash producing a {@link Fingerprint}, used by the generated {@code fingerprint} methods.
+ * <p>
+ * The hash is defined by the values only, strings are hashed by their characters and never by {@link Object#hashCode()},
+ * so the result is stable across JVMs. Every value is prefixed by a type tag and variable length values by their length,
+ * so e.g. {@code ["ab", "c"]} and {@code ["a", "bc"]} differ. The hasher is not thread-safe, create one per model.
+ * </p>
+ */
+public final class FingerprintHasher {
+
+    private static final long SEED_HIGH = 0x9E3779B97F4A7C15L;
+    private static final long SEED_LOW = 0xC2B2AE3D27D4EB4FL;
+    private static final long MULTIPLIER_HIGH = 0x87C37B91114253D5L;
+    private static final long MULTIPLIER_LOW = 0x4CF5AD432745937FL;
+
+    private static final int TAG_NULL = 1;
+    private static final int TAG_INT = 2;
+    private static final int TAG_LONG = 3;
+    private static final int TAG_DOUBLE = 4;
+    private static final int TAG_FLOAT = 5;
+    private static final int TAG_BOOLEAN = 6;
+    private static final int TAG_CHAR = 7;
+    private static final int TAG_STRING = 8;
+    private static final int TAG_BYTES = 9;
+    private static final int TAG_BIG_DECIMAL = 10;
+    private static final int TAG_BIG_INTEGER = 11;
+    private static final int TAG_DATE_TIME = 12;
+    private static final int TAG_GUARDED_STRING = 13;
+    private static final int TAG_GUARDED_BYTES = 14;
+    private static final int TAG_ORDERED = 15;
+    private static final int TAG_UNORDERED = 16;
+    private static final int TAG_FIELD = 17;
+    private static final int TAG_SHORT = 18;
+    private static final int TAG_BYTE = 19;
+
+    private long high = SEED_HIGH;
+    private long low = SEED_LOW;
+    private long length;
+    // Hashes the elements of unordered collections, created on first use
+    private FingerprintHasher elementHasher;
+
+    /**
+     * Starts a field, the index makes the same values in different fields hash differently.
+     *
+     * @param fieldIndex The generated {@code FIELD_<NAME>} index.
+     * @return This hasher.
+     */
+    public FingerprintHasher field(int fieldIndex) {
+        return mix(TAG_FIELD, fieldIndex);
+    }
+
+    public FingerprintHasher putNull() {
+        return mix(TAG_NULL, 0);
+    }
+
+    public FingerprintHasher putInt(int value) {
+        return mix(TAG_INT, value);
+    }
+
+    public FingerprintHasher putShort(short value) {
+        return mix(TAG_SHORT, value);
+    }
+
+    public FingerprintHasher putByte(byte value) {
+        return mix(TAG_BYTE, value);
+    }
+
+    public FingerprintHasher putLong(long value) {
+        return mix(TAG_LONG, value);
+    }
+
+    public FingerprintHasher putDouble(double value) {
+        return mix(TAG_DOUBLE, Double.doubleToLongBits(value));
+    }
+
+    public FingerprintHasher putFloat(float value) {
+        return mix(TAG_FLOAT, Float.floatToIntBits(value));
+    }
+
+    public FingerprintHasher putBoolean(boolean value) {
+        return mix(TAG_BOOLEAN, value ? 1 : 0);
+    }
+
+    public FingerprintHasher putChar(char value) {
+        return mix(TAG_CHAR, value);
+    }
+
+    public FingerprintHasher putString(String value) {
+        if (value == null) {
+            return putNull();
+        }
+        mix(TAG_STRING, value.length());
+        return putChars(value);
+    }
+
+    public FingerprintHasher putBytes(byte[] value) {
+        if (value == null) {
+            return putNull();
+        }
+        mix(TAG_BYTES, value.length);
+        return putByteContent(value);
+    }
+
+    /**
+     * Hashes a value of any supported attribute type, the typed methods should be preferred where the type is known.
+     *
+     * @param value The value.
+     * @return This hasher.
+     * @throws IllegalArgumentException For unsupported types.
+     */
+    public FingerprintHasher putValue(Object value) {
+        if (value == null) {
+            return putNull();
+        }
+        if (value instanceof String string) {
+            return putString(string);
+        }
+        if (value instanceof Integer integer) {
+            return putInt(integer);
+        }
+        if (value instanceof Long number) {
+            return putLong(number);
+        }
+        if (value instanceof Boolean bool) {
+            return putBoolean(bool);
+        }
+        if (value instanceof Double number) {
+            return putDouble(number);
+        }
+        if (value instanceof Float number) {
+            return putFloat(number);
+        }
+        if (value instanceof Short number) {
+            return putShort(number);
+        }
+        if (value instanceof Byte number) {
+            return putByte(number);
+        }
+        if (value instanceof Character character) {
+            return putChar(character);
+        }
+        if (value instanceof byte[] bytes) {
+            return putBytes(bytes);
+        }
+        if (value instanceof BigDecimal decimal) {
+            mix(TAG_BIG_DECIMAL, decimal.scale());
+            return putBigInteger(decimal.unscaledValue());
+        }
+        if (value instanceof BigInteger integer) {
+            mix(TAG_BIG_INTEGER, 0);
+            return putBigInteger(integer);
+        }
+        if (value instanceof ZonedDateTime dateTime) {
+            mix(TAG_DATE_TIME, dateTime.toEpochSecond());
+            mix(TAG_DATE_TIME, dateTime.getNano());
+            return putString(dateTime.getZone().getId());
+        }
+        if (value instanceof GuardedString guardedString) {
+            return putGuardedString(guardedString);
+        }
+        if (value instanceof GuardedByteArray guardedBytes) {
+            return putGuardedBytes(guardedBytes);
+        }
+        if (value instanceof Object[] array) {
+            return putOrdered(array);
+        }
+        throw new IllegalArgumentException("Unsupported value type " + value.getClass().getName());
+    }
+
+    /**
+     * Hashes the secret through {@link GuardedString#access}, the clear text is never turned into a {@code String}.
+     *
+     * @param value The secret.
+     * @return This hasher.
+     */
+    public FingerprintHasher putGuardedString(GuardedString value) {
+        if (value == null) {
+            return putNull();
+        }
+        value.access(chars -> {
+            mix(TAG_GUARDED_STRING, chars.length);
+            for (char c : chars) {
+                mix(TAG_CHAR, c);
+            }
+        });
+        return this;
+    }
+
+    public FingerprintHasher putGuardedBytes(GuardedByteArray value) {
+        if (value == null) {
+            return putNull();
+        }
+        value.access(bytes -> {
+            mix(TAG_GUARDED_BYTES, bytes.length);
+            putByteContent(bytes);
+        });
+        return this;
+    }
+
+    /**
+     * Hashes the values in their iteration order.
+     *
+     * @param values The values, may be {@code null}.
+     * @return This hasher.
+     */
+    public FingerprintHasher putOrdered(Collection<?> values) {
+        if (values == null) {
+            return putNull();
+        }
+        mix(TAG_ORDERED, values.size());
+        for (Object value : values) {
+            putValue(value);
+        }
+        return this;
+    }
+
+    public FingerprintHasher putOrdered(Object[] values) {
+        if (values == null) {
+            return putNull();
+        }
+        mix(TAG_ORDERED, values.length);
+        for (Object value : values) {
+            putValue(value);
+        }
+        return this;
+    }
+
+    /**
+     * Hashes the values regardless of their order, the element hashes are combined by addition.
+     *
+     * @param values The values, may be {@code null}.
+     * @return This hasher.
+     */
+    public FingerprintHasher putUnordered(Collection<?> values) {
+        if (values == null) {
+            return putNull();
+        }
+        if (elementHasher == null) {
+            elementHasher = new FingerprintHasher();
+        }
+        long sumHigh = 0;
+        long sumLow = 0;
+        for (Object value : values) {
+            elementHasher.reset();
+            Fingerprint element = elementHasher.putValue(value).finish();
+            sumHigh += element.getHigh();
+            sumLow += element.getLow();
+        }
+        mix(TAG_UNORDERED, values.size());
+        mix(TAG_UNORDERED, sumHigh);
+        return mix(TAG_UNORDERED, sumLow);
+    }
+
+    public FingerprintHasher putUnordered(Object[] values) {
+        return putUnordered(values == null ? null : Arrays.asList(values));
+    }
+
+    /**
+     * @return The fingerprint of the values hashed so far.
+     */
+    public Fingerprint finish() {
+        long h1 = high ^ length;
+        long h2 = low ^ length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+        return new Fingerprint(h1, h2);
+    }
+
+    private FingerprintHasher putChars(String value) {
+        int i = 0;
+        int length = value.length();
+        // Four characters per round
+        for (; i + 4 <= length; i += 4) {
+            mix(TAG_STRING, (long) value.charAt(i) | (long) value.charAt(i + 1) << 16 | (long) value.charAt(i + 2) << 32 | (long) value.charAt(i + 3) << 48);
+        }
+        for (; i < length; i++) {
+            mix(TAG_CHAR, value.charAt(i));
+        }
+        return this;
+    }
+
+    private FingerprintHasher putByteContent(byte[] bytes) {
+        int i = 0;
+        for (; i + 8 <= bytes.length; i += 8) {
+            long word = 0;
+            for (int j = 0; j < 8; j++) {
+                word = (word << 8) | (bytes[i + j] & 0xFF);
+            }
+            mix(TAG_BYTES, word);
+        }
+        for (; i < bytes.length; i++) {
+            mix(TAG_BYTE, bytes[i]);
+        }
+        return this;
+    }
+
+    private FingerprintHasher putBigInteger(BigInteger value) {
+        return putBytes(value.toByteArray());
+    }
+
+    private FingerprintHasher mix(int tag, long value) {
+        long k1 = (value ^ ((long) tag << 56) ^ tag) * MULTIPLIER_HIGH;
+        k1 = Long.rotateLeft(k1, 31) * MULTIPLIER_LOW;
+        high ^= k1;
+        high = Long.rotateLeft(high, 27) + low;
+        high = high * 5 + 0x52DCE729;
+
+        long k2 = (value + tag) * MULTIPLIER_LOW;
+        k2 = Long.rotateLeft(k2, 33) * MULTIPLIER_HIGH;
+        low ^= k2;
+        low = Long.rotateLeft(low, 31) + high;
+        low = low * 5 + 0x38495AB5;
+
+        length++;
+        return this;
+    }
+
+    private void reset() {
+        high = SEED_HIGH;
+        low = SEED_LOW;
+        length = 0;
+    }
+
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xFF51AFD7ED558CCDL;
+        k ^= k >>> 33;
+        k *= 0xC4CEB9FE1A85EC53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,645 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kolacek.midpoint.codegen.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Pull parser of JSON, the input of the generated {@code readJson} and {@code readJsonArray} methods of the models.
+ * <p>
+ * The reader keeps only a char buffer and the nesting of the current value, so a response is read in constant memory regardless
+ * of its size. Names and strings are allocated only when they are consumed, skipped strings are scanned without allocating.
+ * Numbers may also be read from strings, as some APIs quote large numbers, and several top-level values may follow each other,
+ * e.g. in JSON Lines.
+ * </p>
+ * <p>
+ * A typical REST response wraps the records in an envelope, the reader is moved to the array and the records are passed on as
+ * soon as they are read:
+ * </p>
+ * <pre>{@code
+ * try (JsonReader reader = new JsonReader(response.body())) {
+ *     reader.beginObject();
+ *     while (reader.hasNext()) {
+ *         if (reader.nextName().equals("items")) {
+ *             UserBuilders.readJsonArray(reader, user -> handler.handle(UserBuilders.connectorObjectBuilder(user).build()));
+ *         } else {
+ *             reader.skipValue();
+ *         }
+ *     }
+ *     reader.endObject();
+ * }
+ * }</pre>
+ * <p>
+ * The reader is not thread safe.
+ * </p>
+ */
+public final class JsonReader implements Closeable {
+
+    /**
+     * The kinds of the tokens returned by {@link #peek()}.
+     */
+    public enum Token {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+
+    // The scopes on the stack, the state of the enclosing value
+    private static final int DOCUMENT = 0;
+    private static final int EMPTY_ARRAY = 1;
+    private static final int NONEMPTY_ARRAY = 2;
+    private static final int EMPTY_OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int NONEMPTY_OBJECT = 5;
+
+    private final Reader in;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder builder = new StringBuilder();
+    private int pos;
+    private int limit;
+    // Offset of the start of the buffer in the input, for error messages
+    private long bufferOffset;
+
+    private int[] stack = new int[32];
+    private int stackSize = 1;
+
+    // The opening character of the peeked token is already consumed, its value is read when the token is consumed
+    private Token peeked;
+    private boolean peekedBoolean;
+    private String peekedNumber;
+
+    /**
+     * @param in The input, should be buffered only if it is not a {@link java.io.BufferedReader} already.
+     */
+    public JsonReader(Reader in) {
+        this.in = Objects.requireNonNull(in, "in");
+        stack[0] = DOCUMENT;
+    }
+
+    /**
+     * @param in The UTF-8 encoded input.
+     */
+    public JsonReader(InputStream in) {
+        this(new InputStreamReader(Objects.requireNonNull(in, "in"), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the kind of the next token without consuming it.
+     *
+     * @return The kind of the next token, {@link Token#END_DOCUMENT} at the end of the input.
+     * @throws JsonSyntaxException If the input is not valid JSON.
+     * @throws IOException         If the input fails.
+     */
+    public Token peek() throws IOException {
+        if (peeked == null) {
+            peeked = doPeek();
+        }
+        return peeked;
+    }
+
+    /**
+     * @return Whether the current object or array has another element.
+     * @throws IOException If the input fails or is not valid JSON.
+     */
+    public boolean hasNext() throws IOException {
+        Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    public void beginObject() throws IOException {
+        consume(Token.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    public void endObject() throws IOException {
+        consume(Token.END_OBJECT);
+        stackSize--;
+    }
+
+    public void beginArray() throws IOException {
+        consume(Token.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    public void endArray() throws IOException {
+        consume(Token.END_ARRAY);
+        stackSize--;
+    }
+
+    /**
+     * @return The name of the next member of the current object.
+     * @throws IOException If the next token is not a name, the input fails or is not valid JSON.
+     */
+    public String nextName() throws IOException {
+        consume(Token.NAME);
+        return readString();
+    }
+
+    /**
+     * @return The next string, or the text of the next number.
+     * @throws IOException If the next token is not a string or a number, the input fails or is not valid JSON.
+     */
+    public String nextString() throws IOException {
+        Token token = peek();
+        if (token == Token.STRING) {
+            peeked = null;
+            return readString();
+        }
+        if (token == Token.NUMBER) {
+            peeked = null;
+            return peekedNumber;
+        }
+        throw unexpected("a string");
+    }
+
+    /**
+     * @return The next string, which must have exactly one character.
+     * @throws IOException If the next token is not a single character string, the input fails or is not valid JSON.
+     */
+    public char nextChar() throws IOException {
+        String value = nextString();
+        if (value.length() != 1) {
+            throw syntaxError("Expected a single character but was \"" + value + "\"");
+        }
+        return value.charAt(0);
+    }
+
+    public boolean nextBoolean() throws IOException {
+        consume(Token.BOOLEAN);
+        return peekedBoolean;
+    }
+
+    public void nextNull() throws IOException {
+        consume(Token.NULL);
+    }
+
+    /**
+     * Consumes the next token if it is {@code null}, so nullable values are read as
+     * {@code reader.skipNull() ? null : reader.nextString()}.
+     *
+     * @return Whether the next token was {@code null}.
+     * @throws IOException If the input fails or is not valid JSON.
+     */
+    public boolean skipNull() throws IOException {
+        if (peek() == Token.NULL) {
+            peeked = null;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return The next number, which must be an integer in the range of {@code int}.
+     * @throws IOException If the next token is not such a number, the input fails or is not valid JSON.
+     */
+    public int nextInt() throws IOException {
+        long value = nextLong();
+        if ((int) value != value) {
+            throw syntaxError("Number " + value + " doesn't fit an int");
+        }
+        return (int) value;
+    }
+
+    /**
+     * @return The next number, which must be an integer in the range of {@code long}, e.g. {@code 1e3} is accepted.
+     * @throws IOException If the next token is not such a number, the input fails or is not valid JSON.
+     */
+    public long nextLong() throws IOException {
+        String number = nextNumber("a long");
+        try {
+            return Long.parseLong(number);
+        } catch (NumberFormatException e) {
+            try {
+                return new BigDecimal(number).longValueExact();
+            } catch (NumberFormatException | ArithmeticException ex) {
+                throw syntaxError("Invalid long " + number);
+            }
+        }
+    }
+
+    public double nextDouble() throws IOException {
+        String number = nextNumber("a double");
+        try {
+            return Double.parseDouble(number);
+        } catch (NumberFormatException e) {
+            throw syntaxError("Invalid double " + number);
+        }
+    }
+
+    public BigInteger nextBigInteger() throws IOException {
+        String number = nextNumber("an integer");
+        try {
+            return new BigDecimal(number).toBigIntegerExact();
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw syntaxError("Invalid integer " + number);
+        }
+    }
+
+    public BigDecimal nextBigDecimal() throws IOException {
+        String number = nextNumber("a decimal");
+        try {
+            return new BigDecimal(number);
+        } catch (NumberFormatException e) {
+            throw syntaxError("Invalid decimal " + number);
+        }
+    }
+
+    /**
+     * @return The bytes of the next string, decoded as Base64, the usual representation of binary data in JSON.
+     * @throws IOException If the next token is not a Base64 string, the input fails or is not valid JSON.
+     */
+    public byte[] nextBase64() throws IOException {
+        String value = nextString();
+        try {
+            return Base64.getDecoder().decode(value);
+        } catch (IllegalArgumentException e) {
+            throw syntaxError("Invalid Base64 string");
+        }
+    }
+
+    /**
+     * @return The next string, parsed as an ISO-8601 date-time with an offset, e.g. {@code 2025-01-31T12:00:00Z}.
+     * @throws IOException If the next token is not such a string, the input fails or is not valid JSON.
+     */
+    public ZonedDateTime nextZonedDateTime() throws IOException {
+        String value = nextString();
+        try {
+            return ZonedDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw syntaxError("Invalid date-time " + value);
+        }
+    }
+
+    /**
+     * Skips the next value, with all nested values, e.g. the value of an unknown member.
+     *
+     * @throws IOException If there is no next value, the input fails or is not valid JSON.
+     */
+    public void skipValue() throws IOException {
+        if (!hasNext()) {
+            throw unexpected("a value");
+        }
+        int depth = 0;
+        do {
+            Token token = peek();
+            peeked = null;
+            switch (token) {
+                case BEGIN_OBJECT -> {
+                    push(EMPTY_OBJECT);
+                    depth++;
+                }
+                case BEGIN_ARRAY -> {
+                    push(EMPTY_ARRAY);
+                    depth++;
+                }
+                case END_OBJECT, END_ARRAY -> {
+                    stackSize--;
+                    depth--;
+                }
+                case NAME, STRING -> skipString();
+                case END_DOCUMENT -> throw syntaxError("Unexpected end of input");
+                default -> {
+                    // Literals and numbers are consumed by peek
+                }
+            }
+        } while (depth > 0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        peeked = null;
+        stackSize = 1;
+        in.close();
+    }
+
+    private Token doPeek() throws IOException {
+        int scope = stack[stackSize - 1];
+        if (scope == EMPTY_ARRAY) {
+            stack[stackSize - 1] = NONEMPTY_ARRAY;
+        } else if (scope == NONEMPTY_ARRAY) {
+            int c = nextNonWhitespace(false);
+            if (c == ']') {
+                return Token.END_ARRAY;
+            }
+            if (c != ',') {
+                throw characterError("Expected ',' or ']'");
+            }
+        } else if (scope == EMPTY_OBJECT || scope == NONEMPTY_OBJECT) {
+            stack[stackSize - 1] = DANGLING_NAME;
+            int c = nextNonWhitespace(false);
+            if (c == '}') {
+                return Token.END_OBJECT;
+            }
+            if (scope == NONEMPTY_OBJECT) {
+                if (c != ',') {
+                    throw characterError("Expected ',' or '}'");
+                }
+                c = nextNonWhitespace(false);
+            }
+            if (c != '"') {
+                throw characterError("Expected a name");
+            }
+            return Token.NAME;
+        } else if (scope == DANGLING_NAME) {
+            stack[stackSize - 1] = NONEMPTY_OBJECT;
+            if (nextNonWhitespace(false) != ':') {
+                throw characterError("Expected ':'");
+            }
+        } else if (nextNonWhitespace(true) == -1) {
+            return Token.END_DOCUMENT;
+        } else {
+            pos--;
+        }
+
+        int c = nextNonWhitespace(false);
+        switch (c) {
+            case ']':
+                if (scope == EMPTY_ARRAY) {
+                    return Token.END_ARRAY;
+                }
+                throw characterError("Unexpected ']'");
+            case '{':
+                return Token.BEGIN_OBJECT;
+            case '[':
+                return Token.BEGIN_ARRAY;
+            case '"':
+                return Token.STRING;
+            case 't':
+                expectLiteral("rue");
+                peekedBoolean = true;
+                return Token.BOOLEAN;
+            case 'f':
+                expectLiteral("alse");
+                peekedBoolean = false;
+                return Token.BOOLEAN;
+            case 'n':
+                expectLiteral("ull");
+                return Token.NULL;
+            default:
+                if (c == '-' || isDigit(c)) {
+                    pos--;
+                    peekedNumber = readNumber();
+                    return Token.NUMBER;
+                }
+                throw characterError("Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    private void consume(Token expected) throws IOException {
+        if (peek() != expected) {
+            throw unexpected(expected.name());
+        }
+        peeked = null;
+    }
+
+    private String nextNumber(String expected) throws IOException {
+        Token token = peek();
+        if (token == Token.NUMBER) {
+            peeked = null;
+            return peekedNumber;
+        }
+        if (token == Token.STRING) {
+            peeked = null;
+            return readString();
+        }
+        throw unexpected(expected);
+    }
+
+    private void push(int scope) {
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = scope;
+    }
+
+    /**
+     * Reads the rest of a string after the opening quote, the characters between escapes are copied from the buffer at once.
+     */
+    private String readString() throws IOException {
+        StringBuilder value = null;
+        while (true) {
+            int start = pos;
+            while (pos < limit) {
+                char c = buffer[pos++];
+                if (c == '"') {
+                    if (value == null) {
+                        return new String(buffer, start, pos - start - 1);
+                    }
+                    return value.append(buffer, start, pos - start - 1).toString();
+                } else if (c == '\\') {
+                    value = value == null ? resetBuilder() : value;
+                    value.append(buffer, start, pos - start - 1).append(readEscape());
+                    start = pos;
+                } else if (c < 0x20) {
+                    throw characterError("Unescaped control character in a string");
+                }
+            }
+            value = value == null ? resetBuilder() : value;
+            value.append(buffer, start, pos - start);
+            if (!fill(1)) {
+                throw syntaxError("Unterminated string");
+            }
+        }
+    }
+
+    private void skipString() throws IOException {
+        while (pos < limit || fill(1)) {
+            char c = buffer[pos++];
+            if (c == '"') {
+                return;
+            } else if (c == '\\') {
+                readEscape();
+            } else if (c < 0x20) {
+                throw characterError("Unescaped control character in a string");
+            }
+        }
+        throw syntaxError("Unterminated string");
+    }
+
+    private char readEscape() throws IOException {
+        if (pos == limit && !fill(1)) {
+            throw syntaxError("Unterminated escape sequence");
+        }
+        char c = buffer[pos++];
+        switch (c) {
+            case 'u':
+                if (limit - pos < 4 && !fill(4)) {
+                    throw syntaxError("Unterminated escape sequence");
+                }
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(buffer[pos++], 16);
+                    if (digit < 0) {
+                        throw characterError("Invalid unicode escape sequence");
+                    }
+                    value = value << 4 | digit;
+                }
+                return (char) value;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case '"', '\\', '/':
+                return c;
+            default:
+                throw characterError("Invalid escape sequence '\\" + c + "'");
+        }
+    }
+
+    /**
+     * Reads a number as defined by the JSON grammar, {@code -?(0|[1-9][0-9]*)(\.[0-9]+)?([eE][+-]?[0-9]+)?}.
+     */
+    private String readNumber() throws IOException {
+        StringBuilder number = resetBuilder();
+        if (peekChar() == '-') {
+            number.append(buffer[pos++]);
+        }
+        if (peekChar() == '0') {
+            number.append(buffer[pos++]);
+        } else {
+            appendDigits(number);
+        }
+        if (peekChar() == '.') {
+            number.append(buffer[pos++]);
+            appendDigits(number);
+        }
+        int c = peekChar();
+        if (c == 'e' || c == 'E') {
+            number.append(buffer[pos++]);
+            c = peekChar();
+            if (c == '+' || c == '-') {
+                number.append(buffer[pos++]);
+            }
+            appendDigits(number);
+        }
+        c = peekChar();
+        if (isLiteralChar(c) || c == '.' || c == '+' || c == '-') {
+            throw syntaxError("Invalid number");
+        }
+        return number.toString();
+    }
+
+    private void appendDigits(StringBuilder number) throws IOException {
+        if (!isDigit(peekChar())) {
+            throw syntaxError("Invalid number");
+        }
+        do {
+            number.append(buffer[pos++]);
+        } while (isDigit(peekChar()));
+    }
+
+    private void expectLiteral(String rest) throws IOException {
+        for (int i = 0; i < rest.length(); i++) {
+            if (pos == limit && !fill(1)) {
+                throw syntaxError("Unexpected end of input");
+            }
+            if (buffer[pos++] != rest.charAt(i)) {
+                throw characterError("Invalid literal");
+            }
+        }
+        if (isLiteralChar(peekChar())) {
+            throw syntaxError("Invalid literal");
+        }
+    }
+
+    private int peekChar() throws IOException {
+        return pos < limit || fill(1) ? buffer[pos] : -1;
+    }
+
+    private int nextNonWhitespace(boolean endAllowed) throws IOException {
+        while (pos < limit || fill(1)) {
+            char c = buffer[pos++];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+        if (endAllowed) {
+            return -1;
+        }
+        throw syntaxError("Unexpected end of input");
+    }
+
+    /**
+     * Moves the unread characters to the start of the buffer and reads until there are at least {@code minimum} of them.
+     */
+    private boolean fill(int minimum) throws IOException {
+        bufferOffset += pos;
+        limit -= pos;
+        if (limit > 0) {
+            System.arraycopy(buffer, pos, buffer, 0, limit);
+        }
+        pos = 0;
+        int read;
+        while (limit < minimum && (read = in.read(buffer, limit, buffer.length - limit)) != -1) {
+            limit += read;
+        }
+        return limit >= minimum;
+    }
+
+    private StringBuilder resetBuilder() {
+        builder.setLength(0);
+        return builder;
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLiteralChar(int c) {
+        return c >= 0 && (Character.isLetterOrDigit(c) || c == '_');
+    }
+
+    private JsonSyntaxException unexpected(String expected) {
+        return new JsonSyntaxException("Expected " + expected + " but was " + peeked, bufferOffset + pos);
+    }
+
+    /**
+     * Creates the exception for a value which is not valid for its field, e.g. an unknown enum constant, at the offset after
+     * the value just read.
+     *
+     * @param message The description of the error.
+     * @return The exception, to be thrown by the caller.
+     */
+    public JsonSyntaxException syntaxError(String message) {
+        return new JsonSyntaxException(message, bufferOffset + pos);
+    }
+
+    /**
+     * Reports the error at the character just consumed, the one that made the input invalid.
+     */
+    private JsonSyntaxException characterError(String message) {
+        return new JsonSyntaxException(message, bufferOffset + pos - 1);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kolacek.midpoint.codegen.util;
+
+import java.io.IOException;
+
+/**
+ * Thrown by {@link JsonReader} when the input is not valid JSON or a value doesn't have the expected type.
+ */
+public class JsonSyntaxException extends IOException {
+
+    private final long offset;
+
+    public JsonSyntaxException(String message, long offset) {
+        super(message + " at offset " + offset);
+        this.offset = offset;
+    }
+
+    /**
+     * @return The offset of the character in the input, counted in chars from the start of the input.
+     */
+    public long getOffset() {
+        return offset;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.util;
+
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.AttributeDelta;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClassInfo;
+import org.identityconnectors.framework.common.objects.OperationOptions;
+import org.identityconnectors.framework.common.objects.filter.Filter;
+
+import java.util.BitSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * The generated methods of a model, bound to its object class, returned by the {@code binding} methods of the generated
+ * {@code GeneratedConnectorSchema}.
+ * <p>
+ * The binding lets a connector serving several object classes implement every operation once, e.g. a search:
+ * </p>
+ * <pre>{@code
+ * ModelBinding<?> binding = GeneratedConnectorSchema.binding(objectClass);
+ * search(binding, filter, handler, options);
+ *
+ * <T> void search(ModelBinding<T> binding, Filter filter, ResultsHandler handler, OperationOptions options) {
+ *     FieldProjection projection = binding.projection(options);
+ *     Predicate<T> predicate = binding.predicate(filter);
+ *     for (T model : backend.list(binding.modelClass())) {
+ *         if (predicate.test(model) && !handler.handle(binding.connectorObjectBuilder(model, projection).build())) {
+ *             return;
+ *         }
+ *     }
+ * }
+ * }</pre>
+ *
+ * @param <T> The type of the model.
+ */
+public interface ModelBinding<T> {
+
+    /**
+     * @return The type of the object class, e.g. {@code ObjectClass.ACCOUNT_NAME}.
+     */
+    String objectClassName();
+
+    Class<T> modelClass();
+
+    /**
+     * @return The shared object class of the model, the generated {@code objectClassInfo()}.
+     */
+    ObjectClassInfo objectClassInfo();
+
+    /**
+     * @see FieldProjection
+     */
+    FieldProjection projection(OperationOptions options);
+
+    /**
+     * @param model      The model.
+     * @param projection The attributes to include, {@code null} for all.
+     * @return The builder populated from the model, the generated {@code connectorObjectBuilder(model, projection)}.
+     */
+    ConnectorObjectBuilder connectorObjectBuilder(T model, FieldProjection projection);
+
+    /**
+     * @param attributes The attributes, e.g. of {@code CreateOp.create}.
+     * @return The new model, the generated {@code fromAttributes}.
+     * @throws UnsupportedOperationException If the model has no setters or no accessible no-arg constructor.
+     */
+    T fromAttributes(Set<Attribute> attributes);
+
+    /**
+     * @param model  The model to update.
+     * @param deltas The deltas, e.g. of {@code UpdateDeltaOp.updateDelta}.
+     * @return The indexes of the changed fields, the generated {@code applyDeltas}.
+     * @throws UnsupportedOperationException If the model has no setters.
+     */
+    BitSet applyDeltas(T model, Set<AttributeDelta> deltas);
+
+    /**
+     * @param filter The filter, {@code null} matches all models.
+     * @return The predicate evaluating the filter on the model, the generated {@code predicate}.
+     */
+    Predicate<T> predicate(Filter filter);
+
+    /**
+     * @return The deltas turning the first model into the second one, the generated {@code diff}.
+     */
+    Set<AttributeDelta> diff(T before, T after);
+}
@@ -0,0 +1,370 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.util;
+
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ResultsHandler;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * In-memory store of connector models keyed by their UID, for connectors answering reads from a local copy of the backend.
+ * <p>
+ * The models are kept in a {@link StripedIndex}, an open-addressing hash table split into lock stripes: lookups do not lock
+ * unless they overlap a write to the same stripe, writes only lock the stripes of the keys they change. Secondary indexes
+ * map the value of a field to the models, unique ones (like the name) to a single model.
+ * </p>
+ * <p>
+ * Use the generated {@code newStore()} method, which configures the UID, the name, the fields marked as
+ * {@code @ConnectorAttribute(indexed = true)} and the conversion through the generated {@code connectorObjectBuilder}.
+ * The models must not be modified while they are in the store, put a new instance instead.
+ * </p>
+ *
+ * @param <T> The type of the models.
+ */
+public final class ModelStore<T> {
+
+    public static final int DEFAULT_STRIPES = 16;
+    /**
+     * The largest number of lock stripes, the stripe of a key is chosen by 8 bits of its hash.
+     */
+    public static final int MAX_STRIPES = StripedIndex.MAX_STRIPES;
+
+    private final Function<? super T, ?> uidKey;
+    private final BiFunction<? super T, FieldProjection, ConnectorObject> converter;
+    private final StripedIndex primary;
+    private final Map<String, SecondaryIndex<T>> indexes;
+
+    private ModelStore(Builder<T> builder) {
+        this.uidKey = builder.uidKey;
+        this.converter = builder.converter;
+        this.primary = new StripedIndex(builder.stripes, builder.expectedSize);
+        Map<String, SecondaryIndex<T>> secondaryIndexes = new LinkedHashMap<>();
+        for (SecondaryIndex.Definition<T> definition : builder.indexes) {
+            secondaryIndexes.put(definition.name(), new SecondaryIndex<>(definition, builder.stripes, builder.expectedSize));
+        }
+        this.indexes = Collections.unmodifiableMap(secondaryIndexes);
+    }
+
+    /**
+     * @param uidKey    The UID of a model.
+     * @param converter The conversion of a model to a connector object, with the attributes included in the projection.
+     * @param <T>       The type of the models.
+     * @return The builder of the store.
+     */
+    public static <T> Builder<T> builder(Function<? super T, ?> uidKey, BiFunction<? super T, FieldProjection, ConnectorObject> converter) {
+        return new Builder<>(uidKey, converter);
+    }
+
+    /**
+     * Adds the model or replaces the model with the same UID, the secondary indexes are updated under the lock of the UID.
+     *
+     * @param model The model.
+     * @return The replaced model, {@code null} if there was none.
+     * @throws IllegalArgumentException If the model has no UID.
+     */
+    @SuppressWarnings("unchecked")
+    public T put(T model) {
+        Object uid = requireUid(model);
+        Object[] previous = new Object[1];
+        primary.update(uid, current -> {
+            previous[0] = current;
+            for (SecondaryIndex<T> index : indexes.values()) {
+                index.replace(uid, (T) current, model);
+            }
+            return model;
+        });
+        return (T) previous[0];
+    }
+
+    /**
+     * @param uid The UID.
+     * @return The removed model, {@code null} if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public T remove(Object uid) {
+        Object[] previous = new Object[1];
+        primary.update(uid, current -> {
+            previous[0] = current;
+            if (current != null) {
+                for (SecondaryIndex<T> index : indexes.values()) {
+                    index.replace(uid, (T) current, null);
+                }
+            }
+            return null;
+        });
+        return (T) previous[0];
+    }
+
+    /**
+     * @param uid The UID.
+     * @return The model, {@code null} if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(Object uid) {
+        return uid == null ? null : (T) primary.get(uid);
+    }
+
+    /**
+     * Converts the model with the UID, typically for {@code GetApiOp}.
+     *
+     * @param uid        The UID.
+     * @param projection The attributes to include, {@code null} for all.
+     * @return The connector object, {@code null} if there is no model with the UID.
+     */
+    public ConnectorObject getObject(Object uid, FieldProjection projection) {
+        T model = get(uid);
+        return model == null ? null : converter.apply(model, projection);
+    }
+
+    /**
+     * Looks the model up by a unique secondary index.
+     *
+     * @param indexName The name of the index, the attribute name.
+     * @param key       The value of the indexed field.
+     * @return The model, {@code null} if there is none.
+     * @throws IllegalArgumentException If there is no such index or the index is not unique.
+     */
+    public T getUnique(String indexName, Object key) {
+        SecondaryIndex<T> index = index(indexName);
+        if (!index.definition.unique()) {
+            throw new IllegalArgumentException("Index " + indexName + " is not unique");
+        }
+        List<T> models = index.find(key);
+        return models.isEmpty() ? null : models.get(0);
+    }
+
+    /**
+     * Looks the models up by a secondary index.
+     *
+     * @param indexName The name of the index, the attribute name.
+     * @param key       The value of the indexed field.
+     * @return The models with the value, in no particular order.
+     * @throws IllegalArgumentException If there is no such index.
+     */
+    public List<T> find(String indexName, Object key) {
+        return index(indexName).find(key);
+    }
+
+    /**
+     * Passes the matching models to the handler, converted with the projection. The store is processed stripe by stripe,
+     * the handler is never called while a lock is held.
+     *
+     * @param filter     The models to pass, {@code null} for all, e.g. the generated {@code predicate(filter)}.
+     * @param projection The attributes to include, {@code null} for all.
+     * @param handler    The handler.
+     * @return {@code false} if the handler requested to stop, {@code true} otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean search(Predicate<? super T> filter, FieldProjection projection, ResultsHandler handler) {
+        for (int stripe = 0; stripe < primary.stripeCount(); stripe++) {
+            for (Object value : primary.stripeValues(stripe)) {
+                T model = (T) value;
+                if ((filter == null || filter.test(model)) && !handler.handle(converter.apply(model, projection))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        return primary.size();
+    }
+
+    /**
+     * Removes all models stripe by stripe. Every model is removed from the secondary indexes under the lock of its UID, like in
+     * {@link #remove(Object)}, so writes running concurrently keep the indexes consistent. A model put into a stripe which is
+     * already cleared stays in the store.
+     */
+    @SuppressWarnings("unchecked")
+    public void clear() {
+        primary.clear((uid, model) -> {
+            for (SecondaryIndex<T> index : indexes.values()) {
+                index.replace(uid, (T) model, null);
+            }
+        });
+    }
+
+    /**
+     * @return The names of the secondary indexes.
+     */
+    public Set<String> indexNames() {
+        return indexes.keySet();
+    }
+
+    private Object requireUid(T model) {
+        Object uid = model == null ? null : uidKey.apply(model);
+        if (uid == null) {
+            throw new IllegalArgumentException("Model without UID can not be stored: " + model);
+        }
+        return uid;
+    }
+
+    private SecondaryIndex<T> index(String indexName) {
+        SecondaryIndex<T> index = indexes.get(indexName);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown index " + indexName + ", known indexes are " + indexes.keySet());
+        }
+        return index;
+    }
+
+    /**
+     * Maps the values of a field to the models. The entries of non-unique indexes hold a concurrent map of the models by their
+     * UID, changed in place under the lock of the key, so adding or removing a model doesn't copy the other models of the key
+     * and readers can iterate it while it changes.
+     */
+    private static final class SecondaryIndex<T> {
+
+        private final Definition<T> definition;
+        private final StripedIndex entries;
+
+        private SecondaryIndex(Definition<T> definition, int stripes, int expectedSize) {
+            this.definition = definition;
+            this.entries = new StripedIndex(stripes, definition.unique() ? expectedSize : expectedSize / 4);
+        }
+
+        private void replace(Object uid, T previous, T model) {
+            Object previousKey = previous == null ? null : definition.key().apply(previous);
+            Object key = model == null ? null : definition.key().apply(model);
+            if (previousKey != null) {
+                entries.update(previousKey, current -> without(current, uid));
+            }
+            if (key != null) {
+                entries.update(key, current -> with(current, uid, model));
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<T> find(Object key) {
+            Object value = key == null ? null : entries.get(key);
+            if (value == null) {
+                return List.of();
+            }
+            return definition.unique() ? List.of((T) value) : List.copyOf(((Map<Object, T>) value).values());
+        }
+
+        private Object without(Object current, Object uid) {
+            if (current == null) {
+                return null;
+            }
+            if (definition.unique()) {
+                return uid.equals(definition.uidKey().apply(cast(current))) ? null : current;
+            }
+            Map<Object, T> models = models(current);
+            models.remove(uid);
+            return models.isEmpty() ? null : models;
+        }
+
+        private Object with(Object current, Object uid, T model) {
+            if (definition.unique()) {
+                return model;
+            }
+            Map<Object, T> models = current == null ? new ConcurrentHashMap<>(2) : models(current);
+            models.put(uid, model);
+            return models;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Map<Object, T> models(Object current) {
+            return (Map<Object, T>) current;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T cast(Object model) {
+            return (T) model;
+        }
+
+        private record Definition<T>(String name, Function<? super T, ?> key, Function<? super T, ?> uidKey, boolean unique) {
+        }
+    }
+
+    /**
+     * Builder of the store.
+     *
+     * @param <T> The type of the models.
+     */
+    public static final class Builder<T> {
+
+        private final Function<? super T, ?> uidKey;
+        private final BiFunction<? super T, FieldProjection, ConnectorObject> converter;
+        private final List<SecondaryIndex.Definition<T>> indexes = new ArrayList<>();
+        private int stripes = DEFAULT_STRIPES;
+        private int expectedSize = 1024;
+
+        private Builder(Function<? super T, ?> uidKey, BiFunction<? super T, FieldProjection, ConnectorObject> converter) {
+            this.uidKey = Objects.requireNonNull(uidKey, "uidKey");
+            this.converter = Objects.requireNonNull(converter, "converter");
+        }
+
+        /**
+         * Adds an index of a field whose values are unique, a new model with the same value replaces the old one in the index.
+         *
+         * @param name The name of the index, the attribute name.
+         * @param key  The value of the field, models with a {@code null} value are not indexed.
+         * @return This builder.
+         */
+        public Builder<T> uniqueIndex(String name, Function<? super T, ?> key) {
+            indexes.add(new SecondaryIndex.Definition<>(name, key, uidKey, true));
+            return this;
+        }
+
+        /**
+         * Adds an index of a field whose values may be shared by several models.
+         *
+         * @param name The name of the index, the attribute name.
+         * @param key  The value of the field, models with a {@code null} value are not indexed.
+         * @return This builder.
+         */
+        public Builder<T> index(String name, Function<? super T, ?> key) {
+            indexes.add(new SecondaryIndex.Definition<>(name, key, uidKey, false));
+            return this;
+        }
+
+        /**
+         * @param stripes The number of lock stripes, rounded up to a power of two, at most {@value #MAX_STRIPES}, default is
+         *                {@value #DEFAULT_STRIPES}.
+         * @return This builder.
+         */
+        public Builder<T> stripes(int stripes) {
+            if (stripes < 1 || stripes > MAX_STRIPES) {
+                throw new IllegalArgumentException("Stripes must be between 1 and " + MAX_STRIPES + ", got " + stripes);
+            }
+            this.stripes = stripes;
+            return this;
+        }
+
+        /**
+         * @param expectedSize The expected number of models, the tables are sized to avoid rehashing up to it.
+         * @return This builder.
+         */
+        public Builder<T> expectedSize(int expectedSize) {
+            if (expectedSize < 0) {
+                throw new IllegalArgumentException("Expected size must not be negative, got " + expectedSize);
+            }
+            this.expectedSize = expectedSize;
+            return this;
+        }
+
+        public ModelStore<T> build() {
+            return new ModelStore<>(this);
+        }
+    }
+}
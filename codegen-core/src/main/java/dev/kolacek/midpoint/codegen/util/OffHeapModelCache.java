@@ -0,0 +1,691 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.util;
+
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Size-bounded cache of connector models keyed by their UID, holding the models encoded outside the Java heap.
+ * <p>
+ * The models are encoded by the generated {@code writeTo} and kept in direct {@link ByteBuffer}s, so a large cache adds
+ * almost nothing for the garbage collector to trace. The cache is split into stripes, each with its own buffer and lock.
+ * A buffer is divided into fixed-size blocks and an entry occupies a chain of them, so any free block can be reused without
+ * compaction. The entry starts with the UID encoded as UTF-8, the keys are compared in the buffer too. The index of a stripe is
+ * an open-addressing table of primitive arrays, there is no object per entry left on the heap.
+ * </p>
+ * <p>
+ * The UIDs are keyed by their string form, as the ConnId {@code Uid} is a string, so e.g. {@code 42L} and {@code "42"} are
+ * the same key.
+ * </p>
+ * <p>
+ * When a stripe is full, entries are evicted by the CLOCK algorithm, an approximation of LRU: every read marks the entry
+ * as referenced, and the eviction hand skips (and unmarks) referenced entries. Reads of a stripe run concurrently, writes lock it.
+ * </p>
+ * <p>
+ * Use the generated {@code newCache(capacity)} method, which configures the UID, the binary codec and the conversion through the
+ * generated {@code connectorObjectBuilder}.
+ * </p>
+ *
+ * @param <T> The type of the models.
+ */
+public final class OffHeapModelCache<T> {
+
+    public static final int DEFAULT_STRIPES = 16;
+    /**
+     * The largest number of lock stripes, the stripe of a key is chosen by the highest 8 bits of its hash.
+     */
+    public static final int MAX_STRIPES = 256;
+    public static final int DEFAULT_BLOCK_SIZE = 128;
+    public static final long DEFAULT_CAPACITY = 64L * 1024 * 1024;
+
+    private static final int MIN_ENTRIES = 16;
+
+    private final Function<? super T, ?> uidKey;
+    private final Encoder<? super T> encoder;
+    private final Decoder<? extends T> decoder;
+    private final BiFunction<? super T, FieldProjection, ConnectorObject> converter;
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final int blockSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private OffHeapModelCache(Builder<T> builder) {
+        this.uidKey = builder.uidKey;
+        this.encoder = builder.encoder;
+        this.decoder = builder.decoder;
+        this.converter = builder.converter;
+        this.blockSize = builder.blockSize;
+
+        int count = builder.stripes == 1 ? 1 : Integer.highestOneBit(builder.stripes - 1) << 1;
+        long stripeBlocks = builder.capacity / count / blockSize;
+        if (stripeBlocks < 1) {
+            throw new IllegalArgumentException("Capacity " + builder.capacity + " is too small for " + count + " stripes of " + blockSize + " byte blocks");
+        }
+        if (stripeBlocks * blockSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Capacity " + builder.capacity + " needs more than " + count + " stripes, a stripe holds at most 2 GB");
+        }
+        this.stripes = new Stripe[count];
+        this.stripeMask = count - 1;
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe((int) stripeBlocks, blockSize, evictions);
+        }
+    }
+
+    /**
+     * @param uidKey    The UID of a model.
+     * @param encoder   The encoding of a model, the generated {@code writeTo}.
+     * @param decoder   The decoding of a model, the generated {@code readFrom}.
+     * @param converter The conversion of a model to a connector object, with the attributes included in the projection.
+     * @param <T>       The type of the models.
+     * @return The builder of the cache.
+     */
+    public static <T> Builder<T> builder(Function<? super T, ?> uidKey, Encoder<? super T> encoder, Decoder<? extends T> decoder,
+                                         BiFunction<? super T, FieldProjection, ConnectorObject> converter) {
+        return new Builder<>(uidKey, encoder, decoder, converter);
+    }
+
+    /**
+     * Encodes the model and adds it to the cache, replacing the entry with the same UID. Entries which have not been read
+     * recently are evicted to make room for it.
+     *
+     * @param model The model, it may be modified after the call.
+     * @return {@code false} if the encoded model is larger than a stripe and was not cached.
+     * @throws IllegalArgumentException If the model has no UID.
+     */
+    public boolean put(T model) {
+        Object uid = model == null ? null : uidKey.apply(model);
+        if (uid == null) {
+            throw new IllegalArgumentException("Model without UID can not be cached: " + model);
+        }
+        byte[] key = key(uid);
+        EncodingBuffer buffer = new EncodingBuffer();
+        // The key is stored in front of the model
+        buffer.write(key, 0, key.length);
+        try {
+            encoder.write(model, new DataOutputStream(buffer));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int hash = hash(key);
+        return stripes[(hash >>> 24) & stripeMask].put(key, hash, buffer.bytes(), buffer.size());
+    }
+
+    /**
+     * Decodes the cached model, every call returns a new instance.
+     *
+     * @param uid The UID.
+     * @return The model, {@code null} if it is not cached.
+     */
+    public T get(Object uid) {
+        if (uid == null) {
+            return null;
+        }
+        byte[] key = key(uid);
+        int hash = hash(key);
+        Stripe stripe = stripes[(hash >>> 24) & stripeMask];
+        byte[] data = stripe.read(key, hash);
+        if (data == null) {
+            misses.increment();
+            return null;
+        }
+        try {
+            T model = decoder.read(new DataInputStream(new ByteArrayInputStream(data)));
+            hits.increment();
+            return model;
+        } catch (StaleSchemaException e) {
+            // Encoded by another version of the model class, it can't be decoded anymore. The entry may have been replaced
+            // since it was read, only the same data is removed.
+            stripe.removeIfSame(key, hash, data);
+            misses.increment();
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Converts the cached model with the UID, typically for {@code GetApiOp}.
+     *
+     * @param uid        The UID.
+     * @param projection The attributes to include, {@code null} for all.
+     * @return The connector object, {@code null} if the model is not cached.
+     */
+    public ConnectorObject getObject(Object uid, FieldProjection projection) {
+        T model = get(uid);
+        return model == null ? null : converter.apply(model, projection);
+    }
+
+    /**
+     * @param uid The UID.
+     * @return {@code true} if the model was cached.
+     */
+    public boolean remove(Object uid) {
+        if (uid == null) {
+            return false;
+        }
+        byte[] key = key(uid);
+        int hash = hash(key);
+        return stripes[(hash >>> 24) & stripeMask].remove(key, hash);
+    }
+
+    /**
+     * @param uid The UID.
+     * @return {@code true} if the model is cached, the entry is not marked as referenced.
+     */
+    public boolean containsKey(Object uid) {
+        if (uid == null) {
+            return false;
+        }
+        byte[] key = key(uid);
+        int hash = hash(key);
+        return stripes[(hash >>> 24) & stripeMask].contains(key, hash);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            long stamp = stripe.lock.readLock();
+            try {
+                size += stripe.size;
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return The bytes of the blocks occupied by the entries.
+     */
+    public long usedBytes() {
+        long used = 0;
+        for (Stripe stripe : stripes) {
+            long stamp = stripe.lock.readLock();
+            try {
+                used += (long) (stripe.blockCount - stripe.freeBlockCount) * blockSize;
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+        return used;
+    }
+
+    /**
+     * @return The off-heap bytes allocated by the cache.
+     */
+    public long capacity() {
+        return (long) stripes.length * stripes[0].blockCount * blockSize;
+    }
+
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            long stamp = stripe.lock.writeLock();
+            try {
+                stripe.reset();
+            } finally {
+                stripe.lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /**
+     * @return The counters of the cache since it was created.
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private static byte[] key(Object uid) {
+        return uid.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int hash(byte[] key) {
+        int hash = Arrays.hashCode(key) * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Counters of the cache. A lookup of a stale entry counts as a miss, entries replaced or removed explicitly are not evictions.
+     *
+     * @param hits      The lookups which found the model.
+     * @param misses    The lookups which did not find the model.
+     * @param evictions The entries evicted to make room for new ones.
+     */
+    public record Stats(long hits, long misses, long evictions) {
+
+        /**
+         * @return The ratio of the hits to all lookups, {@code 0} if there were none.
+         */
+        public double hitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+
+    /**
+     * Encodes a model, the generated {@code writeTo}.
+     *
+     * @param <T> The type of the models.
+     */
+    @FunctionalInterface
+    public interface Encoder<T> {
+        void write(T model, DataOutput out) throws IOException;
+    }
+
+    /**
+     * Decodes a model, the generated {@code readFrom}.
+     *
+     * @param <T> The type of the models.
+     */
+    @FunctionalInterface
+    public interface Decoder<T> {
+        T read(DataInput in) throws IOException;
+    }
+
+    /**
+     * Exposes the internal array, so the encoded model is copied to the off-heap buffer without another copy.
+     */
+    private static final class EncodingBuffer extends ByteArrayOutputStream {
+
+        private EncodingBuffer() {
+            super(256);
+        }
+
+        private byte[] bytes() {
+            return buf;
+        }
+    }
+
+    /**
+     * A part of the cache with its own buffer, index and lock.
+     * <p>
+     * Entries are kept in slots of parallel arrays, a free slot has no first block. The index maps the key to the slot by
+     * linear probing and stores {@code slot + 1}, so {@code 0} marks an empty position. Removed positions are closed by shifting the following
+     * entries back, which keeps the index free of tombstones. The blocks of the buffer form linked chains in {@code nextBlock},
+     * the free blocks form one more chain.
+     * </p>
+     */
+    private static final class Stripe {
+
+        private final StampedLock lock = new StampedLock();
+        private final ByteBuffer data;
+        private final int blockCount;
+        private final int blockSize;
+        private final LongAdder evictions;
+        private final int[] nextBlock;
+        private int freeBlock;
+        private int freeBlockCount;
+
+        private int[] index;
+        private int[] hashes;
+        private int[] firstBlocks;
+        // Of the key and the model
+        private int[] lengths;
+        private int[] keyLengths;
+        // Written by readers under the read lock, a lost update only delays the eviction of the entry
+        private byte[] referenced;
+        private int[] freeSlots;
+        private int freeSlotCount;
+        private int slotCount;
+        private int size;
+        private int hand;
+
+        private Stripe(int blockCount, int blockSize, LongAdder evictions) {
+            this.blockCount = blockCount;
+            this.blockSize = blockSize;
+            this.evictions = evictions;
+            this.data = ByteBuffer.allocateDirect(blockCount * blockSize);
+            this.nextBlock = new int[blockCount];
+            reset();
+        }
+
+        private byte[] read(byte[] key, int hash) {
+            long stamp = lock.readLock();
+            try {
+                int slot = find(key, hash);
+                if (slot < 0) {
+                    return null;
+                }
+                referenced[slot] = 1;
+                return model(slot);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private boolean contains(byte[] key, int hash) {
+            long stamp = lock.readLock();
+            try {
+                return find(key, hash) >= 0;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private boolean put(byte[] key, int hash, byte[] bytes, int length) {
+            long stamp = lock.writeLock();
+            try {
+                int existing = find(key, hash);
+                if (existing >= 0) {
+                    removeSlot(existing);
+                }
+                int blocks = Math.max(1, (length + blockSize - 1) / blockSize);
+                if (blocks > blockCount) {
+                    return false;
+                }
+                while (freeBlockCount < blocks) {
+                    evict();
+                }
+
+                int first = freeBlock;
+                int block = first;
+                for (int offset = 0; ; offset += blockSize) {
+                    data.put(block * blockSize, bytes, offset, Math.min(blockSize, length - offset));
+                    if (offset + blockSize >= length) {
+                        break;
+                    }
+                    block = nextBlock[block];
+                }
+                freeBlock = nextBlock[block];
+                nextBlock[block] = -1;
+                freeBlockCount -= blocks;
+
+                int slot = allocateSlot();
+                hashes[slot] = hash;
+                firstBlocks[slot] = first;
+                lengths[slot] = length;
+                keyLengths[slot] = key.length;
+                referenced[slot] = 0;
+                size++;
+                if (size * 2 > index.length) {
+                    rebuildIndex(index.length * 2);
+                } else {
+                    insert(slot);
+                }
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private boolean remove(byte[] key, int hash) {
+            long stamp = lock.writeLock();
+            try {
+                int slot = find(key, hash);
+                if (slot < 0) {
+                    return false;
+                }
+                removeSlot(slot);
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Removes the entry only if it still holds the model, a put since it was read is kept.
+         */
+        private void removeIfSame(byte[] key, int hash, byte[] model) {
+            long stamp = lock.writeLock();
+            try {
+                int slot = find(key, hash);
+                if (slot >= 0 && lengths[slot] - keyLengths[slot] == model.length && Arrays.equals(model(slot), model)) {
+                    removeSlot(slot);
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Copies the encoded model of the slot, which follows the key.
+         */
+        private byte[] model(int slot) {
+            byte[] bytes = new byte[lengths[slot] - keyLengths[slot]];
+            int block = firstBlocks[slot];
+            int position = keyLengths[slot];
+            for (; position >= blockSize; position -= blockSize) {
+                block = nextBlock[block];
+            }
+            for (int copied = 0; copied < bytes.length; block = nextBlock[block]) {
+                int count = Math.min(blockSize - position, bytes.length - copied);
+                data.get(block * blockSize + position, bytes, copied, count);
+                copied += count;
+                position = 0;
+            }
+            return bytes;
+        }
+
+        private boolean keyEquals(int slot, byte[] key) {
+            if (keyLengths[slot] != key.length) {
+                return false;
+            }
+            int block = firstBlocks[slot];
+            for (int offset = 0; offset < key.length; block = nextBlock[block]) {
+                int base = block * blockSize;
+                for (int end = Math.min(offset + blockSize, key.length); offset < end; offset++, base++) {
+                    if (data.get(base) != key[offset]) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Evicts the first entry found by the hand which was not read since the hand passed it last time.
+         */
+        private void evict() {
+            while (true) {
+                if (hand >= slotCount) {
+                    hand = 0;
+                }
+                int slot = hand++;
+                if (firstBlocks[slot] < 0) {
+                    continue;
+                }
+                if (referenced[slot] != 0) {
+                    referenced[slot] = 0;
+                    continue;
+                }
+                removeSlot(slot);
+                evictions.increment();
+                return;
+            }
+        }
+
+        private int find(byte[] key, int hash) {
+            int mask = index.length - 1;
+            for (int position = hash & mask; index[position] != 0; position = (position + 1) & mask) {
+                int slot = index[position] - 1;
+                if (hashes[slot] == hash && keyEquals(slot, key)) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        private void insert(int slot) {
+            int mask = index.length - 1;
+            int position = hashes[slot] & mask;
+            while (index[position] != 0) {
+                position = (position + 1) & mask;
+            }
+            index[position] = slot + 1;
+        }
+
+        private void removeSlot(int slot) {
+            int mask = index.length - 1;
+            int position = hashes[slot] & mask;
+            while (index[position] != slot + 1) {
+                position = (position + 1) & mask;
+            }
+            // Moves back the following entries which would not be found across the emptied position
+            for (int next = (position + 1) & mask; index[next] != 0; next = (next + 1) & mask) {
+                int home = hashes[index[next] - 1] & mask;
+                boolean movable = position <= next ? home <= position || home > next : home <= position && home > next;
+                if (movable) {
+                    index[position] = index[next];
+                    position = next;
+                }
+            }
+            index[position] = 0;
+
+            int block = firstBlocks[slot];
+            int blocks = 1;
+            while (nextBlock[block] >= 0) {
+                block = nextBlock[block];
+                blocks++;
+            }
+            nextBlock[block] = freeBlock;
+            freeBlock = firstBlocks[slot];
+            freeBlockCount += blocks;
+
+            firstBlocks[slot] = -1;
+            freeSlots[freeSlotCount++] = slot;
+            size--;
+        }
+
+        private int allocateSlot() {
+            if (freeSlotCount > 0) {
+                return freeSlots[--freeSlotCount];
+            }
+            if (slotCount == hashes.length) {
+                int capacity = hashes.length * 2;
+                hashes = Arrays.copyOf(hashes, capacity);
+                firstBlocks = Arrays.copyOf(firstBlocks, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+                keyLengths = Arrays.copyOf(keyLengths, capacity);
+                referenced = Arrays.copyOf(referenced, capacity);
+                freeSlots = Arrays.copyOf(freeSlots, capacity);
+            }
+            return slotCount++;
+        }
+
+        private void rebuildIndex(int capacity) {
+            index = new int[capacity];
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (firstBlocks[slot] >= 0) {
+                    insert(slot);
+                }
+            }
+        }
+
+        private void reset() {
+            for (int block = 0; block < blockCount; block++) {
+                nextBlock[block] = block + 1 < blockCount ? block + 1 : -1;
+            }
+            freeBlock = 0;
+            freeBlockCount = blockCount;
+            index = new int[MIN_ENTRIES * 2];
+            hashes = new int[MIN_ENTRIES];
+            firstBlocks = new int[MIN_ENTRIES];
+            lengths = new int[MIN_ENTRIES];
+            keyLengths = new int[MIN_ENTRIES];
+            referenced = new byte[MIN_ENTRIES];
+            freeSlots = new int[MIN_ENTRIES];
+            freeSlotCount = 0;
+            slotCount = 0;
+            size = 0;
+            hand = 0;
+        }
+    }
+
+    /**
+     * Builder of the cache.
+     *
+     * @param <T> The type of the models.
+     */
+    public static final class Builder<T> {
+
+        private final Function<? super T, ?> uidKey;
+        private final Encoder<? super T> encoder;
+        private final Decoder<? extends T> decoder;
+        private final BiFunction<? super T, FieldProjection, ConnectorObject> converter;
+        private long capacity = DEFAULT_CAPACITY;
+        private int stripes = DEFAULT_STRIPES;
+        private int blockSize = DEFAULT_BLOCK_SIZE;
+
+        private Builder(Function<? super T, ?> uidKey, Encoder<? super T> encoder, Decoder<? extends T> decoder,
+                        BiFunction<? super T, FieldProjection, ConnectorObject> converter) {
+            this.uidKey = Objects.requireNonNull(uidKey, "uidKey");
+            this.encoder = Objects.requireNonNull(encoder, "encoder");
+            this.decoder = Objects.requireNonNull(decoder, "decoder");
+            this.converter = Objects.requireNonNull(converter, "converter");
+        }
+
+        /**
+         * @param capacity The off-heap bytes, split evenly between the stripes and allocated up front, default is 64 MB.
+         * @return This builder.
+         */
+        public Builder<T> capacity(long capacity) {
+            if (capacity < 1) {
+                throw new IllegalArgumentException("Capacity must be positive, got " + capacity);
+            }
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * @param stripes The number of lock stripes, rounded up to a power of two, at most {@value #MAX_STRIPES}, default is
+         *                {@value #DEFAULT_STRIPES}.
+         * @return This builder.
+         */
+        public Builder<T> stripes(int stripes) {
+            if (stripes < 1 || stripes > MAX_STRIPES) {
+                throw new IllegalArgumentException("Stripes must be between 1 and " + MAX_STRIPES + ", got " + stripes);
+            }
+            this.stripes = stripes;
+            return this;
+        }
+
+        /**
+         * @param blockSize The size of the blocks the entries are stored in, default is {@value #DEFAULT_BLOCK_SIZE}.
+         *                  Smaller blocks waste less space on the last block of an entry, larger ones need fewer links.
+         * @return This builder.
+         */
+        public Builder<T> blockSize(int blockSize) {
+            if (blockSize < 16) {
+                throw new IllegalArgumentException("Block size must be at least 16, got " + blockSize);
+            }
+            this.blockSize = blockSize;
+            return this;
+        }
+
+        public OffHeapModelCache<T> build() {
+            return new OffHeapModelCache<>(this);
+        }
+    }
+}
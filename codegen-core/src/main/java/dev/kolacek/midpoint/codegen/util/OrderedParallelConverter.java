@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Converts the elements of a source in parallel and passes the results to a single-threaded consumer in the source order.
+ * <p>
+ * The source is read by the calling thread in batches, each batch is converted by a task of the executor. At most
+ * {@code maxPendingBatches} batches are converted or waiting for the consumer at any time, so a slow consumer does not
+ * make the converter buffer the whole source. The consumer is always called from the calling thread.
+ * </p>
+ * <p>
+ * When the consumer returns {@code false}, the batches which were not started yet are cancelled and the source is not read
+ * anymore. The converter itself is stateless and can be shared, the generated {@code emitAllParallel} methods use it with
+ * the generated {@code connectorObjectBuilder} as the conversion function.
+ * </p>
+ */
+public final class OrderedParallelConverter {
+
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private static final OrderedParallelConverter COMMON_POOL = new OrderedParallelConverter(ForkJoinPool.commonPool(),
+            DEFAULT_BATCH_SIZE, 2 * ForkJoinPool.getCommonPoolParallelism());
+
+    private final Executor executor;
+    private final int batchSize;
+    private final int maxPendingBatches;
+
+    /**
+     * @param executor          The executor converting the batches.
+     * @param batchSize         The number of elements converted by a single task.
+     * @param maxPendingBatches The maximum number of batches converted or waiting for the consumer.
+     */
+    public OrderedParallelConverter(Executor executor, int batchSize, int maxPendingBatches) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive, got " + batchSize);
+        }
+        if (maxPendingBatches < 1) {
+            throw new IllegalArgumentException("Max pending batches must be positive, got " + maxPendingBatches);
+        }
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.batchSize = batchSize;
+        this.maxPendingBatches = maxPendingBatches;
+    }
+
+    /**
+     * Returns the converter using the common {@link ForkJoinPool}, with two pending batches per thread of the pool.
+     *
+     * @return The shared converter.
+     */
+    public static OrderedParallelConverter commonPool() {
+        return COMMON_POOL;
+    }
+
+    /**
+     * Converts the elements of the source and passes the results to the consumer in the source order, {@code null} elements are skipped.
+     * <p>
+     * An exception thrown by the conversion is rethrown from this method once all results before it were consumed.
+     * </p>
+     *
+     * @param source    The elements to convert, read only by the calling thread.
+     * @param converter The conversion function, called concurrently.
+     * @param consumer  The consumer of the results, returns {@code false} to stop.
+     * @param <T>       The type of the elements.
+     * @param <R>       The type of the results.
+     * @return {@code false} if the consumer requested to stop, {@code true} otherwise.
+     */
+    public <T, R> boolean convert(Iterator<? extends T> source, Function<? super T, ? extends R> converter, Predicate<? super R> consumer) {
+        ArrayDeque<CompletableFuture<List<R>>> pending = new ArrayDeque<>(maxPendingBatches);
+        try {
+            while (true) {
+                while (pending.size() < maxPendingBatches && source.hasNext()) {
+                    List<T> batch = nextBatch(source);
+                    if (!batch.isEmpty()) {
+                        pending.add(CompletableFuture.supplyAsync(() -> convertBatch(batch, converter), executor));
+                    }
+                }
+                CompletableFuture<List<R>> head = pending.poll();
+                if (head == null) {
+                    return true;
+                }
+                for (R result : join(head)) {
+                    if (!consumer.test(result)) {
+                        return false;
+                    }
+                }
+            }
+        } finally {
+            // Not started batches are skipped, the running ones finish but their results are dropped
+            for (CompletableFuture<List<R>> future : pending) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    private <T> List<T> nextBatch(Iterator<? extends T> source) {
+        List<T> batch = new ArrayList<>(batchSize);
+        while (batch.size() < batchSize && source.hasNext()) {
+            T element = source.next();
+            if (element != null) {
+                batch.add(element);
+            }
+        }
+        return batch;
+    }
+
+    private static <T, R> List<R> convertBatch(List<T> batch, Function<? super T, ? extends R> converter) {
+        List<R> results = new ArrayList<>(batch.size());
+        for (T element : batch) {
+            results.add(converter.apply(element));
+        }
+        return results;
+    }
+
+    private static <R> List<R> join(CompletableFuture<List<R>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // The conversion function cannot throw checked exceptions
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.util;
+
+import org.identityconnectors.framework.common.exceptions.ConnectorException;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ResultsHandler;
+import org.identityconnectors.framework.common.objects.SearchResult;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Pages through a backend and hands the converted objects to a {@link ResultsHandler}, fetching the next pages while the
+ * current one is being converted.
+ * <p>
+ * The pages are fetched one after another by a single task of the executor and put to a queue holding at most
+ * {@code prefetchDepth} pages, the fetching waits when the queue is full. The pages are converted and handed to the handler
+ * by the calling thread, in the order they were fetched. When the handler returns {@code false}, the fetching task is
+ * interrupted and no further pages are requested, the returned {@link Result} tells where to resume.
+ * </p>
+ * <p>
+ * A page which is not the last one must move the search forward, pages without items and without a next cookie, or without
+ * a next cookie once the backend returned one, would be requested again forever and fail the search instead.
+ * </p>
+ * <p>
+ * The fetching task mostly waits for the backend, so it should not run on a pool meant for computations like the common
+ * {@code ForkJoinPool}. {@link #create(PageFetcher, int)} starts a new daemon thread per search, on Java 21 and newer
+ * {@code Executors.newVirtualThreadPerTaskExecutor()} can be passed instead.
+ * </p>
+ *
+ * @param <T> The type of the models returned by the backend.
+ */
+public final class PagedSearchPipeline<T> {
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private static final Executor THREAD_PER_SEARCH = task -> {
+        Thread thread = new Thread(task, "paged-search-prefetch");
+        thread.setDaemon(true);
+        thread.start();
+    };
+
+    private final PageFetcher<T> fetcher;
+    private final Executor executor;
+    private final int prefetchDepth;
+
+    /**
+     * @param fetcher       The backend call fetching a single page.
+     * @param executor      The executor running the fetching task, one task per search.
+     * @param prefetchDepth The maximum number of pages fetched ahead of the page being converted.
+     */
+    public PagedSearchPipeline(PageFetcher<T> fetcher, Executor executor, int prefetchDepth) {
+        if (prefetchDepth < 1) {
+            throw new IllegalArgumentException("Prefetch depth must be positive, got " + prefetchDepth);
+        }
+        this.fetcher = Objects.requireNonNull(fetcher, "fetcher");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.prefetchDepth = prefetchDepth;
+    }
+
+    /**
+     * Creates the pipeline fetching the pages on a new daemon thread for each search.
+     *
+     * @param fetcher       The backend call fetching a single page.
+     * @param prefetchDepth The maximum number of pages fetched ahead of the page being converted.
+     * @param <T>           The type of the models returned by the backend.
+     * @return The pipeline.
+     */
+    public static <T> PagedSearchPipeline<T> create(PageFetcher<T> fetcher, int prefetchDepth) {
+        return new PagedSearchPipeline<>(fetcher, THREAD_PER_SEARCH, prefetchDepth);
+    }
+
+    /**
+     * Runs the search from the first page.
+     *
+     * @see #search(String, int, Function, ResultsHandler)
+     */
+    public Result search(Function<? super T, ConnectorObject> converter, ResultsHandler handler) {
+        return search(null, 0, converter, handler);
+    }
+
+    /**
+     * Fetches the pages starting at the given cookie or offset, converts the models and passes them to the handler,
+     * {@code null} models are skipped.
+     * <p>
+     * Exceptions thrown by the fetcher are rethrown once the pages fetched before were handled, checked exceptions are wrapped
+     * in a {@link ConnectorException}. If the fetching task stops before the last page without a failure, e.g. because the
+     * executor was shut down, the search fails with a {@link ConnectorException} too.
+     * </p>
+     *
+     * @param cookie    The cookie of the first page, {@code null} to start from the beginning.
+     * @param offset    The offset of the first page, for backends paging by offset.
+     * @param converter The conversion of a model, typically the generated {@code connectorObjectBuilder(model).build()}.
+     * @param handler   The handler of the converted objects.
+     * @return The result with {@code allResultsReturned} set to {@code false} and the position to resume at if the handler
+     * requested to stop.
+     */
+    public Result search(String cookie, int offset, Function<? super T, ConnectorObject> converter, ResultsHandler handler) {
+        BlockingQueue<Fetched<T>> queue = new ArrayBlockingQueue<>(prefetchDepth);
+        FutureTask<Void> fetching = new FutureTask<>(() -> fetchPages(cookie, offset, queue), null);
+        executor.execute(fetching);
+        try {
+            while (true) {
+                Fetched<T> fetched = next(queue, fetching);
+                if (fetched.failure() != null) {
+                    throw rethrow(fetched.failure());
+                }
+                Page<T> page = fetched.page();
+                List<T> items = page.getItems();
+                for (int i = 0; i < items.size(); i++) {
+                    T item = items.get(i);
+                    if (item != null && !handler.handle(converter.apply(item))) {
+                        int nextOffset = fetched.offset() + i + 1;
+                        // A cookie can't point into a page, a page stopped in the middle is resumed from its start
+                        String nextCookie = i == items.size() - 1 ? page.getNextCookie() : fetched.cookie();
+                        return new Result(nextCookie, nextOffset, false);
+                    }
+                }
+                if (page.isLast()) {
+                    return new Result(null, fetched.offset() + items.size(), true);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectorException("Interrupted while waiting for the next page", e);
+        } finally {
+            // Stops the prefetching when the handler stopped or failed, no-op when the last page was fetched
+            fetching.cancel(true);
+        }
+    }
+
+    /**
+     * Takes the next page, polling so that a fetching task which ended without a last page or a failure is noticed.
+     */
+    private Fetched<T> next(BlockingQueue<Fetched<T>> queue, FutureTask<Void> fetching) throws InterruptedException {
+        while (true) {
+            Fetched<T> fetched = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            if (fetched != null) {
+                return fetched;
+            }
+            if (fetching.isDone()) {
+                // The page may have been put just before the task finished
+                fetched = queue.poll();
+                if (fetched != null) {
+                    return fetched;
+                }
+                throw new ConnectorException("Fetching of the pages stopped before the last page");
+            }
+        }
+    }
+
+    private void fetchPages(String cookie, int offset, BlockingQueue<Fetched<T>> queue) {
+        String nextCookie = cookie;
+        int nextOffset = offset;
+        boolean cookiePaging = cookie != null;
+        boolean finished = false;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Page<T> page;
+                try {
+                    page = fetcher.fetch(nextCookie, nextOffset);
+                } catch (InterruptedException e) {
+                    return;
+                } catch (Exception | Error e) {
+                    finished = true;
+                    queue.put(new Fetched<>(null, e, nextCookie, nextOffset));
+                    return;
+                }
+                if (!page.isLast()) {
+                    cookiePaging |= page.getNextCookie() != null;
+                    boolean stuck = cookiePaging
+                            ? page.getNextCookie() == null || page.getNextCookie().equals(nextCookie)
+                            : page.getItems().isEmpty();
+                    if (stuck) {
+                        finished = true;
+                        queue.put(new Fetched<>(null, new ConnectorException("The page at cookie " + nextCookie + ", offset " + nextOffset
+                                + " is not the last one, but doesn't move the search forward"), nextCookie, nextOffset));
+                        return;
+                    }
+                }
+                finished = page.isLast();
+                queue.put(new Fetched<>(page, null, nextCookie, nextOffset));
+                if (finished) {
+                    return;
+                }
+                nextCookie = page.getNextCookie();
+                nextOffset += page.getItems().size();
+            }
+        } catch (InterruptedException e) {
+            // The search was stopped, or the executor is shutting down
+        } finally {
+            if (!finished) {
+                // Never blocks, if the queue is full the search notices the finished task when it empties the queue
+                queue.offer(new Fetched<>(null, new ConnectorException("Fetching of the pages was interrupted"), nextCookie, nextOffset));
+            }
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable failure) {
+        if (failure instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return new ConnectorException(failure);
+    }
+
+    /**
+     * The backend call fetching a single page.
+     *
+     * @param <T> The type of the models.
+     */
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+
+        /**
+         * Fetches the page, backends paging by cookie use the cookie, backends paging by offset use the offset.
+         *
+         * @param cookie The cookie returned with the previous page, or the initial cookie.
+         * @param offset The number of models returned before this page plus the initial offset.
+         * @return The page, never {@code null}.
+         * @throws Exception When the backend call fails.
+         */
+        Page<T> fetch(String cookie, int offset) throws Exception;
+    }
+
+    /**
+     * A single page returned by the backend.
+     *
+     * @param <T> The type of the models.
+     */
+    public static final class Page<T> {
+
+        private final List<T> items;
+        private final String nextCookie;
+        private final boolean last;
+
+        private Page(List<T> items, String nextCookie, boolean last) {
+            this.items = Objects.requireNonNull(items, "items");
+            this.nextCookie = nextCookie;
+            this.last = last;
+        }
+
+        /**
+         * Creates a page followed by another page.
+         *
+         * @param items      The models of the page.
+         * @param nextCookie The cookie of the next page, {@code null} for backends paging by offset.
+         * @param <T>        The type of the models.
+         * @return The page.
+         */
+        public static <T> Page<T> of(List<T> items, String nextCookie) {
+            return new Page<>(items, nextCookie, false);
+        }
+
+        /**
+         * Creates the last page of the search.
+         *
+         * @param items The models of the page.
+         * @param <T>   The type of the models.
+         * @return The page.
+         */
+        public static <T> Page<T> last(List<T> items) {
+            return new Page<>(items, null, true);
+        }
+
+        public List<T> getItems() {
+            return items;
+        }
+
+        public String getNextCookie() {
+            return nextCookie;
+        }
+
+        public boolean isLast() {
+            return last;
+        }
+    }
+
+    /**
+     * The outcome of a search, with the position to resume at if the handler stopped it.
+     */
+    public static final class Result {
+
+        private final String nextCookie;
+        private final int nextOffset;
+        private final boolean allResultsReturned;
+
+        private Result(String nextCookie, int nextOffset, boolean allResultsReturned) {
+            this.nextCookie = nextCookie;
+            this.nextOffset = nextOffset;
+            this.allResultsReturned = allResultsReturned;
+        }
+
+        /**
+         * @return The cookie to resume the search with, {@code null} if all results were returned or the backend pages by offset.
+         * A search stopped in the middle of a page returns the cookie of that page, so the rest of the page is not lost.
+         */
+        public String getNextCookie() {
+            return nextCookie;
+        }
+
+        /**
+         * @return The offset of the first model not passed to the handler, plus the initial offset.
+         */
+        public int getNextOffset() {
+            return nextOffset;
+        }
+
+        public boolean isAllResultsReturned() {
+            return allResultsReturned;
+        }
+
+        /**
+         * @return The result for {@code SearchResultsHandler.handleResult}, with the next cookie and unknown remaining results.
+         */
+        public SearchResult toSearchResult() {
+            return new SearchResult(nextCookie, -1, allResultsReturned);
+        }
+    }
+
+    /**
+     * A fetched page or the failure of the fetching, with the cookie and the offset the page was requested with.
+     */
+    private record Fetched<T>(Page<T> page, Throwable failure, String cookie, int offset) {
+    }
+}
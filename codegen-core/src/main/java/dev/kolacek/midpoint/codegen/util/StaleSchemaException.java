@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.util;
+
+import java.io.IOException;
+
+/**
+ * Thrown when binary data written by the generated {@code writeTo} was written for a different version of the model.
+ * <p>
+ * Caches should drop the entry and load the object from the backend again.
+ * </p>
+ */
+public class StaleSchemaException extends IOException {
+
+    private final long expectedHash;
+    private final long actualHash;
+
+    public StaleSchemaException(long expectedHash, long actualHash) {
+        super(String.format("Schema hash %016x doesn't match the current schema %016x", actualHash, expectedHash));
+        this.expectedHash = expectedHash;
+        this.actualHash = actualHash;
+    }
+
+    /**
+     * @return The schema hash of the current model.
+     */
+    public long getExpectedHash() {
+        return expectedHash;
+    }
+
+    /**
+     * @return The schema hash read from the data.
+     */
+    public long getActualHash() {
+        return actualHash;
+    }
+}
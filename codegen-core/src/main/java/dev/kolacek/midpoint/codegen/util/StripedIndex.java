@@ -0,0 +1,280 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Hash index split to stripes, each an open-addressing table guarded by its own lock.
+ * <p>
+ * Keys and values are stored in a single array, the key at an even and the value at the following odd position, so there
+ * is no node object per entry and a lookup reads a single array. Collisions are resolved by linear probing, removed entries
+ * are marked by a tombstone until the table is rebuilt. Reads are optimistic and fall back to the read lock only when they
+ * overlap a write to the same stripe.
+ * </p>
+ */
+final class StripedIndex {
+
+    // The stripe is chosen by the highest 8 bits of the hash, the slot in its table by the lowest ones
+    static final int MAX_STRIPES = 256;
+
+    private static final Object TOMBSTONE = new Object();
+    private static final int MIN_CAPACITY = 8;
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    StripedIndex(int stripeCount, int expectedSize) {
+        if (stripeCount < 1 || stripeCount > MAX_STRIPES) {
+            throw new IllegalArgumentException("Stripes must be between 1 and " + MAX_STRIPES + ", got " + stripeCount);
+        }
+        int count = stripeCount == 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new Stripe[count];
+        this.stripeMask = count - 1;
+        int stripeCapacity = tableCapacity(expectedSize / count + 1);
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(stripeCapacity);
+        }
+    }
+
+    Object get(Object key) {
+        int hash = hash(key);
+        Stripe stripe = stripes[(hash >>> 24) & stripeMask];
+        long stamp = stripe.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            Object value = find(stripe.table, key, hash);
+            if (stripe.lock.validate(stamp)) {
+                return value;
+            }
+        }
+        stamp = stripe.lock.readLock();
+        try {
+            return find(stripe.table, key, hash);
+        } finally {
+            stripe.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @return the previous value, {@code null} if there was none
+     */
+    Object put(Object key, Object value) {
+        return update(key, previous -> value);
+    }
+
+    /**
+     * @return the removed value, {@code null} if there was none
+     */
+    Object remove(Object key) {
+        return update(key, previous -> null);
+    }
+
+    /**
+     * Replaces the value of the key under the lock of its stripe, a {@code null} result removes the key.
+     *
+     * @return the previous value, {@code null} if there was none
+     */
+    Object update(Object key, UnaryOperator<Object> function) {
+        int hash = hash(key);
+        Stripe stripe = stripes[(hash >>> 24) & stripeMask];
+        long stamp = stripe.lock.writeLock();
+        try {
+            return stripe.update(key, hash, function);
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            long stamp = stripe.lock.readLock();
+            try {
+                size += stripe.size;
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+        return size;
+    }
+
+    int stripeCount() {
+        return stripes.length;
+    }
+
+    /**
+     * Copies the values of a single stripe, so they can be processed without holding its lock.
+     */
+    List<Object> stripeValues(int stripeIndex) {
+        Stripe stripe = stripes[stripeIndex];
+        long stamp = stripe.lock.readLock();
+        try {
+            List<Object> values = new ArrayList<>(stripe.size);
+            Object[] table = stripe.table;
+            for (int i = 0; i < table.length; i += 2) {
+                Object key = table[i];
+                if (key != null && key != TOMBSTONE) {
+                    values.add(table[i + 1]);
+                }
+            }
+            return values;
+        } finally {
+            stripe.lock.unlockRead(stamp);
+        }
+    }
+
+    void clear() {
+        clear(null);
+    }
+
+    /**
+     * Removes all entries stripe by stripe, the consumer gets every removed key and value under the write lock of its stripe.
+     */
+    void clear(BiConsumer<Object, Object> removed) {
+        for (Stripe stripe : stripes) {
+            long stamp = stripe.lock.writeLock();
+            try {
+                if (removed != null) {
+                    Object[] table = stripe.table;
+                    for (int i = 0; i < table.length; i += 2) {
+                        Object key = table[i];
+                        if (key != null && key != TOMBSTONE) {
+                            removed.accept(key, table[i + 1]);
+                        }
+                    }
+                }
+                stripe.table = new Object[stripe.table.length];
+                stripe.size = 0;
+                stripe.used = 0;
+            } finally {
+                stripe.lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    private static Object find(Object[] table, Object key, int hash) {
+        int mask = table.length - 2;
+        int index = (hash << 1) & mask;
+        // Bounded, an optimistic read may see a table which is being modified
+        for (int probes = table.length >> 1; probes > 0; probes--) {
+            Object candidate = table[index];
+            if (candidate == null) {
+                return null;
+            }
+            if (candidate != TOMBSTONE && (candidate == key || candidate.equals(key))) {
+                return table[index + 1];
+            }
+            index = (index + 2) & mask;
+        }
+        return null;
+    }
+
+    private static int hash(Object key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int tableCapacity(int expectedSize) {
+        // Load factor of 0.5, the table holds two slots per entry
+        int slots = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2 - 1) << 1);
+        return slots * 2;
+    }
+
+    private static final class Stripe {
+
+        private final StampedLock lock = new StampedLock();
+        private volatile Object[] table;
+        private int size;
+        // Entries and tombstones
+        private int used;
+
+        private Stripe(int capacity) {
+            this.table = new Object[capacity];
+        }
+
+        private Object update(Object key, int hash, UnaryOperator<Object> function) {
+            Object[] current = table;
+            int mask = current.length - 2;
+            int index = (hash << 1) & mask;
+            int tombstone = -1;
+            while (true) {
+                Object candidate = current[index];
+                if (candidate == null) {
+                    break;
+                }
+                if (candidate == TOMBSTONE) {
+                    if (tombstone < 0) {
+                        tombstone = index;
+                    }
+                } else if (candidate == key || candidate.equals(key)) {
+                    Object previous = current[index + 1];
+                    Object value = function.apply(previous);
+                    if (value == null) {
+                        current[index] = TOMBSTONE;
+                        current[index + 1] = null;
+                        size--;
+                    } else {
+                        current[index + 1] = value;
+                    }
+                    return previous;
+                }
+                index = (index + 2) & mask;
+            }
+
+            Object value = function.apply(null);
+            if (value == null) {
+                return null;
+            }
+            if (tombstone >= 0) {
+                index = tombstone;
+            } else {
+                used++;
+            }
+            current[index + 1] = value;
+            current[index] = key;
+            size++;
+            if (used * 4 > current.length) {
+                rehash();
+            }
+            return null;
+        }
+
+        private void rehash() {
+            Object[] old = table;
+            // Grows only when the entries fill the table, otherwise the tombstones are dropped
+            Object[] rebuilt = new Object[size * 4 > old.length / 2 ? old.length * 2 : old.length];
+            int mask = rebuilt.length - 2;
+            for (int i = 0; i < old.length; i += 2) {
+                Object key = old[i];
+                if (key == null || key == TOMBSTONE) {
+                    continue;
+                }
+                int index = (hash(key) << 1) & mask;
+                while (rebuilt[index] != null) {
+                    index = (index + 2) & mask;
+                }
+                rebuilt[index] = key;
+                rebuilt[index + 1] = old[i + 1];
+            }
+            used = size;
+            table = rebuilt;
+        }
+    }
+}
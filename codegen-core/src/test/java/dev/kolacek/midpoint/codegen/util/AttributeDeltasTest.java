@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.util;
+
+import org.identityconnectors.framework.common.objects.AttributeDelta;
+import org.identityconnectors.framework.common.objects.AttributeDeltaBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public class AttributeDeltasTest {
+
+    @Test
+    public void replaceClearsNullValue() {
+        Set<AttributeDelta> deltas = new HashSet<>();
+        AttributeDeltas.replace(deltas, "description", null);
+        Assertions.assertEquals(Set.of(AttributeDeltaBuilder.build("description", List.of())), deltas);
+    }
+
+    @Test
+    public void unorderedValuesAreAddedAndRemoved() {
+        Assertions.assertEquals(Set.of(), values(List.of("a", "b"), List.of("b", "a"), false));
+        Assertions.assertEquals(Set.of(), values(new LinkedHashSet<>(List.of(1, 2)), new LinkedHashSet<>(List.of(2, 1)), false));
+        Assertions.assertEquals(Set.of(AttributeDeltaBuilder.build("attr", List.of("c"), List.of("a"))),
+                values(List.of("a", "b"), List.of("c", "b"), false));
+        Assertions.assertEquals(Set.of(AttributeDeltaBuilder.build("attr", List.of("a"), null)),
+                values(null, List.of("a"), false));
+        Assertions.assertEquals(Set.of(AttributeDeltaBuilder.build("attr", null, List.of("a"))),
+                values(List.of("a"), List.of(), false));
+    }
+
+    @Test
+    public void orderedValuesAreReplacedWhenSequenceDiffers() {
+        Assertions.assertEquals(Set.of(), values(List.of("a", "b"), List.of("a", "b"), true));
+        Assertions.assertEquals(Set.of(AttributeDeltaBuilder.build("attr", List.of("b", "a"))),
+                values(List.of("a", "b"), List.of("b", "a"), true));
+        // Values and order changed, adding c and keeping a and b would leave [a, b, c]
+        Assertions.assertEquals(Set.of(AttributeDeltaBuilder.build("attr", List.of("c", "b", "a"))),
+                values(List.of("a", "b"), List.of("c", "b", "a"), true));
+        Assertions.assertEquals(Set.of(AttributeDeltaBuilder.build("attr", List.of())),
+                values(List.of("a"), null, true));
+    }
+
+    @Test
+    public void arraysAreComparedAsCollections() {
+        Set<AttributeDelta> deltas = new HashSet<>();
+        AttributeDeltas.values(deltas, "attr", new Object[]{"a"}, new Object[]{"a"}, true);
+        Assertions.assertEquals(Set.of(), deltas);
+        AttributeDeltas.values(deltas, "attr", new Object[]{"a"}, new Object[]{"a", "b"}, false);
+        Assertions.assertEquals(Set.of(AttributeDeltaBuilder.build("attr", List.of("b"), null)), deltas);
+    }
+
+    private static Set<AttributeDelta> values(Collection<?> before, Collection<?> after, boolean ordered) {
+        Set<AttributeDelta> deltas = new HashSet<>();
+        AttributeDeltas.values(deltas, "attr", before, after, ordered);
+        return deltas;
+    }
+}
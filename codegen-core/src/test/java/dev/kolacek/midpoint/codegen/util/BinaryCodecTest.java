@@ -0,0 +1,176 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+public class BinaryCodecTest {
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(bytes);
+
+    @Test
+    public void intLimitsRoundTrip() throws IOException {
+        int[] values = {0, 1, -1, 63, -64, 64, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        for (int value : values) {
+            BinaryCodec.writeInt(out, value);
+        }
+        DataInputStream in = input();
+        for (int value : values) {
+            Assertions.assertEquals(value, BinaryCodec.readInt(in));
+        }
+        Assertions.assertEquals(0, in.available());
+    }
+
+    @Test
+    public void longLimitsRoundTrip() throws IOException {
+        long[] values = {0, -1, Long.MAX_VALUE, Long.MIN_VALUE, Integer.MIN_VALUE - 1L};
+        for (long value : values) {
+            BinaryCodec.writeLong(out, value);
+        }
+        DataInputStream in = input();
+        for (long value : values) {
+            Assertions.assertEquals(value, BinaryCodec.readLong(in));
+        }
+        Assertions.assertEquals(0, in.available());
+    }
+
+    @Test
+    public void smallValuesTakeOneByte() throws IOException {
+        BinaryCodec.writeInt(out, -64);
+        BinaryCodec.writeSize(out, 127);
+        Assertions.assertEquals(2, bytes.size());
+    }
+
+    @Test
+    public void longestLongTakesTenBytes() throws IOException {
+        BinaryCodec.writeLong(out, Long.MIN_VALUE);
+        Assertions.assertEquals(10, bytes.size());
+    }
+
+    @Test
+    public void overflowingVarintIsRejected() {
+        // Ten bytes with more than the highest bit in the last one
+        bytes.writeBytes(new byte[]{-1, -1, -1, -1, -1, -1, -1, -1, -1, 0x02});
+        Assertions.assertThrows(StreamCorruptedException.class, () -> BinaryCodec.readLong(input()));
+    }
+
+    @Test
+    public void overlongVarintIsRejected() {
+        bytes.writeBytes(new byte[]{-1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 0x01});
+        Assertions.assertThrows(StreamCorruptedException.class, () -> BinaryCodec.readLong(input()));
+    }
+
+    @Test
+    public void truncatedVarintIsRejected() {
+        bytes.writeBytes(new byte[]{-1, -1});
+        Assertions.assertThrows(EOFException.class, () -> BinaryCodec.readLong(input()));
+    }
+
+    @Test
+    public void valueOutOfRangeIsRejected() throws IOException {
+        BinaryCodec.writeLong(out, Integer.MAX_VALUE + 1L);
+        Assertions.assertThrows(StreamCorruptedException.class, () -> BinaryCodec.readInt(input()));
+
+        bytes.reset();
+        BinaryCodec.writeLong(out, Character.MAX_VALUE + 1L);
+        Assertions.assertThrows(StreamCorruptedException.class, () -> BinaryCodec.readChar(input()));
+
+        bytes.reset();
+        BinaryCodec.writeSize(out, -1);
+        Assertions.assertThrows(StreamCorruptedException.class, () -> BinaryCodec.readSize(input()));
+    }
+
+    @Test
+    public void hugeDeclaredLengthIsRejected() throws IOException {
+        // A corrupted length must fail at the end of the input, not allocate the declared size
+        BinaryCodec.writeSize(out, BinaryCodec.MAX_SIZE);
+        out.write(new byte[100]);
+        Assertions.assertThrows(StreamCorruptedException.class, () -> BinaryCodec.readBytes(input()));
+        Assertions.assertThrows(StreamCorruptedException.class, () -> BinaryCodec.readString(input()));
+    }
+
+    @Test
+    public void largeBytesRoundTrip() throws IOException {
+        byte[] value = new byte[100_000];
+        for (int i = 0; i < value.length; i++) {
+            value[i] = (byte) i;
+        }
+        BinaryCodec.writeBytes(out, value);
+        DataInputStream in = input();
+        Assertions.assertArrayEquals(value, BinaryCodec.readBytes(in));
+        Assertions.assertEquals(0, in.available());
+    }
+
+    @Test
+    public void capacitiesAreBounded() {
+        Assertions.assertEquals(3, BinaryCodec.initialCapacity(3));
+        Assertions.assertEquals(BinaryCodec.MAX_INITIAL_CAPACITY, BinaryCodec.initialCapacity(BinaryCodec.MAX_SIZE));
+        Assertions.assertEquals(2048, BinaryCodec.grownCapacity(1024, 5000));
+        Assertions.assertEquals(1500, BinaryCodec.grownCapacity(1024, 1500));
+        Assertions.assertEquals(BinaryCodec.MAX_SIZE, BinaryCodec.grownCapacity(Integer.MAX_VALUE / 2 + 1, BinaryCodec.MAX_SIZE));
+    }
+
+    @Test
+    public void ordinalOutOfRangeIsRejected() throws IOException {
+        BinaryCodec.writeSize(out, 3);
+        Assertions.assertThrows(StreamCorruptedException.class, () -> BinaryCodec.readOrdinal(input(), 3));
+    }
+
+    @Test
+    public void valuesRoundTrip() throws IOException {
+        String text = "ž😀" + "x".repeat(70_000);
+        BigDecimal decimal = new BigDecimal("-12345678901234567890.125");
+        ZonedDateTime dateTime = ZonedDateTime.of(2025, 3, 30, 2, 30, 0, 123_456_789, ZoneId.of("Europe/Prague"));
+        BinaryCodec.writeString(out, text);
+        BinaryCodec.writeChar(out, Character.MAX_VALUE);
+        BinaryCodec.writeBigDecimal(out, decimal);
+        BinaryCodec.writeZonedDateTime(out, dateTime);
+
+        DataInputStream in = input();
+        Assertions.assertEquals(text, BinaryCodec.readString(in));
+        Assertions.assertEquals(Character.MAX_VALUE, BinaryCodec.readChar(in));
+        Assertions.assertEquals(decimal, BinaryCodec.readBigDecimal(in));
+        Assertions.assertEquals(dateTime, BinaryCodec.readZonedDateTime(in));
+        Assertions.assertEquals(0, in.available());
+    }
+
+    @Test
+    public void staleSchemaIsRejected() throws IOException {
+        BinaryCodec.writeSchemaHash(out, 1);
+        StaleSchemaException e = Assertions.assertThrows(StaleSchemaException.class,
+                () -> BinaryCodec.checkSchemaHash(input(), 2));
+        Assertions.assertEquals(2, e.getExpectedHash());
+        Assertions.assertEquals(1, e.getActualHash());
+        BinaryCodec.checkSchemaHash(input(), 1);
+    }
+
+    private DataInputStream input() {
+        return new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class FingerprintHasherTest {
+
+    @Test
+    public void fingerprintIsStable() {
+        // Fingerprints are persisted, so the hash must not change between releases or JVMs
+        Fingerprint fingerprint = new FingerprintHasher()
+                .field(0).putString("jdoe")
+                .field(1).putInt(42)
+                .field(2).putUnordered(List.of("a", "b"))
+                .finish();
+        Assertions.assertEquals("f8e39f08c24011b87e34e6b1a680b4ad", fingerprint.toString());
+    }
+
+    @Test
+    public void lengthsSeparateAdjacentStrings() {
+        Assertions.assertNotEquals(
+                new FingerprintHasher().putString("ab").putString("c").finish(),
+                new FingerprintHasher().putString("a").putString("bc").finish());
+    }
+
+    @Test
+    public void fieldIndexIsHashed() {
+        Assertions.assertNotEquals(
+                new FingerprintHasher().field(0).putString("x").finish(),
+                new FingerprintHasher().field(1).putString("x").finish());
+    }
+
+    @Test
+    public void typeIsHashed() {
+        Assertions.assertNotEquals(new FingerprintHasher().putInt(1).finish(), new FingerprintHasher().putLong(1).finish());
+        Assertions.assertNotEquals(new FingerprintHasher().putNull().finish(), new FingerprintHasher().putString("").finish());
+        Assertions.assertNotEquals(
+                new FingerprintHasher().putOrdered(List.of()).finish(),
+                new FingerprintHasher().putOrdered((List<?>) null).finish());
+        Assertions.assertNotEquals(
+                new FingerprintHasher().putValue(new BigDecimal("1.0")).finish(),
+                new FingerprintHasher().putValue(new BigDecimal("1.00")).finish());
+    }
+
+    @Test
+    public void putValueMatchesTypedMethods() {
+        Assertions.assertEquals(new FingerprintHasher().putInt(7).finish(), new FingerprintHasher().putValue(7).finish());
+        Assertions.assertEquals(
+                new FingerprintHasher().putString("x").finish(),
+                new FingerprintHasher().putValue("x").finish());
+        Assertions.assertEquals(
+                new FingerprintHasher().putOrdered(List.of("a", 1)).finish(),
+                new FingerprintHasher().putValue(new Object[]{"a", 1}).finish());
+    }
+
+    @Test
+    public void unorderedIgnoresOrder() {
+        Assertions.assertEquals(
+                new FingerprintHasher().putUnordered(List.of("a", "b", "c")).finish(),
+                new FingerprintHasher().putUnordered(List.of("c", "a", "b")).finish());
+        Assertions.assertNotEquals(
+                new FingerprintHasher().putUnordered(List.of("a", "a", "b")).finish(),
+                new FingerprintHasher().putUnordered(List.of("a", "b", "b")).finish());
+        Assertions.assertNotEquals(
+                new FingerprintHasher().putOrdered(List.of("a", "b")).finish(),
+                new FingerprintHasher().putOrdered(List.of("b", "a")).finish());
+    }
+
+    @Test
+    public void unorderedCanBeRepeated() {
+        FingerprintHasher hasher = new FingerprintHasher().putUnordered(List.of("a")).putUnordered(List.of("b"));
+        Assertions.assertEquals(
+                new FingerprintHasher().putUnordered(List.of("a")).putUnordered(List.of("b")).finish(),
+                hasher.finish());
+        Assertions.assertNotEquals(
+                new FingerprintHasher().putUnordered(List.of("b")).putUnordered(List.of("a")).finish(),
+                hasher.finish());
+    }
+
+    @Test
+    public void unsupportedValueIsRejected() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new FingerprintHasher().putValue(new Object()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new FingerprintHasher().putValue(List.of("a")));
+    }
+
+    @Test
+    public void bytesRoundTrip() {
+        Fingerprint fingerprint = new Fingerprint(0x0123456789ABCDEFL, -2L);
+        byte[] bytes = fingerprint.toBytes();
+        Assertions.assertEquals(Fingerprint.BYTES, bytes.length);
+        Assertions.assertEquals(fingerprint, Fingerprint.fromBytes(bytes));
+        Assertions.assertEquals("0123456789abcdeffffffffffffffffe", fingerprint.toString());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Fingerprint.fromBytes(new byte[8]));
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class JsonReaderTest {
+
+    // The size of the JsonReader buffer
+    private static final int BUFFER_SIZE = 8192;
+
+    @Test
+    public void readsEnvelope() throws IOException {
+        JsonReader reader = reader("{\"total\": 2, \"items\": [{\"name\": \"a\"}, {\"name\": \"b\"}], \"next\": null}");
+        List<String> names = new ArrayList<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("items")) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    reader.beginObject();
+                    Assertions.assertEquals("name", reader.nextName());
+                    names.add(reader.nextString());
+                    reader.endObject();
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        Assertions.assertEquals(List.of("a", "b"), names);
+        Assertions.assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    public void skipsNestedValues() throws IOException {
+        JsonReader reader = reader("[{\"a\": [1, {\"b\": [[], {}]}, \"x\\\"]\"], \"c\": true}, 2]");
+        reader.beginArray();
+        reader.skipValue();
+        Assertions.assertEquals(2, reader.nextInt());
+        reader.endArray();
+        Assertions.assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    public void readsConsecutiveDocuments() throws IOException {
+        JsonReader reader = reader("{\"a\": 1}\n{\"a\": 2}\n");
+        for (int expected = 1; expected <= 2; expected++) {
+            reader.beginObject();
+            Assertions.assertEquals("a", reader.nextName());
+            Assertions.assertEquals(expected, reader.nextInt());
+            reader.endObject();
+        }
+        Assertions.assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void readsEscapes() throws IOException {
+        Assertions.assertEquals("a\"\\/\b\f\n\r\t\u00e9\uD83D\uDE00z",
+                reader("\"a\\\"\\\\\\/\\b\\f\\n\\r\\t\\u00E9\\ud83d\\ude00z\"").nextString());
+    }
+
+    @Test
+    public void readsEscapeSplitAcrossBuffer() throws IOException {
+        // Moves the escape over the end of the first buffer, one character at a time
+        for (int shift = -6; shift <= 1; shift++) {
+            String prefix = "x".repeat(BUFFER_SIZE - 1 + shift);
+            String json = "[\"" + prefix + "\\u00e9y\", \"" + prefix + "\\u00e9y\", 1]";
+            for (Reader in : List.of(new StringReader(json), new TrickleReader(json))) {
+                JsonReader reader = new JsonReader(in);
+                reader.beginArray();
+                Assertions.assertEquals(prefix + "\u00e9y", reader.nextString(), "shift " + shift);
+                reader.skipValue();
+                Assertions.assertEquals(1, reader.nextInt(), "shift " + shift);
+                reader.endArray();
+            }
+        }
+    }
+
+    @Test
+    public void readsNumberSplitAcrossBuffer() throws IOException {
+        String json = " ".repeat(BUFFER_SIZE - 3) + "-12345.5e1";
+        Assertions.assertEquals(-123455.0, reader(json).nextDouble());
+    }
+
+    @Test
+    public void readsNumbers() throws IOException {
+        JsonReader reader = reader("[0, -1, 1e3, \"42\", 9223372036854775807, 123456789012345678901234567890, -0.5E-2, 3.0]");
+        reader.beginArray();
+        Assertions.assertEquals(0, reader.nextInt());
+        Assertions.assertEquals(-1, reader.nextInt());
+        Assertions.assertEquals(1000, reader.nextInt());
+        Assertions.assertEquals(42L, reader.nextLong());
+        Assertions.assertEquals(Long.MAX_VALUE, reader.nextLong());
+        Assertions.assertEquals(new BigInteger("123456789012345678901234567890"), reader.nextBigInteger());
+        Assertions.assertEquals(new BigDecimal("-0.5E-2"), reader.nextBigDecimal());
+        Assertions.assertEquals("3.0", reader.nextString());
+        reader.endArray();
+    }
+
+    @Test
+    public void rejectsNumbersOutOfRange() throws IOException {
+        JsonReader reader = reader("[2147483648, 1.5, 9223372036854775808]");
+        reader.beginArray();
+        Assertions.assertThrows(JsonSyntaxException.class, reader::nextInt);
+        Assertions.assertThrows(JsonSyntaxException.class, reader::nextLong);
+        Assertions.assertThrows(JsonSyntaxException.class, reader::nextLong);
+        reader.endArray();
+    }
+
+    @Test
+    public void rejectsMalformedNumbers() {
+        for (String number : List.of("01", "-", "1.", ".5", "1e", "1.e3", "1e+", "--1", "+1", "1x", "-a", "1.2.3")) {
+            Assertions.assertThrows(JsonSyntaxException.class, () -> reader("[" + number + "]").nextInt(),
+                    () -> "Accepted " + number);
+            Assertions.assertThrows(JsonSyntaxException.class, () -> {
+                JsonReader reader = reader("[" + number + "]");
+                reader.beginArray();
+                reader.skipValue();
+            }, () -> "Skipped " + number);
+        }
+    }
+
+    @Test
+    public void malformedNumberReportsOffset() throws IOException {
+        JsonReader reader = reader("[1, 2, 0x]");
+        reader.beginArray();
+        reader.nextInt();
+        reader.nextInt();
+        JsonSyntaxException e = Assertions.assertThrows(JsonSyntaxException.class, reader::nextInt);
+        Assertions.assertEquals(8, e.getOffset());
+    }
+
+    @Test
+    public void invalidCharacterReportsOffset() throws IOException {
+        JsonReader reader = reader("{\"a\" 1}");
+        reader.beginObject();
+        reader.nextName();
+        JsonSyntaxException e = Assertions.assertThrows(JsonSyntaxException.class, reader::nextInt);
+        Assertions.assertEquals(5, e.getOffset());
+    }
+
+    @Test
+    public void offsetCountsRefilledBuffers() {
+        String json = "[" + "1, ".repeat(BUFFER_SIZE) + "tru]";
+        JsonSyntaxException e = Assertions.assertThrows(JsonSyntaxException.class, () -> {
+            JsonReader reader = reader(json);
+            reader.beginArray();
+            while (reader.hasNext()) {
+                reader.skipValue();
+            }
+        });
+        Assertions.assertEquals(json.length() - 1, e.getOffset());
+    }
+
+    @Test
+    public void readsBase64AndDateTime() throws IOException {
+        JsonReader reader = reader("[\"AQL/\", \"2025-01-31T12:00:00+01:00\", \"not base64!\", \"2025-01-31\"]");
+        reader.beginArray();
+        Assertions.assertArrayEquals(new byte[]{1, 2, -1}, reader.nextBase64());
+        Assertions.assertEquals(ZonedDateTime.parse("2025-01-31T12:00:00+01:00"), reader.nextZonedDateTime());
+        Assertions.assertThrows(JsonSyntaxException.class, reader::nextBase64);
+        Assertions.assertThrows(JsonSyntaxException.class, reader::nextZonedDateTime);
+        reader.endArray();
+    }
+
+    @Test
+    public void readsLiterals() throws IOException {
+        JsonReader reader = reader("[true, false, null, \"c\"]");
+        reader.beginArray();
+        Assertions.assertTrue(reader.nextBoolean());
+        Assertions.assertFalse(reader.skipNull());
+        Assertions.assertFalse(reader.nextBoolean());
+        Assertions.assertTrue(reader.skipNull());
+        Assertions.assertEquals('c', reader.nextChar());
+        reader.endArray();
+    }
+
+    @Test
+    public void rejectsInvalidSyntax() {
+        for (String json : List.of("[1 2]", "{\"a\" 1}", "{\"a\": 1,}", "{a: 1}", "[nul]", "[truex]", "[\"a",
+                "[\"\\x\"]", "[\"\\u12\"]", "[\"\\u12g4\"]", "[\"a\nb\"]", "[1,", "]")) {
+            Assertions.assertThrows(JsonSyntaxException.class, () -> {
+                JsonReader reader = reader(json);
+                while (reader.peek() != JsonReader.Token.END_DOCUMENT) {
+                    reader.skipValue();
+                }
+            }, () -> "Accepted " + json);
+        }
+    }
+
+    @Test
+    public void rejectsUnexpectedToken() throws IOException {
+        JsonReader reader = reader("{\"a\": \"b\"}");
+        Assertions.assertThrows(JsonSyntaxException.class, reader::beginArray);
+        reader.beginObject();
+        Assertions.assertThrows(JsonSyntaxException.class, reader::nextString);
+        reader.nextName();
+        Assertions.assertThrows(JsonSyntaxException.class, reader::nextBoolean);
+        Assertions.assertEquals("b", reader.nextString());
+        reader.endObject();
+    }
+
+    private static JsonReader reader(String json) {
+        return new JsonReader(new StringReader(json));
+    }
+
+    /**
+     * Returns one character per read, like a slow network input.
+     */
+    private static final class TrickleReader extends Reader {
+
+        private final String value;
+        private int pos;
+
+        TrickleReader(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (pos == value.length()) {
+                return -1;
+            }
+            buffer[offset] = value.charAt(pos++);
+            return 1;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.util;
+
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+public class ModelStoreTest {
+
+    private record User(String uid, String name, String group) {
+    }
+
+    private static ModelStore<User> newStore() {
+        return ModelStore.<User>builder(User::uid, (user, projection) -> toObject(user))
+                .uniqueIndex("name", User::name)
+                .index("group", User::group)
+                .build();
+    }
+
+    private static ConnectorObject toObject(User user) {
+        return new ConnectorObjectBuilder().setUid(user.uid()).setName(user.name()).build();
+    }
+
+    @Test
+    public void putReplacesModelAndIndexes() {
+        ModelStore<User> store = newStore();
+        Assertions.assertNull(store.put(new User("1", "jdoe", "staff")));
+        store.put(new User("2", "asmith", "staff"));
+        Assertions.assertEquals(List.of("1", "2"), uids(store.find("group", "staff")));
+        Assertions.assertEquals("1", store.getUnique("name", "jdoe").uid());
+
+        User previous = store.put(new User("1", "john", "admins"));
+        Assertions.assertEquals("jdoe", previous.name());
+        Assertions.assertNull(store.getUnique("name", "jdoe"));
+        Assertions.assertEquals("1", store.getUnique("name", "john").uid());
+        Assertions.assertEquals(List.of("2"), uids(store.find("group", "staff")));
+        Assertions.assertEquals(List.of("1"), uids(store.find("group", "admins")));
+        Assertions.assertEquals(2, store.size());
+    }
+
+    @Test
+    public void removeClearsIndexes() {
+        ModelStore<User> store = newStore();
+        store.put(new User("1", "jdoe", "staff"));
+        store.put(new User("2", "asmith", "staff"));
+        Assertions.assertEquals("jdoe", store.remove("1").name());
+        Assertions.assertNull(store.remove("1"));
+        Assertions.assertNull(store.get("1"));
+        Assertions.assertNull(store.getUnique("name", "jdoe"));
+        Assertions.assertEquals(List.of("2"), uids(store.find("group", "staff")));
+
+        store.remove("2");
+        Assertions.assertEquals(List.of(), store.find("group", "staff"));
+
+        store.put(new User("3", "bwhite", "staff"));
+        store.clear();
+        Assertions.assertEquals(0, store.size());
+        Assertions.assertEquals(List.of(), store.find("group", "staff"));
+    }
+
+    @Test
+    public void modelsWithoutIndexedValueAreNotIndexed() {
+        ModelStore<User> store = newStore();
+        store.put(new User("1", "jdoe", null));
+        Assertions.assertEquals(List.of(), store.find("group", null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> store.put(new User(null, "nobody", null)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> store.find("unknown", "x"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> store.getUnique("group", "staff"));
+    }
+
+    @Test
+    public void stripesAreBounded() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModelStore.<User>builder(User::uid, (user, projection) -> toObject(user))
+                .stripes(ModelStore.MAX_STRIPES + 1));
+        ModelStore<User> store = ModelStore.<User>builder(User::uid, (user, projection) -> toObject(user))
+                .stripes(ModelStore.MAX_STRIPES)
+                .build();
+        store.put(new User("1", "jdoe", "staff"));
+        Assertions.assertEquals("jdoe", store.get("1").name());
+    }
+
+    @Test
+    public void bulkLoadOfSharedKeyIsLinear() {
+        ModelStore<User> store = newStore();
+        // Copying the models of the key on every put would take minutes here
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(20), () -> {
+            for (int i = 0; i < 200_000; i++) {
+                store.put(new User(String.valueOf(i), "user" + i, "everyone"));
+            }
+            for (int i = 0; i < 200_000; i += 2) {
+                store.remove(String.valueOf(i));
+            }
+        });
+        Assertions.assertEquals(100_000, store.find("group", "everyone").size());
+    }
+
+    @Test
+    public void searchStopsWhenHandlerStops() {
+        ModelStore<User> store = newStore();
+        for (int i = 0; i < 100; i++) {
+            store.put(new User(String.valueOf(i), "user" + i, i % 2 == 0 ? "even" : "odd"));
+        }
+        List<String> handled = new ArrayList<>();
+        Assertions.assertTrue(store.search(user -> user.group().equals("even"), null,
+                connectorObject -> handled.add(connectorObject.getUid().getUidValue())));
+        Assertions.assertEquals(50, handled.size());
+
+        handled.clear();
+        Assertions.assertFalse(store.search(null, null,
+                connectorObject -> handled.add(connectorObject.getUid().getUidValue()) && handled.size() < 10));
+        Assertions.assertEquals(10, handled.size());
+        Assertions.assertEquals("user7", store.getObject("7", null).getName().getNameValue());
+    }
+
+    @Test
+    public void concurrentWritersKeepIndexesConsistent() throws Exception {
+        ModelStore<User> store = newStore();
+        int threads = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            Thread writer = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = offset; i < 20_000; i += threads) {
+                    String uid = String.valueOf(i % 1000);
+                    store.put(new User(uid, "user" + uid, "group" + (i % 7)));
+                    if (i % 5 == 0) {
+                        store.remove(uid);
+                    }
+                }
+            });
+            writer.start();
+            writers.add(writer);
+        }
+        start.countDown();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        assertIndexesConsistent(store);
+    }
+
+    @Test
+    public void clearDuringWritesKeepsIndexesConsistent() throws Exception {
+        ModelStore<User> store = newStore();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread writer = new Thread(() -> {
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                return;
+            }
+            for (int i = 0; i < 50_000; i++) {
+                String uid = String.valueOf(i % 2000);
+                store.put(new User(uid, "user" + uid, "group" + (i % 7)));
+            }
+        });
+        writer.start();
+        start.countDown();
+        while (writer.isAlive()) {
+            store.clear();
+        }
+        writer.join();
+        assertIndexesConsistent(store);
+        store.clear();
+        assertIndexesConsistent(store);
+        Assertions.assertEquals(0, store.size());
+    }
+
+    /**
+     * Every stored model is found by its current values, and only by them.
+     */
+    private static void assertIndexesConsistent(ModelStore<User> store) {
+        Set<String> indexed = new HashSet<>();
+        for (int g = 0; g < 7; g++) {
+            for (User user : store.find("group", "group" + g)) {
+                Assertions.assertEquals("group" + g, user.group());
+                Assertions.assertSame(user, store.get(user.uid()));
+                Assertions.assertTrue(indexed.add(user.uid()));
+            }
+        }
+        Assertions.assertEquals(store.size(), indexed.size());
+        for (String uid : indexed) {
+            Assertions.assertSame(store.get(uid), store.getUnique("name", "user" + uid));
+        }
+    }
+
+    private static List<String> uids(List<User> users) {
+        return users.stream().map(User::uid).sorted(Comparator.naturalOrder()).collect(Collectors.toList());
+    }
+}
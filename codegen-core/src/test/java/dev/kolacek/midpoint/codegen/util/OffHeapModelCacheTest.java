@@ -0,0 +1,203 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.util;
+
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class OffHeapModelCacheTest {
+
+    private static final long VERSION = 1;
+
+    private record Item(Object uid, String payload, long version) {
+
+        private Item(Object uid, String payload) {
+            this(uid, payload, VERSION);
+        }
+    }
+
+    private static OffHeapModelCache.Builder<Item> cacheBuilder(OffHeapModelCache.Decoder<Item> decoder) {
+        return OffHeapModelCache.<Item>builder(Item::uid, (item, out) -> {
+                    out.writeLong(item.version());
+                    out.writeUTF(item.uid().toString());
+                    out.writeUTF(item.payload());
+                }, decoder,
+                (item, projection) -> new ConnectorObjectBuilder().setUid(item.uid().toString()).setName(item.payload()).build());
+    }
+
+    private static Item read(DataInput in) throws IOException {
+        long version = in.readLong();
+        if (version != VERSION) {
+            throw new StaleSchemaException(VERSION, version);
+        }
+        return new Item(in.readUTF(), in.readUTF());
+    }
+
+    @Test
+    public void putGetReplaceRemove() {
+        // Small blocks, so the keys and the models span several blocks
+        OffHeapModelCache<Item> cache = cacheBuilder(OffHeapModelCacheTest::read).capacity(64 * 1024).stripes(2).blockSize(16).build();
+        String longUid = "uid-" + "x".repeat(40);
+        Assertions.assertTrue(cache.put(new Item(longUid, "first")));
+        Assertions.assertTrue(cache.put(new Item("short", "other")));
+        Assertions.assertEquals(new Item(longUid, "first"), cache.get(longUid));
+
+        Assertions.assertTrue(cache.put(new Item(longUid, "second " + "y".repeat(100))));
+        Assertions.assertEquals("second " + "y".repeat(100), cache.get(longUid).payload());
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals("other", cache.getObject("short", null).getName().getNameValue());
+
+        Assertions.assertTrue(cache.remove(longUid));
+        Assertions.assertFalse(cache.remove(longUid));
+        Assertions.assertNull(cache.get(longUid));
+        Assertions.assertFalse(cache.containsKey(longUid));
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertEquals(0, cache.usedBytes() % 16);
+
+        OffHeapModelCache.Stats stats = cache.stats();
+        Assertions.assertEquals(3, stats.hits());
+        Assertions.assertEquals(1, stats.misses());
+
+        cache.clear();
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(0, cache.usedBytes());
+    }
+
+    @Test
+    public void keysAreComparedByStringForm() {
+        OffHeapModelCache<Item> cache = cacheBuilder(OffHeapModelCacheTest::read).capacity(64 * 1024).build();
+        cache.put(new Item(42L, "answer"));
+        Assertions.assertTrue(cache.containsKey("42"));
+        Assertions.assertEquals("answer", cache.get(42L).payload());
+        Assertions.assertNull(cache.get("4"));
+    }
+
+    @Test
+    public void fullStripeEvictsEntriesNotReadRecently() {
+        OffHeapModelCache<Item> cache = cacheBuilder(OffHeapModelCacheTest::read).capacity(4096).stripes(1).blockSize(64).build();
+        cache.put(new Item("hot", "kept"));
+        for (int i = 0; i < 1000; i++) {
+            cache.put(new Item("uid" + i, "payload" + i));
+            // Read between the puts, so the hand always finds the entry referenced
+            Assertions.assertNotNull(cache.get("hot"));
+        }
+        Assertions.assertTrue(cache.stats().evictions() > 900);
+        Assertions.assertTrue(cache.usedBytes() <= cache.capacity());
+        Assertions.assertEquals("payload999", cache.get("uid999").payload());
+    }
+
+    @Test
+    public void stripesAreRoundedUpToPowerOfTwo() {
+        // A single stripe holds a model of the whole capacity
+        OffHeapModelCache<Item> single = cacheBuilder(OffHeapModelCacheTest::read).capacity(4096).stripes(1).blockSize(64).build();
+        Assertions.assertTrue(single.put(new Item("big", "z".repeat(3000))));
+        OffHeapModelCache<Item> three = cacheBuilder(OffHeapModelCacheTest::read).capacity(4096).stripes(3).blockSize(64).build();
+        Assertions.assertFalse(three.put(new Item("big", "z".repeat(3000))));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> cacheBuilder(OffHeapModelCacheTest::read).stripes(OffHeapModelCache.MAX_STRIPES + 1));
+    }
+
+    @Test
+    public void modelLargerThanStripeIsNotCached() {
+        OffHeapModelCache<Item> cache = cacheBuilder(OffHeapModelCacheTest::read).capacity(1024).stripes(1).blockSize(64).build();
+        Assertions.assertFalse(cache.put(new Item("big", "z".repeat(2000))));
+        Assertions.assertNull(cache.get("big"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> cache.put(new Item(null, "no uid")));
+    }
+
+    @Test
+    public void staleEntryIsDropped() {
+        OffHeapModelCache<Item> cache = cacheBuilder(OffHeapModelCacheTest::read).capacity(64 * 1024).build();
+        cache.put(new Item("old", "written by an older model", VERSION - 1));
+        Assertions.assertNull(cache.get("old"));
+        Assertions.assertFalse(cache.containsKey("old"));
+        Assertions.assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    public void staleEntryReplacedWhileDecodingIsKept() {
+        AtomicReference<OffHeapModelCache<Item>> cacheReference = new AtomicReference<>();
+        OffHeapModelCache<Item> cache = cacheBuilder(in -> {
+            long version = in.readLong();
+            if (version != VERSION) {
+                // Another thread puts the current version while the stale data is being decoded
+                cacheReference.get().put(new Item("uid", "fresh"));
+                throw new StaleSchemaException(VERSION, version);
+            }
+            return new Item(in.readUTF(), in.readUTF());
+        }).capacity(64 * 1024).stripes(1).build();
+        cacheReference.set(cache);
+
+        cache.put(new Item("uid", "stale", VERSION - 1));
+        Assertions.assertNull(cache.get("uid"));
+        Assertions.assertEquals("fresh", cache.get("uid").payload());
+    }
+
+    @Test
+    public void concurrentPutGetRemove() throws Exception {
+        // Small enough to evict all the time, the stripes are shared by all threads
+        OffHeapModelCache<Item> cache = cacheBuilder(OffHeapModelCacheTest::read).capacity(16 * 1024).stripes(2).blockSize(32).build();
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    start.await();
+                    for (int i = 0; i < 50_000; i++) {
+                        String uid = "uid" + random.nextInt(500);
+                        int operation = random.nextInt(10);
+                        if (operation < 4) {
+                            cache.put(new Item(uid, uid.repeat(1 + random.nextInt(4))));
+                        } else if (operation < 9) {
+                            Item item = cache.get(uid);
+                            // A read never sees another key or a torn model
+                            if (item != null && (!item.uid().equals(uid) || !item.payload().replace(uid, "").isEmpty())) {
+                                throw new AssertionError("Read " + item + " for " + uid);
+                            }
+                        } else {
+                            cache.remove(uid);
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        if (failure.get() != null) {
+            Assertions.fail(failure.get());
+        }
+        Assertions.assertTrue(cache.size() <= 500);
+        Assertions.assertTrue(cache.usedBytes() <= cache.capacity());
+    }
+}
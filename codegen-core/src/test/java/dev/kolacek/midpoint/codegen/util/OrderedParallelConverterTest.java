@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.util;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+public class OrderedParallelConverterTest {
+
+    private static ExecutorService executor;
+
+    @BeforeAll
+    public static void startExecutor() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterAll
+    public static void stopExecutor() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void resultsKeepSourceOrder() {
+        OrderedParallelConverter converter = new OrderedParallelConverter(executor, 7, 4);
+        List<Integer> source = IntStream.range(0, 1000).boxed().toList();
+        List<String> results = new ArrayList<>();
+        Thread caller = Thread.currentThread();
+        AtomicInteger consumerThreadMismatches = new AtomicInteger();
+
+        Assertions.assertTrue(converter.convert(source.iterator(), element -> {
+            // Uneven conversion times, later batches often finish first
+            sleepMicros(ThreadLocalRandom.current().nextInt(200));
+            return "item" + element;
+        }, result -> {
+            if (Thread.currentThread() != caller) {
+                consumerThreadMismatches.incrementAndGet();
+            }
+            return results.add(result);
+        }));
+        Assertions.assertEquals(source.stream().map(element -> "item" + element).toList(), results);
+        Assertions.assertEquals(0, consumerThreadMismatches.get());
+    }
+
+    @Test
+    public void nullElementsAreSkipped() {
+        OrderedParallelConverter converter = new OrderedParallelConverter(executor, 2, 2);
+        List<String> results = new ArrayList<>();
+        Assertions.assertTrue(converter.convert(Arrays.asList("a", null, null, "b", null).iterator(), String::toUpperCase, results::add));
+        Assertions.assertEquals(List.of("A", "B"), results);
+        Assertions.assertTrue(converter.convert(List.<String>of().iterator(), String::toUpperCase, results::add));
+    }
+
+    @Test
+    public void stoppedConsumerStopsReadingSource() {
+        OrderedParallelConverter converter = new OrderedParallelConverter(executor, 10, 3);
+        AtomicInteger read = new AtomicInteger();
+        Iterator<Integer> source = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return read.incrementAndGet();
+            }
+        };
+        List<Integer> results = new ArrayList<>();
+        Assertions.assertFalse(converter.convert(source, element -> element * 2, result -> results.add(result) && results.size() < 25));
+        Assertions.assertEquals(25, results.size());
+        Assertions.assertEquals(50, results.get(24));
+        // The batch being consumed and at most three pending ones
+        Assertions.assertTrue(read.get() <= 60, () -> "Read " + read.get() + " elements");
+    }
+
+    @Test
+    public void conversionFailureIsRethrownAfterPrecedingResults() {
+        OrderedParallelConverter converter = new OrderedParallelConverter(executor, 4, 4);
+        List<Integer> results = new ArrayList<>();
+        IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class,
+                () -> converter.convert(IntStream.range(0, 100).boxed().iterator(), element -> {
+                    if (element == 42) {
+                        throw new IllegalStateException("broken " + element);
+                    }
+                    return element;
+                }, results::add));
+        Assertions.assertEquals("broken 42", exception.getMessage());
+        // The whole batch of the failed element is lost, the batches before it were consumed
+        Assertions.assertEquals(IntStream.range(0, 40).boxed().toList(), results);
+    }
+
+    @Test
+    public void invalidSettingsAreRejected() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new OrderedParallelConverter(executor, 0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new OrderedParallelConverter(executor, 1, 0));
+        Assertions.assertThrows(NullPointerException.class, () -> new OrderedParallelConverter(null, 1, 1));
+    }
+
+    private static void sleepMicros(int micros) {
+        try {
+            TimeUnit.MICROSECONDS.sleep(micros);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
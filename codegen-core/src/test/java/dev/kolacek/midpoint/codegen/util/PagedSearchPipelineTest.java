@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.util;
+
+import org.identityconnectors.framework.common.exceptions.ConnectorException;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ResultsHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+public class PagedSearchPipelineTest {
+
+    private static final Function<String, ConnectorObject> CONVERTER =
+            uid -> new ConnectorObjectBuilder().setUid(uid).setName(uid).build();
+
+    /**
+     * Pages of ten items by cookie, the cookie is the offset of the next page.
+     */
+    private static final PagedSearchPipeline.PageFetcher<String> BY_COOKIE = (cookie, offset) -> {
+        int start = cookie == null ? 0 : Integer.parseInt(cookie);
+        List<String> items = items(start, 10);
+        return start < 40 ? PagedSearchPipeline.Page.of(items, String.valueOf(start + 10)) : PagedSearchPipeline.Page.last(items);
+    };
+
+    @Test
+    public void handlesAllPagesInOrder() {
+        List<String> handled = new ArrayList<>();
+        PagedSearchPipeline.Result result = PagedSearchPipeline.create(BY_COOKIE, 2).search(CONVERTER, collect(handled, -1));
+        Assertions.assertTrue(result.isAllResultsReturned());
+        Assertions.assertNull(result.getNextCookie());
+        Assertions.assertEquals(items(0, 50), handled);
+    }
+
+    @Test
+    public void stoppedSearchResumesFromCookie() {
+        PagedSearchPipeline<String> pipeline = PagedSearchPipeline.create(BY_COOKIE, 2);
+
+        List<String> handled = new ArrayList<>();
+        PagedSearchPipeline.Result result = pipeline.search(CONVERTER, collect(handled, 20));
+        Assertions.assertFalse(result.isAllResultsReturned());
+        Assertions.assertEquals("20", result.getNextCookie());
+        Assertions.assertEquals(20, result.getNextOffset());
+        Assertions.assertEquals("20", result.toSearchResult().getPagedResultsCookie());
+
+        // Stopped in the middle of a page, the page is delivered again
+        handled.clear();
+        result = pipeline.search(CONVERTER, collect(handled, 15));
+        Assertions.assertEquals("10", result.getNextCookie());
+        Assertions.assertEquals(15, result.getNextOffset());
+
+        handled.clear();
+        result = pipeline.search(result.getNextCookie(), result.getNextOffset(), CONVERTER, collect(handled, -1));
+        Assertions.assertTrue(result.isAllResultsReturned());
+        Assertions.assertEquals(items(10, 40), handled);
+    }
+
+    @Test
+    public void stoppedSearchResumesFromOffset() {
+        PagedSearchPipeline<String> pipeline = PagedSearchPipeline.create((cookie, offset) -> offset + 10 < 50
+                ? PagedSearchPipeline.Page.of(items(offset, 10), null)
+                : PagedSearchPipeline.Page.last(items(offset, 50 - offset)), 2);
+
+        List<String> handled = new ArrayList<>();
+        PagedSearchPipeline.Result result = pipeline.search(CONVERTER, collect(handled, 15));
+        Assertions.assertNull(result.getNextCookie());
+        Assertions.assertEquals(15, result.getNextOffset());
+
+        handled.clear();
+        result = pipeline.search(null, result.getNextOffset(), CONVERTER, collect(handled, -1));
+        Assertions.assertTrue(result.isAllResultsReturned());
+        Assertions.assertEquals(items(15, 35), handled);
+    }
+
+    @Test
+    public void rejectsPagesNotMovingForward() {
+        List<String> handled = new ArrayList<>();
+        PagedSearchPipeline<String> emptyPage = PagedSearchPipeline.create((cookie, offset) -> offset < 10
+                ? PagedSearchPipeline.Page.of(items(offset, 10), null)
+                : PagedSearchPipeline.Page.of(List.of(), null), 2);
+        assertFailsQuickly(() -> emptyPage.search(CONVERTER, collect(handled, -1)));
+        Assertions.assertEquals(items(0, 10), handled);
+
+        PagedSearchPipeline<String> lostCookie = PagedSearchPipeline.create((cookie, offset) -> cookie == null
+                ? PagedSearchPipeline.Page.of(items(0, 10), "next")
+                : PagedSearchPipeline.Page.of(items(10, 10), null), 2);
+        assertFailsQuickly(() -> lostCookie.search(CONVERTER, collect(new ArrayList<>(), -1)));
+
+        PagedSearchPipeline<String> sameCookie = PagedSearchPipeline.create((cookie, offset) ->
+                PagedSearchPipeline.Page.of(items(0, 10), "same"), 2);
+        assertFailsQuickly(() -> sameCookie.search(CONVERTER, collect(new ArrayList<>(), -1)));
+    }
+
+    @Test
+    public void rethrowsFailureAfterFetchedPages() {
+        List<String> handled = new ArrayList<>();
+        PagedSearchPipeline<String> pipeline = PagedSearchPipeline.create((cookie, offset) -> {
+            if (offset == 20) {
+                throw new IllegalStateException("backend down");
+            }
+            return PagedSearchPipeline.Page.of(items(offset, 10), null);
+        }, 2);
+        IllegalStateException e = Assertions.assertThrows(IllegalStateException.class,
+                () -> pipeline.search(CONVERTER, collect(handled, -1)));
+        Assertions.assertEquals("backend down", e.getMessage());
+        Assertions.assertEquals(items(0, 20), handled);
+    }
+
+    @Test
+    public void interruptedFetchingFailsSearch() {
+        PagedSearchPipeline<String> pipeline = PagedSearchPipeline.create((cookie, offset) -> {
+            if (offset == 10) {
+                throw new InterruptedException();
+            }
+            return PagedSearchPipeline.Page.of(items(offset, 10), null);
+        }, 2);
+        assertFailsQuickly(() -> pipeline.search(CONVERTER, collect(new ArrayList<>(), -1)));
+    }
+
+    @Test
+    public void fetchingNeverStartedFailsSearch() {
+        // e.g. an executor shutting down, the task is cancelled before it runs
+        PagedSearchPipeline<String> pipeline = new PagedSearchPipeline<>(BY_COOKIE, task -> ((Future<?>) task).cancel(true), 2);
+        assertFailsQuickly(() -> pipeline.search(CONVERTER, collect(new ArrayList<>(), -1)));
+    }
+
+    private static void assertFailsQuickly(Runnable search) {
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> Assertions.assertThrows(ConnectorException.class, search::run));
+    }
+
+    private static ResultsHandler collect(List<String> handled, int limit) {
+        return connectorObject -> handled.add(connectorObject.getUid().getUidValue()) && handled.size() != limit;
+    }
+
+    private static List<String> items(int start, int count) {
+        List<String> items = new ArrayList<>();
+        for (int i = start; i < start + count; i++) {
+            items.add("item" + i);
+        }
+        return items;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 Jakub Koláček
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.kolacek.midpoint.codegen.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class StripedIndexTest {
+
+    @Test
+    public void putGetRemove() {
+        StripedIndex index = new StripedIndex(4, 0);
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertNull(index.put("key" + i, i));
+        }
+        Assertions.assertEquals(1000, index.size());
+        Assertions.assertEquals(5, index.put("key5", 50));
+        Assertions.assertEquals(50, index.get("key5"));
+        for (int i = 0; i < 1000; i += 2) {
+            Assertions.assertNotNull(index.remove("key" + i));
+        }
+        Assertions.assertEquals(500, index.size());
+        Assertions.assertNull(index.get("key0"));
+        Assertions.assertEquals(999, index.get("key999"));
+        Assertions.assertNull(index.remove("missing"));
+
+        index.clear();
+        Assertions.assertEquals(0, index.size());
+        Assertions.assertNull(index.get("key999"));
+    }
+
+    @Test
+    public void collidingKeysAreProbed() {
+        StripedIndex index = new StripedIndex(1, 0);
+        for (int i = 0; i < 100; i++) {
+            index.put(new Colliding(i), i);
+        }
+        // Removed keys leave tombstones, the keys probed after them must stay reachable
+        for (int i = 0; i < 100; i += 3) {
+            index.remove(new Colliding(i));
+        }
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(i % 3 == 0 ? null : i, index.get(new Colliding(i)));
+        }
+        index.put(new Colliding(0), "reused");
+        Assertions.assertEquals("reused", index.get(new Colliding(0)));
+        Assertions.assertEquals(67, index.size());
+    }
+
+    @Test
+    public void stripesAreRoundedUpToPowerOfTwo() {
+        Assertions.assertEquals(1, new StripedIndex(1, 0).stripeCount());
+        Assertions.assertEquals(2, new StripedIndex(2, 0).stripeCount());
+        Assertions.assertEquals(4, new StripedIndex(3, 0).stripeCount());
+        Assertions.assertEquals(16, new StripedIndex(16, 0).stripeCount());
+        Assertions.assertEquals(256, new StripedIndex(200, 0).stripeCount());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new StripedIndex(StripedIndex.MAX_STRIPES + 1, 0));
+    }
+
+    @Test
+    public void keysSpreadOverAllStripes() {
+        StripedIndex index = new StripedIndex(StripedIndex.MAX_STRIPES, 0);
+        for (int i = 0; i < 20_000; i++) {
+            index.put(i, i);
+        }
+        for (int stripe = 0; stripe < index.stripeCount(); stripe++) {
+            Assertions.assertFalse(index.stripeValues(stripe).isEmpty(), "Stripe " + stripe + " is not used");
+        }
+    }
+
+    @Test
+    public void stripeValuesCopiesEntries() {
+        StripedIndex index = new StripedIndex(4, 16);
+        for (int i = 0; i < 100; i++) {
+            index.put(i, "value" + i);
+        }
+        List<Object> values = new ArrayList<>();
+        for (int stripe = 0; stripe < index.stripeCount(); stripe++) {
+            values.addAll(index.stripeValues(stripe));
+        }
+        Assertions.assertEquals(100, values.size());
+        Assertions.assertTrue(values.contains("value42"));
+    }
+
+    @Test
+    public void optimisticReadsSeeStableKeysDuringResize() throws Exception {
+        // A single small stripe, so the writer rebuilds the table the readers are probing many times
+        StripedIndex index = new StripedIndex(1, 0);
+        for (int i = 0; i < 64; i++) {
+            index.put("stable" + i, i);
+        }
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> failure = new AtomicReference<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int r = 0; r < 4; r++) {
+            Thread reader = new Thread(() -> {
+                while (!done.get()) {
+                    for (int i = 0; i < 64; i++) {
+                        Object value = index.get("stable" + i);
+                        if (!Integer.valueOf(i).equals(value)) {
+                            failure.compareAndSet(null, "stable" + i + " read as " + value);
+                        }
+                    }
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+        try {
+            for (int round = 0; round < 20; round++) {
+                for (int i = 0; i < 5000; i++) {
+                    index.put("churn" + i, i);
+                }
+                for (int i = 0; i < 5000; i++) {
+                    index.remove("churn" + i);
+                }
+            }
+        } finally {
+            done.set(true);
+            for (Thread reader : readers) {
+                reader.join();
+            }
+        }
+        Assertions.assertNull(failure.get());
+        Assertions.assertEquals(64, index.size());
+    }
+
+    private record Colliding(int id) {
+
+        @Override
+        public int hashCode() {
+            return 7;
+        }
+    }
+}